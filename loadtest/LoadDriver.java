@@ -0,0 +1,209 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AI 채팅 스트리밍 부하 테스트 (k6를 쓸 수 없는 환경용, ai-stream.js와 같은 시나리오)
+ * 가상 사용자(VU)를 0→50(30초)→200(1분)→400(1분)→0(30초)으로 늘리고 줄이며,
+ * 각 VU는 스트림 요청을 반복하여 상태 200이고 본문에 "event:done"이 있으면 완료로 센다.
+ * 실행 중 actuator 지표(커넥션 대기, 스레드 수)를 5초마다 조회하고, 끝나면 첫 토큰 시간과 고정 지표를 조회한다.
+ * 실행 예 (JDK 21): java loadtest/LoadDriver.java http://localhost:8080 1:$LOADTEST_PASSWORD uuid1,uuid2 [시간 배율]
+ */
+public class LoadDriver {
+
+    record Result(long startNanos, long durationNanos, int status, boolean completed) {}
+
+    static final long[][] STAGES = { {30, 50}, {60, 200}, {60, 400}, {30, 0} };
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String auth = "Basic " + Base64.getEncoder().encodeToString(args[1].getBytes(StandardCharsets.UTF_8));
+        String[] sessions = args[2].split(",");
+        double scale = args.length > 3 ? Double.parseDouble(args[3]) : 1.0;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        ConcurrentLinkedQueue<Result> results = new ConcurrentLinkedQueue<>();
+        AtomicInteger target = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicLong iterations = new AtomicLong();
+        List<Thread> vus = new ArrayList<>();
+
+        long totalSeconds = 0;
+        for (long[] stage : STAGES) {
+            totalSeconds += Math.round(stage[0] * scale);
+        }
+        long start = System.nanoTime();
+        long end = start + totalSeconds * 1_000_000_000L;
+
+        // 지표 조회
+        MetricsPoller poller = new MetricsPoller(client, baseUrl, auth);
+        Thread pollerThread = Thread.ofVirtual().start(() -> poller.run(end));
+
+        while (System.nanoTime() < end) {
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            int vuTarget = targetAt(elapsed, scale);
+            target.set(vuTarget);
+            while (vus.size() < vuTarget) {
+                int index = vus.size();
+                Thread vu = Thread.ofVirtual().start(() -> {
+                    running.incrementAndGet();
+                    try {
+                        while (System.nanoTime() < end) {
+                            if (index >= target.get()) {
+                                Thread.sleep(100);
+                                continue;
+                            }
+                            long iteration = iterations.getAndIncrement();
+                            String session = sessions[(int) ((index + iteration) % sessions.length)];
+                            results.add(call(client, baseUrl, auth, session, iteration));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+                vus.add(vu);
+            }
+            Thread.sleep(100);
+        }
+        for (Thread vu : vus) {
+            vu.join(130_000);
+        }
+        pollerThread.join(10_000);
+
+        report(new ArrayList<>(results), totalSeconds, poller);
+    }
+
+    static int targetAt(double elapsed, double scale) {
+        double stageStart = 0;
+        double previous = 0;
+        for (long[] stage : STAGES) {
+            double duration = stage[0] * scale;
+            if (elapsed < stageStart + duration) {
+                return (int) Math.round(previous + (stage[1] - previous) * (elapsed - stageStart) / duration);
+            }
+            stageStart += duration;
+            previous = stage[1];
+        }
+        return 0;
+    }
+
+    static Result call(HttpClient client, String baseUrl, String auth, String session, long iteration) {
+        long begin = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/ai/chat/sessions/" + session + "/stream"))
+                    .timeout(Duration.ofSeconds(120))
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .header("Authorization", auth)
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"부하 테스트 질문 " + iteration + "\"}"))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean completed = response.statusCode() == 200 && response.body().contains("event:done");
+            return new Result(begin, System.nanoTime() - begin, response.statusCode(), completed);
+        } catch (Exception e) {
+            return new Result(begin, System.nanoTime() - begin, -1, false);
+        }
+    }
+
+    static void report(List<Result> results, long totalSeconds, MetricsPoller poller) {
+        long completed = results.stream().filter(Result::completed).count();
+        long rejected = results.stream().filter(r -> r.status() == 503).count();
+        long errors = results.stream().filter(r -> !r.completed() && r.status() != 503).count();
+        List<Long> all = new ArrayList<>(results.stream().map(Result::durationNanos).toList());
+        List<Long> done = new ArrayList<>(results.stream().filter(Result::completed).map(Result::durationNanos).toList());
+        Collections.sort(all);
+        Collections.sort(done);
+        System.out.printf("requests=%d completed=%d rejected503=%d otherFailures=%d%n",
+                results.size(), completed, rejected, errors);
+        System.out.printf("http_reqs/s=%.1f completed_streams/s=%.2f ai_stream_completed=%.1f%%%n",
+                results.size() / (double) totalSeconds, completed / (double) totalSeconds,
+                results.isEmpty() ? 0 : 100.0 * completed / results.size());
+        System.out.printf("ai_stream_duration(all) p50=%dms p95=%dms%n", pct(all, 50), pct(all, 95));
+        System.out.printf("ai_stream_duration(completed) p50=%dms p95=%dms max=%dms%n",
+                pct(done, 50), pct(done, 95), done.isEmpty() ? 0 : done.get(done.size() - 1) / 1_000_000);
+        System.out.printf("peak hikaricp.connections.pending=%.0f peak jvm.threads.live=%.0f%n",
+                poller.maxPending, poller.maxThreads);
+        System.out.printf("ai.chat.stream.ttft mean=%.0fms max=%.0fms%n", poller.ttftMeanMs, poller.ttftMaxMs);
+        System.out.printf("jvm.threads.virtual.pinned=%s%n", poller.pinned);
+    }
+
+    static long pct(List<Long> sorted, int p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1_000_000;
+    }
+
+    static class MetricsPoller {
+        final HttpClient client;
+        final String baseUrl;
+        final String auth;
+        volatile double maxPending;
+        volatile double maxThreads;
+        volatile double ttftMeanMs;
+        volatile double ttftMaxMs;
+        volatile String pinned = "n/a";
+
+        MetricsPoller(HttpClient client, String baseUrl, String auth) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.auth = auth;
+        }
+
+        void run(long end) {
+            while (System.nanoTime() < end) {
+                maxPending = Math.max(maxPending, value("hikaricp.connections.pending", "VALUE"));
+                maxThreads = Math.max(maxThreads, value("jvm.threads.live", "VALUE"));
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            double count = value("ai.chat.stream.ttft", "COUNT");
+            double total = value("ai.chat.stream.ttft", "TOTAL_TIME");
+            ttftMeanMs = count > 0 ? total / count * 1000 : 0;
+            ttftMaxMs = value("ai.chat.stream.ttft", "MAX") * 1000;
+            double pinnedCount = value("jvm.threads.virtual.pinned", "COUNT");
+            // 고정 이벤트가 한 번도 없으면 지표가 등록되지 않음 (404)
+            pinned = pinnedCount < 0 ? "none recorded" : String.valueOf((long) pinnedCount);
+        }
+
+        double value(String metric, String statistic) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/actuator/metrics/" + metric))
+                        .timeout(Duration.ofSeconds(10)).header("Authorization", auth).GET().build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    return -1;
+                }
+                Matcher m = Pattern.compile("\"statistic\":\"" + statistic + "\",\"value\":([0-9.E+-]+)")
+                        .matcher(response.body());
+                return m.find() ? Double.parseDouble(m.group(1)) : -1;
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+    }
+}
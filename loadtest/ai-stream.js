@@ -0,0 +1,53 @@
+// AI 채팅 스트리밍 부하 테스트 (k6)
+// 실행 예: k6 run -e BASE_URL=http://localhost:8080 -e SESSION_UUIDS=uuid1,uuid2 loadtest/ai-stream.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SESSION_UUIDS = (__ENV.SESSION_UUIDS || '').split(',').filter((id) => id.length > 0);
+const AUTH_HEADER = __ENV.AUTH_HEADER || '';
+
+const streamDuration = new Trend('ai_stream_duration', true);
+const streamCompleted = new Rate('ai_stream_completed');
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 50 },
+                { duration: '1m', target: 200 },
+                { duration: '1m', target: 400 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        ai_stream_completed: ['rate>0.95'],
+    },
+};
+
+export default function () {
+    if (SESSION_UUIDS.length === 0) {
+        throw new Error('SESSION_UUIDS is required (see loadtest/seed.sql)');
+    }
+    const sessionUuid = SESSION_UUIDS[(__VU + __ITER) % SESSION_UUIDS.length];
+    const headers = {
+        'Content-Type': 'application/json',
+        Accept: 'text/event-stream',
+    };
+    if (AUTH_HEADER) {
+        headers.Authorization = AUTH_HEADER;
+    }
+
+    const res = http.post(`${BASE_URL}/api/ai/chat/sessions/${sessionUuid}/stream`,
+        JSON.stringify({ message: `부하 테스트 질문 ${__ITER}` }),
+        { headers, timeout: '120s' });
+
+    const completed = res.status === 200 && res.body.includes('event:done');
+    streamCompleted.add(completed);
+    streamDuration.add(res.timings.duration);
+    check(res, { 'stream completed': () => completed });
+}
@@ -0,0 +1,7 @@
+-- 부하 테스트용 채팅 세션 (test.sql의 관리자 계정 사용, AI 이용 한도 무제한)
+-- SESSION_UUIDS 값은 다음 쿼리로 조회:
+--   SELECT GROUP_CONCAT(session_uuid) FROM ai_chat_sessions WHERE title = 'loadtest';
+INSERT INTO ai_chat_sessions (user_id, session_uuid, title, status, total_messages)
+SELECT 1, UUID(), 'loadtest', 'ACTIVE', 0
+FROM information_schema.columns
+LIMIT 200;
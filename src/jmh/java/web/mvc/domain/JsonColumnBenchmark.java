@@ -0,0 +1,145 @@
+package web.mvc.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.converter.MapBinaryConverter;
+import web.mvc.domain.converter.MapJsonConverter;
+import web.mvc.domain.converter.StringListJsonConverter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 컬럼 변환 벤치마크
+ * 호출마다 ObjectMapper를 생성하던 기존 방식(legacy*)과 공용 코덱/AttributeConverter 방식의
+ * 처리 시간 및 할당량 비교 (-prof gc 의 gc.alloc.rate.norm 참고)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonColumnBenchmark {
+
+    private static final String TAGS_JSON =
+            "[\"java\",\"spring\",\"jpa\",\"backend\",\"mysql\",\"redis\",\"docker\",\"aws\"]";
+    private static final String EXPERTISE_JSON = "[\"Java\",\"Spring Boot\",\"MSA\",\"Kubernetes\"]";
+    private static final String METADATA_JSON =
+            "{\"device\":\"mobile\",\"durationSec\":420,\"completed\":true,\"position\":{\"page\":3,\"offset\":128}}";
+
+    /** 조회 한 번에 읽어오는 행 수 가정 (목록 페이지 크기) */
+    private static final int ROWS = 50;
+
+    private final StringListJsonConverter tagsConverter = new StringListJsonConverter();
+    private final MapJsonConverter metadataConverter = new MapJsonConverter();
+    private final MapBinaryConverter metadataBinaryConverter = new MapBinaryConverter();
+
+    private LearningContent content;
+    private MentorProfile mentorProfile;
+    private Map<String, Object> metadata;
+    private byte[] metadataBinary;
+
+    @Setup
+    public void setUp() {
+        content = LearningContent.builder()
+                .title("benchmark")
+                .tags(List.of("java", "spring", "jpa", "backend", "mysql", "redis", "docker", "aws"))
+                .build();
+        mentorProfile = new MentorProfile();
+        metadata = new LinkedHashMap<>(JsonCodec.MAP.read(METADATA_JSON));
+        metadataBinary = metadataBinaryConverter.convertToDatabaseColumn(metadata);
+    }
+
+    // ===== 기존 방식 (호출마다 ObjectMapper 생성) =====
+
+    @Benchmark
+    public List<String> legacyReadTags() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(TAGS_JSON, new TypeReference<List<String>>() {
+        });
+    }
+
+    @Benchmark
+    public String legacyWriteTags() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.writeValueAsString(content.getTags());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> legacyReadMetadataRows() throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            ObjectMapper mapper = new ObjectMapper();
+            rows.add(mapper.readValue(METADATA_JSON, new TypeReference<Map<String, Object>>() {
+            }));
+        }
+        return rows;
+    }
+
+    // ===== 엔티티 변환 메서드 (공용 코덱 사용) =====
+
+    @Benchmark
+    public List<String> learningContentSetTagsFromJson() {
+        content.setTagsFromJson(TAGS_JSON);
+        return content.getTags();
+    }
+
+    @Benchmark
+    public String learningContentGetTagsAsJson() {
+        return content.getTagsAsJson();
+    }
+
+    @Benchmark
+    public List<String> mentorProfileSetExpertiseAreasFromJson() {
+        mentorProfile.setExpertiseAreasFromJson(EXPERTISE_JSON);
+        return mentorProfile.getExpertiseAreas();
+    }
+
+    // ===== AttributeConverter (JPA 로딩/저장 경로) =====
+
+    @Benchmark
+    public List<String> converterReadTags() {
+        return tagsConverter.convertToEntityAttribute(TAGS_JSON);
+    }
+
+    @Benchmark
+    public String converterWriteTags() {
+        return tagsConverter.convertToDatabaseColumn(content.getTags());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> converterReadMetadataRows() {
+        List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(metadataConverter.convertToEntityAttribute(METADATA_JSON));
+        }
+        return rows;
+    }
+
+    // ===== 바이너리(Smile) 형식 =====
+
+    @Benchmark
+    public Map<String, Object> binaryReadMetadata() {
+        return metadataBinaryConverter.convertToEntityAttribute(metadataBinary);
+    }
+
+    @Benchmark
+    public byte[] binaryWriteMetadata() {
+        return metadataBinaryConverter.convertToDatabaseColumn(metadata);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> binaryReadMetadataRows() {
+        List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(metadataBinaryConverter.convertToEntityAttribute(metadataBinary));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,66 @@
+package web.mvc.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 계산 벤치마크
+ * SearchLog 검색어 정규화/효율성 점수, DailyStudyStat 효율성 점수 계산 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatScoreBenchmark {
+
+    private SearchLog[] searchLogs;
+    private DailyStudyStat[] dailyStats;
+
+    @Setup
+    public void setUp() {
+        String[] queries = { "  Spring Boot JPA  ", "리액트 상태관리", "JAVA Stream API", "  docker compose 네트워크 " };
+        searchLogs = new SearchLog[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            searchLogs[i] = SearchLog.builder()
+                    .searchQuery(queries[i])
+                    .resultsCount(i * 7)
+                    .clickedResultId(i % 2 == 0 ? (long) i : null)
+                    .build();
+        }
+
+        dailyStats = new DailyStudyStat[4];
+        for (int i = 0; i < dailyStats.length; i++) {
+            dailyStats[i] = DailyStudyStat.builder()
+                    .totalStudyMinutes(30 * i)
+                    .completedSteps(i)
+                    .aiQuestionsAsked(2 * i)
+                    .searchesPerformed(5 * i)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public void searchLogGetNormalizedQuery(Blackhole blackhole) {
+        for (SearchLog searchLog : searchLogs) {
+            blackhole.consume(searchLog.getNormalizedQuery());
+        }
+    }
+
+    @Benchmark
+    public void searchLogGetSearchEfficiencyScore(Blackhole blackhole) {
+        for (SearchLog searchLog : searchLogs) {
+            blackhole.consume(searchLog.getSearchEfficiencyScore());
+        }
+    }
+
+    @Benchmark
+    public void dailyStudyStatGetEfficiencyScore(Blackhole blackhole) {
+        for (DailyStudyStat dailyStat : dailyStats) {
+            blackhole.consume(dailyStat.getEfficiencyScore());
+        }
+    }
+}
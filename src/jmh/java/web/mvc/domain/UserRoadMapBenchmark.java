@@ -0,0 +1,59 @@
+package web.mvc.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserRoadMap 진행률 계산 벤치마크
+ * updateProgress: 완료/전체 단계 카운터로 진행률 계산 (setUp에서 카운터를 채워 둠)
+ * recalculateProgress: 단계 진행 목록 전체를 순회하며 카운터와 진행률을 다시 계산 (보정 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UserRoadMapBenchmark {
+
+    @Param({ "10", "50", "200" })
+    private int stepCount;
+
+    private UserRoadMap roadMap;
+
+    @Setup
+    public void setUp() {
+        List<UserStepProgress> progresses = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            // 마지막 단계는 항상 미완료로 두어 complete() 전환 없이 계산 경로만 측정
+            StepProgressStatus status = i % 3 == 0 && i < stepCount - 1
+                    ? StepProgressStatus.COMPLETED
+                    : StepProgressStatus.IN_PROGRESS;
+            progresses.add(UserStepProgress.builder()
+                    .status(status)
+                    .progressPercentage(BigDecimal.ZERO)
+                    .build());
+        }
+        roadMap = UserRoadMap.builder()
+                .title("benchmark")
+                .stepProgresses(progresses)
+                .build();
+        roadMap.recalculateProgress();
+    }
+
+    @Benchmark
+    public BigDecimal updateProgress() {
+        roadMap.updateProgress();
+        return roadMap.getProgressPercentage();
+    }
+
+    @Benchmark
+    public BigDecimal recalculateProgress() {
+        roadMap.recalculateProgress();
+        return roadMap.getProgressPercentage();
+    }
+}
@@ -0,0 +1,78 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 학습 활동 로그 수집 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "activity.ingest")
+public class ActivityIngestProperties {
+
+    /**
+     * 비동기 배치 수집 사용 여부
+     * false인 경우 기록 요청마다 즉시 INSERT 실행
+     */
+    private boolean async = true;
+
+    /**
+     * 메모리 버퍼(링 버퍼) 최대 크기
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * INSERT 문 하나에 담을 최대 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 버퍼를 비우는 주기 (밀리초) - 기록 후 DB 반영까지의 최대 지연
+     */
+    private long flushIntervalMs = 200L;
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    /**
+     * BLOCK 정책에서 빈 자리를 기다리는 최대 시간 (초과 시 버림)
+     */
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    /**
+     * ID 블록 크기 (id_sequences 테이블에서 한 번에 예약할 ID 수)
+     */
+    private int idBlockSize = 1000;
+
+    /**
+     * 일시적인 DB 장애로 저장하지 못한 활동을 다시 시도하기 위해 보관하는 최대 수 (초과 시 버림)
+     */
+    private int retryCapacity = 8192;
+
+    /**
+     * 버퍼 초과 처리 방식
+     */
+    public enum OverflowPolicy {
+        DROP_NEWEST("새 활동 버림"),
+        DROP_OLDEST("가장 오래된 활동 버림"),
+        BLOCK("빈 자리가 생길 때까지 대기");
+
+        private final String description;
+
+        OverflowPolicy(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 채팅 일별 집계 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.rollup")
+public class AiChatRollupProperties {
+
+    /**
+     * 메시지 저장/피드백 변경 시 집계 증분 반영 여부
+     * false인 경우 보정 작업에서만 집계
+     */
+    private boolean incremental = true;
+
+    /**
+     * 메모리에 누적된 집계 증분을 DB에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 5000L;
+
+    /**
+     * 한 트랜잭션에서 실행할 최대 UPSERT 문 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 보정 작업 실행 주기 (cron)
+     */
+    private String catchUpCron = "0 10 0 * * *";
+
+    /**
+     * 보정 작업에서 다시 집계할 지난 일수 (오늘 제외)
+     */
+    private int catchUpDays = 2;
+
+    /**
+     * 시작 시 집계 테이블이 비어 있으면 전체 기간 집계 여부
+     */
+    private boolean backfillOnStartup = true;
+}
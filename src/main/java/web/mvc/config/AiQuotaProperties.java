@@ -0,0 +1,31 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 이용 한도 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.quota")
+public class AiQuotaProperties {
+
+    /**
+     * 메모리 사용량을 ai_usage_limits에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 2000L;
+
+    /**
+     * 한 트랜잭션에서 반영할 최대 사용자 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 저장된 사용량 조회에 실패한 뒤 다시 조회하기까지 기다리는 시간 (밀리초)
+     */
+    private long loadRetryIntervalMs = 5000L;
+}
@@ -0,0 +1,42 @@
+package web.mvc.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * AI 채팅 스트리밍 설정
+ * 스트림마다 모델 호출/SSE 전송 작업 2개를 실행하므로 최대 동시 스트림 수의 2배로 스레드 풀을 구성
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 작업마다 가상 스레드를 생성한다.
+ * (동시 스트림 수는 AiChatStreamService의 세마포어로 제한)
+ */
+@Configuration
+public class AiStreamConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor aiStreamExecutor(AiStreamProperties properties) {
+        int poolSize = Math.max(2, properties.getMaxConcurrentStreams() * 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = "aiStreamExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualAiStreamExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-stream-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
@@ -0,0 +1,44 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 채팅 스트리밍 응답 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.stream")
+public class AiStreamProperties {
+
+    /**
+     * 동시에 처리할 최대 스트림 수 (초과 시 요청 거절)
+     */
+    private int maxConcurrentStreams = 100;
+
+    /**
+     * 스트림별 토큰 버퍼 크기
+     */
+    private int bufferCapacity = 256;
+
+    /**
+     * 버퍼가 가득 찼을 때 모델 측이 대기하는 최대 시간
+     * 이 시간 동안 클라이언트가 읽지 않으면 스트림을 중단한다.
+     */
+    private Duration bufferOfferTimeout = Duration.ofSeconds(5);
+
+    /**
+     * SSE 이벤트 하나에 묶어 보낼 최대 토큰 수
+     */
+    private int maxTokensPerEvent = 32;
+
+    /**
+     * 스트림 전체 제한 시간
+     */
+    private Duration timeout = Duration.ofMinutes(2);
+}
@@ -0,0 +1,14 @@
+package web.mvc.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ * @Async 메서드는 applicationTaskExecutor에서 실행되며,
+ * virtual 프로파일에서는 가상 스레드를 사용한다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,19 @@
+package web.mvc.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import web.mvc.service.cache.LocalSharedCacheStore;
+import web.mvc.service.cache.SharedCacheStore;
+
+/**
+ * 캐시 설정
+ * Redis 도입 전까지 공유 캐시 저장소는 로컬 구현을 사용
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public SharedCacheStore sharedCacheStore(ContentCacheProperties properties) {
+        return new LocalSharedCacheStore(properties.getSharedMaxEntries());
+    }
+}
@@ -0,0 +1,49 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 학습 콘텐츠 카탈로그 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "content.cache")
+public class ContentCacheProperties {
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 1차(로컬) 캐시 최대 페이지 수
+     */
+    private int maxEntries = 1000;
+
+    /**
+     * 1차(로컬) 캐시 만료 시간
+     * 다른 인스턴스에서 발생한 변경이 반영되기까지의 최대 지연 시간
+     */
+    private Duration localTtl = Duration.ofSeconds(30);
+
+    /**
+     * 2차(공유) 캐시 사용 여부
+     */
+    private boolean sharedTierEnabled = false;
+
+    /**
+     * 2차(공유) 캐시 만료 시간
+     */
+    private Duration sharedTtl = Duration.ofMinutes(5);
+
+    /**
+     * 2차(공유) 캐시 로컬 구현의 최대 항목 수 (외부 저장소 도입 전까지 사용)
+     */
+    private int sharedMaxEntries = 10000;
+}
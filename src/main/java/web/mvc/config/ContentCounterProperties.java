@@ -0,0 +1,32 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 콘텐츠 조회수/좋아요/북마크 카운터 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "content.counter")
+public class ContentCounterProperties {
+
+    /**
+     * 쓰기 지연(write-behind) 사용 여부
+     * false인 경우 증가 요청마다 즉시 UPDATE 실행
+     */
+    private boolean writeBehind = true;
+
+    /**
+     * 누적된 증감분을 DB에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 5000L;
+
+    /**
+     * 한 트랜잭션에서 실행할 최대 UPDATE 문 수
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,28 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 콘텐츠 랭킹 보드 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "content.leaderboard")
+public class ContentLeaderboardProperties {
+
+    /**
+     * 랭킹 보드 사용 여부
+     * false인 경우 인기/평점/추천 목록을 ORDER BY 쿼리로 조회
+     */
+    private boolean enabled = true;
+
+    /**
+     * DB 기준 전체 재구축 주기 (밀리초)
+     * 다른 인스턴스에서 반영된 카운터 등 누적 오차를 보정하기 위한 용도
+     */
+    private long rebuildIntervalMs = 600000L;
+}
@@ -0,0 +1,55 @@
+package web.mvc.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 부하 테스트용 보안 설정 (loadtest 프로필에서만 등록)
+ * 기본 보안 설정은 CSRF 토큰 없는 POST를 거절하므로 부하 도구(k6)가 스트리밍 API를 호출할 수 없다.
+ * HTTP Basic 인증(spring.security.user, 이름은 사용자 ID)만 허용하고 CSRF와 세션을 사용하지 않는다.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestSecurityConfig {
+
+    @Bean
+    public SecurityFilterChain loadTestSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(requests -> requests.anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+
+    /**
+     * 부하 테스트 계정 (평문 비교)
+     * 기본 InMemoryUserDetailsManager는 첫 인증 후 비밀번호를 bcrypt로 바꿔 저장하므로,
+     * 이후 요청마다 bcrypt 검증(약 100ms CPU)이 측정 대상보다 큰 비용으로 섞인다.
+     */
+    @Bean
+    public UserDetailsService loadTestUserDetailsService(SecurityProperties properties) {
+        SecurityProperties.User account = properties.getUser();
+        UserDetails user = User.withUsername(account.getName())
+                .password("{noop}" + account.getPassword())
+                .roles(account.getRoles().toArray(String[]::new))
+                .build();
+        return username -> {
+            if (!user.getUsername().equals(username)) {
+                throw new UsernameNotFoundException(username);
+            }
+            // 인증 후 자격 증명이 지워지므로 요청마다 복사본 반환
+            return User.withUserDetails(user).build();
+        };
+    }
+}
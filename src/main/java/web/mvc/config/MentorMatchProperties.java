@@ -0,0 +1,26 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멘토 매칭 색인 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mentor.match")
+public class MentorMatchProperties {
+
+    /**
+     * 최대 조회 개수 (limit 상한)
+     */
+    private int maxLimit = 100;
+
+    /**
+     * 전체 재구성 주기 (밀리초, 이벤트 없이 DB에서 직접 바뀐 멘토 반영)
+     */
+    private long rebuildIntervalMs = 600000;
+}
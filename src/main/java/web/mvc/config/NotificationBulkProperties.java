@@ -0,0 +1,22 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 일괄 처리 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.bulk")
+public class NotificationBulkProperties {
+
+    /**
+     * 한 번의 UPDATE/DELETE로 처리할 최대 행 수
+     * 청크마다 별도 트랜잭션으로 커밋되어 행 잠금과 undo 로그가 청크 크기로 제한된다.
+     */
+    private int chunkSize = 1000;
+}
@@ -0,0 +1,27 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽지 않은 알림 수 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.unread-counter")
+public class NotificationCounterProperties {
+
+    /**
+     * 캐시 사용 여부 (비활성화 시 매번 DB에서 집계)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 카운터를 유지할 최대 사용자 수
+     * 사용자 구역별로 나누어 제한하며, 구역 한도를 넘으면 그 구역에서 가장 오래 조회되지 않은 사용자부터 제거
+     */
+    private int maxUsers = 10000;
+}
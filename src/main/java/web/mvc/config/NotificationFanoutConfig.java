@@ -0,0 +1,44 @@
+package web.mvc.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 알림 일괄 발송 설정
+ * 작업마다 대상 조회(코디네이터) 스레드 1개와 청크 발송 스레드를 사용하므로
+ * 최대 동시 작업 수 + 작업 스레드 수로 스레드 풀을 구성
+ * (실행 중인 청크 수는 NotificationFanoutService의 세마포어로 제한)
+ * 작업은 끝나기 직전(finally)에 허가를 반환하므로, 다음 작업이 접수될 때 이전 스레드가 아직 비어 있지 않을 수 있다.
+ * 이때 거절되지 않도록 풀 크기만큼 대기열을 둔다. (허가 수가 풀 크기를 넘지 않으므로 대기열도 넘치지 않음)
+ */
+@Configuration
+public class NotificationFanoutConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncTaskExecutor notificationFanoutExecutor(NotificationFanoutProperties properties) {
+        int poolSize = Math.max(1, properties.getMaxConcurrentBroadcasts()) + Math.max(1, properties.getWorkers());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("notification-fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = "notificationFanoutExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncTaskExecutor virtualNotificationFanoutExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-fanout-");
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+}
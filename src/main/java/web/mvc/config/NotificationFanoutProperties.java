@@ -0,0 +1,53 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 알림 일괄 발송(팬아웃) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.fanout")
+public class NotificationFanoutProperties {
+
+    /**
+     * 한 번에 조회해 한 트랜잭션으로 발송할 대상 사용자 수
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 다중 행 INSERT 한 번에 담을 최대 행 수
+     */
+    private int insertBatchSize = 500;
+
+    /**
+     * 청크를 동시에 발송하는 작업 스레드 수 (DB 커넥션 풀 크기보다 작게 유지)
+     */
+    private int workers = 4;
+
+    /**
+     * 동시에 실행할 최대 발송 작업 수
+     */
+    private int maxConcurrentBroadcasts = 2;
+
+    /**
+     * 청크 발송 실패 시 재시도 횟수 (초과하면 작업을 FAILED로 멈추고 체크포인트부터 재개 가능)
+     */
+    private int chunkRetries = 2;
+
+    /**
+     * 작업 점유 시간 (체크포인트마다 연장, 만료되면 다른 인스턴스가 이어서 실행)
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * 대기/중단된 작업 확인 주기 (밀리초)
+     */
+    private long resumeScanIntervalMs = 60000;
+}
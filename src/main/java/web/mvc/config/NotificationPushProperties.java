@@ -0,0 +1,70 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 실시간 전송(SSE/WebSocket) 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.push")
+public class NotificationPushProperties {
+
+    /**
+     * 실시간 전송 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 인스턴스당 최대 연결 수 (초과 시 연결 거절)
+     */
+    private int maxConnections = 10000;
+
+    /**
+     * 사용자당 최대 연결 수 (초과 시 가장 오래된 연결을 닫음)
+     */
+    private int maxConnectionsPerUser = 5;
+
+    /**
+     * 연결별 전송 대기열 크기 (가득 차면 느린 클라이언트로 보고 연결을 끊음)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 이벤트 하나에 묶어 보낼 최대 알림 수
+     */
+    private int maxBatchSize = 50;
+
+    /**
+     * 묶음 전송 대기 시간 (이 시간 안에 생긴 알림은 한 번에 전송)
+     */
+    private Duration coalesceWindow = Duration.ofMillis(100);
+
+    /**
+     * 연결 유지 확인(하트비트) 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /**
+     * SSE 연결 제한 시간 (만료 시 클라이언트가 다시 연결)
+     */
+    private Duration sseTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 전송 스레드 수
+     */
+    private int senderThreads = 4;
+
+    /**
+     * WebSocket 연결을 허용할 Origin 패턴 (예: https://*.nextstep.com, http://localhost:[*])
+     */
+    private List<String> allowedOriginPatterns = new ArrayList<>(List.of("http://localhost:[*]"));
+}
@@ -0,0 +1,28 @@
+package web.mvc.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import web.mvc.controller.NotificationWebSocketHandler;
+
+/**
+ * 알림 실시간 전송 WebSocket 설정
+ * 인증된 세션만 연결되며(사용자는 인증 주체로 확인), 허용된 Origin에서의 연결만 받는다.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class NotificationWebSocketConfig implements WebSocketConfigurer {
+
+    private final NotificationWebSocketHandler notificationWebSocketHandler;
+    private final NotificationPushProperties properties;
+
+    @Override
+    public void registerWebSocketHandlers(@NonNull WebSocketHandlerRegistry registry) {
+        registry.addHandler(notificationWebSocketHandler, "/ws/notifications")
+                .setAllowedOriginPatterns(properties.getAllowedOriginPatterns().toArray(String[]::new));
+    }
+}
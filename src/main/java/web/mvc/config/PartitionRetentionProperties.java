@@ -0,0 +1,62 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import web.mvc.service.partition.PartitionedTable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 월별 파티션 보관 기간 관리 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "partition.retention")
+public class PartitionRetentionProperties {
+
+    /**
+     * 정기 파티션 관리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * true면 실행할 DDL과 삭제 대상만 리포트하고 실제로 변경하지 않음
+     */
+    private boolean dryRun = true;
+
+    /**
+     * 현재 달 이후로 미리 만들어 둘 월 파티션 수
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * 테이블별 보관 개월 수 (현재 달을 제외하고 이 개월 수만큼 지난 달까지 보관, 0 이하면 삭제하지 않음)
+     */
+    private Map<PartitionedTable, Integer> retentionMonths = defaultRetentionMonths();
+
+    /**
+     * 보관 기간의 첫 날 (이전 달 파티션은 삭제될 수 있음, 보관 기간이 없으면 null)
+     */
+    public LocalDate retainedFrom(PartitionedTable table, LocalDate today) {
+        Integer months = retentionMonths.get(table);
+        if (months == null || months <= 0) {
+            return null;
+        }
+        return YearMonth.from(today).minusMonths(months).atDay(1);
+    }
+
+    private static Map<PartitionedTable, Integer> defaultRetentionMonths() {
+        Map<PartitionedTable, Integer> defaults = new EnumMap<>(PartitionedTable.class);
+        defaults.put(PartitionedTable.SEARCH_LOGS, 6);
+        defaults.put(PartitionedTable.LEARNING_ACTIVITIES, 13);
+        defaults.put(PartitionedTable.AI_CHAT_MESSAGES, 12);
+        defaults.put(PartitionedTable.NOTIFICATIONS, 6);
+        return defaults;
+    }
+}
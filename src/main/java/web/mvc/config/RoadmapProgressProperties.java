@@ -0,0 +1,36 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로드맵 진행률 카운터 보정 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "roadmap.progress")
+public class RoadmapProgressProperties {
+
+    /**
+     * 보정 작업 실행 주기 (cron)
+     */
+    private String reconcileCron = "0 40 3 * * *";
+
+    /**
+     * 한 번에 검사할 로드맵 수 (로드맵 ID 키셋 페이지)
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 어긋난 카운터를 고칠지 여부 (false면 감지해서 기록만 함)
+     */
+    private boolean repair = true;
+
+    /**
+     * 시작 시 카운터가 채워지지 않은 로드맵(단계 진행은 있는데 전체 단계 수가 0)이 있으면 전체 보정 여부
+     */
+    private boolean backfillOnStartup = true;
+}
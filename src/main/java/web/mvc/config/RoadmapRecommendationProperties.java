@@ -0,0 +1,56 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로드맵 템플릿 추천 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "roadmap.recommendation")
+public class RoadmapRecommendationProperties {
+
+    /**
+     * 사용자별로 미리 계산해 둘 추천 수
+     */
+    private int topN = 20;
+
+    /**
+     * 추천 목록을 캐시할 최대 사용자 수 (최근 조회 순 LRU)
+     */
+    private int maxProfiles = 20000;
+
+    /**
+     * 템플릿 색인 재구성 주기 (밀리초, 평점/사용 횟수와 템플릿 추가/비활성화 반영)
+     */
+    private long refreshIntervalMs = 300000;
+
+    /**
+     * 특성 가중치: 프로그래밍 언어
+     */
+    private float languageWeight = 3.0f;
+
+    /**
+     * 특성 가중치: 관심 분야
+     */
+    private float fieldWeight = 2.0f;
+
+    /**
+     * 특성 가중치: 태그/학습 목표 주제
+     */
+    private float topicWeight = 1.0f;
+
+    /**
+     * 특성 가중치: 난이도
+     */
+    private float levelWeight = 1.5f;
+
+    /**
+     * 품질 점수(평점, 사용 횟수) 가중치
+     */
+    private float qualityWeight = 0.1f;
+}
@@ -0,0 +1,58 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 검색어 통계 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.analytics")
+public class SearchAnalyticsProperties {
+
+    /**
+     * 검색어 통계 집계 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 집계 구간 (최근 이 기간의 검색만 반영)
+     */
+    private Duration window = Duration.ofHours(24);
+
+    /**
+     * 집계 구간을 나눌 버킷 수 (버킷 단위로 오래된 검색이 빠짐)
+     */
+    private int buckets = 24;
+
+    /**
+     * 조회할 수 있는 최대 상위 검색어 수
+     */
+    private int topK = 20;
+
+    /**
+     * Count-Min Sketch 행당 카운터 수 (클수록 추정 오차가 작아짐)
+     */
+    private int sketchWidth = 2048;
+
+    /**
+     * Count-Min Sketch 행 수
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * 시작 시 집계 구간의 검색 로그로 통계 복원
+     */
+    private boolean warmupOnStartup = true;
+
+    /**
+     * 복원 시 한 번에 읽을 검색 로그 수
+     */
+    private int warmupBatchSize = 1000;
+}
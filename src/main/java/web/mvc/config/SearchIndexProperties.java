@@ -0,0 +1,47 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학습 콘텐츠 검색 색인 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.index")
+public class SearchIndexProperties {
+
+    /**
+     * 역색인 사용 여부
+     * false인 경우 기존 LIKE 검색 쿼리를 그대로 사용
+     */
+    private boolean enabled = true;
+
+    /**
+     * BM25 단어 빈도 포화 계수 (k1)
+     */
+    private double k1 = 1.2;
+
+    /**
+     * BM25 문서 길이 정규화 계수 (b)
+     */
+    private double b = 0.75;
+
+    /**
+     * 제목 필드 가중치 (단어 빈도에 곱해짐)
+     */
+    private int titleBoost = 3;
+
+    /**
+     * 태그 필드 가중치
+     */
+    private int tagBoost = 2;
+
+    /**
+     * 시작 시 색인 재구축 배치 크기
+     */
+    private int rebuildBatchSize = 500;
+}
@@ -0,0 +1,37 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 학습 통계 집계 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "activity.stats")
+public class StudyStatProperties {
+
+    /**
+     * 메모리에 누적된 통계 증분을 DB에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMs = 10000L;
+
+    /**
+     * 한 트랜잭션에서 실행할 최대 UPSERT 문 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 시작 시 원본 활동 로그에서 다시 집계할 일수 (오늘 포함)
+     * 비정상 종료로 반영되지 못한 증분을 복구한다.
+     */
+    private int replayDays = 2;
+
+    /**
+     * 보정 작업 실행 주기 (cron)
+     */
+    private String reconcileCron = "0 20 0 * * *";
+}
@@ -0,0 +1,36 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연속 학습일 계산 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "activity.streak")
+public class StudyStreakProperties {
+
+    /**
+     * 연속 기록이 끊긴 사용자의 프로필 현재 연속일을 0으로 맞추는 작업 주기 (cron)
+     */
+    private String expireCron = "0 5 0 * * *";
+
+    /**
+     * 전체 재계산 작업 주기 (cron, "-"이면 비활성화)
+     */
+    private String recomputeCron = "-";
+
+    /**
+     * 전체 재계산 시 한 번에 처리할 사용자 수
+     */
+    private int recomputeBatchUsers = 500;
+
+    /**
+     * 시작 시 연속 학습 상태 테이블이 비어 있으면 전체 재계산 여부
+     */
+    private boolean backfillOnStartup = true;
+}
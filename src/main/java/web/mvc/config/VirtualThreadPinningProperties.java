@@ -0,0 +1,33 @@
+package web.mvc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정(pinning) 감지 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "virtual-thread.pinning")
+public class VirtualThreadPinningProperties {
+
+    /**
+     * 감지 사용 여부 (JFR jdk.VirtualThreadPinned 이벤트 구독)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 보고할 최소 고정 시간
+     */
+    private Duration threshold = Duration.ofMillis(20);
+
+    /**
+     * 로그에 출력할 최대 스택 프레임 수
+     */
+    private int stackDepth = 12;
+}
@@ -0,0 +1,48 @@
+package web.mvc.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import web.mvc.service.ai.AiChatStreamService;
+
+import java.security.Principal;
+
+/**
+ * AI 채팅 스트리밍 응답 컨트롤러
+ */
+@RestController
+@RequestMapping("/ai/chat")
+@RequiredArgsConstructor
+@Tag(name = "AI 채팅", description = "AI 코치 채팅 API")
+public class AiChatStreamController {
+
+    private final AiChatStreamService aiChatStreamService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Operation(summary = "AI 응답 스트리밍", description = "메시지를 전송하고 AI 응답을 SSE(token/done/error 이벤트)로 받습니다.")
+    @PostMapping(value = "/sessions/{sessionUuid}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(@PathVariable String sessionUuid,
+            @Valid @RequestBody StreamMessageRequest request, Principal principal) {
+        return aiChatStreamService.stream(sessionUuid, authenticatedUserResolver.resolveUserId(principal),
+                request.message());
+    }
+
+    /**
+     * 메시지 전송 요청
+     */
+    public record StreamMessageRequest(
+            @NotBlank(message = "메시지를 입력해 주세요.")
+            @Size(max = 4000, message = "메시지는 4000자 이하로 입력해 주세요.")
+            String message) {
+    }
+}
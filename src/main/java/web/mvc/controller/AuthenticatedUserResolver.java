@@ -0,0 +1,41 @@
+package web.mvc.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.User;
+import web.mvc.exception.UnauthorizedException;
+import web.mvc.repository.UserRepository;
+
+import java.security.Principal;
+
+/**
+ * 인증된 사용자 ID 확인
+ * 인증 주체 이름이 사용자 ID(숫자)이면 그대로 사용하고, 아니면 이메일로 보고 사용자를 조회한다.
+ * 요청 파라미터로 받은 사용자 ID 대신 이 값을 사용해야 다른 사용자의 데이터에 접근할 수 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserResolver {
+
+    private final UserRepository userRepository;
+
+    /**
+     * @throws UnauthorizedException 인증되지 않았거나 사용자를 찾을 수 없는 경우
+     */
+    public Long resolveUserId(Principal principal) {
+        if (principal == null || principal.getName() == null || principal.getName().isBlank()) {
+            throw new UnauthorizedException("로그인이 필요합니다.");
+        }
+        String name = principal.getName();
+        if (name.chars().allMatch(Character::isDigit)) {
+            try {
+                return Long.valueOf(name);
+            } catch (NumberFormatException e) {
+                throw new UnauthorizedException("인증 정보가 올바르지 않습니다.");
+            }
+        }
+        return userRepository.findByEmail(name)
+                .map(User::getId)
+                .orElseThrow(() -> new UnauthorizedException("인증 정보가 올바르지 않습니다."));
+    }
+}
@@ -0,0 +1,50 @@
+package web.mvc.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import web.mvc.service.notification.NotificationPushService;
+
+import java.security.Principal;
+
+/**
+ * 알림 실시간 전송 컨트롤러 (SSE)
+ * 로그인한 사용자 본인의 알림만 구독한다.
+ * WebSocket 클라이언트는 /ws/notifications 로 연결하며, 재연결 시 ?lastNotificationId= 를 붙인다.
+ */
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@Tag(name = "알림", description = "실시간 알림 API")
+public class NotificationPushController {
+
+    private final NotificationPushService notificationPushService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Operation(summary = "알림 실시간 구독",
+            description = "새 알림과 읽지 않은 알림 수를 SSE(notifications 이벤트)로 받습니다. 연결 직후 현재 읽지 않은 알림 수가 전송되며, "
+                    + "재연결 시 Last-Event-ID 이후의 알림을 먼저 받습니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(Principal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationPushService.openSse(authenticatedUserResolver.resolveUserId(principal),
+                parseNotificationId(lastEventId));
+    }
+
+    private static Long parseNotificationId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package web.mvc.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+import web.mvc.exception.BusinessException;
+import web.mvc.exception.UnauthorizedException;
+import web.mvc.service.notification.NotificationPushService;
+import web.mvc.service.notification.PushConnection;
+
+import java.io.IOException;
+
+/**
+ * 알림 실시간 전송 WebSocket 핸들러
+ * 서버 → 클라이언트 단방향으로 NotificationPushBatch JSON을 전송하며, 클라이언트 메시지는 무시한다.
+ * 사용자는 핸드셰이크의 인증 주체로 확인하고, 재연결 시 lastNotificationId 파라미터 이후의 알림을 먼저 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CONNECTION_ATTRIBUTE = "notificationPushConnection";
+
+    private final NotificationPushService notificationPushService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        Long userId;
+        try {
+            userId = authenticatedUserResolver.resolveUserId(session.getPrincipal());
+        } catch (UnauthorizedException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("authentication required"));
+            return;
+        }
+        try {
+            PushConnection connection = notificationPushService.openWebSocket(session, userId,
+                    parseLastNotificationId(session));
+            session.getAttributes().put(CONNECTION_ATTRIBUTE, connection);
+        } catch (BusinessException e) {
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason(e.getMessage()));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        release(session);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Notification WebSocket transport error: {}", exception.getMessage());
+        release(session);
+    }
+
+    private void release(WebSocketSession session) {
+        if (session.getAttributes().get(CONNECTION_ATTRIBUTE) instanceof PushConnection connection) {
+            notificationPushService.unregister(connection);
+        }
+    }
+
+    private static Long parseLastNotificationId(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        String value = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams()
+                .getFirst("lastNotificationId");
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package web.mvc.domain;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * AI 채팅 일별 집계 엔티티
+ * 사용자/날짜/AI 모델별 메시지 수, 토큰 사용량, 응답 시간 분포, 피드백 수를 미리 집계
+ * (ai_chat_messages 전체를 집계하는 통계 쿼리를 대체)
+ */
+@Entity
+@Table(name = "ai_chat_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "unique_user_date_model",
+                columnNames = { "user_id", "stat_date", "ai_model" }))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiChatDailyRollup {
+
+    /**
+     * AI 모델 정보가 없는 메시지(사용자 메시지 등)의 모델 값
+     */
+    public static final String NO_MODEL = "";
+
+    /**
+     * 응답 시간 구간 상한 (밀리초, 마지막 구간은 10초 초과)
+     */
+    public static final int[] RESPONSE_TIME_BUCKET_BOUNDS_MS = { 500, 1000, 2000, 5000, 10000 };
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "ai_model", nullable = false, length = 50)
+    @Builder.Default
+    private String aiModel = NO_MODEL;
+
+    // ===== 메시지 수 =====
+
+    @Column(name = "user_message_count", nullable = false)
+    @Builder.Default
+    private Long userMessageCount = 0L;
+
+    @Column(name = "ai_message_count", nullable = false)
+    @Builder.Default
+    private Long aiMessageCount = 0L;
+
+    @Column(name = "tokens_used", nullable = false)
+    @Builder.Default
+    private Long tokensUsed = 0L;
+
+    // ===== 응답 시간 (AI 메시지) =====
+
+    @Column(name = "response_time_count", nullable = false)
+    @Builder.Default
+    private Long responseTimeCount = 0L;
+
+    @Column(name = "response_time_sum_ms", nullable = false)
+    @Builder.Default
+    private Long responseTimeSumMs = 0L;
+
+    @Column(name = "response_le_500ms", nullable = false)
+    @Builder.Default
+    private Long responseLe500ms = 0L;
+
+    @Column(name = "response_le_1s", nullable = false)
+    @Builder.Default
+    private Long responseLe1s = 0L;
+
+    @Column(name = "response_le_2s", nullable = false)
+    @Builder.Default
+    private Long responseLe2s = 0L;
+
+    @Column(name = "response_le_5s", nullable = false)
+    @Builder.Default
+    private Long responseLe5s = 0L;
+
+    @Column(name = "response_le_10s", nullable = false)
+    @Builder.Default
+    private Long responseLe10s = 0L;
+
+    @Column(name = "response_gt_10s", nullable = false)
+    @Builder.Default
+    private Long responseGt10s = 0L;
+
+    // ===== 사용자 피드백 (AI 메시지) =====
+
+    @Column(name = "helpful_count", nullable = false)
+    @Builder.Default
+    private Long helpfulCount = 0L;
+
+    @Column(name = "not_helpful_count", nullable = false)
+    @Builder.Default
+    private Long notHelpfulCount = 0L;
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 전체 메시지 수 반환
+     */
+    public long getTotalMessageCount() {
+        return this.userMessageCount + this.aiMessageCount;
+    }
+
+    /**
+     * 평균 응답 시간 계산 (밀리초)
+     */
+    public double getAverageResponseTimeMs() {
+        if (this.responseTimeCount == 0) {
+            return 0.0;
+        }
+        return (double) this.responseTimeSumMs / this.responseTimeCount;
+    }
+
+    /**
+     * 응답 시간 구간별 건수 반환 (RESPONSE_TIME_BUCKET_BOUNDS_MS 순서 + 초과 구간)
+     */
+    public long[] getResponseTimeHistogram() {
+        return new long[] { responseLe500ms, responseLe1s, responseLe2s, responseLe5s, responseLe10s, responseGt10s };
+    }
+
+    /**
+     * 응답 시간이 속하는 구간 인덱스 계산
+     */
+    public static int responseTimeBucket(int responseTimeMs) {
+        for (int i = 0; i < RESPONSE_TIME_BUCKET_BOUNDS_MS.length; i++) {
+            if (responseTimeMs <= RESPONSE_TIME_BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return RESPONSE_TIME_BUCKET_BOUNDS_MS.length;
+    }
+}
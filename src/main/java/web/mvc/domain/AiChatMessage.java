@@ -1,6 +1,7 @@
 package web.mvc.domain;
 
 import lombok.*;
+import web.mvc.domain.event.AiChatMessageEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "ai_chat_messages")
+@EntityListeners(AiChatMessageEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -60,6 +62,13 @@ public class AiChatMessage {
     @Column(name = "user_feedback", columnDefinition = "TEXT")
     private String userFeedback;
 
+    /**
+     * DB에 저장된 평가 (피드백 변경분 집계용)
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private UserRating persistedRating;
+
     // ===== 공통 필드 =====
 
     @Column(name = "created_at", updatable = false)
@@ -73,6 +82,13 @@ public class AiChatMessage {
         }
     }
 
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void syncPersistedRating() {
+        this.persistedRating = this.userRating;
+    }
+
     // ===== 비즈니스 메서드 =====
 
     /**
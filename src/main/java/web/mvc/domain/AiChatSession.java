@@ -20,6 +20,11 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "ai_chat_sessions")
+@NamedEntityGraph(name = AiChatSession.WITH_CONTEXT, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode(value = "contextRoadmap", subgraph = "roadmap.template"),
+        @NamedAttributeNode("contextStep")
+}, subgraphs = @NamedSubgraph(name = "roadmap.template", attributeNodes = @NamedAttributeNode("template")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +32,8 @@ import java.util.UUID;
 @Builder
 public class AiChatSession {
 
+    public static final String WITH_CONTEXT = "AiChatSession.withContext";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "session_id")
@@ -168,11 +175,11 @@ public class AiChatSession {
     public String getContextDescription() {
         if (this.contextStep != null) {
             return String.format("로드맵: %s, 단계: %s",
-                    this.contextRoadmap.getRoadmapTemplate().getTitle(),
+                    this.contextRoadmap.getTemplate().getTitle(),
                     this.contextStep.getTitle());
         } else if (this.contextRoadmap != null) {
             return String.format("로드맵: %s",
-                    this.contextRoadmap.getRoadmapTemplate().getTitle());
+                    this.contextRoadmap.getTemplate().getTitle());
         }
         return "일반 상담";
     }
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
  * 사용자별 일일 AI 사용량을 추적하여 제한 관리
  */
 @Entity
-@Table(name = "ai_usage_limits")
+@Table(name = "ai_usage_limits",
+        uniqueConstraints = @UniqueConstraint(name = "unique_user_date", columnNames = { "user_id", "usage_date" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -149,7 +150,7 @@ public class AiUsageLimit {
     /**
      * 사용자 역할별 일일 메시지 제한 반환
      */
-    private int getDailyMessageLimit(UserRole userRole) {
+    public static int getDailyMessageLimit(UserRole userRole) {
         switch (userRole) {
             case GUEST:
                 return 0; // 게스트는 AI 사용 불가
@@ -170,7 +171,7 @@ public class AiUsageLimit {
     /**
      * 사용자 역할별 일일 토큰 제한 반환
      */
-    private int getDailyTokenLimit(UserRole userRole) {
+    public static int getDailyTokenLimit(UserRole userRole) {
         switch (userRole) {
             case GUEST:
                 return 0; // 게스트는 AI 사용 불가
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
  * 사용자의 일일 학습 활동을 집계하여 대시보드에 표시
  */
 @Entity
-@Table(name = "daily_study_stats")
+@Table(name = "daily_study_stats",
+        uniqueConstraints = @UniqueConstraint(name = "unique_user_date", columnNames = { "user_id", "study_date" }))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,10 +1,8 @@
 package web.mvc.domain;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.converter.MapJsonConverter;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -24,8 +22,16 @@ import java.util.Map;
 @Builder
 public class LearningActivity {
 
+    /**
+     * ID는 id_sequences 테이블에서 블록 단위로 예약 (pooled-lo)
+     * IDENTITY와 달리 INSERT 전에 ID를 알 수 있어 JDBC 배치/다중 행 INSERT가 가능하며,
+     * 비동기 수집(LearningActivityIngestService)도 같은 시퀀스 행을 사용한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "learning_activity_id")
+    @TableGenerator(name = "learning_activity_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "learning_activities", allocationSize = 1000)
     @Column(name = "activity_id")
     private Long activityId;
 
@@ -53,7 +59,7 @@ public class LearningActivity {
      * 추가 메타데이터 (JSON)
      * 활동 유형별 상세 정보 저장
      */
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapJsonConverter.class)
     @Column(name = "metadata", columnDefinition = "JSON")
     private Map<String, Object> metadata;
 
@@ -180,9 +186,7 @@ public class LearningActivity {
     public void setMetadataFromJson(String json) {
         if (json != null && !json.trim().isEmpty()) {
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                this.metadata = mapper.readValue(json, new TypeReference<Map<String, Object>>() {
-                });
+                this.metadata = JsonCodec.MAP.read(json);
             } catch (Exception e) {
                 throw new IllegalArgumentException("Invalid JSON format for metadata", e);
             }
@@ -193,8 +197,7 @@ public class LearningActivity {
         if (this.metadata == null)
             return null;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(this.metadata);
+            return JsonCodec.MAP.write(this.metadata);
         } catch (Exception e) {
             return null;
         }
@@ -1,10 +1,10 @@
 package web.mvc.domain;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.DynamicUpdate;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.converter.StringListJsonConverter;
+import web.mvc.domain.event.LearningContentEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -19,6 +19,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "learning_contents")
+@EntityListeners(LearningContentEntityListener.class)
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,7 +59,7 @@ public class LearningContent {
      * 태그 목록 (JSON)
      * ["python", "django", "api"]
      */
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "tags", columnDefinition = "JSON")
     private List<String> tags;
 
@@ -88,18 +90,19 @@ public class LearningContent {
     private String language = "ko"; // 'ko', 'en'
 
     // ===== 통계 정보 =====
+    // 조회수/좋아요/북마크는 ContentCounterService의 증분 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", updatable = false)
     @PositiveOrZero
     @Builder.Default
     private Integer viewCount = 0;
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     @PositiveOrZero
     @Builder.Default
     private Integer likeCount = 0;
 
-    @Column(name = "bookmark_count")
+    @Column(name = "bookmark_count", updatable = false)
     @PositiveOrZero
     @Builder.Default
     private Integer bookmarkCount = 0;
@@ -153,50 +156,6 @@ public class LearningContent {
 
     // ===== 비즈니스 메서드 =====
 
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 좋아요 증가
-     */
-    public void incrementLikeCount() {
-        this.likeCount++;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 좋아요 감소
-     */
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-            this.updatedAt = LocalDateTime.now();
-        }
-    }
-
-    /**
-     * 북마크 증가
-     */
-    public void incrementBookmarkCount() {
-        this.bookmarkCount++;
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    /**
-     * 북마크 감소
-     */
-    public void decrementBookmarkCount() {
-        if (this.bookmarkCount > 0) {
-            this.bookmarkCount--;
-            this.updatedAt = LocalDateTime.now();
-        }
-    }
-
     /**
      * 콘텐츠 승인
      */
@@ -268,9 +227,7 @@ public class LearningContent {
     public void setTagsFromJson(String json) {
         if (json != null && !json.trim().isEmpty()) {
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                this.tags = mapper.readValue(json, new TypeReference<List<String>>() {
-                });
+                this.tags = JsonCodec.STRING_LIST.read(json);
             } catch (Exception e) {
                 throw new IllegalArgumentException("Invalid JSON format for tags", e);
             }
@@ -281,8 +238,7 @@ public class LearningContent {
         if (this.tags == null)
             return null;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(this.tags);
+            return JsonCodec.STRING_LIST.write(this.tags);
         } catch (Exception e) {
             return null;
         }
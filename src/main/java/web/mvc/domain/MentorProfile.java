@@ -1,10 +1,9 @@
 package web.mvc.domain;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.converter.StringListJsonConverter;
+import web.mvc.domain.event.MentorProfileEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -19,6 +18,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "mentor_profiles")
+@EntityListeners(MentorProfileEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,7 +41,7 @@ public class MentorProfile {
      * 전문 분야 (JSON)
      * ["backend", "frontend", "devops"]
      */
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "expertise_areas", columnDefinition = "JSON")
     private List<String> expertiseAreas;
 
@@ -167,9 +167,7 @@ public class MentorProfile {
     public void setExpertiseAreasFromJson(String json) {
         if (json != null && !json.trim().isEmpty()) {
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                this.expertiseAreas = mapper.readValue(json, new TypeReference<List<String>>() {
-                });
+                this.expertiseAreas = JsonCodec.STRING_LIST.read(json);
             } catch (Exception e) {
                 throw new IllegalArgumentException("Invalid JSON format for expertise areas", e);
             }
@@ -180,8 +178,7 @@ public class MentorProfile {
         if (this.expertiseAreas == null)
             return null;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(this.expertiseAreas);
+            return JsonCodec.STRING_LIST.write(this.expertiseAreas);
         } catch (Exception e) {
             return null;
         }
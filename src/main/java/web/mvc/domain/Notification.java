@@ -1,6 +1,7 @@
 package web.mvc.domain;
 
 import lombok.*;
+import web.mvc.domain.event.NotificationEntityListener;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "notifications")
+@EntityListeners(NotificationEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -54,6 +56,19 @@ public class Notification {
     @Column(name = "read_at")
     private LocalDateTime readAt;
 
+    /**
+     * 일괄 발송 작업 ID (개별 생성 알림은 null)
+     */
+    @Column(name = "broadcast_id", updatable = false)
+    private Long broadcastId;
+
+    /**
+     * 마지막으로 DB와 동기화된 읽음 상태 (읽지 않은 알림 수 변경 감지용)
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Boolean persistedRead;
+
     // ===== 공통 필드 =====
 
     @Column(name = "created_at", updatable = false)
@@ -67,6 +82,13 @@ public class Notification {
         }
     }
 
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void syncPersistedRead() {
+        this.persistedRead = this.isRead;
+    }
+
     // ===== 비즈니스 메서드 =====
 
     /**
@@ -0,0 +1,158 @@
+package web.mvc.domain;
+
+import lombok.*;
+import web.mvc.domain.Notification.NotificationType;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 일괄 발송(브로드캐스트) 작업 엔티티
+ * 대상 사용자 집합과 알림 내용, 진행 체크포인트를 보관하여 중단된 작업을 이어서 발송할 수 있도록 한다.
+ * (lastUserId 이하의 대상에게는 모두 발송 완료)
+ */
+@Entity
+@Table(name = "notification_broadcasts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "broadcast_id")
+    private Long broadcastId;
+
+    // ===== 발송 대상 =====
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "segment", nullable = false)
+    private BroadcastSegment segment;
+
+    /**
+     * 대상 조건 값 (프로그래밍 언어, 관심 분야 등)
+     */
+    @Column(name = "segment_value", length = 100)
+    private String segmentValue;
+
+    // ===== 알림 내용 =====
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "action_url", length = 500)
+    private String actionUrl;
+
+    // ===== 진행 상태 =====
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private BroadcastStatus status = BroadcastStatus.PENDING;
+
+    /**
+     * 발송 완료 체크포인트 (이 ID 이하의 대상 사용자는 모두 발송됨)
+     */
+    @Column(name = "last_user_id", nullable = false)
+    @Builder.Default
+    private Long lastUserId = 0L;
+
+    @Column(name = "sent_count", nullable = false)
+    @Builder.Default
+    private Long sentCount = 0L;
+
+    /**
+     * 작업을 실행 중인 인스턴스와 점유 만료 시각 (만료되면 다른 인스턴스가 이어서 실행)
+     * 점유자는 작업이 끝나거나 재시도 대기로 돌아가도 지우지 않으므로, 값이 있으면 이전 실행이 있었던 작업이다.
+     */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    // ===== 공통 필드 =====
+
+    @Column(name = "created_at", updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 새 일괄 발송 작업 생성
+     */
+    public static NotificationBroadcast create(BroadcastSegment segment, String segmentValue,
+            NotificationType type, String title, String message, String actionUrl) {
+        return NotificationBroadcast.builder()
+                .segment(segment)
+                .segmentValue(segmentValue)
+                .type(type)
+                .title(title)
+                .message(message)
+                .actionUrl(actionUrl)
+                .build();
+    }
+
+    /**
+     * 종료된 작업인지 확인
+     */
+    public boolean isFinished() {
+        return this.status == BroadcastStatus.COMPLETED || this.status == BroadcastStatus.CANCELLED;
+    }
+
+    /**
+     * 발송 대상 열거형
+     */
+    public enum BroadcastSegment {
+        ALL_ACTIVE("전체 활성 사용자"),
+        PROGRAMMING_LANGUAGE("프로그래밍 언어 관심 사용자"),
+        INTEREST_FIELD("관심 분야 사용자");
+
+        private final String description;
+
+        BroadcastSegment(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 작업 상태 열거형
+     */
+    public enum BroadcastStatus {
+        PENDING("대기"),
+        RUNNING("발송 중"),
+        COMPLETED("완료"),
+        FAILED("실패"),
+        CANCELLED("취소");
+
+        private final String description;
+
+        BroadcastStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
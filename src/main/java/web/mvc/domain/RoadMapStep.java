@@ -2,10 +2,12 @@ package web.mvc.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.LongListJsonConverter;
+import web.mvc.domain.converter.MapListJsonConverter;
+import web.mvc.domain.event.RoadMapStepEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,6 +18,8 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "roadmap_steps")
+@EntityListeners(RoadMapStepEntityListener.class)
+@BatchSize(size = 100)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -50,15 +54,16 @@ public class RoadMapStep {
 
     // === JSON 필드들 ===
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapListJsonConverter.class)
     @Column(name = "learning_resources", columnDefinition = "JSON")
     private List<Map<String, Object>> learningResources;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapListJsonConverter.class)
     @Column(name = "practice_projects", columnDefinition = "JSON")
     private List<Map<String, Object>> practiceProjects;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = LongListJsonConverter.class)
     @Column(name = "prerequisite_steps", columnDefinition = "JSON")
     private List<Long> prerequisiteSteps;
 
@@ -93,9 +98,10 @@ public class RoadMapStep {
     }
 
     /**
-     * 전제조건 단계 설정
+     * 전제조건 단계 변경
+     * (순환/템플릿 소속 검사는 StepDependencyService.updatePrerequisites 사용)
      */
-    public void setPrerequisiteSteps(List<Long> prerequisiteSteps) {
+    public void updatePrerequisiteSteps(List<Long> prerequisiteSteps) {
         this.prerequisiteSteps = prerequisiteSteps;
     }
 
@@ -2,10 +2,10 @@ package web.mvc.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.StringListJsonConverter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -17,12 +17,16 @@ import java.util.List;
  */
 @Entity
 @Table(name = "roadmap_templates")
+@NamedEntityGraph(name = RoadMapTemplate.WITH_STEPS, attributeNodes = @NamedAttributeNode("steps"))
+@BatchSize(size = 100)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class RoadMapTemplate {
 
+    public static final String WITH_STEPS = "RoadMapTemplate.withSteps";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "template_id")
@@ -52,15 +56,15 @@ public class RoadMapTemplate {
 
     // === JSON 필드들 ===
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
     private List<String> tags;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
     private List<String> prerequisites;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "learning_outcomes", columnDefinition = "JSON")
     private List<String> learningOutcomes;
 
@@ -103,6 +107,8 @@ public class RoadMapTemplate {
     // === 연관관계 ===
 
     @OneToMany(mappedBy = "roadMapTemplate", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("stepOrder ASC")
+    @BatchSize(size = 100)
     @Builder.Default
     private List<RoadMapStep> steps = new ArrayList<>();
 
@@ -1,10 +1,10 @@
 package web.mvc.domain;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.converter.MapJsonConverter;
+import web.mvc.domain.event.SearchLogEntityListener;
+import web.mvc.domain.support.SearchQueryNormalizer;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -18,6 +18,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "search_logs")
+@EntityListeners(SearchLogEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,7 +43,7 @@ public class SearchLog {
      * 적용된 검색 필터 정보 (JSON)
      * {"category": "backend", "language": "java", "difficulty": "beginner"}
      */
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapJsonConverter.class)
     @Column(name = "search_filters", columnDefinition = "JSON")
     private Map<String, Object> searchFilters;
 
@@ -56,6 +57,13 @@ public class SearchLog {
     @Column(name = "search_session_id", length = 100)
     private String searchSessionId;
 
+    /**
+     * 마지막으로 저장/조회된 시점의 클릭 결과 ID (첫 클릭 감지용, 엔티티 리스너에서 사용)
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Long persistedClickedResultId;
+
     // ===== 공통 필드 =====
 
     @Column(name = "created_at", updatable = false)
@@ -72,6 +80,13 @@ public class SearchLog {
         }
     }
 
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void syncPersistedClickedResultId() {
+        this.persistedClickedResultId = this.clickedResultId;
+    }
+
     // ===== 정적 팩토리 메서드 =====
 
     /**
@@ -152,9 +167,7 @@ public class SearchLog {
     public void setSearchFiltersFromJson(String json) {
         if (json != null && !json.trim().isEmpty()) {
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                this.searchFilters = mapper.readValue(json, new TypeReference<Map<String, Object>>() {
-                });
+                this.searchFilters = JsonCodec.MAP.read(json);
             } catch (Exception e) {
                 throw new IllegalArgumentException("Invalid JSON format for search filters", e);
             }
@@ -165,8 +178,7 @@ public class SearchLog {
         if (this.searchFilters == null)
             return null;
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(this.searchFilters);
+            return JsonCodec.MAP.write(this.searchFilters);
         } catch (Exception e) {
             return null;
         }
@@ -193,12 +205,10 @@ public class SearchLog {
     }
 
     /**
-     * 검색 쿼리 정규화 (분석용)
+     * 검색 쿼리 정규화 (분석용, NFKC/공백/한글 자모 정규화)
      */
     public String getNormalizedQuery() {
-        if (this.searchQuery == null)
-            return "";
-        return this.searchQuery.toLowerCase().trim();
+        return SearchQueryNormalizer.normalize(this.searchQuery);
     }
 
     /**
@@ -3,9 +3,10 @@ package web.mvc.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.MapJsonConverter;
+import web.mvc.domain.converter.StringListJsonConverter;
+import web.mvc.domain.event.UserProfileEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "user_profiles")
+@EntityListeners(UserProfileEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -33,11 +35,11 @@ public class UserProfile {
 
     // === 온보딩 설문 결과 ===
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "programming_languages", columnDefinition = "JSON")
     private List<String> programmingLanguages;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "interest_fields", columnDefinition = "JSON")
     private List<String> interestFields;
 
@@ -45,11 +47,11 @@ public class UserProfile {
     @Column(name = "current_level")
     private CurrentLevel currentLevel;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = StringListJsonConverter.class)
     @Column(name = "learning_goals", columnDefinition = "JSON")
     private List<String> learningGoals;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapJsonConverter.class)
     @Column(name = "learning_style", columnDefinition = "JSON")
     private Map<String, Object> learningStyle;
 
@@ -79,6 +81,18 @@ public class UserProfile {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 저장되지 않은 설문 변경 여부 (추천 캐시 무효화용, 엔티티 리스너에서 사용)
+     */
+    @Transient
+    private boolean surveyChanged;
+
+    @PostPersist
+    @PostUpdate
+    public void clearSurveyChanged() {
+        this.surveyChanged = false;
+    }
+
     // === 비즈니스 메서드 ===
 
     /**
@@ -94,6 +108,7 @@ public class UserProfile {
         this.currentLevel = currentLevel;
         this.learningGoals = learningGoals;
         this.learningStyle = learningStyle;
+        this.surveyChanged = true;
     }
 
     /**
@@ -132,6 +147,7 @@ public class UserProfile {
      */
     public void updateCurrentLevel(CurrentLevel newLevel) {
         this.currentLevel = newLevel;
+        this.surveyChanged = true;
     }
 }
 
@@ -2,10 +2,10 @@ package web.mvc.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.MapListJsonConverter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,15 +15,29 @@ import java.util.Map;
 
 /**
  * 사용자별 개인 로드맵 엔티티
+ * 로드맵 화면은 UserRoadMap.withProgress 그래프(템플릿 + 단계 진행 + 단계)로 한 번에 읽고,
+ * 템플릿 단계 목록은 배치 로딩으로 한 번 더 읽는다.
+ *
+ * 진행률은 완료/전체 단계 수와 누적 학습 시간 카운터로 계산하며, 카운터는 UserStepProgress의
+ * complete/reset/addStudyTime과 addStepProgress/removeStepProgress가 같은 트랜잭션에서 갱신한다.
+ * 단계 진행 컬렉션을 로딩하지 않으므로 진행률 조회/갱신은 O(1)이다.
+ * 같은 로드맵을 동시에 갱신하면 낙관적 잠금(version)으로 나중 트랜잭션이 실패하므로 호출하는 쪽에서 다시 시도한다.
+ * 직접 SQL 수정으로 생긴 차이는 UserRoadMapProgressReconciler가 보정한다.
  */
 @Entity
 @Table(name = "user_roadmaps")
+@NamedEntityGraph(name = UserRoadMap.WITH_PROGRESS, attributeNodes = {
+        @NamedAttributeNode("template"),
+        @NamedAttributeNode(value = "stepProgresses", subgraph = "progress.step")
+}, subgraphs = @NamedSubgraph(name = "progress.step", attributeNodes = @NamedAttributeNode("step")))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class UserRoadMap {
 
+    public static final String WITH_PROGRESS = "UserRoadMap.withProgress";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_roadmap_id")
@@ -53,6 +67,18 @@ public class UserRoadMap {
     @Column(name = "progress_percentage", precision = 5, scale = 2)
     private BigDecimal progressPercentage = BigDecimal.ZERO;
 
+    @Builder.Default
+    @Column(name = "completed_steps", nullable = false)
+    private Integer completedSteps = 0;
+
+    @Builder.Default
+    @Column(name = "total_steps", nullable = false)
+    private Integer totalSteps = 0;
+
+    @Builder.Default
+    @Column(name = "total_study_hours", precision = 7, scale = 2, nullable = false)
+    private BigDecimal totalStudyHours = BigDecimal.ZERO;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -62,9 +88,13 @@ public class UserRoadMap {
     @Column(name = "estimated_completion_date")
     private LocalDateTime estimatedCompletionDate;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // === 개인화 설정 ===
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapListJsonConverter.class)
     @Column(name = "custom_steps", columnDefinition = "JSON")
     private List<Map<String, Object>> customSteps;
 
@@ -83,6 +113,7 @@ public class UserRoadMap {
     // === 연관관계 ===
 
     @OneToMany(mappedBy = "userRoadMap", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<UserStepProgress> stepProgresses = new ArrayList<>();
 
@@ -121,21 +152,16 @@ public class UserRoadMap {
     }
 
     /**
-     * 진행률 업데이트
+     * 진행률 업데이트 (완료/전체 단계 카운터 기준)
      */
     public void updateProgress() {
-        if (stepProgresses.isEmpty()) {
+        if (totalSteps <= 0) {
             this.progressPercentage = BigDecimal.ZERO;
             return;
         }
 
-        long completedSteps = stepProgresses.stream()
-                .mapToLong(progress -> progress.getStatus() == StepProgressStatus.COMPLETED ? 1 : 0)
-                .sum();
-
-        BigDecimal progress = new BigDecimal(completedSteps)
-                .multiply(new BigDecimal("100"))
-                .divide(new BigDecimal(stepProgresses.size()), 2, java.math.RoundingMode.HALF_UP);
+        BigDecimal progress = BigDecimal.valueOf(Math.min(completedSteps, totalSteps) * 100L)
+                .divide(BigDecimal.valueOf(totalSteps), 2, java.math.RoundingMode.HALF_UP);
 
         this.progressPercentage = progress;
 
@@ -145,6 +171,43 @@ public class UserRoadMap {
         }
     }
 
+    /**
+     * 단계 진행 컬렉션으로 카운터와 진행률 재계산 (컬렉션 전체 로딩)
+     */
+    public void recalculateProgress() {
+        this.totalSteps = stepProgresses.size();
+        this.completedSteps = (int) stepProgresses.stream()
+                .filter(progress -> progress.getStatus() == StepProgressStatus.COMPLETED)
+                .count();
+        this.totalStudyHours = stepProgresses.stream()
+                .map(UserStepProgress::getStudyHours)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        updateProgress();
+    }
+
+    /**
+     * 단계 완료 반영 (UserStepProgress.complete에서 호출)
+     */
+    void onStepCompleted() {
+        this.completedSteps++;
+        updateProgress();
+    }
+
+    /**
+     * 단계 완료 취소 반영 (UserStepProgress.reset에서 호출)
+     */
+    void onStepReset() {
+        this.completedSteps = Math.max(completedSteps - 1, 0);
+        updateProgress();
+    }
+
+    /**
+     * 학습 시간 반영 (UserStepProgress.addStudyTime에서 호출)
+     */
+    void onStudyTimeAdded(BigDecimal hours) {
+        this.totalStudyHours = this.totalStudyHours.add(hours);
+    }
+
     /**
      * 일일 학습 목표 시간 설정
      */
@@ -165,12 +228,10 @@ public class UserRoadMap {
     }
 
     /**
-     * 현재까지 학습한 시간 계산
+     * 현재까지 학습한 시간 (누적 카운터)
      */
     public int getCurrentStudyHours() {
-        return stepProgresses.stream()
-                .mapToInt(progress -> progress.getStudyHours().intValue())
-                .sum();
+        return totalStudyHours.intValue();
     }
 
     /**
@@ -189,6 +250,26 @@ public class UserRoadMap {
     public void addStepProgress(UserStepProgress stepProgress) {
         this.stepProgresses.add(stepProgress);
         stepProgress.setUserRoadMap(this);
+        this.totalSteps++;
+        if (stepProgress.getStatus() == StepProgressStatus.COMPLETED) {
+            this.completedSteps++;
+        }
+        this.totalStudyHours = this.totalStudyHours.add(stepProgress.getStudyHours());
+        updateProgress();
+    }
+
+    /**
+     * 단계 진행 상황 제거 (orphanRemoval로 삭제됨)
+     */
+    public void removeStepProgress(UserStepProgress stepProgress) {
+        if (!this.stepProgresses.remove(stepProgress)) {
+            return;
+        }
+        this.totalSteps = Math.max(totalSteps - 1, 0);
+        if (stepProgress.getStatus() == StepProgressStatus.COMPLETED) {
+            this.completedSteps = Math.max(completedSteps - 1, 0);
+        }
+        this.totalStudyHours = this.totalStudyHours.subtract(stepProgress.getStudyHours()).max(BigDecimal.ZERO);
         updateProgress();
     }
 }
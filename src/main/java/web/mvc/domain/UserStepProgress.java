@@ -3,9 +3,8 @@ package web.mvc.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.type.SqlTypes;
+import web.mvc.domain.converter.MapListJsonConverter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -60,7 +59,7 @@ public class UserStepProgress {
     @Column(name = "user_notes", columnDefinition = "TEXT")
     private String userNotes;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = MapListJsonConverter.class)
     @Column(name = "completed_projects", columnDefinition = "JSON")
     private List<Map<String, Object>> completedProjects;
 
@@ -86,9 +85,13 @@ public class UserStepProgress {
      * 단계 완료
      */
     public void complete() {
+        boolean alreadyCompleted = this.status == StepProgressStatus.COMPLETED;
         this.status = StepProgressStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
         this.progressPercentage = new BigDecimal("100.00");
+        if (!alreadyCompleted && this.userRoadMap != null) {
+            this.userRoadMap.onStepCompleted();
+        }
     }
 
     /**
@@ -111,6 +114,9 @@ public class UserStepProgress {
      */
     public void addStudyTime(BigDecimal hours) {
         this.studyHours = this.studyHours.add(hours);
+        if (this.userRoadMap != null) {
+            this.userRoadMap.onStudyTimeAdded(hours);
+        }
     }
 
     /**
@@ -142,10 +148,14 @@ public class UserStepProgress {
      * 진행률 리셋 (다시 시작)
      */
     public void reset() {
+        boolean wasCompleted = this.status == StepProgressStatus.COMPLETED;
         this.status = StepProgressStatus.NOT_STARTED;
         this.progressPercentage = BigDecimal.ZERO;
         this.startedAt = null;
         this.completedAt = null;
+        if (wasCompleted && this.userRoadMap != null) {
+            this.userRoadMap.onStepReset();
+        }
     }
 }
 
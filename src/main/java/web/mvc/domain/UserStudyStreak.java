@@ -0,0 +1,254 @@
+package web.mvc.domain;
+
+import lombok.*;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * 사용자 연속 학습 상태 엔티티
+ * 마지막 학습일, 현재/최장 연속 학습일을 학습일이 추가될 때마다 증분 갱신하고,
+ * 학습한 날짜 전체를 비트셋(기준일로부터 i번째 날 = i번째 비트)으로 보관한다.
+ * (1년 = 약 46바이트, findStudyDaysForStreakCalculation 전체 조회를 대체)
+ */
+@Entity
+@Table(name = "user_study_streaks",
+        uniqueConstraints = @UniqueConstraint(name = "unique_streak_user", columnNames = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStudyStreak {
+
+    /**
+     * 비트셋 최대 크기 (바이트, 약 89년)
+     */
+    public static final int MAX_BITS_BYTES = 4096;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "streak_id")
+    private Long streakId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_study_date")
+    private LocalDate lastStudyDate;
+
+    /**
+     * 마지막 학습일에서 끝나는 연속 학습일 수
+     * (마지막 학습일이 어제 이전이면 실제 현재 연속 기록은 0, getCurrentStreak 참고)
+     */
+    @Column(name = "current_streak", nullable = false)
+    @Builder.Default
+    private Integer currentStreak = 0;
+
+    @Column(name = "max_streak", nullable = false)
+    @Builder.Default
+    private Integer maxStreak = 0;
+
+    /**
+     * 비트셋 기준일 (첫 학습일)
+     */
+    @Column(name = "bits_epoch")
+    private LocalDate bitsEpoch;
+
+    @Column(name = "study_day_bits", columnDefinition = "VARBINARY(4096)")
+    private byte[] studyDayBits;
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // ===== 비즈니스 메서드 =====
+
+    /**
+     * 새 연속 학습 상태 생성
+     */
+    public static UserStudyStreak create(Long userId) {
+        return UserStudyStreak.builder()
+                .userId(userId)
+                .build();
+    }
+
+    /**
+     * 학습일 추가
+     * 마지막 학습일 이후 날짜는 O(1)로 갱신하고, 늦게 도착한 지난 날짜는
+     * 해당 날짜 주변의 연속 구간만 비트셋에서 다시 계산한다.
+     * (이 경우 뒤쪽 학습일의 연속 일차도 바뀌므로 getLastDayOfRun으로 범위를 확인)
+     *
+     * @return 새로 추가된 학습일이면 true (이미 기록된 날짜면 false)
+     * @throws IllegalArgumentException 기록된 학습일과 비트셋 최대 크기 이상 떨어진 날짜
+     */
+    public boolean recordStudyDay(LocalDate date) {
+        checkInRange(date);
+        BitSet bits = bits();
+        if (bitsEpoch == null) {
+            bitsEpoch = date;
+        } else if (date.isBefore(bitsEpoch)) {
+            bits = rebase(bits, date);
+        }
+
+        int index = indexOf(date);
+        if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+
+        if (lastStudyDate == null || date.isAfter(lastStudyDate)) {
+            currentStreak = lastStudyDate != null && date.equals(lastStudyDate.plusDays(1)) ? currentStreak + 1 : 1;
+            lastStudyDate = date;
+            maxStreak = Math.max(maxStreak, currentStreak);
+        } else {
+            // 지난 날짜가 채워지면 앞뒤 구간이 이어질 수 있음
+            int runStart = bits.previousClearBit(index) + 1;
+            int runEnd = bits.nextClearBit(index);
+            int runLength = runEnd - runStart;
+            maxStreak = Math.max(maxStreak, runLength);
+            if (runEnd - 1 == indexOf(lastStudyDate)) {
+                currentStreak = runLength;
+            }
+        }
+        studyDayBits = bits.toByteArray();
+        return true;
+    }
+
+    /**
+     * 기준일 현재 연속 학습일 (오늘 또는 어제까지 학습했으면 유지, 아니면 0)
+     */
+    public int getCurrentStreak(LocalDate today) {
+        if (lastStudyDate == null || lastStudyDate.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return currentStreak;
+    }
+
+    /**
+     * 특정 날짜에서 끝나는 연속 학습일 (해당 날짜가 학습일이 아니면 0)
+     */
+    public int getStreakEndingAt(LocalDate date) {
+        if (!isStudyDay(date)) {
+            return 0;
+        }
+        int index = indexOf(date);
+        return index - bits().previousClearBit(index);
+    }
+
+    /**
+     * 해당 날짜가 속한 연속 구간의 마지막 학습일 (해당 날짜가 학습일이 아니면 null)
+     */
+    public LocalDate getLastDayOfRun(LocalDate date) {
+        if (!isStudyDay(date)) {
+            return null;
+        }
+        int index = indexOf(date);
+        return bitsEpoch.plusDays(bits().nextClearBit(index) - 1L);
+    }
+
+    /**
+     * 학습일 여부
+     */
+    public boolean isStudyDay(LocalDate date) {
+        if (bitsEpoch == null || date.isBefore(bitsEpoch)) {
+            return false;
+        }
+        long index = ChronoUnit.DAYS.between(bitsEpoch, date);
+        return index < (long) MAX_BITS_BYTES * 8 && bits().get((int) index);
+    }
+
+    /**
+     * 기간 내 학습일 수 (양 끝 포함)
+     */
+    public int countStudyDays(LocalDate from, LocalDate to) {
+        int[] range = clampRange(from, to);
+        if (range == null) {
+            return 0;
+        }
+        return bits().get(range[0], range[1]).cardinality();
+    }
+
+    /**
+     * 기간 내 최장 연속 학습일 (양 끝 포함, 예: 특정 연도의 최장 연속 기록)
+     * 비트셋의 연속 구간 단위로 이동하므로 구간 수에 비례한다.
+     */
+    public int getLongestStreakBetween(LocalDate from, LocalDate to) {
+        int[] range = clampRange(from, to);
+        if (range == null) {
+            return 0;
+        }
+        BitSet bits = bits();
+        int longest = 0;
+        int start = bits.nextSetBit(range[0]);
+        while (start >= 0 && start < range[1]) {
+            int end = Math.min(bits.nextClearBit(start), range[1]);
+            longest = Math.max(longest, end - start);
+            start = bits.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    private BitSet bits() {
+        return studyDayBits != null ? BitSet.valueOf(studyDayBits) : new BitSet();
+    }
+
+    private int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(bitsEpoch, date);
+        if (index >= (long) MAX_BITS_BYTES * 8) {
+            throw new IllegalArgumentException("Study day out of range: " + date);
+        }
+        return (int) index;
+    }
+
+    /**
+     * 기존 학습일과 새 날짜를 모두 비트셋 최대 크기 안에 담을 수 있는지 확인 (상태 변경 전에 검사)
+     */
+    private void checkInRange(LocalDate date) {
+        if (bitsEpoch == null) {
+            return;
+        }
+        LocalDate first = date.isBefore(bitsEpoch) ? date : bitsEpoch;
+        LocalDate last = lastStudyDate != null && lastStudyDate.isAfter(date) ? lastStudyDate : date;
+        if (ChronoUnit.DAYS.between(first, last) >= (long) MAX_BITS_BYTES * 8) {
+            throw new IllegalArgumentException("Study day out of range: " + date);
+        }
+    }
+
+    /**
+     * 기준일보다 앞선 날짜가 들어오면 기준일을 옮기고 비트를 뒤로 민다.
+     */
+    private BitSet rebase(BitSet bits, LocalDate newEpoch) {
+        int shift = (int) ChronoUnit.DAYS.between(newEpoch, bitsEpoch);
+        BitSet shifted = new BitSet(bits.length() + shift);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + shift);
+        }
+        bitsEpoch = newEpoch;
+        return shifted;
+    }
+
+    /**
+     * 날짜 구간을 비트 인덱스 구간 [시작, 끝)으로 변환 (겹치지 않으면 null)
+     */
+    private int[] clampRange(LocalDate from, LocalDate to) {
+        if (bitsEpoch == null || to.isBefore(bitsEpoch) || to.isBefore(from)) {
+            return null;
+        }
+        long start = Math.max(0, ChronoUnit.DAYS.between(bitsEpoch, from));
+        long end = Math.min((long) MAX_BITS_BYTES * 8, ChronoUnit.DAYS.between(bitsEpoch, to) + 1);
+        if (start >= end) {
+            return null;
+        }
+        return new int[] { (int) start, (int) end };
+    }
+}
@@ -0,0 +1,27 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Smile 바이너리 컬럼(VARBINARY/BLOB) 변환기 기본 클래스
+ * JSON 문자열보다 저장 공간과 파싱 비용이 작지만 DB에서 JSON 함수로 조회할 수 없으므로
+ * 애플리케이션에서만 읽는 컬럼에 선택적으로 사용한다.
+ */
+public abstract class AbstractBinaryJsonConverter<T> implements AttributeConverter<T, byte[]> {
+
+    private final JsonCodec<T> codec;
+
+    protected AbstractBinaryJsonConverter(JsonCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(T attribute) {
+        return codec.writeBinary(attribute);
+    }
+
+    @Override
+    public T convertToEntityAttribute(byte[] dbData) {
+        return codec.readBinary(dbData);
+    }
+}
@@ -0,0 +1,25 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * JSON 문자열 컬럼 변환기 기본 클래스
+ */
+public abstract class AbstractJsonConverter<T> implements AttributeConverter<T, String> {
+
+    private final JsonCodec<T> codec;
+
+    protected AbstractJsonConverter(JsonCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(T attribute) {
+        return codec.write(attribute);
+    }
+
+    @Override
+    public T convertToEntityAttribute(String dbData) {
+        return codec.read(dbData);
+    }
+}
@@ -0,0 +1,117 @@
+package web.mvc.domain.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON 컬럼 공용 코덱
+ * 타입별 ObjectReader/ObjectWriter를 한 번만 만들어 재사용한다. (둘 다 불변이며 스레드 안전)
+ * 엔티티 JSON 변환 메서드와 AttributeConverter가 호출마다 ObjectMapper를 생성하지 않도록 하기 위한 용도이며,
+ * 같은 값을 Smile 바이너리 형식으로 읽고 쓰는 기능도 제공한다.
+ */
+public final class JsonCodec<T> {
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    public static final JsonCodec<List<String>> STRING_LIST = new JsonCodec<>(new TypeReference<>() {
+    });
+
+    public static final JsonCodec<List<Long>> LONG_LIST = new JsonCodec<>(new TypeReference<>() {
+    });
+
+    public static final JsonCodec<List<Map<String, Object>>> MAP_LIST = new JsonCodec<>(new TypeReference<>() {
+    });
+
+    public static final JsonCodec<Map<String, Object>> MAP = new JsonCodec<>(new TypeReference<>() {
+    });
+
+    private final ObjectReader jsonReader;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader binaryReader;
+    private final ObjectWriter binaryWriter;
+
+    private JsonCodec(TypeReference<T> type) {
+        this.jsonReader = JSON_MAPPER.readerFor(type);
+        this.jsonWriter = JSON_MAPPER.writerFor(type);
+        this.binaryReader = SMILE_MAPPER.readerFor(type);
+        this.binaryWriter = SMILE_MAPPER.writerFor(type);
+    }
+
+    /**
+     * 공용 JSON ObjectMapper (설정 변경 금지)
+     */
+    public static ObjectMapper objectMapper() {
+        return JSON_MAPPER;
+    }
+
+    /**
+     * JSON 문자열 읽기 (null 또는 빈 문자열이면 null)
+     */
+    public T read(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return jsonReader.readValue(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON", e);
+        }
+    }
+
+    /**
+     * JSON 문자열로 쓰기 (null이면 null)
+     */
+    public String write(T value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return jsonWriter.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not write JSON", e);
+        }
+    }
+
+    /**
+     * Smile 바이너리 읽기 (null 또는 빈 배열이면 null)
+     */
+    public T readBinary(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return binaryReader.readValue(bytes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid binary JSON", e);
+        }
+    }
+
+    /**
+     * Smile 바이너리로 쓰기 (null이면 null)
+     */
+    public byte[] writeBinary(T value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return binaryWriter.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not write binary JSON", e);
+        }
+    }
+}
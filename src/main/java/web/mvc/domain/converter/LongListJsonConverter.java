@@ -0,0 +1,16 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * {@code List<Long>} ↔ JSON 문자열 컬럼 변환기
+ */
+@Converter
+public class LongListJsonConverter extends AbstractJsonConverter<List<Long>> {
+
+    public LongListJsonConverter() {
+        super(JsonCodec.LONG_LIST);
+    }
+}
@@ -0,0 +1,16 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * {@code Map<String, Object>} ↔ Smile 바이너리 컬럼 변환기
+ */
+@Converter
+public class MapBinaryConverter extends AbstractBinaryJsonConverter<Map<String, Object>> {
+
+    public MapBinaryConverter() {
+        super(JsonCodec.MAP);
+    }
+}
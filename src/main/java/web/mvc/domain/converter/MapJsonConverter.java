@@ -0,0 +1,16 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.Map;
+
+/**
+ * {@code Map<String, Object>} ↔ JSON 문자열 컬럼 변환기
+ */
+@Converter
+public class MapJsonConverter extends AbstractJsonConverter<Map<String, Object>> {
+
+    public MapJsonConverter() {
+        super(JsonCodec.MAP);
+    }
+}
@@ -0,0 +1,17 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code List<Map<String, Object>>} ↔ Smile 바이너리 컬럼 변환기
+ */
+@Converter
+public class MapListBinaryConverter extends AbstractBinaryJsonConverter<List<Map<String, Object>>> {
+
+    public MapListBinaryConverter() {
+        super(JsonCodec.MAP_LIST);
+    }
+}
@@ -0,0 +1,17 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code List<Map<String, Object>>} ↔ JSON 문자열 컬럼 변환기
+ */
+@Converter
+public class MapListJsonConverter extends AbstractJsonConverter<List<Map<String, Object>>> {
+
+    public MapListJsonConverter() {
+        super(JsonCodec.MAP_LIST);
+    }
+}
@@ -0,0 +1,16 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * {@code List<String>} ↔ Smile 바이너리 컬럼 변환기
+ */
+@Converter
+public class StringListBinaryConverter extends AbstractBinaryJsonConverter<List<String>> {
+
+    public StringListBinaryConverter() {
+        super(JsonCodec.STRING_LIST);
+    }
+}
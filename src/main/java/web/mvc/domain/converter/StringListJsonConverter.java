@@ -0,0 +1,16 @@
+package web.mvc.domain.converter;
+
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * {@code List<String>} ↔ JSON 문자열 컬럼 변환기
+ */
+@Converter
+public class StringListJsonConverter extends AbstractJsonConverter<List<String>> {
+
+    public StringListJsonConverter() {
+        super(JsonCodec.STRING_LIST);
+    }
+}
@@ -0,0 +1,73 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import web.mvc.domain.AiChatMessage;
+import web.mvc.domain.AiChatMessage.MessageType;
+import web.mvc.domain.AiChatMessage.UserRating;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 채팅 메시지 변경 이벤트
+ * 메시지 저장/피드백 변경 시 일별 집계 등 파생 데이터를 갱신하기 위해 발행
+ * (커밋 이후 처리되므로 지연 로딩 없이 사용할 수 있도록 필요한 값을 복사해 둔다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class AiChatMessageChangedEvent {
+
+    private final Long messageId;
+    private final Long userId;
+    private final MessageType messageType;
+    private final String aiModel;
+    private final Integer tokensUsed;
+    private final Integer responseTimeMs;
+    private final LocalDateTime createdAt;
+    private final UserRating previousRating;
+    private final UserRating rating;
+    private final ChangeType changeType;
+
+    /**
+     * 메시지 엔티티로부터 이벤트 생성
+     */
+    public static AiChatMessageChangedEvent of(AiChatMessage message, UserRating previousRating,
+            ChangeType changeType) {
+        return new AiChatMessageChangedEvent(
+                message.getMessageId(),
+                message.getSession().getUser().getId(),
+                message.getMessageType(),
+                message.getAiModel(),
+                message.getTokensUsed(),
+                message.getResponseTimeMs(),
+                message.getCreatedAt(),
+                previousRating,
+                message.getUserRating(),
+                changeType);
+    }
+
+    /**
+     * 피드백 변경 여부 확인
+     */
+    public boolean isRatingChanged() {
+        return this.previousRating != this.rating;
+    }
+
+    /**
+     * 변경 유형 열거형
+     */
+    public enum ChangeType {
+        CREATED("생성"),
+        RATED("피드백 변경");
+
+        private final String description;
+
+        ChangeType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.AiChatMessage;
+import web.mvc.domain.event.AiChatMessageChangedEvent.ChangeType;
+
+/**
+ * AI 채팅 메시지 엔티티 리스너
+ * 메시지 저장과 피드백 변경을 스프링 이벤트로 변환하여 발행
+ * (피드백 이외의 수정은 집계에 영향이 없으므로 발행하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AiChatMessageEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(AiChatMessage message) {
+        eventPublisher.publishEvent(AiChatMessageChangedEvent.of(message, null, ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void postUpdate(AiChatMessage message) {
+        if (message.getPersistedRating() != message.getUserRating()) {
+            eventPublisher.publishEvent(
+                    AiChatMessageChangedEvent.of(message, message.getPersistedRating(), ChangeType.RATED));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import web.mvc.domain.LearningContent;
+import web.mvc.domain.LearningContent.ContentType;
+import web.mvc.domain.LearningContent.DifficultyLevel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 학습 콘텐츠 변경 이벤트
+ * 콘텐츠 생성/수정/삭제 시 검색 색인 등 파생 데이터를 갱신하기 위해 발행
+ * (커밋 이후 처리되므로 지연 로딩 실패나 이후의 엔티티 변경이 섞이지 않도록 색인/랭킹에 쓰는 값을 복사해 둔다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LearningContentChangedEvent {
+
+    private final Long contentId;
+    private final ChangeType changeType;
+    private final boolean publiclyAvailable;
+
+    // ===== 검색 색인용 =====
+    private final String title;
+    private final String description;
+    private final String author;
+    private final List<String> tags;
+    private final ContentType contentType;
+    private final String programmingLanguage;
+    private final String category;
+    private final DifficultyLevel difficultyLevel;
+    private final Boolean isFree;
+
+    // ===== 랭킹용 =====
+    private final BigDecimal averageRating;
+    private final Integer reviewCount;
+    private final Integer viewCount;
+    private final Integer bookmarkCount;
+
+    /**
+     * 학습 콘텐츠 엔티티로부터 이벤트 생성
+     */
+    public static LearningContentChangedEvent of(LearningContent content, ChangeType changeType) {
+        return new LearningContentChangedEvent(
+                content.getContentId(),
+                changeType,
+                content.isPubliclyAvailable(),
+                content.getTitle(),
+                content.getDescription(),
+                content.getAuthor(),
+                content.getTags() != null ? Collections.unmodifiableList(new ArrayList<>(content.getTags())) : null,
+                content.getContentType(),
+                content.getProgrammingLanguage(),
+                content.getCategory(),
+                content.getDifficultyLevel(),
+                content.getIsFree(),
+                content.getAverageRating(),
+                content.getReviewCount(),
+                content.getViewCount(),
+                content.getBookmarkCount());
+    }
+
+    /**
+     * 삭제 이벤트 여부 확인
+     */
+    public boolean isDeleted() {
+        return ChangeType.DELETED.equals(this.changeType);
+    }
+
+    /**
+     * 변경 유형 열거형
+     */
+    public enum ChangeType {
+        CREATED("생성"),
+        UPDATED("수정"),
+        DELETED("삭제");
+
+        private final String description;
+
+        ChangeType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.LearningContent;
+import web.mvc.domain.event.LearningContentChangedEvent.ChangeType;
+
+/**
+ * 학습 콘텐츠 엔티티 리스너
+ * JPA 생명주기 콜백을 스프링 이벤트로 변환하여 발행
+ * (Hibernate가 스프링 빈 컨테이너를 통해 생성하므로 의존성 주입 가능)
+ */
+@Component
+@RequiredArgsConstructor
+public class LearningContentEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(LearningContent content) {
+        eventPublisher.publishEvent(LearningContentChangedEvent.of(content, ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void postUpdate(LearningContent content) {
+        eventPublisher.publishEvent(LearningContentChangedEvent.of(content, ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void postRemove(LearningContent content) {
+        eventPublisher.publishEvent(LearningContentChangedEvent.of(content, ChangeType.DELETED));
+    }
+}
@@ -0,0 +1,47 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import web.mvc.domain.MentorProfile;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 멘토 프로필 변경 이벤트
+ * 승인/거부, 멘토링 완료(평점), 이용 가능 여부 등 변경 시 매칭 색인을 갱신하기 위해 발행
+ * (커밋 이후 처리되므로 이후의 엔티티 변경이 섞이지 않도록 색인에 쓰는 값을 복사해 둔다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MentorProfileChangedEvent {
+
+    private final Long mentorId;
+    private final boolean activeAndAvailable;
+    private final List<String> expertiseAreas;
+    private final Integer yearsOfExperience;
+    private final BigDecimal hourlyRate;
+    private final BigDecimal mentorRating;
+    private final Integer totalReviews;
+    private final String company;
+    private final boolean deleted;
+
+    /**
+     * 멘토 프로필 엔티티로부터 이벤트 생성
+     */
+    public static MentorProfileChangedEvent of(MentorProfile mentor, boolean deleted) {
+        return new MentorProfileChangedEvent(
+                mentor.getMentorId(),
+                mentor.isActiveAndAvailable(),
+                mentor.getExpertiseAreas() != null
+                        ? Collections.unmodifiableList(new ArrayList<>(mentor.getExpertiseAreas())) : null,
+                mentor.getYearsOfExperience(),
+                mentor.getHourlyRate(),
+                mentor.getMentorRating(),
+                mentor.getTotalReviews(),
+                mentor.getCompany(),
+                deleted);
+    }
+}
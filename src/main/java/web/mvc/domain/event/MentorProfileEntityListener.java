@@ -0,0 +1,30 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.MentorProfile;
+
+/**
+ * 멘토 프로필 엔티티 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class MentorProfileEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void postSave(MentorProfile mentor) {
+        eventPublisher.publishEvent(MentorProfileChangedEvent.of(mentor, false));
+    }
+
+    @PostRemove
+    public void postRemove(MentorProfile mentor) {
+        eventPublisher.publishEvent(MentorProfileChangedEvent.of(mentor, true));
+    }
+}
@@ -0,0 +1,72 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import web.mvc.domain.Notification;
+import web.mvc.domain.Notification.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 읽음 상태 변경 이벤트
+ * 읽지 않은 알림 수가 바뀌는 경우(생성, 읽음/읽지 않음 전환, 삭제)에만 발행
+ * (커밋 이후 처리되므로 지연 로딩 없이 사용할 수 있도록 필요한 값을 복사해 둔다, 내용은 실시간 전송용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationChangedEvent {
+
+    private final Long notificationId;
+    private final Long userId;
+    private final NotificationType type;
+    private final String title;
+    private final String message;
+    private final String actionUrl;
+    private final LocalDateTime createdAt;
+    private final ChangeType changeType;
+
+    /**
+     * 알림 엔티티로부터 이벤트 생성
+     */
+    public static NotificationChangedEvent of(Notification notification, ChangeType changeType) {
+        return new NotificationChangedEvent(
+                notification.getNotificationId(),
+                notification.getUser().getId(),
+                notification.getType(),
+                notification.getTitle(),
+                notification.getMessage(),
+                notification.getActionUrl(),
+                notification.getCreatedAt(),
+                changeType);
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감량
+     */
+    public int getUnreadDelta() {
+        return switch (changeType) {
+            case CREATED, UNREAD -> 1;
+            case READ, DELETED -> -1;
+        };
+    }
+
+    /**
+     * 변경 유형 열거형
+     */
+    public enum ChangeType {
+        CREATED("읽지 않은 알림 생성"),
+        READ("읽음 처리"),
+        UNREAD("읽지 않음 처리"),
+        DELETED("읽지 않은 알림 삭제");
+
+        private final String description;
+
+        ChangeType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.Notification;
+import web.mvc.domain.event.NotificationChangedEvent.ChangeType;
+
+/**
+ * 알림 엔티티 리스너
+ * 읽지 않은 알림 수에 영향을 주는 변경만 스프링 이벤트로 변환하여 발행
+ * (JPQL 일괄 UPDATE/DELETE는 엔티티 콜백을 거치지 않으므로 호출하는 쪽에서 카운터를 갱신해야 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(Notification notification) {
+        if (notification.isUnread()) {
+            eventPublisher.publishEvent(NotificationChangedEvent.of(notification, ChangeType.CREATED));
+        }
+    }
+
+    @PostUpdate
+    public void postUpdate(Notification notification) {
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getPersistedRead());
+        if (wasUnread != notification.isUnread()) {
+            eventPublisher.publishEvent(NotificationChangedEvent.of(notification,
+                    wasUnread ? ChangeType.READ : ChangeType.UNREAD));
+        }
+    }
+
+    @PostRemove
+    public void postRemove(Notification notification) {
+        if (!Boolean.TRUE.equals(notification.getPersistedRead())) {
+            eventPublisher.publishEvent(NotificationChangedEvent.of(notification, ChangeType.DELETED));
+        }
+    }
+}
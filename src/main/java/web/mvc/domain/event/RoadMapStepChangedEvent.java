@@ -0,0 +1,15 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로드맵 단계 변경 이벤트
+ * 단계 추가/수정/삭제 시 템플릿별 선수 단계 그래프를 다시 만들기 위해 발행
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoadMapStepChangedEvent {
+
+    private final Long templateId;
+}
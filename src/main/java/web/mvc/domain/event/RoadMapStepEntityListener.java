@@ -0,0 +1,28 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.RoadMapStep;
+
+/**
+ * 로드맵 단계 엔티티 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class RoadMapStepEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void postChange(RoadMapStep step) {
+        if (step.getRoadMapTemplate() != null) {
+            eventPublisher.publishEvent(new RoadMapStepChangedEvent(step.getRoadMapTemplate().getId()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.SearchLog;
+import web.mvc.domain.event.SearchLogRecordedEvent.ChangeType;
+
+/**
+ * 검색 로그 엔티티 리스너
+ * 검색 저장과 첫 결과 클릭을 스프링 이벤트로 변환하여 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchLogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(SearchLog searchLog) {
+        eventPublisher.publishEvent(SearchLogRecordedEvent.of(searchLog, ChangeType.SEARCHED));
+    }
+
+    @PostUpdate
+    public void postUpdate(SearchLog searchLog) {
+        // 같은 검색에서 여러 번 클릭해도 클릭률에는 한 번만 반영
+        if (searchLog.getPersistedClickedResultId() == null && searchLog.hasClickedResult()) {
+            eventPublisher.publishEvent(SearchLogRecordedEvent.of(searchLog, ChangeType.CLICKED));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import web.mvc.domain.SearchLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 로그 이벤트
+ * 검색 로그 저장(SEARCHED)과 결과 클릭 기록(CLICKED) 시 발행하며, 검색어 통계 집계에 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SearchLogRecordedEvent {
+
+    private final Long logId;
+    private final String searchQuery;
+    private final Integer resultsCount;
+    private final boolean clicked;
+    private final LocalDateTime createdAt;
+    private final ChangeType changeType;
+
+    /**
+     * 검색 로그 엔티티로부터 이벤트 생성
+     */
+    public static SearchLogRecordedEvent of(SearchLog searchLog, ChangeType changeType) {
+        return new SearchLogRecordedEvent(
+                searchLog.getLogId(),
+                searchLog.getSearchQuery(),
+                searchLog.getResultsCount(),
+                searchLog.hasClickedResult(),
+                searchLog.getCreatedAt(),
+                changeType);
+    }
+
+    /**
+     * 결과가 없었던 검색인지
+     */
+    public boolean isZeroResult() {
+        return resultsCount != null && resultsCount == 0;
+    }
+
+    public enum ChangeType {
+        SEARCHED, CLICKED
+    }
+}
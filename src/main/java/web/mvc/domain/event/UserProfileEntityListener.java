@@ -0,0 +1,37 @@
+package web.mvc.domain.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import web.mvc.domain.UserProfile;
+
+/**
+ * 사용자 프로필 엔티티 리스너
+ * 설문 결과가 저장되거나 바뀐 경우에만 스프링 이벤트로 발행 (학습 통계 갱신은 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void postPersist(UserProfile profile) {
+        publish(profile);
+    }
+
+    @PostUpdate
+    public void postUpdate(UserProfile profile) {
+        if (profile.isSurveyChanged()) {
+            publish(profile);
+        }
+    }
+
+    private void publish(UserProfile profile) {
+        if (profile.getUser() != null) {
+            eventPublisher.publishEvent(new UserProfileSurveyUpdatedEvent(profile.getUser().getId()));
+        }
+    }
+}
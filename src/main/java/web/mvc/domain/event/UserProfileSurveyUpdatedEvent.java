@@ -0,0 +1,14 @@
+package web.mvc.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 온보딩 설문(관심 언어/분야, 현재 레벨, 학습 목표) 변경 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserProfileSurveyUpdatedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,101 @@
+package web.mvc.domain.support;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색어 정규화 (통계 집계 키)
+ * - NFKC 정규화 후 소문자 변환 (전각/반각, 호환 문자 통일)
+ * - 공백류(전각 공백, 제로폭 문자 포함)를 공백 하나로 합치고 앞뒤 공백 제거
+ * - 한글 자모: 조합되지 않은 자모는 호환 자모(ㄱ, ㅏ)로 통일하고,
+ *   음절 뒤에 남은 입력 중인 자음/모음(예: "자바ㅅ")은 제거
+ */
+public final class SearchQueryNormalizer {
+
+    /**
+     * 집계 키 최대 길이 (긴 문장형 검색어로 인한 메모리 사용 제한)
+     */
+    public static final int MAX_LENGTH = 100;
+
+    // 첫소리(U+1100~U+1112), 가운뎃소리(U+1161~U+1175), 끝소리(U+11A8~U+11C2)에 대응하는 호환 자모
+    private static final String LEADING = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String VOWELS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String TRAILING = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private SearchQueryNormalizer() {
+    }
+
+    /**
+     * 정규화된 검색어 (비어 있으면 빈 문자열)
+     */
+    public static String normalize(String query) {
+        if (query == null || query.isBlank()) {
+            return "";
+        }
+        // NFKC는 분리된 첫가끝 자모를 음절로 조합하고, 호환 자모는 첫가끝 자모로 바꿈
+        String text = Normalizer.normalize(query, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder result = new StringBuilder(Math.min(text.length(), MAX_LENGTH));
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length() && result.length() < MAX_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (isSpace(c)) {
+                pendingSpace = result.length() > 0;
+                continue;
+            }
+            if (isIgnorable(c)) {
+                continue;
+            }
+            if (pendingSpace) {
+                result.append(' ');
+                pendingSpace = false;
+            }
+            result.append(toCompatibilityJamo(c));
+        }
+        return stripTrailingJamo(result);
+    }
+
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private static boolean isIgnorable(char c) {
+        // 제로폭 문자, BOM, 제어 문자
+        return c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\uFEFF' || Character.isISOControl(c);
+    }
+
+    private static char toCompatibilityJamo(char c) {
+        if (c >= '\u1100' && c <= '\u1112') {
+            return LEADING.charAt(c - '\u1100');
+        }
+        if (c >= '\u1161' && c <= '\u1175') {
+            return VOWELS.charAt(c - '\u1161');
+        }
+        if (c >= '\u11A8' && c <= '\u11C2') {
+            return TRAILING.charAt(c - '\u11A8');
+        }
+        return c;
+    }
+
+    /**
+     * 한글 음절 뒤에 붙은 미완성 자모 제거 ("ㅈㅂ" 같은 자모만의 검색어는 유지)
+     */
+    private static String stripTrailingJamo(StringBuilder text) {
+        int end = text.length();
+        while (end > 0 && isCompatibilityJamo(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end < text.length() && end > 0 && isHangulSyllable(text.charAt(end - 1))) {
+            text.setLength(end);
+        }
+        return text.toString();
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= '\u3131' && c <= '\u3163';
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '\uAC00' && c <= '\uD7A3';
+    }
+}
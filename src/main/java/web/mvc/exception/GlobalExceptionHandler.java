@@ -2,6 +2,7 @@ package web.mvc.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,6 +14,7 @@ import jakarta.validation.ConstraintViolationException;
 /**
  * 전역 예외 처리기
  * 모든 컨트롤러에서 발생하는 예외를 일관된 형태로 처리
+ * 응답 형식을 JSON으로 지정하여 SSE 요청(Accept: text/event-stream)의 거절 응답도 상태 코드와 오류 코드가 그대로 전달되게 한다.
  */
 @Slf4j
 @RestControllerAdvice
@@ -26,6 +28,7 @@ public class GlobalExceptionHandler {
         log.error("Validation error: ", e);
         String message = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error("입력값이 올바르지 않습니다: " + message, "VALIDATION_ERROR"));
     }
 
@@ -36,6 +39,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleConstraintViolationException(ConstraintViolationException e) {
         log.error("Constraint violation: ", e);
         return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error("입력값이 올바르지 않습니다: " + e.getMessage(), "VALIDATION_ERROR"));
     }
 
@@ -47,6 +51,7 @@ public class GlobalExceptionHandler {
         log.error("Bind error: ", e);
         String message = e.getBindingResult().getAllErrors().get(0).getDefaultMessage();
         return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error("입력값이 올바르지 않습니다: " + message, "BIND_ERROR"));
     }
 
@@ -57,6 +62,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleBusinessException(BusinessException e) {
         log.error("Business error: ", e);
         return ResponseEntity.status(e.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error(e.getMessage(), e.getErrorCode()));
     }
 
@@ -67,6 +73,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleUnauthorizedException(UnauthorizedException e) {
         log.error("Unauthorized error: ", e);
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error(e.getMessage(), "UNAUTHORIZED"));
     }
 
@@ -77,6 +84,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleForbiddenException(ForbiddenException e) {
         log.error("Forbidden error: ", e);
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error(e.getMessage(), "FORBIDDEN"));
     }
 
@@ -87,6 +95,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleNotFoundException(NotFoundException e) {
         log.error("Not found error: ", e);
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error(e.getMessage(), "NOT_FOUND"));
     }
 
@@ -97,6 +106,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleException(Exception e) {
         log.error("Unexpected error: ", e);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResponse.error("서버 내부 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR"));
     }
 }
@@ -0,0 +1,42 @@
+package web.mvc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import web.mvc.domain.AiChatDailyRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AI 채팅 일별 집계 Repository
+ */
+@Repository
+public interface AiChatDailyRollupRepository extends JpaRepository<AiChatDailyRollup, Long> {
+
+    /**
+     * 사용자별 기간 집계 조회
+     */
+    List<AiChatDailyRollup> findByUserIdAndStatDateBetweenOrderByStatDateDesc(Long userId,
+            LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간별 응답 시간 분포 조회
+     * [500ms 이하, 1초 이하, 2초 이하, 5초 이하, 10초 이하, 10초 초과]
+     */
+    @Query("SELECT SUM(r.responseLe500ms), SUM(r.responseLe1s), SUM(r.responseLe2s), " +
+            "SUM(r.responseLe5s), SUM(r.responseLe10s), SUM(r.responseGt10s) " +
+            "FROM AiChatDailyRollup r WHERE r.statDate BETWEEN :startDate AND :endDate")
+    List<Object[]> getResponseTimeHistogram(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간별 AI 모델 사용 통계 [모델, AI 메시지 수, 토큰 사용량]
+     */
+    @Query("SELECT r.aiModel, SUM(r.aiMessageCount), SUM(r.tokensUsed) FROM AiChatDailyRollup r " +
+            "WHERE r.aiModel <> '' AND r.statDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.aiModel")
+    List<Object[]> getModelUsageBetween(@Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,12 +11,17 @@ import web.mvc.domain.AiChatMessage;
 import web.mvc.domain.AiChatMessage.MessageType;
 import web.mvc.domain.AiChatMessage.UserRating;
 import web.mvc.domain.AiChatSession;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * AI 채팅 메시지 Repository
+ * 토큰/응답 시간/피드백/일별 통계는 ai_chat_daily_rollups 집계 테이블에서 조회
  */
 @Repository
 public interface AiChatMessageRepository extends JpaRepository<AiChatMessage, Long> {
@@ -30,6 +36,25 @@ public interface AiChatMessageRepository extends JpaRepository<AiChatMessage, Lo
      */
     Page<AiChatMessage> findBySessionOrderByCreatedAt(AiChatSession session, Pageable pageable);
 
+    /**
+     * 세션별 메시지 키셋 페이지 (시간순, COUNT 없음)
+     */
+    default CursorPage<AiChatMessage> findBySessionCursor(AiChatSession session, CursorRequest request) {
+        List<AiChatMessage> rows = request.isFirstPage()
+                ? findBySessionOrderByCreatedAtAscMessageIdAsc(session, request.fetchLimit())
+                : findBySessionAfter(session, request.cursor().createdAt(), request.cursor().id(),
+                        request.fetchLimit());
+        return CursorPage.of(rows, request, m -> new Cursor(m.getCreatedAt(), m.getMessageId()));
+    }
+
+    List<AiChatMessage> findBySessionOrderByCreatedAtAscMessageIdAsc(AiChatSession session, Limit limit);
+
+    @Query("SELECT m FROM AiChatMessage m WHERE m.session = :session " +
+            "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.messageId > :id)) " +
+            "ORDER BY m.createdAt ASC, m.messageId ASC")
+    List<AiChatMessage> findBySessionAfter(@Param("session") AiChatSession session,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     /**
      * 세션별 특정 타입 메시지 조회
      */
@@ -56,7 +81,7 @@ public interface AiChatMessageRepository extends JpaRepository<AiChatMessage, Lo
     /**
      * 특정 기간 내 메시지 조회
      */
-    @Query("SELECT m FROM AiChatMessage m WHERE m.session.user.userId = :userId " +
+    @Query("SELECT m FROM AiChatMessage m WHERE m.session.user.id = :userId " +
             "AND m.createdAt >= :startDate AND m.createdAt <= :endDate")
     List<AiChatMessage> findByUserAndCreatedAtBetween(@Param("userId") Long userId,
             @Param("startDate") LocalDateTime startDate,
@@ -75,48 +100,60 @@ public interface AiChatMessageRepository extends JpaRepository<AiChatMessage, Lo
     List<AiChatMessage> findAiMessagesByRating(@Param("rating") UserRating rating);
 
     /**
-     * 평가별 AI 메시지 통계
+     * 평가별 AI 메시지 통계 [평가, 건수] (일별 집계 기준)
+     */
+    default List<Object[]> getAiMessageFeedbackStats() {
+        List<Object[]> stats = new ArrayList<>();
+        for (Object[] row : getAiMessageFeedbackTotals()) {
+            if (row[0] != null && ((Number) row[0]).longValue() > 0) {
+                stats.add(new Object[] { UserRating.HELPFUL, ((Number) row[0]).longValue() });
+            }
+            if (row[1] != null && ((Number) row[1]).longValue() > 0) {
+                stats.add(new Object[] { UserRating.NOT_HELPFUL, ((Number) row[1]).longValue() });
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 평가별 AI 메시지 합계 [도움됨, 도움안됨] (일별 집계 기준)
      */
-    @Query("SELECT m.userRating, COUNT(m) FROM AiChatMessage m " +
-            "WHERE m.messageType = 'AI' AND m.userRating IS NOT NULL " +
-            "GROUP BY m.userRating")
-    List<Object[]> getAiMessageFeedbackStats();
+    @Query("SELECT SUM(r.helpfulCount), SUM(r.notHelpfulCount) FROM AiChatDailyRollup r")
+    List<Object[]> getAiMessageFeedbackTotals();
 
     /**
-     * AI 모델별 메시지 통계
+     * AI 모델별 메시지 통계 (일별 집계 기준)
      */
-    @Query("SELECT m.aiModel, COUNT(m) FROM AiChatMessage m " +
-            "WHERE m.messageType = 'AI' AND m.aiModel IS NOT NULL " +
-            "GROUP BY m.aiModel")
+    @Query("SELECT r.aiModel, SUM(r.aiMessageCount) FROM AiChatDailyRollup r " +
+            "WHERE r.aiModel <> '' " +
+            "GROUP BY r.aiModel HAVING SUM(r.aiMessageCount) > 0")
     List<Object[]> getAiModelUsageStats();
 
     /**
-     * 총 토큰 사용량 조회 (사용자별)
+     * 총 토큰 사용량 조회 (사용자별, 일별 집계 기준)
      */
-    @Query("SELECT SUM(m.tokensUsed) FROM AiChatMessage m " +
-            "WHERE m.session.user.userId = :userId AND m.messageType = 'AI' AND m.tokensUsed IS NOT NULL")
+    @Query("SELECT SUM(r.tokensUsed) FROM AiChatDailyRollup r WHERE r.userId = :userId")
     Long getTotalTokensUsedByUser(@Param("userId") Long userId);
 
     /**
-     * 특정 날짜의 토큰 사용량 조회 (사용자별)
+     * 특정 날짜의 토큰 사용량 조회 (사용자별, 일별 집계 기준)
      */
-    @Query("SELECT SUM(m.tokensUsed) FROM AiChatMessage m " +
-            "WHERE m.session.user.userId = :userId AND m.messageType = 'AI' " +
-            "AND DATE(m.createdAt) = :date AND m.tokensUsed IS NOT NULL")
+    @Query("SELECT SUM(r.tokensUsed) FROM AiChatDailyRollup r " +
+            "WHERE r.userId = :userId AND r.statDate = :date")
     Long getTokensUsedByUserOnDate(@Param("userId") Long userId, @Param("date") java.time.LocalDate date);
 
     /**
-     * 평균 응답 시간 조회 (AI 메시지)
+     * 평균 응답 시간 조회 (AI 메시지, 일별 집계 기준)
      */
-    @Query("SELECT AVG(m.responseTimeMs) FROM AiChatMessage m " +
-            "WHERE m.messageType = 'AI' AND m.responseTimeMs IS NOT NULL")
+    @Query("SELECT CAST(SUM(r.responseTimeSumMs) AS double) / NULLIF(SUM(r.responseTimeCount), 0) " +
+            "FROM AiChatDailyRollup r")
     Double getAverageResponseTime();
 
     /**
-     * 사용자별 평균 응답 시간 조회
+     * 사용자별 평균 응답 시간 조회 (일별 집계 기준)
      */
-    @Query("SELECT AVG(m.responseTimeMs) FROM AiChatMessage m " +
-            "WHERE m.session.user.userId = :userId AND m.messageType = 'AI' AND m.responseTimeMs IS NOT NULL")
+    @Query("SELECT CAST(SUM(r.responseTimeSumMs) AS double) / NULLIF(SUM(r.responseTimeCount), 0) " +
+            "FROM AiChatDailyRollup r WHERE r.userId = :userId")
     Double getAverageResponseTimeByUser(@Param("userId") Long userId);
 
     /**
@@ -153,11 +190,11 @@ public interface AiChatMessageRepository extends JpaRepository<AiChatMessage, Lo
     List<AiChatMessage> searchByContent(@Param("keyword") String keyword);
 
     /**
-     * 사용자별 일일 메시지 통계
+     * 사용자별 일일 메시지 통계 (일별 집계 기준)
      */
-    @Query("SELECT DATE(m.createdAt), COUNT(m) FROM AiChatMessage m " +
-            "WHERE m.session.user.userId = :userId " +
-            "GROUP BY DATE(m.createdAt) " +
-            "ORDER BY DATE(m.createdAt) DESC")
+    @Query("SELECT r.statDate, SUM(r.userMessageCount + r.aiMessageCount) FROM AiChatDailyRollup r " +
+            "WHERE r.userId = :userId " +
+            "GROUP BY r.statDate " +
+            "ORDER BY r.statDate DESC")
     List<Object[]> getDailyMessageStatsByUser(@Param("userId") Long userId);
 }
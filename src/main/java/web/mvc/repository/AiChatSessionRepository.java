@@ -1,14 +1,20 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import web.mvc.domain.AiChatSession;
 import web.mvc.domain.AiChatSession.SessionStatus;
 import web.mvc.domain.User;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +31,26 @@ public interface AiChatSessionRepository extends JpaRepository<AiChatSession, Lo
      */
     Optional<AiChatSession> findBySessionUuid(String sessionUuid);
 
+    /**
+     * 세션 UUID로 조회 (사용자 함께 로딩)
+     */
+    @Query("SELECT s FROM AiChatSession s JOIN FETCH s.user WHERE s.sessionUuid = :sessionUuid")
+    Optional<AiChatSession> findWithUserBySessionUuid(@Param("sessionUuid") String sessionUuid);
+
+    /**
+     * 세션 UUID로 조회 (사용자, 컨텍스트 로드맵/템플릿/단계 함께 로딩 - AI 프롬프트 구성용)
+     */
+    @EntityGraph(AiChatSession.WITH_CONTEXT)
+    Optional<AiChatSession> findWithContextBySessionUuid(String sessionUuid);
+
+    /**
+     * 세션 메시지 수 증가 (메시지 컬렉션을 로딩하지 않고 갱신)
+     */
+    @Modifying
+    @Query("UPDATE AiChatSession s SET s.totalMessages = COALESCE(s.totalMessages, 0) + :count, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.sessionId = :sessionId")
+    int incrementTotalMessages(@Param("sessionId") Long sessionId, @Param("count") int count);
+
     /**
      * 사용자별 세션 조회 (최신순)
      */
@@ -35,6 +61,24 @@ public interface AiChatSessionRepository extends JpaRepository<AiChatSession, Lo
      */
     Page<AiChatSession> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    /**
+     * 사용자별 세션 키셋 페이지 (최신순, COUNT 없음)
+     */
+    default CursorPage<AiChatSession> findByUserCursor(User user, CursorRequest request) {
+        List<AiChatSession> rows = request.isFirstPage()
+                ? findByUserOrderByCreatedAtDescSessionIdDesc(user, request.fetchLimit())
+                : findByUserBefore(user, request.cursor().createdAt(), request.cursor().id(), request.fetchLimit());
+        return CursorPage.of(rows, request, s -> new Cursor(s.getCreatedAt(), s.getSessionId()));
+    }
+
+    List<AiChatSession> findByUserOrderByCreatedAtDescSessionIdDesc(User user, Limit limit);
+
+    @Query("SELECT s FROM AiChatSession s WHERE s.user = :user " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.sessionId < :id)) " +
+            "ORDER BY s.createdAt DESC, s.sessionId DESC")
+    List<AiChatSession> findByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
     /**
      * 사용자별 활성 세션 조회
      */
@@ -55,13 +99,13 @@ public interface AiChatSessionRepository extends JpaRepository<AiChatSession, Lo
     /**
      * 로드맵 관련 세션 조회
      */
-    @Query("SELECT s FROM AiChatSession s WHERE s.user = :user AND s.contextRoadmap.userRoadMapId = :roadmapId")
+    @Query("SELECT s FROM AiChatSession s WHERE s.user = :user AND s.contextRoadmap.id = :roadmapId")
     List<AiChatSession> findByUserAndContextRoadmapId(@Param("user") User user, @Param("roadmapId") Long roadmapId);
 
     /**
      * 단계 관련 세션 조회
      */
-    @Query("SELECT s FROM AiChatSession s WHERE s.user = :user AND s.contextStep.stepId = :stepId")
+    @Query("SELECT s FROM AiChatSession s WHERE s.user = :user AND s.contextStep.id = :stepId")
     List<AiChatSession> findByUserAndContextStepId(@Param("user") User user, @Param("stepId") Long stepId);
 
     /**
@@ -93,7 +137,7 @@ public interface AiChatSessionRepository extends JpaRepository<AiChatSession, Lo
     /**
      * 오늘 생성된 세션 수 조회
      */
-    @Query("SELECT COUNT(s) FROM AiChatSession s WHERE s.user = :user AND DATE(s.createdAt) = CURRENT_DATE")
+    @Query("SELECT COUNT(s) FROM AiChatSession s WHERE s.user = :user AND CAST(s.createdAt AS LocalDate) = CURRENT_DATE")
     long countTodaySessionsByUser(@Param("user") User user);
 
     /**
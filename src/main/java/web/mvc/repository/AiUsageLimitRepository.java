@@ -181,6 +181,8 @@ interface SearchLogRepository extends JpaRepository<web.mvc.domain.SearchLog, Lo
 
     /**
      * 인기 검색어 조회
+     * 정규화되지 않은 원문 기준 집계이며 호출마다 기간 전체를 GROUP BY 하므로,
+     * 실시간 인기 검색어는 SearchAnalyticsService를 사용
      */
     @Query("SELECT s.searchQuery, COUNT(s) as searchCount " +
            "FROM SearchLog s " +
@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,7 +11,11 @@ import web.mvc.domain.LearningContent;
 import web.mvc.domain.LearningContent.ContentType;
 import web.mvc.domain.LearningContent.DifficultyLevel;
 import web.mvc.domain.User;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,6 +36,21 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
     @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true")
     Page<LearningContent> findApprovedActiveContents(Pageable pageable);
 
+    /**
+     * 승인된 활성 콘텐츠를 ID 순으로 나눠 조회 (색인/랭킹 재구축 등 전체 순회용, OFFSET 없음)
+     */
+    @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
+            "AND c.contentId > :afterId ORDER BY c.contentId ASC")
+    List<LearningContent> findApprovedActiveContentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 랭킹 보드 구축용 통계 조회
+     * [콘텐츠 ID, 조회수, 북마크 수, 평균 평점, 리뷰 수]
+     */
+    @Query("SELECT c.contentId, c.viewCount, c.bookmarkCount, c.averageRating, c.reviewCount " +
+            "FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true")
+    List<Object[]> findRankingStatistics();
+
     /**
      * 콘텐츠 타입별 조회
      */
@@ -69,6 +89,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
 
     /**
      * 제목 또는 설명으로 검색
+     * LIKE 전체 스캔이므로 ContentSearchService를 우선 사용 (색인 준비 전 폴백용)
      */
     @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
             "AND (LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -85,12 +106,50 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      */
     Page<LearningContent> findByCreatedByOrderByCreatedAtDesc(User createdBy, Pageable pageable);
 
+    /**
+     * 작성자별 키셋 페이지 (최신순, COUNT 없음)
+     */
+    default CursorPage<LearningContent> findByCreatedByCursor(User createdBy, CursorRequest request) {
+        List<LearningContent> rows = request.isFirstPage()
+                ? findByCreatedByOrderByCreatedAtDescContentIdDesc(createdBy, request.fetchLimit())
+                : findByCreatedByBefore(createdBy, request.cursor().createdAt(), request.cursor().id(),
+                        request.fetchLimit());
+        return CursorPage.of(rows, request, c -> new Cursor(c.getCreatedAt(), c.getContentId()));
+    }
+
+    List<LearningContent> findByCreatedByOrderByCreatedAtDescContentIdDesc(User createdBy, Limit limit);
+
+    @Query("SELECT c FROM LearningContent c WHERE c.createdBy = :createdBy " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.contentId < :id)) " +
+            "ORDER BY c.createdAt DESC, c.contentId DESC")
+    List<LearningContent> findByCreatedByBefore(@Param("createdBy") User createdBy,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     /**
      * 승인 대기 콘텐츠 조회
      */
     @Query("SELECT c FROM LearningContent c WHERE c.isApproved = false ORDER BY c.createdAt ASC")
     Page<LearningContent> findPendingApproval(Pageable pageable);
 
+    /**
+     * 승인 대기 콘텐츠 키셋 페이지 (오래된 순, COUNT 없음)
+     */
+    default CursorPage<LearningContent> findPendingApproval(CursorRequest request) {
+        List<LearningContent> rows = request.isFirstPage()
+                ? findPendingApproval(request.fetchLimit())
+                : findPendingApprovalAfter(request.cursor().createdAt(), request.cursor().id(), request.fetchLimit());
+        return CursorPage.of(rows, request, c -> new Cursor(c.getCreatedAt(), c.getContentId()));
+    }
+
+    @Query("SELECT c FROM LearningContent c WHERE c.isApproved = false ORDER BY c.createdAt ASC, c.contentId ASC")
+    List<LearningContent> findPendingApproval(Limit limit);
+
+    @Query("SELECT c FROM LearningContent c WHERE c.isApproved = false " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.contentId > :id)) " +
+            "ORDER BY c.createdAt ASC, c.contentId ASC")
+    List<LearningContent> findPendingApprovalAfter(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
     /**
      * 인기 콘텐츠 조회 (조회수 기준)
      */
@@ -105,6 +164,26 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
             "ORDER BY c.createdAt DESC")
     Page<LearningContent> findLatestContents(Pageable pageable);
 
+    /**
+     * 최신 콘텐츠 키셋 페이지 (COUNT 없음)
+     */
+    default CursorPage<LearningContent> findLatestContents(CursorRequest request) {
+        List<LearningContent> rows = request.isFirstPage()
+                ? findLatestContents(request.fetchLimit())
+                : findLatestContentsBefore(request.cursor().createdAt(), request.cursor().id(), request.fetchLimit());
+        return CursorPage.of(rows, request, c -> new Cursor(c.getCreatedAt(), c.getContentId()));
+    }
+
+    @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
+            "ORDER BY c.createdAt DESC, c.contentId DESC")
+    List<LearningContent> findLatestContents(Limit limit);
+
+    @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.contentId < :id)) " +
+            "ORDER BY c.createdAt DESC, c.contentId DESC")
+    List<LearningContent> findLatestContentsBefore(@Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
     /**
      * 평점 높은 콘텐츠 조회
      */
@@ -114,6 +193,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
 
     /**
      * 복합 검색 (필터 조건)
+     * 키워드가 있는 경우 ContentSearchService를 우선 사용 (색인 준비 전 폴백용)
      */
     @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
             "AND (:contentType IS NULL OR c.contentType = :contentType) " +
@@ -135,7 +215,7 @@ public interface LearningContentRepository extends JpaRepository<LearningContent
      * 태그로 검색
      */
     @Query("SELECT c FROM LearningContent c WHERE c.isApproved = true AND c.isActive = true " +
-            "AND JSON_CONTAINS(c.tags, :tag)")
+            "AND FUNCTION('JSON_CONTAINS', c.tags, :tag) = 1")
     Page<LearningContent> findByTag(@Param("tag") String tag, Pageable pageable);
 
     /**
@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,9 @@ import web.mvc.domain.MentorEarning;
 import web.mvc.domain.MentorEarning.EarningType;
 import web.mvc.domain.MentorEarning.PayoutStatus;
 import web.mvc.domain.MentorProfile;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,6 +34,25 @@ public interface MentorEarningRepository extends JpaRepository<MentorEarning, Lo
      */
     Page<MentorEarning> findByMentorOrderByCreatedAtDesc(MentorProfile mentor, Pageable pageable);
 
+    /**
+     * 멘토별 수익 키셋 페이지 (최신순, COUNT 없음)
+     */
+    default CursorPage<MentorEarning> findByMentorCursor(MentorProfile mentor, CursorRequest request) {
+        List<MentorEarning> rows = request.isFirstPage()
+                ? findByMentorOrderByCreatedAtDescEarningIdDesc(mentor, request.fetchLimit())
+                : findByMentorBefore(mentor, request.cursor().createdAt(), request.cursor().id(),
+                        request.fetchLimit());
+        return CursorPage.of(rows, request, e -> new Cursor(e.getCreatedAt(), e.getEarningId()));
+    }
+
+    List<MentorEarning> findByMentorOrderByCreatedAtDescEarningIdDesc(MentorProfile mentor, Limit limit);
+
+    @Query("SELECT e FROM MentorEarning e WHERE e.mentor = :mentor " +
+            "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.earningId < :id)) " +
+            "ORDER BY e.createdAt DESC, e.earningId DESC")
+    List<MentorEarning> findByMentorBefore(@Param("mentor") MentorProfile mentor,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     /**
      * 멘토별 특정 타입 수익 조회
      */
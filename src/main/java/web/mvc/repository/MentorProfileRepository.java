@@ -15,6 +15,8 @@ import java.util.Optional;
 
 /**
  * 멘토 프로필 Repository
+ * 전문 분야/경력/요금/평점/회사 조건 검색은 MentorMatchService(메모리 색인)를 사용한다.
+ * 아래 검색 쿼리는 승인 멘토 전체를 스캔하므로 색인 재구성 검증 등 관리 용도로만 남겨 둔다.
  */
 @Repository
 public interface MentorProfileRepository extends JpaRepository<MentorProfile, Long> {
@@ -55,7 +57,7 @@ public interface MentorProfileRepository extends JpaRepository<MentorProfile, Lo
      * 전문 분야별 멘토 조회
      */
     @Query("SELECT m FROM MentorProfile m WHERE m.approvalStatus = 'APPROVED' AND m.isAvailable = true " +
-            "AND JSON_CONTAINS(m.expertiseAreas, :expertiseArea)")
+            "AND FUNCTION('JSON_CONTAINS', m.expertiseAreas, :expertiseArea) = 1")
     List<MentorProfile> findByExpertiseArea(@Param("expertiseArea") String expertiseArea);
 
     /**
@@ -116,7 +118,7 @@ public interface MentorProfileRepository extends JpaRepository<MentorProfile, Lo
      * 검색 조건으로 멘토 조회 (복합 검색)
      */
     @Query("SELECT m FROM MentorProfile m WHERE m.approvalStatus = 'APPROVED' AND m.isAvailable = true " +
-            "AND (:expertise IS NULL OR JSON_CONTAINS(m.expertiseAreas, :expertise)) " +
+            "AND (:expertise IS NULL OR FUNCTION('JSON_CONTAINS', m.expertiseAreas, :expertise) = 1) " +
             "AND (:minYears IS NULL OR m.yearsOfExperience >= :minYears) " +
             "AND (:maxYears IS NULL OR m.yearsOfExperience <= :maxYears) " +
             "AND (:minRate IS NULL OR m.hourlyRate >= :minRate) " +
@@ -0,0 +1,32 @@
+package web.mvc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import web.mvc.domain.NotificationBroadcast;
+import web.mvc.domain.NotificationBroadcast.BroadcastStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 일괄 발송 작업 Repository
+ */
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    /**
+     * 상태별 작업 조회 (최신순)
+     */
+    List<NotificationBroadcast> findByStatusOrderByCreatedAtDesc(BroadcastStatus status);
+
+    /**
+     * 실행할 수 있는 작업 ID 조회 (대기 중이거나, 실행 중이지만 점유가 만료된 작업)
+     */
+    @Query("SELECT b.broadcastId FROM NotificationBroadcast b " +
+            "WHERE b.status = 'PENDING' " +
+            "OR (b.status = 'RUNNING' AND (b.leaseUntil IS NULL OR b.leaseUntil < :now)) " +
+            "ORDER BY b.broadcastId")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now);
+}
@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,9 @@ import org.springframework.stereotype.Repository;
 import web.mvc.domain.Notification;
 import web.mvc.domain.Notification.NotificationType;
 import web.mvc.domain.User;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,6 +43,46 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      */
     Page<Notification> findByUserAndIsReadOrderByCreatedAtDesc(User user, Boolean isRead, Pageable pageable);
 
+    // ===== 키셋 페이지 (createdAt, ID 기준, COUNT 없음) =====
+
+    /**
+     * 사용자별 알림 키셋 페이지 (최신순)
+     */
+    default CursorPage<Notification> findByUserCursor(User user, CursorRequest request) {
+        List<Notification> rows = request.isFirstPage()
+                ? findByUserOrderByCreatedAtDescNotificationIdDesc(user, request.fetchLimit())
+                : findByUserBefore(user, request.cursor().createdAt(), request.cursor().id(), request.fetchLimit());
+        return CursorPage.of(rows, request, n -> new Cursor(n.getCreatedAt(), n.getNotificationId()));
+    }
+
+    /**
+     * 사용자별 읽음 여부 알림 키셋 페이지 (최신순)
+     */
+    default CursorPage<Notification> findByUserAndIsReadCursor(User user, Boolean isRead, CursorRequest request) {
+        List<Notification> rows = request.isFirstPage()
+                ? findByUserAndIsReadOrderByCreatedAtDescNotificationIdDesc(user, isRead, request.fetchLimit())
+                : findByUserAndIsReadBefore(user, isRead, request.cursor().createdAt(), request.cursor().id(),
+                        request.fetchLimit());
+        return CursorPage.of(rows, request, n -> new Cursor(n.getCreatedAt(), n.getNotificationId()));
+    }
+
+    List<Notification> findByUserOrderByCreatedAtDescNotificationIdDesc(User user, Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.user = :user " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :id)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    List<Notification> findByUserAndIsReadOrderByCreatedAtDescNotificationIdDesc(User user, Boolean isRead,
+            Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.isRead = :isRead " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :id)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<Notification> findByUserAndIsReadBefore(@Param("user") User user, @Param("isRead") Boolean isRead,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     /**
      * 사용자별 알림 타입별 조회
      */
@@ -87,6 +131,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user = :user AND n.isRead = false AND n.type = :type")
     long countUnreadByUserAndType(@Param("user") User user, @Param("type") NotificationType type);
 
+    /**
+     * 사용자의 타입별 읽지 않은 알림 수 (idx_user_unread 범위 조회)
+     * 읽지 않은 알림 수 캐시를 다시 채울 때 사용
+     */
+    @Query("SELECT n.type, COUNT(n) FROM Notification n " +
+            "WHERE n.user.id = :userId AND n.isRead = false GROUP BY n.type")
+    List<Object[]> countUnreadByUserIdGroupByType(@Param("userId") Long userId);
+
     /**
      * 사용자별 알림 타입별 통계
      */
@@ -133,12 +185,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     /**
      * 읽지 않은 알림을 모두 읽음 처리하기 위한 조회
+     * (엔티티를 모두 불러오므로 전체 읽음 처리는 NotificationBulkService 사용)
      */
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.isRead = false")
     List<Notification> findUnreadNotificationsForUpdate(@Param("user") User user);
 
     /**
      * 특정 사용자의 알림 일괄 삭제를 위한 조회
+     * (엔티티를 모두 불러오므로 일괄 삭제는 NotificationBulkService 사용)
      */
     @Query("SELECT n FROM Notification n WHERE n.user = :user")
     List<Notification> findAllByUser(@Param("user") User user);
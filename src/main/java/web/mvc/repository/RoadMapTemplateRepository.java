@@ -2,6 +2,7 @@ package web.mvc.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +11,7 @@ import web.mvc.domain.RoadMapTemplate;
 import web.mvc.domain.User;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 로드맵 템플릿 Repository
@@ -17,6 +19,12 @@ import java.util.List;
 @Repository
 public interface RoadMapTemplateRepository extends JpaRepository<RoadMapTemplate, Long> {
 
+    /**
+     * 템플릿 상세 조회 (단계 목록 함께 로딩)
+     */
+    @EntityGraph(RoadMapTemplate.WITH_STEPS)
+    Optional<RoadMapTemplate> findWithStepsById(Long id);
+
     /**
      * 활성화된 로드맵만 조회
      */
@@ -29,6 +37,7 @@ public interface RoadMapTemplateRepository extends JpaRepository<RoadMapTemplate
 
     /**
      * 프로그래밍 언어별 로드맵 조회
+     * (프로필 기반 맞춤 추천은 RoadmapRecommendationService 사용)
      */
     List<RoadMapTemplate> findByProgrammingLanguageAndIsActiveTrueOrderByAverageRatingDesc(String programmingLanguage);
 
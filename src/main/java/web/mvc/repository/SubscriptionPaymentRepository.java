@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,9 @@ import web.mvc.domain.SubscriptionPayment;
 import web.mvc.domain.SubscriptionPayment.PaymentStatus;
 import web.mvc.domain.SubscriptionPayment.PaymentSubscriptionType;
 import web.mvc.domain.User;
+import web.mvc.repository.support.Cursor;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +36,24 @@ public interface SubscriptionPaymentRepository extends JpaRepository<Subscriptio
      */
     Page<SubscriptionPayment> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
 
+    /**
+     * 사용자별 결제 이력 키셋 페이지 (최신순, COUNT 없음)
+     */
+    default CursorPage<SubscriptionPayment> findByUserCursor(User user, CursorRequest request) {
+        List<SubscriptionPayment> rows = request.isFirstPage()
+                ? findByUserOrderByCreatedAtDescPaymentIdDesc(user, request.fetchLimit())
+                : findByUserBefore(user, request.cursor().createdAt(), request.cursor().id(), request.fetchLimit());
+        return CursorPage.of(rows, request, p -> new Cursor(p.getCreatedAt(), p.getPaymentId()));
+    }
+
+    List<SubscriptionPayment> findByUserOrderByCreatedAtDescPaymentIdDesc(User user, Limit limit);
+
+    @Query("SELECT p FROM SubscriptionPayment p WHERE p.user = :user " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.paymentId < :id)) " +
+            "ORDER BY p.createdAt DESC, p.paymentId DESC")
+    List<SubscriptionPayment> findByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
     /**
      * 사용자별 특정 상태 결제 조회
      */
@@ -1,5 +1,6 @@
 package web.mvc.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +22,19 @@ public interface UserRoadMapRepository extends JpaRepository<UserRoadMap, Long>
      */
     List<UserRoadMap> findByUserOrderByCreatedAtDesc(User user);
 
+    /**
+     * 로드맵 화면용 조회 (템플릿, 단계 진행, 단계 함께 로딩)
+     * 템플릿 단계 목록은 배치 로딩되어 전체 조회가 2개 쿼리로 끝난다.
+     */
+    @EntityGraph(UserRoadMap.WITH_PROGRESS)
+    Optional<UserRoadMap> findWithProgressById(Long id);
+
+    /**
+     * 사용자별 로드맵 목록 화면용 조회 (템플릿, 단계 진행, 단계 함께 로딩)
+     */
+    @EntityGraph(UserRoadMap.WITH_PROGRESS)
+    List<UserRoadMap> findWithProgressByUserOrderByCreatedAtDesc(User user);
+
     /**
      * 사용자별 진행 중인 로드맵 조회
      */
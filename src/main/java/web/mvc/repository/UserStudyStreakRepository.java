@@ -0,0 +1,19 @@
+package web.mvc.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import web.mvc.domain.UserStudyStreak;
+
+import java.util.Optional;
+
+/**
+ * 사용자 연속 학습 상태 Repository
+ */
+@Repository
+public interface UserStudyStreakRepository extends JpaRepository<UserStudyStreak, Long> {
+
+    /**
+     * 사용자별 연속 학습 상태 조회
+     */
+    Optional<UserStudyStreak> findByUserId(Long userId);
+}
@@ -0,0 +1,55 @@
+package web.mvc.repository.support;
+
+import org.springframework.http.HttpStatus;
+import web.mvc.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 위치 (정렬 키 createdAt + 동률 구분용 ID)
+ * 클라이언트에는 내부 구조를 알 수 없는 토큰 문자열로 전달한다.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public Cursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("createdAt and id are required");
+        }
+    }
+
+    /**
+     * 토큰 문자열로 변환 (URL 안전 Base64)
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 문자열 해석
+     *
+     * @throws BusinessException 형식이 올바르지 않은 경우 (400)
+     */
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw invalidToken();
+            }
+            return new Cursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidToken();
+        }
+    }
+
+    private static BusinessException invalidToken() {
+        return new BusinessException("잘못된 페이지 토큰입니다.", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+    }
+}
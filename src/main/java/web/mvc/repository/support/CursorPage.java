@@ -0,0 +1,40 @@
+package web.mvc.repository.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 결과
+ * 전체 개수(COUNT 쿼리) 없이 다음 페이지 토큰만 제공한다.
+ *
+ * @param content    페이지 내용
+ * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지 생성
+     *
+     * @param rows      조회 결과 (최대 size + 1건)
+     * @param request   페이지 요청
+     * @param cursorKey 행에서 다음 페이지 위치를 꺼내는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> rows, CursorRequest request, Function<T, Cursor> cursorKey) {
+        if (rows.size() <= request.size()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, request.size());
+        return new CursorPage<>(List.copyOf(content), cursorKey.apply(content.get(content.size() - 1)).encode());
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * 내용 변환 (DTO 매핑용)
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
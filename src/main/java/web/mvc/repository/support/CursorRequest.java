@@ -0,0 +1,55 @@
+package web.mvc.repository.support;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import web.mvc.exception.BusinessException;
+
+/**
+ * 키셋 페이지 요청
+ * cursor가 null이면 첫 페이지를 조회한다.
+ */
+public record CursorRequest(Cursor cursor, int size) {
+
+    /**
+     * 최대 페이지 크기
+     */
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * @throws BusinessException 페이지 크기가 1~MAX_SIZE 범위를 벗어난 경우 (400)
+     */
+    public CursorRequest {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new BusinessException("페이지 크기는 1~" + MAX_SIZE + " 사이여야 합니다.",
+                    HttpStatus.BAD_REQUEST, "INVALID_PAGE_SIZE");
+        }
+    }
+
+    /**
+     * 첫 페이지 요청
+     */
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, size);
+    }
+
+    /**
+     * 토큰으로 요청 생성 (토큰이 비어 있으면 첫 페이지)
+     */
+    public static CursorRequest of(String token, int size) {
+        if (token == null || token.isBlank()) {
+            return first(size);
+        }
+        return new CursorRequest(Cursor.decode(token), size);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+     */
+    public Limit fetchLimit() {
+        return Limit.of(size + 1);
+    }
+}
@@ -0,0 +1,111 @@
+package web.mvc.service.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.ActivityIngestProperties;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학습 활동 ID 할당기 (hi-lo 블록 방식)
+ * id_sequences 테이블에서 ID 구간을 블록 단위로 예약하고 메모리에서 하나씩 나눠 준다.
+ * LearningActivity 엔티티의 @TableGenerator(pooled-lo)와 같은 행/같은 규칙을 사용하므로
+ * JPA 저장과 배치 INSERT가 섞여도 ID가 겹치지 않는다.
+ * (저장된 값 = 다음 블록의 시작 ID, 예약 시 블록 크기만큼 증가)
+ */
+@Slf4j
+@Component
+public class ActivityIdAllocator {
+
+    static final String SEQUENCE_TABLE = "id_sequences";
+    static final String SEQUENCE_NAME = "learning_activities";
+
+    private static final String SEED_SQL = "INSERT INTO " + SEQUENCE_TABLE + " (sequence_name, next_val) " +
+            "SELECT ?, COALESCE(MAX(activity_id), 0) + 1 FROM learning_activities " +
+            "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))";
+
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT next_val FROM " + SEQUENCE_TABLE +
+            " WHERE sequence_name = ? FOR UPDATE";
+
+    private static final String RESERVE_SQL = "UPDATE " + SEQUENCE_TABLE +
+            " SET next_val = next_val + ? WHERE sequence_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityIngestProperties properties;
+
+    private final Lock lock = new ReentrantLock();
+    private long nextId;
+    private long blockEnd;
+    private boolean seeded;
+
+    public ActivityIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ActivityIngestProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 플러시 도중 실패해도 예약한 블록은 되돌리지 않도록 별도 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+    }
+
+    /**
+     * 시작 시 시퀀스 행 보정
+     * IDENTITY로 저장된 기존 행보다 큰 값에서 시작하도록 next_val을 최대 ID 이후로 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(SEED_SQL, SEQUENCE_NAME));
+            seeded = true;
+        } catch (DataAccessException e) {
+            log.warn("Activity id sequence seed failed, will retry on first allocation", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * count개의 연속 ID를 할당하여 첫 번째 ID 반환
+     * 현재 블록에 남은 ID가 부족하면 남은 구간을 버리고 새 블록을 예약한다.
+     */
+    public long allocate(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        lock.lock();
+        try {
+            if (blockEnd - nextId < count) {
+                reserveBlock(Math.max(count, properties.getIdBlockSize()));
+            }
+            long first = nextId;
+            nextId += count;
+            return first;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserveBlock(int blockSize) {
+        Long start = transactionTemplate.execute(status -> {
+            if (!seeded) {
+                jdbcTemplate.update(SEED_SQL, SEQUENCE_NAME);
+            }
+            Long current = jdbcTemplate.queryForObject(SELECT_FOR_UPDATE_SQL, Long.class, SEQUENCE_NAME);
+            jdbcTemplate.update(RESERVE_SQL, blockSize, SEQUENCE_NAME);
+            return current;
+        });
+        seeded = true;
+        nextId = start;
+        blockEnd = start + blockSize;
+        log.debug("Activity id block reserved: [{}, {})", nextId, blockEnd);
+    }
+}
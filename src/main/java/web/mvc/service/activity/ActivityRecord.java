@@ -0,0 +1,48 @@
+package web.mvc.service.activity;
+
+import web.mvc.domain.LearningActivity;
+import web.mvc.domain.LearningActivity.ActivityType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 수집 버퍼에 담기는 학습 활동 (엔티티/영속성 컨텍스트와 분리된 불변 값)
+ * activityId는 플러시 시점에 할당되므로 버퍼 안에서는 null이다.
+ */
+public record ActivityRecord(
+        Long activityId,
+        Long userId,
+        ActivityType activityType,
+        Long targetId,
+        String targetType,
+        Integer durationMinutes,
+        Map<String, Object> metadata,
+        LocalDateTime createdAt) {
+
+    /**
+     * 엔티티로부터 생성 (사용자는 ID만 참조)
+     */
+    public static ActivityRecord from(LearningActivity activity) {
+        if (activity.getUser() == null || activity.getUser().getId() == null) {
+            throw new IllegalArgumentException("LearningActivity must reference a persisted user");
+        }
+        return new ActivityRecord(
+                null,
+                activity.getUser().getId(),
+                activity.getActivityType(),
+                activity.getTargetId(),
+                activity.getTargetType(),
+                activity.getDurationMinutes(),
+                activity.getMetadata(),
+                activity.getCreatedAt() != null ? activity.getCreatedAt() : LocalDateTime.now());
+    }
+
+    /**
+     * ID가 할당된 사본
+     */
+    public ActivityRecord withId(long id) {
+        return new ActivityRecord(id, userId, activityType, targetId, targetType, durationMinutes, metadata,
+                createdAt);
+    }
+}
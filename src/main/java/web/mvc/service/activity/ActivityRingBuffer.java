@@ -0,0 +1,143 @@
+package web.mvc.service.activity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 링 버퍼
+ * 요청 스레드들이 넣고(offer) 플러시 스레드 하나가 꺼내는(drainTo) 용도이며,
+ * 가득 찬 경우의 처리(새 항목 버림 / 오래된 항목 덮어쓰기 / 대기)를 호출 측에서 선택한다.
+ * 가상 스레드 고정(pinning)을 피하기 위해 synchronized 대신 ReentrantLock을 사용한다.
+ */
+public class ActivityRingBuffer<T> {
+
+    private final Object[] items;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+
+    private int head;
+    private int size;
+
+    public ActivityRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.items = new Object[capacity];
+    }
+
+    /**
+     * 빈 자리가 있으면 추가
+     *
+     * @return 추가 여부 (가득 찬 경우 false)
+     */
+    public boolean offer(T item) {
+        lock.lock();
+        try {
+            if (size == items.length) {
+                return false;
+            }
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 빈 자리가 생길 때까지 최대 timeout 동안 대기 후 추가
+     *
+     * @return 추가 여부 (시간 초과 시 false)
+     */
+    public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == items.length) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(item);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 항상 추가하며, 가득 찬 경우 가장 오래된 항목을 덮어쓴다.
+     *
+     * @return 밀려난 항목 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public T offerOverwriting(T item) {
+        lock.lock();
+        try {
+            T evicted = null;
+            if (size == items.length) {
+                evicted = (T) items[head];
+                items[head] = null;
+                head = next(head);
+                size--;
+            }
+            enqueue(item);
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오래된 순으로 최대 maxItems개를 꺼내 target에 추가
+     *
+     * @return 꺼낸 항목 수
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super T> target, int maxItems) {
+        lock.lock();
+        try {
+            int count = Math.min(size, maxItems);
+            for (int i = 0; i < count; i++) {
+                target.add((T) items[head]);
+                items[head] = null;
+                head = next(head);
+            }
+            size -= count;
+            if (count > 0) {
+                notFull.signalAll();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    private void enqueue(T item) {
+        int tail = head + size;
+        if (tail >= items.length) {
+            tail -= items.length;
+        }
+        items[tail] = item;
+        size++;
+    }
+
+    private int next(int index) {
+        return index + 1 == items.length ? 0 : index + 1;
+    }
+}
@@ -0,0 +1,379 @@
+package web.mvc.service.activity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.StudyStatProperties;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일별 학습 통계 집계 서비스
+ * 저장된 학습 활동을 (사용자, 날짜)별 메모리 누적기에 접어 넣고(fold),
+ * 주기적으로 "INSERT ... ON DUPLICATE KEY UPDATE col = col + ?" 형태로 daily_study_stats에 반영한다.
+ * 활동마다 findTodayStatsByUser 후 엔티티를 수정/저장하던 방식을 대체하며,
+ * 누적 규칙은 DailyStudyStat.updateFromActivity와 같다.
+ *
+ * 재시작 시에는 최근 며칠을 원본 활동 로그에서 절대값으로 다시 집계(replay)한다.
+ * 재집계는 증분이 아닌 덮어쓰기이므로 여러 번 실행해도 결과가 같으며,
+ * 수집 플러시를 멈춘 상태에서 해당 기간의 미반영 증분을 버린 뒤 실행하므로 이중 집계가 생기지 않는다.
+ */
+@Slf4j
+@Service
+public class DailyStudyStatService {
+
+    private static final String UPSERT_SQL = "INSERT INTO daily_study_stats (" +
+            "user_id, study_date, total_study_minutes, completed_steps, ai_questions_asked, searches_performed, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_study_minutes = total_study_minutes + VALUES(total_study_minutes), " +
+            "completed_steps = completed_steps + VALUES(completed_steps), " +
+            "ai_questions_asked = ai_questions_asked + VALUES(ai_questions_asked), " +
+            "searches_performed = searches_performed + VALUES(searches_performed), " +
+            "updated_at = NOW()";
+
+    private static final String RECOMPUTE_RANGE_SQL = "INSERT INTO daily_study_stats (" +
+            "user_id, study_date, total_study_minutes, completed_steps, ai_questions_asked, searches_performed, " +
+            "created_at, updated_at) " +
+            "SELECT a.user_id, DATE(a.created_at), " +
+            "SUM(CASE WHEN a.activity_type IN ('STEP_COMPLETE', 'STUDY_SESSION') " +
+            "THEN COALESCE(a.duration_minutes, 0) ELSE 0 END), " +
+            "SUM(CASE WHEN a.activity_type = 'STEP_COMPLETE' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.activity_type = 'AI_QUESTION' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.activity_type = 'SEARCH' THEN 1 ELSE 0 END), " +
+            "NOW(), NOW() " +
+            "FROM learning_activities a " +
+            "WHERE a.created_at >= ? AND a.created_at < ? " +
+            "GROUP BY a.user_id, DATE(a.created_at) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_study_minutes = VALUES(total_study_minutes), " +
+            "completed_steps = VALUES(completed_steps), " +
+            "ai_questions_asked = VALUES(ai_questions_asked), " +
+            "searches_performed = VALUES(searches_performed), " +
+            "updated_at = NOW()";
+
+    private static final String SELECT_STAT_SQL = "SELECT total_study_minutes, completed_steps, " +
+            "ai_questions_asked, searches_performed FROM daily_study_stats WHERE user_id = ? AND study_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LearningActivityIngestService ingestService;
+    private final StudyStatProperties properties;
+
+    private final Map<StatKey, PendingStats> pendingStats = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+
+    public DailyStudyStatService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            LearningActivityIngestService ingestService, StudyStatProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋 이후 콜백에서도 별도 트랜잭션으로 실행되도록 REQUIRES_NEW 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ingestService = ingestService;
+        this.properties = properties;
+    }
+
+    /**
+     * 저장된 학습 활동을 누적기에 반영 (DB 접근 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivitiesRecorded(LearningActivitiesRecordedEvent event) {
+        for (ActivityRecord activity : event.activities()) {
+            fold(activity);
+        }
+    }
+
+    /**
+     * 시작 시 최근 기간 재집계 (비정상 종료로 반영되지 못한 증분 복구)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (properties.getReplayDays() <= 0) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        try {
+            recompute(today.minusDays(properties.getReplayDays() - 1L), today);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Daily study stat replay failed, incremental folding continues", e);
+        }
+    }
+
+    /**
+     * 주기적 보정 작업 (어제와 오늘 재집계)
+     */
+    @Scheduled(cron = "${activity.stats.reconcile-cron:0 20 0 * * *}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        recompute(today.minusDays(1), today);
+    }
+
+    /**
+     * 주기적 플러시
+     */
+    @Scheduled(fixedDelayString = "${activity.stats.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Daily study stats flushed on shutdown: {} rows", flushed);
+    }
+
+    /**
+     * 누적된 증분을 UPSERT로 반영
+     * (사용자, 날짜) 순으로 정렬하여 여러 인스턴스가 동시에 플러시해도 행 잠금 순서가 같도록 한다.
+     * 반영에 실패한 증분은 다시 누적되어 다음 플러시에서 재시도된다.
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return upsert(drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 기간 재집계 (시작일~종료일, 양 끝 포함)
+     * 수집 플러시를 멈추고, 기간 밖 증분은 먼저 반영하고 기간 안 증분은 버린 뒤
+     * 원본 활동 로그에서 절대값으로 덮어쓴다. (저장된 활동은 모두 재집계에 포함되므로)
+     *
+     * @return 갱신된 통계 행 수
+     */
+    public int recompute(LocalDate startDate, LocalDate endDate) {
+        LocalDate endExclusive = endDate.plusDays(1);
+        AtomicReference<Integer> rows = new AtomicReference<>(0);
+        long startedAt = System.currentTimeMillis();
+        ingestService.runExclusive(() -> {
+            flushLock.lock();
+            try {
+                List<StatDelta> inside = new ArrayList<>();
+                List<StatDelta> outside = new ArrayList<>();
+                for (StatDelta delta : drain()) {
+                    boolean inRange = !delta.studyDate().isBefore(startDate) && delta.studyDate().isBefore(endExclusive);
+                    (inRange ? inside : outside).add(delta);
+                }
+                upsert(outside);
+                try {
+                    rows.set(transactionTemplate.execute(status -> jdbcTemplate.update(RECOMPUTE_RANGE_SQL,
+                            startDate.atStartOfDay(), endExclusive.atStartOfDay())));
+                } catch (DataAccessException | TransactionException e) {
+                    // 재집계 실패 시 버린 증분을 되돌려 다음 플러시에서 반영
+                    inside.forEach(this::restore);
+                    throw e;
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        });
+        log.info("Daily study stats recomputed for {} ~ {}: {} rows in {}ms",
+                startDate, endDate, rows.get(), System.currentTimeMillis() - startedAt);
+        return rows.get() != null ? rows.get() : 0;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증분을 포함한 일별 통계 조회
+     */
+    public StatDelta getCurrentStats(Long userId, LocalDate studyDate) {
+        List<StatDelta> stored = jdbcTemplate.query(SELECT_STAT_SQL, (rs, rowNum) -> new StatDelta(
+                userId, studyDate,
+                rs.getLong("total_study_minutes"),
+                rs.getLong("completed_steps"),
+                rs.getLong("ai_questions_asked"),
+                rs.getLong("searches_performed")), userId, Date.valueOf(studyDate));
+        StatDelta stat = stored.isEmpty() ? new StatDelta(userId, studyDate, 0, 0, 0, 0) : stored.get(0);
+
+        PendingStats pending = pendingStats.get(new StatKey(userId, studyDate));
+        if (pending == null) {
+            return stat;
+        }
+        return new StatDelta(userId, studyDate,
+                stat.studyMinutes() + pending.studyMinutes.sum(),
+                stat.completedSteps() + pending.completedSteps.sum(),
+                stat.aiQuestions() + pending.aiQuestions.sum(),
+                stat.searches() + pending.searches.sum());
+    }
+
+    /**
+     * 반영 대기 중인 (사용자, 날짜) 수
+     */
+    public int getPendingCount() {
+        return (int) pendingStats.values().stream()
+                .filter(stats -> !stats.isEmpty())
+                .count();
+    }
+
+    /**
+     * 활동 하나를 누적기에 반영 (DailyStudyStat.updateFromActivity와 같은 규칙)
+     */
+    private void fold(ActivityRecord activity) {
+        if (activity.userId() == null || activity.activityType() == null || activity.createdAt() == null) {
+            return;
+        }
+        int minutes = activity.durationMinutes() != null ? activity.durationMinutes() : 0;
+        switch (activity.activityType()) {
+            case STEP_COMPLETE -> add(activity, minutes, 1, 0, 0);
+            case STUDY_SESSION -> add(activity, minutes, 0, 0, 0);
+            case AI_QUESTION -> add(activity, 0, 0, 1, 0);
+            case SEARCH -> add(activity, 0, 0, 0, 1);
+            default -> {
+                // 기타 활동은 통계에 반영하지 않음
+            }
+        }
+    }
+
+    private void add(ActivityRecord activity, long minutes, long steps, long aiQuestions, long searches) {
+        StatKey key = new StatKey(activity.userId(), activity.createdAt().toLocalDate());
+        add(key, minutes, steps, aiQuestions, searches);
+    }
+
+    private void add(StatKey key, long minutes, long steps, long aiQuestions, long searches) {
+        PendingStats stats = pendingStats.computeIfAbsent(key, k -> new PendingStats());
+        if (minutes != 0) {
+            stats.studyMinutes.add(minutes);
+        }
+        if (steps != 0) {
+            stats.completedSteps.add(steps);
+        }
+        if (aiQuestions != 0) {
+            stats.aiQuestions.add(aiQuestions);
+        }
+        if (searches != 0) {
+            stats.searches.add(searches);
+        }
+        // 더하는 사이 플러시가 빈 누적기로 보고 제거했다면, 남은 증분을 새 누적기로 옮긴다
+        if (pendingStats.get(key) != stats) {
+            StatDelta remaining = stats.drain(key);
+            if (remaining != null) {
+                restore(remaining);
+            }
+        }
+    }
+
+    /**
+     * 누적 값을 0으로 초기화하면서 꺼내기
+     * 이틀 이상 지난 빈 누적기는 제거하여 맵이 계속 커지지 않도록 한다.
+     * 제거 직전에 더해진 증분은 제거 후 한 번 더 꺼내고, 제거 후에 더해진 증분은 add가 새 누적기로 옮긴다.
+     */
+    private List<StatDelta> drain() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<StatDelta> deltas = new ArrayList<>();
+        pendingStats.forEach((key, stats) -> {
+            StatDelta delta = stats.drain(key);
+            if (delta == null && key.studyDate().isBefore(yesterday) && pendingStats.remove(key, stats)) {
+                delta = stats.drain(key);
+            }
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        });
+        deltas.sort(Comparator.comparing(StatDelta::userId).thenComparing(StatDelta::studyDate));
+        return deltas;
+    }
+
+    private int upsert(List<StatDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int flushed = 0;
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<StatDelta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> executeBatch(batch));
+                flushed += batch.size();
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Daily study stat flush failed, {} rows re-queued", deltas.size() - from, e);
+                deltas.subList(from, deltas.size()).forEach(this::restore);
+                break;
+            }
+        }
+        log.debug("Daily study stats flushed: {} rows", flushed);
+        return flushed;
+    }
+
+    private void restore(StatDelta delta) {
+        add(new StatKey(delta.userId(), delta.studyDate()),
+                delta.studyMinutes(), delta.completedSteps(), delta.aiQuestions(), delta.searches());
+    }
+
+    private void executeBatch(List<StatDelta> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, delta) -> {
+            ps.setLong(1, delta.userId());
+            ps.setDate(2, Date.valueOf(delta.studyDate()));
+            ps.setLong(3, delta.studyMinutes());
+            ps.setLong(4, delta.completedSteps());
+            ps.setLong(5, delta.aiQuestions());
+            ps.setLong(6, delta.searches());
+        });
+    }
+
+    private record StatKey(Long userId, LocalDate studyDate) {
+    }
+
+    /**
+     * (사용자, 날짜)별 누적 증분
+     */
+    private static class PendingStats {
+        private final LongAdder studyMinutes = new LongAdder();
+        private final LongAdder completedSteps = new LongAdder();
+        private final LongAdder aiQuestions = new LongAdder();
+        private final LongAdder searches = new LongAdder();
+
+        /**
+         * 누적 값을 꺼내고 0으로 초기화 (증분이 없으면 null)
+         * 동시에 더해진 증분은 sumThenReset에 따라 이번 결과에 포함되거나 누적기에 남는다.
+         */
+        StatDelta drain(StatKey key) {
+            long minutes = studyMinutes.sumThenReset();
+            long steps = completedSteps.sumThenReset();
+            long questions = aiQuestions.sumThenReset();
+            long searchCount = searches.sumThenReset();
+            if (minutes == 0 && steps == 0 && questions == 0 && searchCount == 0) {
+                return null;
+            }
+            return new StatDelta(key.userId(), key.studyDate(), minutes, steps, questions, searchCount);
+        }
+
+        boolean isEmpty() {
+            return studyMinutes.sum() == 0 && completedSteps.sum() == 0
+                    && aiQuestions.sum() == 0 && searches.sum() == 0;
+        }
+    }
+
+    /**
+     * 일별 통계 값 (증분 또는 현재 값)
+     */
+    public record StatDelta(Long userId, LocalDate studyDate, long studyMinutes, long completedSteps,
+            long aiQuestions, long searches) {
+    }
+}
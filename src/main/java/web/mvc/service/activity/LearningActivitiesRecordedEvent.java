@@ -0,0 +1,10 @@
+package web.mvc.service.activity;
+
+import java.util.List;
+
+/**
+ * 학습 활동 저장 완료 이벤트
+ * DB에 저장된 활동(ID 할당 완료)을 일별 통계 등 파생 데이터에 전달하기 위해 발행
+ */
+public record LearningActivitiesRecordedEvent(List<ActivityRecord> activities) {
+}
@@ -0,0 +1,403 @@
+package web.mvc.service.activity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.ActivityIngestProperties;
+import web.mvc.domain.LearningActivity;
+import web.mvc.domain.converter.JsonCodec;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 학습 활동 로그 수집 서비스
+ * 요청 스레드는 링 버퍼에 넣기만 하고, 플러시 작업이 주기적으로 버퍼를 비우며
+ * 미리 예약한 ID 블록으로 여러 행을 한 번에 INSERT 한다.
+ * (IDENTITY 생성 방식은 Hibernate JDBC 배치를 막아 클릭마다 INSERT가 한 번씩 실행되던 문제 해결)
+ * 버퍼가 가득 차면 설정된 정책에 따라 버리거나 잠시 대기하며, 버려진 수는 지표로 남긴다.
+ * DB 연결 장애/타임아웃처럼 일시적인 오류는 배치를 재시도 대기열(retry-capacity)에 되돌리고
+ * 그 플러시를 바로 끝내며, 다음 플러시에서 대기열부터 다시 저장한다.
+ * 저장된 활동은 LearningActivitiesRecordedEvent로 발행되어 일별 통계에 전달된다.
+ */
+@Slf4j
+@Service
+public class LearningActivityIngestService {
+
+    private static final String INSERT_PREFIX = "INSERT INTO learning_activities " +
+            "(activity_id, user_id, activity_type, target_id, target_type, duration_minutes, metadata, created_at) " +
+            "VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityIdAllocator idAllocator;
+    private final ActivityIngestProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ActivityRingBuffer<ActivityRecord> buffer;
+    private final Lock flushLock = new ReentrantLock();
+    private final Map<Integer, String> insertSqlCache = new ConcurrentHashMap<>();
+
+    /**
+     * 일시적인 DB 오류로 저장하지 못한 활동 (flushLock 보유 시에만 접근)
+     */
+    private final ArrayDeque<ActivityRecord> retryQueue = new ArrayDeque<>();
+    private boolean requeuedInFlush;
+
+    private final Counter enqueued;
+    private final Counter inserted;
+    private final Counter failed;
+    private final Counter droppedNewest;
+    private final Counter droppedOldest;
+    private final Counter droppedTimeout;
+    private final Counter droppedRetry;
+    private final Timer flushTimer;
+
+    public LearningActivityIngestService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            ActivityIdAllocator idAllocator, ActivityIngestProperties properties,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.idAllocator = idAllocator;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.buffer = new ActivityRingBuffer<>(properties.getBufferCapacity());
+
+        this.enqueued = Counter.builder("activity.ingest.enqueued")
+                .description("버퍼에 추가된 학습 활동 수")
+                .register(meterRegistry);
+        this.inserted = Counter.builder("activity.ingest.inserted")
+                .description("DB에 저장된 학습 활동 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("activity.ingest.failed")
+                .description("저장에 실패한 학습 활동 수")
+                .register(meterRegistry);
+        this.droppedNewest = droppedCounter(meterRegistry, "newest");
+        this.droppedOldest = droppedCounter(meterRegistry, "oldest");
+        this.droppedTimeout = droppedCounter(meterRegistry, "timeout");
+        this.droppedRetry = droppedCounter(meterRegistry, "retry");
+        this.flushTimer = Timer.builder("activity.ingest.flush")
+                .description("버퍼 플러시 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("activity.ingest.buffer.size", buffer, ActivityRingBuffer::size)
+                .description("저장 대기 중인 학습 활동 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 학습 활동 기록
+     * 비동기 모드에서는 버퍼에 추가만 하고 즉시 반환한다.
+     *
+     * @return 기록 여부 (버퍼 초과로 버려진 경우, 동기 모드에서 재시도 대기열로 넘어간 경우 false)
+     */
+    public boolean record(LearningActivity activity) {
+        ActivityRecord record = ActivityRecord.from(activity);
+        if (!properties.isAsync()) {
+            flushLock.lock();
+            try {
+                return insertNow(List.of(record)) == 1;
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        boolean accepted = switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> offerOrDrop(record);
+            case DROP_OLDEST -> offerOverwriting(record);
+            case BLOCK -> offerWithTimeout(record);
+        };
+        if (accepted) {
+            enqueued.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * 주기적 플러시 (flush-interval-ms가 기록 후 반영까지의 최대 지연)
+     */
+    @Scheduled(fixedDelayString = "${activity.ingest.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 활동 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Learning activities flushed on shutdown: {} rows", flushed);
+    }
+
+    /**
+     * 재시도 대기열과 버퍼를 비우며 batch-size 단위로 INSERT
+     * 일시적인 DB 오류가 나면 남은 활동은 꺼내지 않고 다음 플러시로 미룬다.
+     *
+     * @return 저장된 행 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int batchSize = Math.max(1, properties.getBatchSize());
+            int total = 0;
+            List<ActivityRecord> batch = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+            requeuedInFlush = false;
+            while (!requeuedInFlush && nextBatch(batch, batchSize) > 0) {
+                Timer.Sample sample = Timer.start();
+                total += insertNow(batch);
+                sample.stop(flushTimer);
+                batch.clear();
+            }
+            if (total > 0) {
+                log.debug("Learning activities flushed: {} rows", total);
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 플러시를 멈춘 상태에서 작업 실행
+     * 작업 도중에는 새 활동이 저장되지 않으므로, 저장된 활동과 발행된 이벤트가 어긋나지 않는다.
+     * (일별 통계 재집계처럼 원본 테이블과 증분 이벤트를 함께 다루는 작업용)
+     */
+    public void runExclusive(Runnable task) {
+        flushLock.lock();
+        try {
+            task.run();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 활동 수
+     */
+    public int getPendingCount() {
+        flushLock.lock();
+        try {
+            return buffer.size() + retryQueue.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 재시도 대기열을 먼저 비우고, 대기열이 비었을 때만 버퍼에서 꺼냄
+     */
+    private int nextBatch(List<ActivityRecord> batch, int batchSize) {
+        if (retryQueue.isEmpty()) {
+            return buffer.drainTo(batch, batchSize);
+        }
+        while (batch.size() < batchSize && !retryQueue.isEmpty()) {
+            batch.add(retryQueue.pollFirst());
+        }
+        return batch.size();
+    }
+
+    private boolean offerOrDrop(ActivityRecord record) {
+        if (buffer.offer(record)) {
+            return true;
+        }
+        droppedNewest.increment();
+        return false;
+    }
+
+    private boolean offerOverwriting(ActivityRecord record) {
+        if (buffer.offerOverwriting(record) != null) {
+            droppedOldest.increment();
+        }
+        return true;
+    }
+
+    private boolean offerWithTimeout(ActivityRecord record) {
+        try {
+            if (buffer.offer(record, properties.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedTimeout.increment();
+        return false;
+    }
+
+    /**
+     * ID를 할당하고 여러 행 INSERT 한 번으로 저장
+     * 제약 조건 위반이면 문제 행만 걸러내도록 한 행씩 다시 시도하고, 그래도 실패한 행은 버린다.
+     * (재시도 대상을 버퍼로 되돌리면 잘못된 행 하나가 매 플러시를 막을 수 있음)
+     * ID 할당 실패나 연결 장애/타임아웃은 배치 전체를 재시도 대기열로 되돌린다.
+     */
+    private int insertNow(List<ActivityRecord> records) {
+        List<ActivityRecord> rows;
+        try {
+            rows = assignIds(records);
+        } catch (DataAccessException | TransactionException e) {
+            requeue(records, "Activity id allocation failed", e);
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertRows(rows));
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                failed.increment();
+                log.warn("Learning activity insert failed: user={}, type={}",
+                        rows.get(0).userId(), rows.get(0).activityType(), e);
+                return 0;
+            }
+            log.warn("Learning activity batch insert failed, retrying {} rows one by one", rows.size(), e);
+            return insertOneByOne(rows);
+        } catch (TransientDataAccessException | DataAccessResourceFailureException
+                 | CannotCreateTransactionException e) {
+            requeue(rows, "Learning activity batch insert failed", e);
+            return 0;
+        } catch (DataAccessException e) {
+            failed.increment(rows.size());
+            log.warn("Learning activity batch insert failed, {} rows dropped", rows.size(), e);
+            return 0;
+        }
+        inserted.increment(rows.size());
+        eventPublisher.publishEvent(new LearningActivitiesRecordedEvent(rows));
+        return rows.size();
+    }
+
+    private int insertOneByOne(List<ActivityRecord> rows) {
+        List<ActivityRecord> saved = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ActivityRecord row = rows.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertRows(List.of(row)));
+                saved.add(row);
+            } catch (TransientDataAccessException | DataAccessResourceFailureException
+                     | CannotCreateTransactionException e) {
+                requeue(rows.subList(i, rows.size()), "Learning activity insert failed", e);
+                break;
+            } catch (DataAccessException e) {
+                failed.increment();
+                log.warn("Learning activity dropped: id={}, user={}, type={}: {}",
+                        row.activityId(), row.userId(), row.activityType(), e.getMessage());
+            }
+        }
+        inserted.increment(saved.size());
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new LearningActivitiesRecordedEvent(saved));
+        }
+        return saved.size();
+    }
+
+    /**
+     * ID가 없는 활동에만 ID 할당
+     * 재시도 대기열에서 온 활동은 처음 할당된 ID를 유지하므로, 실제로는 커밋되었던 행을 다시 넣으면
+     * 중복 키로 걸러진다.
+     */
+    private List<ActivityRecord> assignIds(List<ActivityRecord> records) {
+        int missing = (int) records.stream().filter(record -> record.activityId() == null).count();
+        if (missing == 0) {
+            return new ArrayList<>(records);
+        }
+        long nextId = idAllocator.allocate(missing);
+        List<ActivityRecord> rows = new ArrayList<>(records.size());
+        for (ActivityRecord record : records) {
+            rows.add(record.activityId() != null ? record : record.withId(nextId++));
+        }
+        return rows;
+    }
+
+    /**
+     * 재시도 대기열 앞쪽에 되돌리고 이번 플러시 종료 (대기열이 가득 차면 나머지는 버림)
+     */
+    private void requeue(List<ActivityRecord> rows, String reason, Exception e) {
+        int kept = Math.min(rows.size(), Math.max(0, properties.getRetryCapacity() - retryQueue.size()));
+        for (int i = kept - 1; i >= 0; i--) {
+            retryQueue.addFirst(rows.get(i));
+        }
+        int dropped = rows.size() - kept;
+        if (dropped > 0) {
+            droppedRetry.increment(dropped);
+        }
+        requeuedInFlush = true;
+        log.warn("{}, {} rows queued for retry, {} dropped: {}", reason, kept, dropped, e.getMessage());
+    }
+
+    private void insertRows(List<ActivityRecord> rows) {
+        jdbcTemplate.update(insertSql(rows.size()), ps -> {
+            int index = 1;
+            for (ActivityRecord row : rows) {
+                bindRow(ps, index, row);
+                index += COLUMNS;
+            }
+        });
+    }
+
+    private String insertSql(int rowCount) {
+        return insertSqlCache.computeIfAbsent(rowCount, count -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + count * (ROW_PLACEHOLDER.length() + 2));
+            sql.append(INSERT_PREFIX);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+            }
+            return sql.toString();
+        });
+    }
+
+    private static void bindRow(PreparedStatement ps, int index, ActivityRecord row) throws SQLException {
+        ps.setLong(index, row.activityId());
+        ps.setLong(index + 1, row.userId());
+        ps.setString(index + 2, row.activityType() != null ? row.activityType().name() : null);
+        setNullableLong(ps, index + 3, row.targetId());
+        ps.setString(index + 4, row.targetType());
+        if (row.durationMinutes() != null) {
+            ps.setInt(index + 5, row.durationMinutes());
+        } else {
+            ps.setNull(index + 5, Types.INTEGER);
+        }
+        ps.setString(index + 6, JsonCodec.MAP.write(row.metadata()));
+        ps.setTimestamp(index + 7, Timestamp.valueOf(row.createdAt()));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static Counter droppedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("activity.ingest.dropped")
+                .description("버퍼 초과로 버려진 학습 활동 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
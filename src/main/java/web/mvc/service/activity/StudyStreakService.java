@@ -0,0 +1,343 @@
+package web.mvc.service.activity;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.StudyStreakProperties;
+import web.mvc.domain.LearningActivity.ActivityType;
+import web.mvc.domain.UserStudyStreak;
+import web.mvc.repository.UserStudyStreakRepository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * 연속 학습일 서비스
+ * 학습 시간이 있는 활동이 저장되면 해당 날짜를 사용자별 UserStudyStreak에 추가하여
+ * 현재/최장 연속 학습일을 O(1)로 갱신하고, UserProfile과 DailyStudyStat.streakDayNumber에 반영한다.
+ * 학습일 전체를 다시 읽어 계산하던 findStudyDaysForStreakCalculation 방식을 대체하며,
+ * 백필/보정용 전체 재계산 작업을 함께 제공한다.
+ */
+@Slf4j
+@Service
+public class StudyStreakService {
+
+    private static final String UPDATE_PROFILE_SQL = "UPDATE user_profiles " +
+            "SET current_streak_days = ?, max_streak_days = GREATEST(max_streak_days, ?) WHERE user_id = ?";
+
+    private static final String UPSERT_STREAK_DAY_SQL = "INSERT INTO daily_study_stats (" +
+            "user_id, study_date, streak_day_number, created_at, updated_at) VALUES (?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE streak_day_number = VALUES(streak_day_number)";
+
+    private static final String EXPIRE_PROFILE_SQL = "UPDATE user_profiles p " +
+            "JOIN user_study_streaks s ON s.user_id = p.user_id " +
+            "SET p.current_streak_days = 0 " +
+            "WHERE s.last_study_date < ? AND p.current_streak_days <> 0";
+
+    private static final String NEXT_USERS_SQL = "SELECT DISTINCT user_id FROM daily_study_stats " +
+            "WHERE total_study_minutes > 0 AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    private static final String STUDY_DAYS_SQL = "SELECT user_id, study_date FROM daily_study_stats " +
+            "WHERE total_study_minutes > 0 AND user_id BETWEEN ? AND ? ORDER BY user_id, study_date";
+
+    private static final String UPSERT_STREAK_SQL = "INSERT INTO user_study_streaks (" +
+            "user_id, last_study_date, current_streak, max_streak, bits_epoch, study_day_bits, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE last_study_date = VALUES(last_study_date), " +
+            "current_streak = VALUES(current_streak), max_streak = VALUES(max_streak), " +
+            "bits_epoch = VALUES(bits_epoch), study_day_bits = VALUES(study_day_bits), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String SET_PROFILE_SQL = "UPDATE user_profiles " +
+            "SET current_streak_days = ?, max_streak_days = ? WHERE user_id = ?";
+
+    private static final String SET_STREAK_DAY_SQL = "UPDATE daily_study_stats " +
+            "SET streak_day_number = ? WHERE user_id = ? AND study_date = ?";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final UserStudyStreakRepository streakRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyStudyStatService dailyStudyStatService;
+    private final StudyStreakProperties properties;
+
+    /**
+     * 사용자별 마지막으로 반영한 학습일 (같은 날 반복되는 활동은 DB 조회 없이 건너뜀)
+     */
+    private final Map<Long, LocalDate> lastRecordedDays = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 구역(stripe)별 갱신 락 (다른 사용자의 갱신끼리는 기다리지 않음)
+     */
+    private final Lock[] updateLocks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(Lock[]::new);
+
+    public StudyStreakService(UserStudyStreakRepository streakRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, DailyStudyStatService dailyStudyStatService,
+            StudyStreakProperties properties) {
+        this.streakRepository = streakRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋 이후 콜백에서도 별도 트랜잭션으로 실행되도록 REQUIRES_NEW 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dailyStudyStatService = dailyStudyStatService;
+        this.properties = properties;
+    }
+
+    /**
+     * 학습 시간이 있는 활동(단계 완료, 학습 세션)의 날짜를 학습일로 반영
+     * 실패하더라도 수집에는 영향을 주지 않으며 전체 재계산으로 복구된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivitiesRecorded(LearningActivitiesRecordedEvent event) {
+        Set<StudyDay> studyDays = new LinkedHashSet<>();
+        for (ActivityRecord activity : event.activities()) {
+            if (isStudyTime(activity) && activity.userId() != null && activity.createdAt() != null) {
+                studyDays.add(new StudyDay(activity.userId(), activity.createdAt().toLocalDate()));
+            }
+        }
+        for (StudyDay studyDay : studyDays) {
+            if (studyDay.date().equals(lastRecordedDays.get(studyDay.userId()))) {
+                continue;
+            }
+            try {
+                recordStudyDay(studyDay.userId(), studyDay.date());
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Study streak update failed for user {} on {}", studyDay.userId(), studyDay.date(), e);
+            } catch (IllegalArgumentException e) {
+                log.warn("Study day ignored for user {}: {}", studyDay.userId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 학습일 추가
+     *
+     * @return 갱신된 연속 학습 상태
+     * @throws IllegalArgumentException 기록 가능한 범위를 벗어난 날짜
+     */
+    public UserStudyStreak recordStudyDay(Long userId, LocalDate date) {
+        Lock updateLock = updateLocks[stripe(userId)];
+        updateLock.lock();
+        try {
+            UserStudyStreak streak;
+            try {
+                streak = transactionTemplate.execute(status -> applyStudyDay(userId, date));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 사용자의 행을 먼저 만든 경우 한 번 더 시도
+                streak = transactionTemplate.execute(status -> applyStudyDay(userId, date));
+            }
+            lastRecordedDays.merge(userId, date, (previous, current) -> current.isAfter(previous) ? current : previous);
+            return streak;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 기준일 현재 연속 학습일
+     */
+    public int getCurrentStreak(Long userId, LocalDate today) {
+        return streakRepository.findByUserId(userId)
+                .map(streak -> streak.getCurrentStreak(today))
+                .orElse(0);
+    }
+
+    /**
+     * 특정 연도의 최장 연속 학습일
+     */
+    public int getLongestStreakInYear(Long userId, int year) {
+        return streakRepository.findByUserId(userId)
+                .map(streak -> streak.getLongestStreakBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)))
+                .orElse(0);
+    }
+
+    /**
+     * 기간 내 학습일 수
+     */
+    public int countStudyDays(Long userId, LocalDate from, LocalDate to) {
+        return streakRepository.findByUserId(userId)
+                .map(streak -> streak.countStudyDays(from, to))
+                .orElse(0);
+    }
+
+    /**
+     * 어제 학습하지 않은 사용자의 프로필 현재 연속일 초기화
+     */
+    @Scheduled(cron = "${activity.streak.expire-cron:0 5 0 * * *}")
+    public void expireStreaks() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Integer expired = transactionTemplate.execute(status ->
+                jdbcTemplate.update(EXPIRE_PROFILE_SQL, Date.valueOf(yesterday)));
+        lastRecordedDays.values().removeIf(date -> date.isBefore(yesterday));
+        log.info("Study streaks expired: {} profiles", expired);
+    }
+
+    /**
+     * 시작 시 연속 학습 상태가 비어 있으면 전체 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        try {
+            if (streakRepository.count() > 0) {
+                return;
+            }
+            recomputeAll();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Study streak backfill failed, streaks fill in as activities arrive", e);
+        }
+    }
+
+    /**
+     * 주기적 전체 재계산 (기본 비활성화)
+     */
+    @Scheduled(cron = "${activity.streak.recompute-cron:-}")
+    public void scheduledRecompute() {
+        recomputeAll();
+    }
+
+    /**
+     * 전체 재계산 (백필/보정)
+     * 일별 통계의 학습일을 사용자 ID 순으로 나눠 읽어 연속 학습 상태, 프로필 연속일,
+     * 날짜별 연속 일차를 다시 계산한다. 결과를 덮어쓰므로 여러 번 실행해도 같다.
+     *
+     * @return 처리한 사용자 수
+     */
+    public int recomputeAll() {
+        long startedAt = System.currentTimeMillis();
+        // 아직 반영되지 않은 오늘 학습 시간까지 원본에 포함되도록 먼저 플러시
+        dailyStudyStatService.flush();
+        LocalDate today = LocalDate.now();
+        int batchUsers = Math.max(1, properties.getRecomputeBatchUsers());
+
+        int processed = 0;
+        long afterUserId = 0L;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(NEXT_USERS_SQL, Long.class, afterUserId, batchUsers);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Long firstUserId = userIds.get(0);
+            Long lastUserId = userIds.get(userIds.size() - 1);
+            // 사용자 ID 구간 전체를 다시 쓰므로 모든 구역을 순서대로 잠금
+            for (Lock updateLock : updateLocks) {
+                updateLock.lock();
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> recomputeUsers(firstUserId, lastUserId, today));
+                userIds.forEach(lastRecordedDays::remove);
+            } finally {
+                for (int i = updateLocks.length - 1; i >= 0; i--) {
+                    updateLocks[i].unlock();
+                }
+            }
+            processed += userIds.size();
+            afterUserId = lastUserId;
+        }
+        log.info("Study streaks recomputed: {} users in {}ms", processed, System.currentTimeMillis() - startedAt);
+        return processed;
+    }
+
+    private UserStudyStreak applyStudyDay(Long userId, LocalDate date) {
+        UserStudyStreak streak = streakRepository.findByUserId(userId)
+                .orElseGet(() -> UserStudyStreak.create(userId));
+        if (!streak.recordStudyDay(date)) {
+            return streak;
+        }
+        streakRepository.save(streak);
+
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.update(UPDATE_PROFILE_SQL, streak.getCurrentStreak(today), streak.getMaxStreak(), userId);
+        int streakDayNumber = streak.getStreakEndingAt(date);
+        jdbcTemplate.update(UPSERT_STREAK_DAY_SQL, userId, Date.valueOf(date), streakDayNumber);
+
+        // 지난 날짜가 두 구간을 이으면 뒤쪽 학습일의 연속 일차도 이어서 다시 매김
+        List<Object[]> tail = new ArrayList<>();
+        LocalDate lastDayOfRun = streak.getLastDayOfRun(date);
+        for (LocalDate day = date.plusDays(1); !day.isAfter(lastDayOfRun); day = day.plusDays(1)) {
+            tail.add(new Object[] { ++streakDayNumber, userId, Date.valueOf(day) });
+        }
+        if (!tail.isEmpty()) {
+            jdbcTemplate.batchUpdate(SET_STREAK_DAY_SQL, tail);
+        }
+        return streak;
+    }
+
+    private void recomputeUsers(Long firstUserId, Long lastUserId, LocalDate today) {
+        List<UserStudyStreak> streaks = new ArrayList<>();
+        List<Object[]> streakDays = new ArrayList<>();
+        jdbcTemplate.query(STUDY_DAYS_SQL, rs -> {
+            Long userId = rs.getLong("user_id");
+            LocalDate date = rs.getDate("study_date").toLocalDate();
+            UserStudyStreak current = streaks.isEmpty() ? null : streaks.get(streaks.size() - 1);
+            if (current == null || !current.getUserId().equals(userId)) {
+                current = UserStudyStreak.create(userId);
+                streaks.add(current);
+            }
+            // 날짜 오름차순이므로 매 학습일이 O(1) 갱신
+            try {
+                current.recordStudyDay(date);
+            } catch (IllegalArgumentException e) {
+                log.warn("Study day ignored for user {}: {}", userId, e.getMessage());
+                return;
+            }
+            streakDays.add(new Object[] { current.getStreakEndingAt(date), userId, Date.valueOf(date) });
+        }, firstUserId, lastUserId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_STREAK_SQL, streaks, streaks.size(), (ps, streak) -> {
+            ps.setLong(1, streak.getUserId());
+            ps.setDate(2, Date.valueOf(streak.getLastStudyDate()));
+            ps.setInt(3, streak.getCurrentStreak());
+            ps.setInt(4, streak.getMaxStreak());
+            ps.setDate(5, Date.valueOf(streak.getBitsEpoch()));
+            ps.setBytes(6, streak.getStudyDayBits());
+            ps.setTimestamp(7, now);
+        });
+        jdbcTemplate.batchUpdate(SET_PROFILE_SQL, streaks, streaks.size(), (ps, streak) -> {
+            ps.setInt(1, streak.getCurrentStreak(today));
+            ps.setInt(2, streak.getMaxStreak());
+            ps.setLong(3, streak.getUserId());
+        });
+        jdbcTemplate.batchUpdate(SET_STREAK_DAY_SQL, streakDays);
+    }
+
+    private static boolean isStudyTime(ActivityRecord activity) {
+        return (activity.activityType() == ActivityType.STEP_COMPLETE
+                || activity.activityType() == ActivityType.STUDY_SESSION)
+                && activity.durationMinutes() != null && activity.durationMinutes() > 0;
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId ^ (userId >>> 32)) & (LOCK_STRIPES - 1);
+    }
+
+    private record StudyDay(Long userId, LocalDate date) {
+    }
+}
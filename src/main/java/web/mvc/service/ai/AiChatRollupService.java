@@ -0,0 +1,449 @@
+package web.mvc.service.ai;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.AiChatRollupProperties;
+import web.mvc.config.PartitionRetentionProperties;
+import web.mvc.domain.AiChatDailyRollup;
+import web.mvc.domain.AiChatMessage.MessageType;
+import web.mvc.domain.AiChatMessage.UserRating;
+import web.mvc.domain.event.AiChatMessageChangedEvent;
+import web.mvc.domain.event.AiChatMessageChangedEvent.ChangeType;
+import web.mvc.service.partition.PartitionedTable;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 채팅 일별 집계 서비스
+ * 메시지 저장/피드백 변경 이벤트를 (사용자, 날짜, AI 모델)별 메모리 누적기에 더해 두고
+ * 주기적으로 집계 행에 증분 반영(UPSERT)하며,
+ * 이벤트 유실(커밋 직후 장애 등)은 지난 날짜를 원본에서 다시 집계하는 보정 작업으로 복구한다.
+ * 통계 조회는 AiChatMessageRepository에서 집계 테이블을 읽으므로 최대 반영 주기만큼 늦게 보인다.
+ *
+ * 이벤트 처리 중에는 DB에 접근하지 않는다. 커밋 이후 콜백에서 별도 트랜잭션을 열면
+ * 원 트랜잭션의 커넥션을 쥔 채 커넥션을 하나 더 기다리게 되어, 동시 저장이 많으면 커넥션 풀이 고갈된다.
+ *
+ * 시작 시 채우기는 시작 시점의 마지막 메시지 ID까지만 집계하고, 그 ID 이하 메시지의 이벤트는
+ * 채우는 동안 무시하여 같은 메시지가 두 번 더해지지 않도록 한다.
+ * 재집계는 원본 파티션이 보관 기간으로 삭제된 날짜를 건드리지 않는다.
+ */
+@Slf4j
+@Service
+public class AiChatRollupService {
+
+    /**
+     * 증분 값 수: 사용자 메시지, AI 메시지, 토큰, 응답 수, 응답 시간 합, 응답 구간 6개, 도움됨, 도움안됨
+     */
+    private static final int VALUE_COUNT = 13;
+
+    private static final String INSERT_INTO = "INSERT INTO ai_chat_daily_rollups (" +
+            "user_id, stat_date, ai_model, user_message_count, ai_message_count, tokens_used, " +
+            "response_time_count, response_time_sum_ms, response_le_500ms, response_le_1s, response_le_2s, " +
+            "response_le_5s, response_le_10s, response_gt_10s, helpful_count, not_helpful_count, updated_at) ";
+
+    /**
+     * 같은 (사용자, 날짜, 모델) 행이 있으면 값을 더함
+     */
+    private static final String ADD_ON_DUPLICATE = "ON DUPLICATE KEY UPDATE " +
+            "user_message_count = user_message_count + VALUES(user_message_count), " +
+            "ai_message_count = ai_message_count + VALUES(ai_message_count), " +
+            "tokens_used = tokens_used + VALUES(tokens_used), " +
+            "response_time_count = response_time_count + VALUES(response_time_count), " +
+            "response_time_sum_ms = response_time_sum_ms + VALUES(response_time_sum_ms), " +
+            "response_le_500ms = response_le_500ms + VALUES(response_le_500ms), " +
+            "response_le_1s = response_le_1s + VALUES(response_le_1s), " +
+            "response_le_2s = response_le_2s + VALUES(response_le_2s), " +
+            "response_le_5s = response_le_5s + VALUES(response_le_5s), " +
+            "response_le_10s = response_le_10s + VALUES(response_le_10s), " +
+            "response_gt_10s = response_gt_10s + VALUES(response_gt_10s), " +
+            "helpful_count = GREATEST(helpful_count + VALUES(helpful_count), 0), " +
+            "not_helpful_count = GREATEST(not_helpful_count + VALUES(not_helpful_count), 0), " +
+            "updated_at = NOW()";
+
+    private static final String UPSERT_SQL = INSERT_INTO +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW()) " + ADD_ON_DUPLICATE;
+
+    private static final String DELETE_RANGE_SQL =
+            "DELETE FROM ai_chat_daily_rollups WHERE stat_date >= ? AND stat_date < ?";
+
+    private static final String AGGREGATE_SQL =
+            "SELECT s.user_id, DATE(m.created_at), COALESCE(m.ai_model, ''), " +
+            "SUM(CASE WHEN m.message_type = 'USER' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' THEN COALESCE(m.tokens_used, 0) ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms IS NOT NULL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' THEN COALESCE(m.response_time_ms, 0) ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms <= 500 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms > 500 AND m.response_time_ms <= 1000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms > 1000 AND m.response_time_ms <= 2000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms > 2000 AND m.response_time_ms <= 5000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms > 5000 AND m.response_time_ms <= 10000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.response_time_ms > 10000 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.user_rating = 'HELPFUL' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN m.message_type = 'AI' AND m.user_rating = 'NOT_HELPFUL' THEN 1 ELSE 0 END), " +
+            "NOW() " +
+            "FROM ai_chat_messages m JOIN ai_chat_sessions s ON s.session_id = m.session_id " +
+            "WHERE m.created_at >= ? AND m.created_at < ? AND m.message_id <= ? " +
+            "GROUP BY s.user_id, DATE(m.created_at), COALESCE(m.ai_model, '')";
+
+    private static final String RECOMPUTE_SQL = INSERT_INTO + AGGREGATE_SQL;
+
+    /**
+     * 시작 시 채우기용 (채우는 동안 증분 반영된 행과 합산)
+     * GROUP BY가 있는 SELECT에는 ON DUPLICATE KEY UPDATE를 붙일 수 없어 파생 테이블로 감싼다.
+     */
+    private static final String BACKFILL_SQL = INSERT_INTO + "SELECT * FROM (" + AGGREGATE_SQL + ") a " +
+            ADD_ON_DUPLICATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AiChatRollupProperties properties;
+    private final PartitionRetentionProperties retentionProperties;
+
+    /**
+     * 시작 시 채우기가 집계하는 마지막 메시지 ID (채우는 중이 아니면 -1)
+     */
+    private volatile long backfillHighWater = -1;
+
+    private final Map<RollupKey, PendingRollup> pendingRollups = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+
+    public AiChatRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            AiChatRollupProperties properties, PartitionRetentionProperties retentionProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출자 트랜잭션과 분리되도록 REQUIRES_NEW 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.retentionProperties = retentionProperties;
+    }
+
+    /**
+     * 메시지 저장/피드백 변경을 커밋 이후 누적기에 반영 (DB 접근 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageChanged(AiChatMessageChangedEvent event) {
+        if (!properties.isIncremental() || event.getUserId() == null || event.getCreatedAt() == null) {
+            return;
+        }
+        if (event.getMessageId() != null && event.getMessageId() <= backfillHighWater) {
+            // 시작 시 채우기가 원본에서 집계하는 메시지
+            return;
+        }
+        if (event.getChangeType() == ChangeType.CREATED) {
+            applyCreated(event);
+        } else if (event.isRatingChanged() && event.getMessageType() == MessageType.AI) {
+            applyRatingChange(event);
+        }
+    }
+
+    /**
+     * 주기적 플러시
+     */
+    @Scheduled(fixedDelayString = "${ai.rollup.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("AI chat rollups flushed on shutdown: {} rows", flushed);
+    }
+
+    /**
+     * 누적된 증분을 UPSERT로 반영
+     * (사용자, 날짜, 모델) 순으로 정렬하여 여러 인스턴스가 동시에 플러시해도 행 잠금 순서가 같도록 한다.
+     * 반영에 실패한 증분은 다시 누적되어 다음 플러시에서 재시도된다.
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return upsert(drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 시작 시 집계 테이블이 비어 있으면 전체 기간 집계
+     * 시작 시점의 마지막 메시지 ID까지만 집계하며, 그 이후 메시지는 증분 반영이 담당한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("AI chat rollup backfill failed, incremental updates continue", e);
+        }
+    }
+
+    /**
+     * 집계 테이블이 비어 있을 때만 시작 시점의 마지막 메시지까지 집계
+     */
+    private void backfill() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM ai_chat_daily_rollups LIMIT 1) r", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        Long highWater = jdbcTemplate.queryForObject("SELECT MAX(message_id) FROM ai_chat_messages", Long.class);
+        if (highWater == null) {
+            return;
+        }
+        backfillHighWater = highWater;
+        try {
+            Date firstDate = jdbcTemplate.queryForObject(
+                    "SELECT DATE(MIN(created_at)) FROM ai_chat_messages", Date.class);
+            LocalDate endExclusive = LocalDate.now().plusDays(1);
+            long startedAt = System.currentTimeMillis();
+            Integer rows = transactionTemplate.execute(status -> jdbcTemplate.update(BACKFILL_SQL,
+                    firstDate.toLocalDate().atStartOfDay(), endExclusive.atStartOfDay(), highWater));
+            log.info("AI chat rollups backfilled up to message {}: {} rows in {}ms",
+                    highWater, rows, System.currentTimeMillis() - startedAt);
+        } finally {
+            backfillHighWater = -1;
+        }
+    }
+
+    /**
+     * 지난 날짜 보정 작업
+     * 오늘은 증분 반영과 겹칠 수 있으므로 마감된 날짜만 다시 집계한다.
+     */
+    @Scheduled(cron = "${ai.rollup.catch-up-cron:0 10 0 * * *}")
+    public void catchUp() {
+        LocalDate today = LocalDate.now();
+        recompute(today.minusDays(Math.max(1, properties.getCatchUpDays())), today.minusDays(1));
+    }
+
+    /**
+     * 기간 재집계 (시작일~종료일, 양 끝 포함)
+     * 해당 기간의 집계 행을 지우고 원본 메시지에서 다시 계산하므로 여러 번 실행해도 결과가 같다.
+     * 플러시를 멈춘 상태에서 해당 기간의 미반영 증분을 버린 뒤 실행하므로 이중 집계가 생기지 않는다.
+     * 보관 기간이 지나 원본 파티션이 삭제되었을 수 있는 날짜는 제외하여 기존 집계를 유지한다.
+     *
+     * @return 생성된 집계 행 수
+     */
+    public int recompute(LocalDate startDate, LocalDate endDate) {
+        LocalDate retainedFrom = retentionProperties.retainedFrom(PartitionedTable.AI_CHAT_MESSAGES, LocalDate.now());
+        LocalDate from = retainedFrom != null && retainedFrom.isAfter(startDate) ? retainedFrom : startDate;
+        if (from.isAfter(endDate)) {
+            log.info("AI chat rollup recompute skipped for {} ~ {}: source data retained from {}",
+                    startDate, endDate, retainedFrom);
+            return 0;
+        }
+        LocalDate endExclusive = endDate.plusDays(1);
+        long startedAt = System.currentTimeMillis();
+        Integer rows;
+        flushLock.lock();
+        try {
+            // 누적된 증분은 이미 커밋된 메시지의 것이므로 기간 안 증분은 재집계에 포함됨
+            List<RollupDelta> inside = new ArrayList<>();
+            List<RollupDelta> outside = new ArrayList<>();
+            for (RollupDelta delta : drain()) {
+                LocalDate statDate = delta.key().statDate();
+                boolean inRange = !statDate.isBefore(from) && statDate.isBefore(endExclusive);
+                (inRange ? inside : outside).add(delta);
+            }
+            upsert(outside);
+            try {
+                rows = transactionTemplate.execute(status -> {
+                    jdbcTemplate.update(DELETE_RANGE_SQL, Date.valueOf(from), Date.valueOf(endExclusive));
+                    return jdbcTemplate.update(RECOMPUTE_SQL,
+                            from.atStartOfDay(), endExclusive.atStartOfDay(), Long.MAX_VALUE);
+                });
+            } catch (DataAccessException | TransactionException e) {
+                // 재집계 실패 시 버린 증분을 되돌려 다음 플러시에서 반영
+                inside.forEach(this::restore);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        log.info("AI chat rollups recomputed for {} ~ {}: {} rows in {}ms",
+                from, endDate, rows, System.currentTimeMillis() - startedAt);
+        return rows != null ? rows : 0;
+    }
+
+    private void applyCreated(AiChatMessageChangedEvent event) {
+        long[] values = new long[VALUE_COUNT];
+        if (event.getMessageType() == MessageType.USER) {
+            values[0] = 1;
+        } else {
+            values[1] = 1;
+            values[2] = event.getTokensUsed() != null ? event.getTokensUsed() : 0;
+            if (event.getResponseTimeMs() != null) {
+                values[3] = 1;
+                values[4] = event.getResponseTimeMs();
+                values[5 + AiChatDailyRollup.responseTimeBucket(event.getResponseTimeMs())] = 1;
+            }
+            addRating(values, event.getRating(), 1);
+        }
+        add(event, values);
+    }
+
+    private void applyRatingChange(AiChatMessageChangedEvent event) {
+        long[] values = new long[VALUE_COUNT];
+        addRating(values, event.getPreviousRating(), -1);
+        addRating(values, event.getRating(), 1);
+        add(event, values);
+    }
+
+    private static void addRating(long[] values, UserRating rating, int delta) {
+        if (rating == UserRating.HELPFUL) {
+            values[11] += delta;
+        } else if (rating == UserRating.NOT_HELPFUL) {
+            values[12] += delta;
+        }
+    }
+
+    private void add(AiChatMessageChangedEvent event, long[] values) {
+        RollupKey key = new RollupKey(event.getUserId(), event.getCreatedAt().toLocalDate(),
+                event.getAiModel() != null ? event.getAiModel() : AiChatDailyRollup.NO_MODEL);
+        add(key, values);
+    }
+
+    private void add(RollupKey key, long[] values) {
+        PendingRollup rollup = pendingRollups.computeIfAbsent(key, k -> new PendingRollup());
+        rollup.add(values);
+        // 더하는 사이 플러시가 빈 누적기로 보고 제거했다면, 남은 증분을 새 누적기로 옮긴다
+        if (pendingRollups.get(key) != rollup) {
+            RollupDelta remaining = rollup.drain(key);
+            if (remaining != null) {
+                restore(remaining);
+            }
+        }
+    }
+
+    /**
+     * 누적 값을 0으로 초기화하면서 꺼내기
+     * 이틀 이상 지난 빈 누적기는 제거하여 맵이 계속 커지지 않도록 한다.
+     * 제거 직전에 더해진 증분은 제거 후 한 번 더 꺼내고, 제거 후에 더해진 증분은 add가 새 누적기로 옮긴다.
+     */
+    private List<RollupDelta> drain() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<RollupDelta> deltas = new ArrayList<>();
+        pendingRollups.forEach((key, rollup) -> {
+            RollupDelta delta = rollup.drain(key);
+            if (delta == null && key.statDate().isBefore(yesterday) && pendingRollups.remove(key, rollup)) {
+                delta = rollup.drain(key);
+            }
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        });
+        deltas.sort(Comparator.comparing((RollupDelta delta) -> delta.key().userId())
+                .thenComparing(delta -> delta.key().statDate())
+                .thenComparing(delta -> delta.key().aiModel()));
+        return deltas;
+    }
+
+    private int upsert(List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int flushed = 0;
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<RollupDelta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> executeBatch(batch));
+                flushed += batch.size();
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("AI chat rollup flush failed, {} rows re-queued", deltas.size() - from, e);
+                deltas.subList(from, deltas.size()).forEach(this::restore);
+                break;
+            }
+        }
+        log.debug("AI chat rollups flushed: {} rows", flushed);
+        return flushed;
+    }
+
+    private void restore(RollupDelta delta) {
+        add(delta.key(), delta.values());
+    }
+
+    /**
+     * 집계 행 증분 반영 (같은 행이 있으면 값을 더함)
+     */
+    private void executeBatch(List<RollupDelta> batch) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, delta) -> {
+            ps.setLong(1, delta.key().userId());
+            ps.setDate(2, Date.valueOf(delta.key().statDate()));
+            ps.setString(3, delta.key().aiModel());
+            long[] values = delta.values();
+            for (int i = 0; i < values.length; i++) {
+                ps.setLong(4 + i, values[i]);
+            }
+        });
+    }
+
+    private record RollupKey(Long userId, LocalDate statDate, String aiModel) {
+    }
+
+    private record RollupDelta(RollupKey key, long[] values) {
+    }
+
+    /**
+     * (사용자, 날짜, 모델)별 누적 증분
+     */
+    private static class PendingRollup {
+        private final LongAdder[] values = new LongAdder[VALUE_COUNT];
+
+        PendingRollup() {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = new LongAdder();
+            }
+        }
+
+        void add(long[] deltas) {
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i] != 0) {
+                    values[i].add(deltas[i]);
+                }
+            }
+        }
+
+        /**
+         * 누적 값을 꺼내고 0으로 초기화 (증분이 없으면 null)
+         * 동시에 더해진 증분은 sumThenReset에 따라 이번 결과에 포함되거나 누적기에 남는다.
+         */
+        RollupDelta drain(RollupKey key) {
+            long[] drained = new long[values.length];
+            boolean empty = true;
+            for (int i = 0; i < values.length; i++) {
+                drained[i] = values[i].sumThenReset();
+                empty &= drained[i] == 0;
+            }
+            return empty ? null : new RollupDelta(key, drained);
+        }
+    }
+}
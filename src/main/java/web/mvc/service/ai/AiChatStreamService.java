@@ -0,0 +1,440 @@
+package web.mvc.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import web.mvc.config.AiStreamProperties;
+import web.mvc.domain.AiChatMessage;
+import web.mvc.domain.AiChatSession;
+import web.mvc.domain.User;
+import web.mvc.exception.BusinessException;
+import web.mvc.exception.ForbiddenException;
+import web.mvc.exception.NotFoundException;
+import web.mvc.repository.AiChatMessageRepository;
+import web.mvc.repository.AiChatSessionRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AI 채팅 스트리밍 응답 서비스
+ * 모델이 생성한 토큰을 고정 크기 버퍼를 거쳐 SSE(Server-Sent Events)로 전달한다.
+ * 모델 호출과 SSE 전송은 별도 작업으로 실행되며, 클라이언트가 읽지 않아 버퍼가 가득 찬 상태가
+ * 일정 시간 지속되면 스트림을 중단한다. (메모리 사용량이 스트림당 버퍼 크기로 제한됨)
+ * AI 메시지는 스트림이 끝난 뒤 전체 내용으로 한 번만 저장한다.
+ *
+ * 두 작업이 실행기에 접수된 뒤에 이용 한도를 차감하고 사용자 메시지를 저장하며, 작업은 그때까지 대기한다.
+ * (실행기가 거절하면 메시지도 한도 차감도 남지 않음)
+ *
+ * AiModelClient 빈이 없는 환경(외부 모델 미연동 운영 환경 등)에서도 애플리케이션은 시작되며,
+ * 이때 스트리밍 요청은 503으로 거절한다.
+ */
+@Slf4j
+@Service
+public class AiChatStreamService {
+
+    /**
+     * 스트림 종료 표시 (동일 객체 비교용)
+     */
+    private static final String END_OF_STREAM = new String("");
+
+    private final AiChatSessionRepository aiChatSessionRepository;
+    private final AiChatMessageRepository aiChatMessageRepository;
+    /**
+     * 등록된 모델 클라이언트 (없으면 null)
+     */
+    private final AiModelClient modelClient;
+    private final AiQuotaService aiQuotaService;
+    private final AiStreamProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor aiStreamExecutor;
+
+    private final Semaphore streamPermits;
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    private final Timer timeToFirstToken;
+    private final Timer streamDuration;
+    private final DistributionSummary tokensPerSecond;
+    private final Counter completedStreams;
+    private final Counter failedStreams;
+    private final Counter cancelledStreams;
+    private final Counter rejectedStreams;
+
+    public AiChatStreamService(AiChatSessionRepository aiChatSessionRepository,
+            AiChatMessageRepository aiChatMessageRepository, ObjectProvider<AiModelClient> modelClients,
+            AiQuotaService aiQuotaService, AiStreamProperties properties,
+            TransactionTemplate transactionTemplate, AsyncTaskExecutor aiStreamExecutor,
+            MeterRegistry meterRegistry) {
+        this.aiChatSessionRepository = aiChatSessionRepository;
+        this.aiChatMessageRepository = aiChatMessageRepository;
+        this.modelClient = modelClients.getIfAvailable();
+        if (modelClient == null) {
+            log.warn("No AiModelClient bean registered; AI chat streaming requests will be rejected with 503");
+        }
+        this.aiQuotaService = aiQuotaService;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.aiStreamExecutor = aiStreamExecutor;
+        this.streamPermits = new Semaphore(properties.getMaxConcurrentStreams());
+
+        this.timeToFirstToken = Timer.builder("ai.chat.stream.ttft")
+                .description("AI 응답 첫 토큰까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.streamDuration = Timer.builder("ai.chat.stream.duration")
+                .description("AI 응답 스트림 전체 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.tokensPerSecond = DistributionSummary.builder("ai.chat.stream.tokens.per.second")
+                .description("AI 응답 초당 토큰 수")
+                .register(meterRegistry);
+        this.completedStreams = streamCounter(meterRegistry, "completed");
+        this.failedStreams = streamCounter(meterRegistry, "failed");
+        this.cancelledStreams = streamCounter(meterRegistry, "cancelled");
+        this.rejectedStreams = streamCounter(meterRegistry, "rejected");
+        Gauge.builder("ai.chat.stream.active", activeStreams, AtomicInteger::get)
+                .description("진행 중인 AI 응답 스트림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 메시지를 저장하고 AI 응답 스트림 시작
+     *
+     * @param userId 인증된 사용자 ID (세션 소유자만 전송 가능)
+     */
+    public SseEmitter stream(String sessionUuid, Long userId, String userMessage) {
+        if (modelClient == null) {
+            throw new BusinessException("AI 응답 기능을 사용할 수 없습니다.",
+                    HttpStatus.SERVICE_UNAVAILABLE, "AI_MODEL_UNAVAILABLE");
+        }
+        if (!streamPermits.tryAcquire()) {
+            throw busy();
+        }
+
+        StreamState state;
+        try {
+            AiCompletionContext context = transactionTemplate.execute(
+                    status -> prepare(sessionUuid, userId, userMessage));
+            SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+            state = new StreamState(context, emitter, properties.getBufferCapacity());
+            emitter.onTimeout(() -> state.cancelled = true);
+            emitter.onError(e -> state.cancelled = true);
+            submit(state);
+        } catch (RuntimeException e) {
+            streamPermits.release();
+            if (e instanceof TaskRejectedException || e instanceof CannotCreateTransactionException) {
+                throw busy();
+            }
+            throw e;
+        }
+
+        // 이후 스트림 수/허가 반환은 consume이 담당
+        try {
+            transactionTemplate.executeWithoutResult(status -> begin(state.context, userMessage));
+        } catch (RuntimeException e) {
+            state.cancelled = true;
+            state.started.countDown();
+            if (e instanceof CannotCreateTransactionException) {
+                throw busy();
+            }
+            throw e;
+        }
+        state.started.countDown();
+        return state.emitter;
+    }
+
+    /**
+     * 과부하 거절 (동시 스트림 한도 초과, 실행기 포화, 제한 시간 안에 DB 커넥션을 얻지 못한 경우)
+     * 재시도 가능한 503으로 응답한다.
+     */
+    private BusinessException busy() {
+        rejectedStreams.increment();
+        return new BusinessException("AI 응답 요청이 많습니다. 잠시 후 다시 시도해 주세요.",
+                HttpStatus.SERVICE_UNAVAILABLE, "AI_STREAM_BUSY");
+    }
+
+    /**
+     * 생산자/소비자 작업 접수 (둘 다 접수되지 않으면 접수된 작업도 시작하지 않고 종료)
+     */
+    private void submit(StreamState state) {
+        activeStreams.incrementAndGet();
+        try {
+            aiStreamExecutor.execute(() -> produce(state));
+        } catch (TaskRejectedException e) {
+            activeStreams.decrementAndGet();
+            throw e;
+        }
+        try {
+            aiStreamExecutor.execute(() -> consume(state));
+        } catch (TaskRejectedException e) {
+            state.cancelled = true;
+            state.started.countDown();
+            activeStreams.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 세션 확인 (존재, 소유자, 진행 중 여부)
+     */
+    private AiCompletionContext prepare(String sessionUuid, Long userId, String userMessage) {
+        AiChatSession session = aiChatSessionRepository.findWithUserBySessionUuid(sessionUuid)
+                .orElseThrow(() -> new NotFoundException("채팅 세션을 찾을 수 없습니다: " + sessionUuid));
+        if (userId == null || !userId.equals(session.getUser().getId())) {
+            throw new ForbiddenException("본인의 채팅 세션에만 메시지를 보낼 수 있습니다.");
+        }
+        if (!session.isActive()) {
+            throw new BusinessException("종료된 채팅 세션입니다.", HttpStatus.BAD_REQUEST, "AI_SESSION_CLOSED");
+        }
+        return new AiCompletionContext(session.getSessionId(), session.getUser(),
+                new AiCompletionRequest(session.getContextDescription(), userMessage));
+    }
+
+    /**
+     * 사용자 메시지 저장 후 이용 한도 차감 (한도 초과면 저장도 롤백)
+     * 메시지 INSERT는 외래 키로 세션 행에 공유 잠금을 걸므로, 그 뒤에 세션 행을 갱신하면
+     * 같은 세션의 두 요청이 서로의 공유 잠금을 기다리며 교착된다. 세션 행 갱신을 먼저 한다.
+     */
+    private void begin(AiCompletionContext context, String userMessage) {
+        AiChatSession session = aiChatSessionRepository.findById(context.sessionId())
+                .orElseThrow(() -> new NotFoundException("채팅 세션을 찾을 수 없습니다."));
+        session.generateTitleFromFirstMessage(userMessage);
+        aiChatSessionRepository.incrementTotalMessages(session.getSessionId(), 1);
+        aiChatMessageRepository.save(AiChatMessage.createUserMessage(session, userMessage));
+
+        if (!aiQuotaService.tryAcquire(context.user(), 0)) {
+            throw new BusinessException("오늘의 AI 이용 한도를 초과했습니다.",
+                    HttpStatus.TOO_MANY_REQUESTS, "AI_QUOTA_EXCEEDED");
+        }
+    }
+
+    /**
+     * 모델 호출 (생산자)
+     * 버퍼가 가득 찬 상태로 제한 시간이 지나면 느린 클라이언트로 보고 중단한다.
+     */
+    private void produce(StreamState state) {
+        long offerTimeoutMs = properties.getBufferOfferTimeout().toMillis();
+        try {
+            state.started.await();
+            if (state.cancelled) {
+                return;
+            }
+            modelClient.streamCompletion(state.context.request(), token -> {
+                if (state.cancelled) {
+                    throw new StreamAbortedException("Stream cancelled");
+                }
+                if (!state.buffer.offer(token, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    state.cancelled = true;
+                    throw new StreamAbortedException("Client too slow, buffer full");
+                }
+                state.tokenCount.incrementAndGet();
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.failure.compareAndSet(null, e);
+        } catch (Exception e) {
+            state.failure.compareAndSet(null, e);
+        } finally {
+            try {
+                // 소비자가 이미 종료된 경우에는 버퍼가 비지 않으므로 제한 시간만 대기
+                state.buffer.offer(END_OF_STREAM, offerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * SSE 전송 (소비자)
+     * 버퍼에 쌓인 토큰을 최대 maxTokensPerEvent개씩 묶어 하나의 이벤트로 전송한다.
+     */
+    private void consume(StreamState state) {
+        long pollTimeoutMs = properties.getBufferOfferTimeout().toMillis();
+        int maxTokensPerEvent = Math.max(1, properties.getMaxTokensPerEvent());
+        StringBuilder text = new StringBuilder();
+        List<String> batch = new ArrayList<>(maxTokensPerEvent);
+        long firstTokenNanos = 0L;
+
+        try {
+            state.started.await();
+            if (state.cancelled) {
+                // 시작 전 취소 (한도 초과, 저장 실패, 생산자만 접수된 경우)
+                return;
+            }
+            boolean ended = false;
+            while (!ended && !state.cancelled) {
+                String first = state.buffer.poll(pollTimeoutMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.clear();
+                batch.add(first);
+                state.buffer.drainTo(batch, maxTokensPerEvent - 1);
+                if (batch.get(batch.size() - 1) == END_OF_STREAM) {
+                    batch.remove(batch.size() - 1);
+                    ended = true;
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                if (firstTokenNanos == 0L) {
+                    firstTokenNanos = System.nanoTime();
+                    timeToFirstToken.record(firstTokenNanos - state.startedAt, TimeUnit.NANOSECONDS);
+                }
+                String chunk = String.join("", batch);
+                text.append(chunk);
+                state.emitter.send(SseEmitter.event().name("token").data(chunk));
+            }
+
+            if (state.cancelled) {
+                cancelledStreams.increment();
+                log.debug("AI chat stream cancelled for session {}", state.context.sessionId());
+                return;
+            }
+            if (state.failure.get() != null || text.isEmpty()) {
+                failedStreams.increment();
+                log.warn("AI chat stream failed for session {}", state.context.sessionId(), state.failure.get());
+                sendError(state);
+                return;
+            }
+
+            complete(state, text.toString(), firstTokenNanos);
+        } catch (IOException e) {
+            state.cancelled = true;
+            cancelledStreams.increment();
+            log.debug("AI chat stream client disconnected for session {}", state.context.sessionId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.cancelled = true;
+            sendError(state);
+        } catch (RuntimeException e) {
+            state.cancelled = true;
+            failedStreams.increment();
+            log.error("AI chat stream error for session {}", state.context.sessionId(), e);
+            sendError(state);
+        } finally {
+            aiQuotaService.addTokens(state.context.user(), state.tokenCount.get());
+            activeStreams.decrementAndGet();
+            streamPermits.release();
+        }
+    }
+
+    /**
+     * 오류 이벤트 전송 후 스트림 종료
+     * 이미 SSE 응답이 시작된 뒤이므로 completeWithError로 예외 처리기에 넘기면 JSON 오류 응답을 쓸 수 없다.
+     */
+    private void sendError(StreamState state) {
+        try {
+            state.emitter.send(SseEmitter.event().name("error").data("AI 응답 생성 중 오류가 발생했습니다."));
+            state.emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("AI chat stream error event not delivered for session {}", state.context.sessionId());
+        }
+    }
+
+    /**
+     * 스트림 완료 처리: AI 메시지 1회 저장, 지표 기록, 완료 이벤트 전송
+     */
+    private void complete(StreamState state, String text, long firstTokenNanos) throws IOException {
+        long elapsedNanos = System.nanoTime() - state.startedAt;
+        int responseTimeMs = (int) TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int tokens = state.tokenCount.get();
+
+        AiChatMessage saved = transactionTemplate.execute(status -> {
+            // begin과 같이 세션 행을 먼저 갱신
+            aiChatSessionRepository.incrementTotalMessages(state.context.sessionId(), 1);
+            AiChatSession session = aiChatSessionRepository.getReferenceById(state.context.sessionId());
+            return aiChatMessageRepository.save(AiChatMessage.createAiMessage(
+                    session, text, modelClient.getModelName(), tokens, responseTimeMs));
+        });
+
+        streamDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        long generationNanos = System.nanoTime() - firstTokenNanos;
+        double rate = generationNanos > 0 ? tokens / (generationNanos / 1_000_000_000.0) : 0.0;
+        tokensPerSecond.record(rate);
+        completedStreams.increment();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("messageId", saved != null ? saved.getMessageId() : null);
+        summary.put("tokensUsed", tokens);
+        summary.put("responseTimeMs", responseTimeMs);
+        summary.put("timeToFirstTokenMs", TimeUnit.NANOSECONDS.toMillis(firstTokenNanos - state.startedAt));
+        summary.put("tokensPerSecond", Math.round(rate * 10) / 10.0);
+        state.emitter.send(SseEmitter.event().name("done").data(summary));
+        state.emitter.complete();
+    }
+
+    /**
+     * 현재 진행 중인 스트림 수
+     */
+    public int getActiveStreamCount() {
+        return activeStreams.get();
+    }
+
+    private static Counter streamCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("ai.chat.stream.requests")
+                .description("AI 응답 스트림 요청 수")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * 스트림 시작 시 확정되는 정보
+     */
+    private record AiCompletionContext(Long sessionId, User user, AiCompletionRequest request) {
+    }
+
+    /**
+     * 스트림별 상태 (버퍼, 취소 여부, 생성 토큰 수)
+     */
+    private static class StreamState {
+        private final AiCompletionContext context;
+        private final SseEmitter emitter;
+        private final BlockingQueue<String> buffer;
+        private final AtomicInteger tokenCount = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final long startedAt = System.nanoTime();
+        /**
+         * 사용자 메시지 저장/한도 차감이 끝나면 열림 (그 전에 취소되면 작업은 바로 종료)
+         */
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile boolean cancelled = false;
+
+        StreamState(AiCompletionContext context, SseEmitter emitter, int bufferCapacity) {
+            this.context = context;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferCapacity));
+        }
+    }
+
+    /**
+     * 클라이언트 연결 종료/버퍼 초과로 인한 생성 중단
+     */
+    private static class StreamAbortedException extends RuntimeException {
+        StreamAbortedException(String message) {
+            super(message);
+        }
+    }
+}
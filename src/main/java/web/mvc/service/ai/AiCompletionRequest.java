@@ -0,0 +1,10 @@
+package web.mvc.service.ai;
+
+/**
+ * AI 모델 응답 생성 요청
+ *
+ * @param context     세션 컨텍스트 설명 (로드맵/단계 등)
+ * @param userMessage 사용자 메시지
+ */
+public record AiCompletionRequest(String context, String userMessage) {
+}
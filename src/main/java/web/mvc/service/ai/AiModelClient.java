@@ -0,0 +1,29 @@
+package web.mvc.service.ai;
+
+/**
+ * AI 모델 클라이언트
+ * 응답을 토큰 단위로 생성하여 sink에 전달한다. (호출 스레드에서 완료될 때까지 블로킹)
+ * 외부 모델 연동 시 이 인터페이스를 구현한 빈을 등록한다. 구현 빈이 없으면 스트리밍 요청은 503으로 거절된다.
+ * (로컬 개발은 dev 프로필의 FakeAiModelClient 사용)
+ */
+public interface AiModelClient {
+
+    /**
+     * 응답 메시지에 기록할 모델 이름
+     */
+    String getModelName();
+
+    /**
+     * 토큰 스트리밍 응답 생성
+     * sink가 예외를 던지면(클라이언트 연결 종료, 버퍼 초과 등) 생성을 중단해야 한다.
+     */
+    void streamCompletion(AiCompletionRequest request, TokenSink sink) throws Exception;
+
+    /**
+     * 생성된 토큰 수신자
+     */
+    @FunctionalInterface
+    interface TokenSink {
+        void onToken(String token) throws InterruptedException;
+    }
+}
@@ -0,0 +1,335 @@
+package web.mvc.service.ai;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.AiQuotaProperties;
+import web.mvc.domain.AiUsageLimit;
+import web.mvc.domain.User;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * AI 이용 한도 서비스
+ * 사용자별 일일 메시지 수/토큰 사용량을 하나의 long(상위 32비트 메시지, 하위 32비트 토큰)에 담아
+ * CAS로 한도 확인과 증가를 원자적으로 처리한다. (요청마다 조회-수정-저장하던 경쟁 조건 제거)
+ * 마지막 반영 이후 늘어난 사용량만 주기적으로 ai_usage_limits에 더하고(여러 인스턴스의 사용량이 합산됨),
+ * 반영할 때 DB 합계로 메모리 카운터를 다시 맞추므로, 사용 중인 사용자의 다른 인스턴스 사용량은
+ * 반영 주기 정도의 지연으로 한도에 포함된다. (그 사이 여러 인스턴스에서 동시에 쓰면 약간 초과할 수 있음)
+ * 그날 처음 사용하는 사용자는 요청 전에 저장된 사용량(재시작 전, 다른 인스턴스)을 한 번 읽어 온다.
+ * (재시작 직후 한도가 0부터 다시 시작되지 않도록, 이후 요청은 조회 없이 CAS만 수행)
+ * 조회는 반영 잠금 밖에서 카운터별로 한 번만 실행하고, 실패하면 load-retry-interval-ms 동안 다시 조회하지 않는다.
+ * (DB 장애 중 AI 요청이 하나의 잠금에 줄 서지 않도록, 저장된 사용량을 읽기 전 카운터는 반영 대상에서 제외)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiQuotaService {
+
+    private static final String UPSERT_SQL = "INSERT INTO ai_usage_limits " +
+            "(user_id, usage_date, message_count, tokens_used, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "message_count = message_count + VALUES(message_count), " +
+            "tokens_used = tokens_used + VALUES(tokens_used), " +
+            "updated_at = NOW()";
+
+    private static final String SELECT_USAGE_SQL = "SELECT user_id, usage_date, message_count, tokens_used " +
+            "FROM ai_usage_limits WHERE usage_date = ? AND user_id IN (%s)";
+
+    private static final String SELECT_USER_USAGE_SQL = "SELECT message_count, tokens_used " +
+            "FROM ai_usage_limits WHERE user_id = ? AND usage_date = ?";
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AiQuotaProperties properties;
+
+    private final Map<LocalDate, Map<Long, DailyQuota>> quotasByDate = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+
+    /**
+     * 메시지 1건 사용 시도
+     * 메시지/토큰 한도를 넘지 않았으면 메시지 수를 1 증가시키고 토큰 사용량을 더한다.
+     * (AiUsageLimit.isMessageLimitExceeded/isTokenLimitExceeded 확인 후 addMessageUsage와 동일)
+     *
+     * @return 한도 초과로 거절된 경우 false
+     */
+    public boolean tryAcquire(User user, int tokenCount) {
+        DailyQuota quota = quotaOf(user, LocalDate.now());
+        int messageLimit = AiUsageLimit.getDailyMessageLimit(user.getUserRole());
+        int tokenLimit = AiUsageLimit.getDailyTokenLimit(user.getUserRole());
+
+        AtomicLong state = quota.state;
+        while (true) {
+            long current = state.get();
+            long messages = messages(current);
+            long tokens = tokens(current);
+            if (messages >= messageLimit || tokens >= tokenLimit) {
+                return false;
+            }
+            long updated = pack(messages + 1, tokens + Math.max(0, tokenCount));
+            if (state.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 응답 완료 후 실제 토큰 사용량 추가 (한도 확인 없음)
+     */
+    public void addTokens(User user, int tokenCount) {
+        if (tokenCount <= 0) {
+            return;
+        }
+        AtomicLong state = quotaOf(user, LocalDate.now()).state;
+        state.getAndUpdate(current -> pack(messages(current), tokens(current) + tokenCount));
+    }
+
+    /**
+     * 오늘 사용량 조회
+     */
+    public QuotaUsage getTodayUsage(User user) {
+        long current = quotaOf(user, LocalDate.now()).state.get();
+        return new QuotaUsage(
+                (int) messages(current),
+                (int) tokens(current),
+                AiUsageLimit.getDailyMessageLimit(user.getUserRole()),
+                AiUsageLimit.getDailyTokenLimit(user.getUserRole()));
+    }
+
+    /**
+     * 주기적 반영
+     */
+    @Scheduled(fixedDelayString = "${ai.quota.flush-interval-ms:2000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 사용량 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("AI usage quotas flushed on shutdown: {} rows", flushed);
+    }
+
+    /**
+     * 마지막 반영 이후 늘어난 사용량을 배치 UPSERT로 더한 뒤 DB 합계로 메모리 카운터를 다시 맞춤
+     * 아직 DB 사용량을 읽지 않은 카운터는 먼저 읽고, 읽지 못했으면 건너뛴다. 지난 날짜는 모두 반영되면 메모리에서 제거한다.
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        // 조회에 실패했던 카운터 재시도 (요청이 끊긴 사용자의 사용량도 결국 반영되도록)
+        quotasByDate.forEach((date, quotas) -> quotas.forEach((userId, quota) -> {
+            if (!quota.synced) {
+                load(userId, date, quota);
+            }
+        }));
+
+        flushLock.lock();
+        try {
+            List<PendingUsage> pending = new ArrayList<>();
+            quotasByDate.forEach((date, quotas) -> quotas.forEach((userId, quota) -> {
+                // synced를 먼저 읽어야 load가 설정한 state/persistedState가 보임
+                if (!quota.synced) {
+                    return;
+                }
+                long current = quota.state.get();
+                if (current != quota.persistedState) {
+                    pending.add(new PendingUsage(userId, date, quota, current));
+                }
+            }));
+            pending.sort(Comparator.comparing(PendingUsage::date).thenComparing(PendingUsage::userId));
+
+            int flushed = 0;
+            int batchSize = Math.max(1, properties.getBatchSize());
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                List<PendingUsage> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+                try {
+                    Map<PendingUsage, Long> totals = transactionTemplate.execute(status -> executeBatch(batch));
+                    batch.forEach(usage -> rebase(usage, totals.getOrDefault(usage, 0L)));
+                    flushed += batch.size();
+                } catch (DataAccessException | TransactionException e) {
+                    log.warn("AI usage quota flush failed, {} rows will be retried", pending.size() - from, e);
+                    break;
+                }
+            }
+
+            evictPastDates();
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 일일 카운터 (그날 처음이면 DB에 저장된 사용량을 먼저 읽음)
+     */
+    private DailyQuota quotaOf(User user, LocalDate date) {
+        Map<Long, DailyQuota> quotas = quotasByDate.computeIfAbsent(date, d -> new ConcurrentHashMap<>());
+        DailyQuota quota = quotas.computeIfAbsent(user.getId(), userId -> new DailyQuota());
+        if (!quota.synced) {
+            load(user.getId(), date, quota);
+        }
+        return quota;
+    }
+
+    /**
+     * 저장된 사용량을 읽어 카운터에 더함
+     * 반영은 읽기 전 카운터를 건너뛰므로 같은 사용량이 두 번 더해지지 않는다. 동시에 들어온 요청 중 하나만 조회하고
+     * 나머지는 기다리지 않고 지금까지 센 값으로 진행한다.
+     * 조회에 실패하면 0부터 세고 재시도 간격이 지난 뒤 다시 읽는다. (DB 장애로 AI 사용 자체를 막지 않음)
+     */
+    private void load(Long userId, LocalDate date, DailyQuota quota) {
+        if (System.nanoTime() - quota.nextLoadAt < 0 || !quota.loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (quota.synced) {
+                return;
+            }
+            List<Long> stored = jdbcTemplate.query(SELECT_USER_USAGE_SQL,
+                    (rs, rowNum) -> pack(rs.getLong("message_count"), rs.getLong("tokens_used")),
+                    userId, Date.valueOf(date));
+            long persistedTotal = stored.isEmpty() ? 0L : stored.get(0);
+            quota.state.getAndUpdate(current -> pack(
+                    messages(persistedTotal) + messages(current),
+                    tokens(persistedTotal) + tokens(current)));
+            quota.persistedState = persistedTotal;
+            quota.synced = true;
+        } catch (DataAccessException e) {
+            quota.nextLoadAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getLoadRetryIntervalMs());
+            log.warn("AI usage quota load failed for user {}, counting from zero until it can be read", userId, e);
+        } finally {
+            quota.loading.set(false);
+        }
+    }
+
+    /**
+     * DB 합계 + 반영 이후 새로 늘어난 사용량으로 카운터 교체
+     */
+    private void rebase(PendingUsage usage, long persistedTotal) {
+        DailyQuota quota = usage.quota();
+        quota.state.getAndUpdate(current -> pack(
+                messages(persistedTotal) + messages(current) - messages(usage.state()),
+                tokens(persistedTotal) + tokens(current) - tokens(usage.state())));
+        quota.persistedState = persistedTotal;
+        quota.synced = true;
+    }
+
+    private void evictPastDates() {
+        LocalDate today = LocalDate.now();
+        quotasByDate.entrySet().removeIf(entry -> entry.getKey().isBefore(today)
+                && entry.getValue().values().stream().allMatch(quota -> quota.state.get() == quota.persistedState));
+    }
+
+    /**
+     * 늘어난 사용량을 더하고 반영된 DB 합계를 조회
+     */
+    private Map<PendingUsage, Long> executeBatch(List<PendingUsage> batch) {
+        List<PendingUsage> changed = batch.stream()
+                .filter(usage -> usage.state() != usage.quota().persistedState)
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, changed, Math.max(1, changed.size()), (ps, usage) -> {
+            long persisted = usage.quota().persistedState;
+            ps.setLong(1, usage.userId());
+            ps.setDate(2, Date.valueOf(usage.date()));
+            ps.setLong(3, messages(usage.state()) - messages(persisted));
+            ps.setLong(4, tokens(usage.state()) - tokens(persisted));
+        });
+
+        Map<PendingUsage, Long> totals = new HashMap<>();
+        Map<LocalDate, List<PendingUsage>> byDate = batch.stream()
+                .collect(Collectors.groupingBy(PendingUsage::date));
+        byDate.forEach((date, usages) -> {
+            Map<Long, PendingUsage> byUser = usages.stream()
+                    .collect(Collectors.toMap(PendingUsage::userId, usage -> usage));
+            String placeholders = String.join(", ", Collections.nCopies(usages.size(), "?"));
+            Object[] args = new Object[usages.size() + 1];
+            args[0] = Date.valueOf(date);
+            for (int i = 0; i < usages.size(); i++) {
+                args[i + 1] = usages.get(i).userId();
+            }
+            jdbcTemplate.query(String.format(SELECT_USAGE_SQL, placeholders), rs -> {
+                PendingUsage usage = byUser.get(rs.getLong("user_id"));
+                if (usage != null) {
+                    totals.put(usage, pack(rs.getLong("message_count"), rs.getLong("tokens_used")));
+                }
+            }, args);
+        });
+        return totals;
+    }
+
+    private static long pack(long messages, long tokens) {
+        return (Math.min(messages, Integer.MAX_VALUE) << 32) | Math.min(tokens, Integer.MAX_VALUE);
+    }
+
+    private static long messages(long state) {
+        return state >>> 32;
+    }
+
+    private static long tokens(long state) {
+        return state & COUNT_MASK;
+    }
+
+    /**
+     * 사용자별 일일 사용량 (CAS 대상 상태 + 마지막으로 확인한 DB 합계)
+     */
+    private static class DailyQuota {
+        private final AtomicLong state = new AtomicLong();
+        private volatile long persistedState;
+        /**
+         * DB 합계를 한 번이라도 읽었는지 (false면 반영 대상에서 제외하고 다음 요청/반영 때 읽음)
+         */
+        private volatile boolean synced;
+        /**
+         * 조회 중복 방지
+         */
+        private final AtomicBoolean loading = new AtomicBoolean();
+        /**
+         * 조회 실패 후 다음 조회 가능 시각 (System.nanoTime 기준)
+         */
+        private volatile long nextLoadAt = System.nanoTime();
+    }
+
+    private record PendingUsage(Long userId, LocalDate date, DailyQuota quota, long state) {
+    }
+
+    /**
+     * 사용량 및 한도
+     */
+    public record QuotaUsage(int messageCount, int tokensUsed, int messageLimit, int tokenLimit) {
+
+        public int getRemainingMessages() {
+            return Math.max(0, messageLimit - messageCount);
+        }
+
+        public int getRemainingTokens() {
+            return Math.max(0, tokenLimit - tokensUsed);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package web.mvc.service.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 테스트용 가짜 AI 모델
+ * 입력 메시지를 포함한 고정 응답을 단어 단위 토큰으로 일정 간격마다 생성한다.
+ * dev 또는 loadtest 프로필에서 ai.model.client=fake로 지정한 경우에만 등록된다.
+ */
+@Component
+@Profile({"dev", "loadtest"})
+@ConditionalOnProperty(prefix = "ai.model", name = "client", havingValue = "fake")
+public class FakeAiModelClient implements AiModelClient {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\\S+\\s*");
+
+    private final long tokenDelayMs;
+
+    public FakeAiModelClient(@Value("${ai.model.fake.token-delay-ms:20}") long tokenDelayMs) {
+        this.tokenDelayMs = tokenDelayMs;
+    }
+
+    @Override
+    public String getModelName() {
+        return "fake-model";
+    }
+
+    @Override
+    public void streamCompletion(AiCompletionRequest request, TokenSink sink) throws InterruptedException {
+        String response = String.format("[%s] 질문 \"%s\"에 대한 학습 코치 응답입니다. " +
+                "현재 목표를 작은 단계로 나누고 오늘 할 일부터 시작해 보세요.",
+                request.context() != null ? request.context() : "일반 상담", request.userMessage());
+
+        Matcher matcher = TOKEN_PATTERN.matcher(response);
+        while (matcher.find()) {
+            if (tokenDelayMs > 0) {
+                TimeUnit.MILLISECONDS.sleep(tokenDelayMs);
+            }
+            sink.onToken(matcher.group());
+        }
+    }
+}
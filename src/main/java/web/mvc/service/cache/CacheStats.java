@@ -0,0 +1,22 @@
+package web.mvc.service.cache;
+
+/**
+ * 캐시 통계 스냅샷
+ */
+public record CacheStats(
+        String name,
+        long localHits,
+        long sharedHits,
+        long misses,
+        long evictions,
+        long invalidations,
+        int size) {
+
+    /**
+     * 전체 적중률 (0.0 ~ 1.0)
+     */
+    public double hitRate() {
+        long requests = localHits + sharedHits + misses;
+        return requests == 0 ? 0.0 : (double) (localHits + sharedHits) / requests;
+    }
+}
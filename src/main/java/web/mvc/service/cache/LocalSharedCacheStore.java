@@ -0,0 +1,77 @@
+package web.mvc.service.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공유 캐시 저장소의 로컬 대체 구현
+ * 단일 인스턴스 환경과 테스트에서 외부 저장소 없이 2차 캐시 동작을 재현한다.
+ * 키는 요청 파라미터(페이지, 크기, 정렬 등)에서 만들어지므로 최대 항목 수를 넘으면
+ * 가장 오래 사용되지 않은 항목부터 제거한다. (다시 조회되지 않는 만료 항목도 결국 밀려남)
+ */
+public class LocalSharedCacheStore implements SharedCacheStore {
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final Lock lock = new ReentrantLock();
+
+    public LocalSharedCacheStore(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LocalSharedCacheStore.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Optional<Object> get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.isExpired()) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        Entry entry = new Entry(value, System.nanoTime() + ttl.toNanos());
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        lock.lock();
+        try {
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
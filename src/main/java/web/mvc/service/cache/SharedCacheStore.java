@@ -0,0 +1,26 @@
+package web.mvc.service.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인스턴스 간 공유 캐시 저장소 (2차 캐시)
+ * 운영에서는 Redis 등 외부 저장소 구현으로 교체하고, 그 전까지는 로컬 구현을 사용한다.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * 값 조회 (만료되었거나 없으면 빈 값)
+     */
+    Optional<Object> get(String key);
+
+    /**
+     * 값 저장
+     */
+    void put(String key, Object value, Duration ttl);
+
+    /**
+     * 접두사가 일치하는 모든 키 삭제
+     */
+    void evictByPrefix(String prefix);
+}
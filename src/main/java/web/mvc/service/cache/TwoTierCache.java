@@ -0,0 +1,171 @@
+package web.mvc.service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 2단계 캐시
+ * 1차: 크기 제한 LRU + TTL 로컬 캐시
+ * 2차: 선택적 공유 캐시 저장소 (없으면 1차 캐시만 사용)
+ * 무효화 중에 로딩된 값이 다시 저장되지 않도록 세대(generation) 번호로 보호한다.
+ *
+ * @param <V> 캐시 값 타입 (공유 저장소 사용 시 직렬화 가능해야 함)
+ */
+public class TwoTierCache<V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long localTtlNanos;
+    private final SharedCacheStore sharedStore;
+    private final Duration sharedTtl;
+    private final Class<V> valueType;
+
+    private final LinkedHashMap<String, LocalEntry<V>> localEntries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public TwoTierCache(String name, int maxEntries, Duration localTtl,
+            SharedCacheStore sharedStore, Duration sharedTtl, Class<V> valueType) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.localTtlNanos = localTtl.toNanos();
+        this.sharedStore = sharedStore;
+        this.sharedTtl = sharedTtl;
+        this.valueType = valueType;
+        this.localEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry<V>> eldest) {
+                if (size() > TwoTierCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (1차 → 2차 → 로더 순)
+     */
+    public V get(String key, Supplier<V> loader) {
+        V local = getLocal(key);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+
+        long loadGeneration = generation.get();
+        if (sharedStore != null) {
+            Optional<Object> shared = sharedStore.get(sharedKey(key));
+            if (shared.isPresent() && valueType.isInstance(shared.get())) {
+                sharedHits.increment();
+                V value = valueType.cast(shared.get());
+                putLocal(key, value, loadGeneration);
+                return value;
+            }
+        }
+
+        misses.increment();
+        V loaded = loader.get();
+        if (loaded != null) {
+            putLocal(key, loaded, loadGeneration);
+            if (sharedStore != null && generation.get() == loadGeneration) {
+                sharedStore.put(sharedKey(key), loaded, sharedTtl);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 전체 무효화 (1차 캐시와 공유 저장소의 해당 네임스페이스 모두 삭제)
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (localEntries) {
+            localEntries.clear();
+        }
+        if (sharedStore != null) {
+            sharedStore.evictByPrefix(name + ":");
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * 1차 캐시 항목 수
+     */
+    public int size() {
+        synchronized (localEntries) {
+            return localEntries.size();
+        }
+    }
+
+    /**
+     * 통계 스냅샷
+     */
+    public CacheStats stats() {
+        return new CacheStats(name, localHits.sum(), sharedHits.sum(), misses.sum(),
+                evictions.sum(), invalidations.sum(), size());
+    }
+
+    /**
+     * Micrometer 지표 등록 (cache.gets, cache.evictions, cache.size)
+     */
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", localHits, LongAdder::sum)
+                .tags("cache", name, "result", "hit", "tier", "local").register(registry);
+        FunctionCounter.builder("cache.gets", sharedHits, LongAdder::sum)
+                .tags("cache", name, "result", "hit", "tier", "shared").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", name, "result", "miss", "tier", "none").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", name).register(registry);
+        FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum)
+                .tags("cache", name).register(registry);
+        Gauge.builder("cache.size", this, TwoTierCache::size)
+                .tags("cache", name).register(registry);
+    }
+
+    private V getLocal(String key) {
+        synchronized (localEntries) {
+            LocalEntry<V> entry = localEntries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+                localEntries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private void putLocal(String key, V value, long loadGeneration) {
+        synchronized (localEntries) {
+            if (generation.get() == loadGeneration) {
+                localEntries.put(key, new LocalEntry<>(value, System.nanoTime() + localTtlNanos));
+            }
+        }
+    }
+
+    private String sharedKey(String key) {
+        return name + ":" + key;
+    }
+
+    private record LocalEntry<V>(V value, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,198 @@
+package web.mvc.service.content;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.ContentCacheProperties;
+import web.mvc.domain.LearningContent;
+import web.mvc.domain.event.LearningContentChangedEvent;
+import web.mvc.domain.event.LearningContentChangedEvent.ChangeType;
+import web.mvc.repository.LearningContentRepository;
+import web.mvc.repository.support.CursorPage;
+import web.mvc.repository.support.CursorRequest;
+import web.mvc.service.content.ContentLeaderboard.Ranking;
+import web.mvc.service.cache.CacheStats;
+import web.mvc.service.cache.SharedCacheStore;
+import web.mvc.service.cache.TwoTierCache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 콘텐츠 카탈로그 조회 서비스
+ * 승인된 활성 콘텐츠 목록(전체/인기/최신/평점/추천) 페이지를 2단계 캐시에 보관한다.
+ * 캐시에는 페이지의 콘텐츠 ID와 전체 건수만 저장하고, 엔티티는 기본키로 조회한다.
+ * 콘텐츠 승인/활성화/비활성화 등 변경 이벤트가 발생하면 전체 페이지를 무효화한다.
+ * 인기/평점/추천 목록은 랭킹 보드가 준비되어 있으면 랭킹 보드에서 조회한다.
+ */
+@Service
+public class ContentCatalogService implements MeterBinder {
+
+    private static final String CACHE_NAME = "content-catalog";
+
+    private final LearningContentRepository learningContentRepository;
+    private final ContentCacheProperties properties;
+    private final ContentLeaderboardService leaderboardService;
+    private final TwoTierCache<CachedPage> cache;
+
+    public ContentCatalogService(LearningContentRepository learningContentRepository,
+            ContentCacheProperties properties, SharedCacheStore sharedCacheStore,
+            ContentLeaderboardService leaderboardService) {
+        this.learningContentRepository = learningContentRepository;
+        this.properties = properties;
+        this.leaderboardService = leaderboardService;
+        this.cache = new TwoTierCache<>(CACHE_NAME,
+                properties.getMaxEntries(),
+                properties.getLocalTtl(),
+                properties.isSharedTierEnabled() ? sharedCacheStore : null,
+                properties.getSharedTtl(),
+                CachedPage.class);
+    }
+
+    /**
+     * 승인된 활성 콘텐츠 조회 (페이징)
+     */
+    public Page<LearningContent> findApprovedActiveContents(Pageable pageable) {
+        return cached("approved", pageable, () -> learningContentRepository.findApprovedActiveContents(pageable));
+    }
+
+    /**
+     * 인기 콘텐츠 조회 (조회수 기준)
+     */
+    public Page<LearningContent> findPopularContents(Pageable pageable) {
+        if (useLeaderboard(pageable)) {
+            return leaderboardService.findRankedContents(Ranking.POPULAR, pageable);
+        }
+        return cached("popular", pageable, () -> learningContentRepository.findPopularContents(pageable));
+    }
+
+    /**
+     * 최신 콘텐츠 조회
+     */
+    public Page<LearningContent> findLatestContents(Pageable pageable) {
+        return cached("latest", pageable, () -> learningContentRepository.findLatestContents(pageable));
+    }
+
+    /**
+     * 최신 콘텐츠 키셋 페이지 조회 (COUNT 없음)
+     * 인덱스 탐색만으로 페이지를 읽으므로 캐시를 거치지 않는다.
+     */
+    public CursorPage<LearningContent> findLatestContents(CursorRequest request) {
+        return learningContentRepository.findLatestContents(request);
+    }
+
+    /**
+     * 평점 높은 콘텐츠 조회
+     */
+    public Page<LearningContent> findTopRatedContents(Pageable pageable) {
+        if (useLeaderboard(pageable)) {
+            return leaderboardService.findRankedContents(Ranking.TOP_RATED, pageable);
+        }
+        return cached("top-rated", pageable, () -> learningContentRepository.findTopRatedContents(pageable));
+    }
+
+    /**
+     * 추천 콘텐츠 조회 (북마크 많은 순)
+     */
+    public Page<LearningContent> findRecommendedContents(Pageable pageable) {
+        if (useLeaderboard(pageable)) {
+            return leaderboardService.findRankedContents(Ranking.RECOMMENDED, pageable);
+        }
+        return cached("recommended", pageable, () -> learningContentRepository.findRecommendedContents(pageable));
+    }
+
+    /**
+     * 콘텐츠 변경 시 캐시 무효화
+     * 승인되지 않은 콘텐츠의 생성은 카탈로그에 영향이 없으므로 무시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(LearningContentChangedEvent event) {
+        if (event.getChangeType() == ChangeType.CREATED && !event.isPubliclyAvailable()) {
+            return;
+        }
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 전체 무효화
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
+    /**
+     * 별도 정렬 조건이 없는 경우에만 랭킹 보드 사용
+     */
+    private boolean useLeaderboard(Pageable pageable) {
+        return leaderboardService.isReady() && pageable.getSort().isUnsorted();
+    }
+
+    private Page<LearningContent> cached(String query, Pageable pageable, Supplier<Page<LearningContent>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        String key = query + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        AtomicReference<Page<LearningContent>> loadedPage = new AtomicReference<>();
+        CachedPage cachedPage = cache.get(key, () -> {
+            Page<LearningContent> page = loader.get();
+            loadedPage.set(page);
+            return CachedPage.of(page);
+        });
+
+        // 캐시 미스로 방금 조회한 경우 엔티티를 다시 조회할 필요 없음
+        if (loadedPage.get() != null) {
+            return loadedPage.get();
+        }
+        return hydrate(cachedPage, pageable);
+    }
+
+    private Page<LearningContent> hydrate(CachedPage cachedPage, Pageable pageable) {
+        if (cachedPage.contentIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, cachedPage.totalElements());
+        }
+        Map<Long, LearningContent> contentsById = learningContentRepository.findAllById(cachedPage.contentIds())
+                .stream()
+                .collect(Collectors.toMap(LearningContent::getContentId, Function.identity()));
+        List<LearningContent> ordered = cachedPage.contentIds().stream()
+                .map(contentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, cachedPage.totalElements());
+    }
+
+    /**
+     * 캐시에 저장되는 페이지 (콘텐츠 ID 목록 + 전체 건수)
+     */
+    public record CachedPage(List<Long> contentIds, long totalElements) implements Serializable {
+
+        static CachedPage of(Page<LearningContent> page) {
+            return new CachedPage(
+                    page.getContent().stream().map(LearningContent::getContentId).toList(),
+                    page.getTotalElements());
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package web.mvc.service.content;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.ContentCounterProperties;
+import web.mvc.domain.LearningContent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 학습 콘텐츠 카운터 서비스 (쓰기 지연)
+ * 조회수/좋아요/북마크 증감을 콘텐츠별 LongAdder에 누적하고
+ * 주기적으로 "view_count = view_count + ?" 형태의 배치 UPDATE로 반영한다.
+ * 인기 콘텐츠의 단일 행에 요청마다 UPDATE가 몰리는 것을 방지하기 위한 용도이며,
+ * 정상 종료 시에는 남은 증감분을 모두 반영한다.
+ * 카운터 컬럼은 엔티티에서 updatable = false이므로 JPA 저장이 반영된 증감분을 덮어쓰지 않는다.
+ * 반영된 증감분은 ContentCountersFlushedEvent로 발행되어 랭킹 보드에 전달된다.
+ * 반영마다 커밋 후 증가하는 순번을 붙이므로, 랭킹 재구축은 DB 통계를 읽는 시점의 순번(high-water mark)으로
+ * 이미 통계에 포함된 증감분을 구분할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentCounterService {
+
+    private static final String INCREMENT_SQL = "UPDATE learning_contents SET " +
+            "view_count = view_count + ?, " +
+            "like_count = GREATEST(like_count + ?, 0), " +
+            "bookmark_count = GREATEST(bookmark_count + ?, 0) " +
+            "WHERE content_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentCounterProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, PendingCounters> pendingCounters = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+    /**
+     * 반영(UPDATE 커밋 + 순번 증가)은 읽기 잠금, 일관된 통계 조회는 쓰기 잠금
+     */
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+    private final AtomicLong flushSequence = new AtomicLong();
+
+    /**
+     * 조회수 증가
+     */
+    public void incrementViewCount(Long contentId) {
+        record(contentId, 1, 0, 0);
+    }
+
+    /**
+     * 좋아요 증가
+     */
+    public void incrementLikeCount(Long contentId) {
+        record(contentId, 0, 1, 0);
+    }
+
+    /**
+     * 좋아요 감소
+     */
+    public void decrementLikeCount(Long contentId) {
+        record(contentId, 0, -1, 0);
+    }
+
+    /**
+     * 북마크 증가
+     */
+    public void incrementBookmarkCount(Long contentId) {
+        record(contentId, 0, 0, 1);
+    }
+
+    /**
+     * 북마크 감소
+     */
+    public void decrementBookmarkCount(Long contentId) {
+        record(contentId, 0, 0, -1);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분을 포함한 카운터 조회
+     */
+    public CounterSnapshot getCurrentCounts(LearningContent content) {
+        PendingCounters pending = pendingCounters.get(content.getContentId());
+        long views = content.getViewCount();
+        long likes = content.getLikeCount();
+        long bookmarks = content.getBookmarkCount();
+        if (pending != null) {
+            views += pending.views.sum();
+            likes = Math.max(0, likes + pending.likes.sum());
+            bookmarks = Math.max(0, bookmarks + pending.bookmarks.sum());
+        }
+        return new CounterSnapshot(content.getContentId(), views, likes, bookmarks);
+    }
+
+    /**
+     * 주기적 플러시
+     */
+    @Scheduled(fixedDelayString = "${content.counter.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 종료 시 남은 증감분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("Content counters flushed on shutdown: {} rows", flushed);
+    }
+
+    /**
+     * 누적된 증감분을 배치 UPDATE로 반영
+     * 콘텐츠 ID 순으로 정렬하여 여러 인스턴스가 동시에 플러시해도 행 잠금 순서가 같도록 한다.
+     * 반영에 실패한 증감분은 다시 누적되어 다음 플러시에서 재시도된다.
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            List<CounterSnapshot> deltas = drain();
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            int flushed = 0;
+            int batchSize = Math.max(1, properties.getBatchSize());
+            for (int from = 0; from < deltas.size(); from += batchSize) {
+                List<CounterSnapshot> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+                try {
+                    commit(() -> transactionTemplate.executeWithoutResult(status -> executeBatch(batch)), batch);
+                    flushed += batch.size();
+                } catch (DataAccessException | TransactionException e) {
+                    log.warn("Content counter flush failed, {} rows re-queued", deltas.size() - from, e);
+                    deltas.subList(from, deltas.size()).forEach(this::restore);
+                    break;
+                }
+            }
+            log.debug("Content counters flushed: {} rows", flushed);
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 반영이 커밋되지 않는 동안 DB를 읽고, 읽은 시점까지 커밋된 마지막 반영 순번을 반환
+     * 반환된 순번 이하의 ContentCountersFlushedEvent는 읽은 결과에 이미 포함되어 있다.
+     * (읽는 동안 이 인스턴스의 반영은 대기하며, 증감은 계속 메모리에 누적됨)
+     */
+    public long readBetweenFlushes(Runnable reader) {
+        commitLock.writeLock().lock();
+        try {
+            reader.run();
+            return flushSequence.get();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반영 대기 중인 콘텐츠 수
+     */
+    public int getPendingCount() {
+        return (int) pendingCounters.values().stream()
+                .filter(counters -> !counters.isEmpty())
+                .count();
+    }
+
+    private void record(Long contentId, long views, long likes, long bookmarks) {
+        if (contentId == null) {
+            return;
+        }
+        if (!properties.isWriteBehind()) {
+            commit(() -> jdbcTemplate.update(INCREMENT_SQL, views, likes, bookmarks, contentId),
+                    List.of(new CounterSnapshot(contentId, views, likes, bookmarks)));
+            return;
+        }
+
+        // 이미 있는 항목은 잠금 없이 조회되므로 같은 콘텐츠의 증가도 LongAdder 셀에 나뉘어 더해진다
+        PendingCounters counters = pendingCounters.computeIfAbsent(contentId, id -> new PendingCounters());
+        counters.add(views, likes, bookmarks);
+        // 더하는 사이 플러시가 유휴 항목으로 보고 제거했다면, 남은 증감분을 새 항목으로 옮긴다
+        if (pendingCounters.get(contentId) != counters) {
+            CounterSnapshot remaining = counters.drain(contentId);
+            if (remaining != null) {
+                restore(remaining);
+            }
+        }
+    }
+
+    /**
+     * 누적 증감분 꺼내기
+     * 항목별 sumThenReset으로 꺼내므로 동시에 더해진 증감분은 이번 결과에 포함되거나 항목에 남는다.
+     * 이전 플러시 이후 증감이 없는 항목은 맵에서 제거하여 한 번이라도 증감된 모든 콘텐츠 ID가 쌓이지 않게 한다.
+     */
+    private List<CounterSnapshot> drain() {
+        List<CounterSnapshot> deltas = new ArrayList<>();
+        for (Map.Entry<Long, PendingCounters> entry : pendingCounters.entrySet()) {
+            Long contentId = entry.getKey();
+            PendingCounters counters = entry.getValue();
+            CounterSnapshot delta = counters.drain(contentId);
+            if (delta == null && pendingCounters.remove(contentId, counters)) {
+                // 제거 직전에 더해진 증감분 회수 (제거 후에 더한 쪽은 record가 직접 옮김)
+                delta = counters.drain(contentId);
+            }
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        deltas.sort(Comparator.comparing(CounterSnapshot::contentId));
+        return deltas;
+    }
+
+    /**
+     * 증감분 UPDATE 실행 후 순번을 붙여 반영 이벤트 발행 (통계 조회 중에는 대기)
+     */
+    private void commit(Runnable update, List<CounterSnapshot> deltas) {
+        commitLock.readLock().lock();
+        try {
+            update.run();
+            long sequence = flushSequence.incrementAndGet();
+            eventPublisher.publishEvent(new ContentCountersFlushedEvent(sequence, List.copyOf(deltas)));
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    private void restore(CounterSnapshot delta) {
+        record(delta.contentId(), delta.views(), delta.likes(), delta.bookmarks());
+    }
+
+    private void executeBatch(List<CounterSnapshot> batch) {
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, batch, batch.size(), (ps, delta) -> {
+            ps.setLong(1, delta.views());
+            ps.setLong(2, delta.likes());
+            ps.setLong(3, delta.bookmarks());
+            ps.setLong(4, delta.contentId());
+        });
+    }
+
+    /**
+     * 콘텐츠별 누적 증감분
+     */
+    private static class PendingCounters {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder bookmarks = new LongAdder();
+
+        void add(long viewDelta, long likeDelta, long bookmarkDelta) {
+            if (viewDelta != 0) {
+                views.add(viewDelta);
+            }
+            if (likeDelta != 0) {
+                likes.add(likeDelta);
+            }
+            if (bookmarkDelta != 0) {
+                bookmarks.add(bookmarkDelta);
+            }
+        }
+
+        /**
+         * 누적값을 꺼내고 0으로 초기화 (증감이 없으면 null)
+         */
+        CounterSnapshot drain(Long contentId) {
+            long viewDelta = views.sumThenReset();
+            long likeDelta = likes.sumThenReset();
+            long bookmarkDelta = bookmarks.sumThenReset();
+            if (viewDelta == 0 && likeDelta == 0 && bookmarkDelta == 0) {
+                return null;
+            }
+            return new CounterSnapshot(contentId, viewDelta, likeDelta, bookmarkDelta);
+        }
+
+        boolean isEmpty() {
+            return views.sum() == 0 && likes.sum() == 0 && bookmarks.sum() == 0;
+        }
+    }
+
+    /**
+     * 콘텐츠 카운터 값 (증감분 또는 현재 값)
+     */
+    public record CounterSnapshot(Long contentId, long views, long likes, long bookmarks) {
+    }
+}
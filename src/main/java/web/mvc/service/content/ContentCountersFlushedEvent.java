@@ -0,0 +1,14 @@
+package web.mvc.service.content;
+
+import web.mvc.service.content.ContentCounterService.CounterSnapshot;
+
+import java.util.List;
+
+/**
+ * 콘텐츠 카운터 반영 완료 이벤트
+ * DB에 반영된 조회수/좋아요/북마크 증감분을 랭킹 등 파생 데이터에 전달하기 위해 발행
+ *
+ * @param sequence 반영 순번 (커밋 순서대로 증가, ContentCounterService.readBetweenFlushes 결과와 비교)
+ */
+public record ContentCountersFlushedEvent(long sequence, List<CounterSnapshot> deltas) {
+}
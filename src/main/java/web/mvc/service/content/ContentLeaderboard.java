@@ -0,0 +1,222 @@
+package web.mvc.service.content;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 학습 콘텐츠 랭킹 보드
+ * 랭킹 기준(조회수/평점/북마크)별 RankedSkipList를 유지하여
+ * 점수 변경은 O(log n), 임의 페이지 조회는 O(log n + 페이지 크기)에 처리한다.
+ */
+public class ContentLeaderboard {
+
+    private final Map<Long, RankingEntry> entries = new HashMap<>();
+    private final Map<Ranking, RankedSkipList> boards = new EnumMap<>(Ranking.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ContentLeaderboard() {
+        for (Ranking ranking : Ranking.values()) {
+            boards.put(ranking, new RankedSkipList());
+        }
+    }
+
+    /**
+     * 콘텐츠 통계 등록 또는 교체
+     */
+    public void put(long contentId, long viewCount, long bookmarkCount, double averageRating, int reviewCount) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(contentId);
+            RankingEntry entry = new RankingEntry(viewCount, bookmarkCount, averageRating, reviewCount);
+            entries.put(contentId, entry);
+            addToBoards(contentId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 평점 정보만 갱신 (조회수/북마크는 카운터 반영분을 유지)
+     *
+     * @return 등록되어 있지 않아 갱신하지 못한 경우 false
+     */
+    public boolean updateRating(long contentId, double averageRating, int reviewCount) {
+        lock.writeLock().lock();
+        try {
+            RankingEntry current = entries.get(contentId);
+            if (current == null) {
+                return false;
+            }
+            replace(contentId, current, new RankingEntry(
+                    current.viewCount(), current.bookmarkCount(), averageRating, reviewCount));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회수/북마크 증감분 반영 (등록된 콘텐츠만)
+     */
+    public void applyCounterDelta(long contentId, long viewDelta, long bookmarkDelta) {
+        if (viewDelta == 0 && bookmarkDelta == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            RankingEntry current = entries.get(contentId);
+            if (current == null) {
+                return;
+            }
+            replace(contentId, current, new RankingEntry(
+                    current.viewCount() + viewDelta,
+                    Math.max(0, current.bookmarkCount() + bookmarkDelta),
+                    current.averageRating(),
+                    current.reviewCount()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 콘텐츠 제거
+     */
+    public void remove(long contentId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(contentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            for (Ranking ranking : Ranking.values()) {
+                boards.put(ranking, new RankedSkipList());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 랭킹 구간 조회
+     */
+    public List<Long> range(Ranking ranking, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return boards.get(ranking).range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 콘텐츠 순위 조회 (0부터 시작, 없으면 -1)
+     */
+    public long rankOf(Ranking ranking, long contentId) {
+        lock.readLock().lock();
+        try {
+            RankingEntry entry = entries.get(contentId);
+            if (entry == null || !ranking.includes(entry)) {
+                return -1;
+            }
+            return boards.get(ranking).rankOf(contentId, ranking.score(entry));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 랭킹별 콘텐츠 수
+     */
+    public int size(Ranking ranking) {
+        lock.readLock().lock();
+        try {
+            return boards.get(ranking).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void replace(long contentId, RankingEntry current, RankingEntry updated) {
+        removeFromBoards(contentId, current);
+        entries.put(contentId, updated);
+        addToBoards(contentId, updated);
+    }
+
+    private void removeInternal(long contentId) {
+        RankingEntry existing = entries.remove(contentId);
+        if (existing != null) {
+            removeFromBoards(contentId, existing);
+        }
+    }
+
+    private void addToBoards(long contentId, RankingEntry entry) {
+        for (Ranking ranking : Ranking.values()) {
+            if (ranking.includes(entry)) {
+                boards.get(ranking).insert(contentId, ranking.score(entry));
+            }
+        }
+    }
+
+    private void removeFromBoards(long contentId, RankingEntry entry) {
+        for (Ranking ranking : Ranking.values()) {
+            if (ranking.includes(entry)) {
+                boards.get(ranking).remove(contentId, ranking.score(entry));
+            }
+        }
+    }
+
+    private record RankingEntry(long viewCount, long bookmarkCount, double averageRating, int reviewCount) {
+    }
+
+    /**
+     * 랭킹 기준 열거형
+     */
+    public enum Ranking {
+        POPULAR("인기순 (조회수)"),
+        TOP_RATED("평점순"),
+        RECOMMENDED("추천순 (북마크)");
+
+        private final String description;
+
+        Ranking(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 랭킹 포함 여부 (평점순은 리뷰가 있는 콘텐츠만)
+         */
+        boolean includes(RankingEntry entry) {
+            return this != TOP_RATED || entry.reviewCount() > 0;
+        }
+
+        double score(RankingEntry entry) {
+            switch (this) {
+                case POPULAR:
+                    return entry.viewCount();
+                case TOP_RATED:
+                    return entry.averageRating();
+                case RECOMMENDED:
+                    return entry.bookmarkCount();
+                default:
+                    throw new IllegalStateException("Unknown ranking: " + this);
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package web.mvc.service.content;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.ContentLeaderboardProperties;
+import web.mvc.domain.LearningContent;
+import web.mvc.domain.event.LearningContentChangedEvent;
+import web.mvc.repository.LearningContentRepository;
+import web.mvc.service.content.ContentCounterService.CounterSnapshot;
+import web.mvc.service.content.ContentLeaderboard.Ranking;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 콘텐츠 랭킹 보드 서비스
+ * 인기(조회수)/평점/추천(북마크) 순위를 메모리 랭킹 보드에 유지하여
+ * 목록 조회 시 ORDER BY + OFFSET 정렬 쿼리 대신 기본키 조회만 수행한다.
+ * 카운터 반영 이벤트와 콘텐츠 변경 이벤트로 증분 갱신하고,
+ * 다른 인스턴스의 변경분 등 누적 오차는 주기적인 전체 재구축으로 보정한다.
+ */
+@Slf4j
+@Service
+public class ContentLeaderboardService {
+
+    private final LearningContentRepository learningContentRepository;
+    private final ContentCounterService contentCounterService;
+    private final ContentLeaderboardProperties properties;
+
+    private volatile ContentLeaderboard leaderboard = new ContentLeaderboard();
+    private volatile boolean ready = false;
+
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock lock = new ReentrantLock();
+    /**
+     * 재구축 중 들어온 변경 (DB 통계를 읽은 뒤의 변경일 수 있으므로 교체 전에 새 보드에 다시 적용)
+     */
+    private List<PendingChange> pendingChanges;
+
+    public ContentLeaderboardService(LearningContentRepository learningContentRepository,
+            ContentCounterService contentCounterService, ContentLeaderboardProperties properties) {
+        this.learningContentRepository = learningContentRepository;
+        this.contentCounterService = contentCounterService;
+        this.properties = properties;
+    }
+
+    /**
+     * 애플리케이션 시작 시 랭킹 보드 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 전체 재구축
+     */
+    @Scheduled(initialDelayString = "${content.leaderboard.rebuild-interval-ms:600000}",
+            fixedDelayString = "${content.leaderboard.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB 통계로 새 랭킹 보드를 만든 뒤 교체
+     * 구축 중에도 기존 보드로 조회가 가능하며, 구축 중 들어온 변경은 교체 전에 새 보드에 다시 적용한다.
+     * 카운터 증감분은 누적값이 아니므로, 통계를 읽을 때까지 반영된 순번(high-water mark) 이하의 증감분은
+     * 통계에 이미 포함된 것으로 보고 다시 적용하지 않는다.
+     */
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            lock.lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            ContentLeaderboard rebuilt = new ContentLeaderboard();
+            boolean loaded = false;
+            long flushedThrough = 0L;
+            try {
+                flushedThrough = contentCounterService.readBetweenFlushes(() -> {
+                    for (Object[] row : learningContentRepository.findRankingStatistics()) {
+                        rebuilt.put(
+                                ((Number) row[0]).longValue(),
+                                toLong(row[1]),
+                                toLong(row[2]),
+                                row[3] != null ? ((BigDecimal) row[3]).doubleValue() : 0.0,
+                                (int) toLong(row[4]));
+                    }
+                });
+                loaded = true;
+            } finally {
+                lock.lock();
+                try {
+                    if (loaded) {
+                        for (PendingChange pending : pendingChanges) {
+                            if (pending.flushSequence() > flushedThrough) {
+                                pending.change().accept(rebuilt);
+                            }
+                        }
+                        leaderboard = rebuilt;
+                        ready = true;
+                    }
+                    pendingChanges = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+            log.info("Content leaderboard rebuilt: {} contents in {}ms",
+                    rebuilt.size(Ranking.POPULAR), System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 카운터 반영분을 조회수/북마크 순위에 적용
+     */
+    @EventListener
+    public void onCountersFlushed(ContentCountersFlushedEvent event) {
+        List<CounterSnapshot> deltas = event.deltas();
+        apply(event.sequence(), board -> {
+            for (CounterSnapshot delta : deltas) {
+                board.applyCounterDelta(delta.contentId(), delta.views(), delta.bookmarks());
+            }
+        });
+    }
+
+    /**
+     * 콘텐츠 변경 사항을 커밋 이후 반영
+     * 공개 콘텐츠가 아니게 되면 제거하고, 새로 공개된 콘텐츠는 등록한다.
+     * 이미 등록된 콘텐츠는 평점만 갱신한다. (조회수/북마크는 카운터 반영 이벤트가 담당)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(LearningContentChangedEvent event) {
+        Long contentId = event.getContentId();
+        if (contentId == null) {
+            return;
+        }
+        if (event.isDeleted() || !event.isPubliclyAvailable()) {
+            apply(board -> board.remove(contentId));
+            return;
+        }
+
+        double averageRating = event.getAverageRating() != null ? event.getAverageRating().doubleValue() : 0.0;
+        int reviewCount = event.getReviewCount() != null ? event.getReviewCount() : 0;
+        long views = event.getViewCount() != null ? event.getViewCount() : 0;
+        long bookmarks = event.getBookmarkCount() != null ? event.getBookmarkCount() : 0;
+        apply(board -> {
+            if (!board.updateRating(contentId, averageRating, reviewCount)) {
+                board.put(contentId, views, bookmarks, averageRating, reviewCount);
+            }
+        });
+    }
+
+    /**
+     * 랭킹 보드 사용 가능 여부
+     */
+    public boolean isReady() {
+        return properties.isEnabled() && ready;
+    }
+
+    /**
+     * 랭킹 구간의 콘텐츠 ID 조회
+     */
+    public List<Long> findRankedContentIds(Ranking ranking, long offset, int limit) {
+        return leaderboard.range(ranking, offset, limit);
+    }
+
+    /**
+     * 콘텐츠 순위 조회 (0부터 시작, 랭킹에 없으면 -1)
+     */
+    public long getRank(Ranking ranking, Long contentId) {
+        return leaderboard.rankOf(ranking, contentId);
+    }
+
+    /**
+     * 랭킹 페이지 조회 (기본키 조회로 엔티티 로딩)
+     */
+    public Page<LearningContent> findRankedContents(Ranking ranking, Pageable pageable) {
+        ContentLeaderboard current = leaderboard;
+        List<Long> contentIds = current.range(ranking, pageable.getOffset(), pageable.getPageSize());
+        long total = current.size(ranking);
+        if (contentIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, LearningContent> contentsById = learningContentRepository.findAllById(contentIds)
+                .stream()
+                .collect(Collectors.toMap(LearningContent::getContentId, Function.identity()));
+        List<LearningContent> ordered = contentIds.stream()
+                .map(contentsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(ordered, pageable, total);
+    }
+
+    /**
+     * 현재 보드에 변경 적용 (재구축 중이면 새 보드에 다시 적용하도록 보관)
+     * 콘텐츠 변경은 값을 덮어쓰므로 재구축 후 항상 다시 적용한다.
+     */
+    private void apply(Consumer<ContentLeaderboard> change) {
+        apply(Long.MAX_VALUE, change);
+    }
+
+    /**
+     * @param flushSequence 카운터 반영 순번 (재구축 통계에 포함된 순번이면 다시 적용하지 않음)
+     */
+    private void apply(long flushSequence, Consumer<ContentLeaderboard> change) {
+        lock.lock();
+        try {
+            if (ready) {
+                change.accept(leaderboard);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(new PendingChange(flushSequence, change));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * 재구축 중 보관한 변경과 카운터 반영 순번
+     */
+    private record PendingChange(long flushSequence, Consumer<ContentLeaderboard> change) {
+    }
+}
@@ -0,0 +1,182 @@
+package web.mvc.service.content;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 스킵 리스트 (indexable skip list)
+ * 각 링크에 건너뛰는 노드 수(span)를 함께 저장하여
+ * 삽입/삭제/N번째 원소 조회를 모두 O(log n)에 처리한다.
+ * 정렬 순서: 점수 내림차순, 동점이면 ID 내림차순(최신 콘텐츠 우선)
+ * 동기화되지 않으므로 호출 측에서 잠금을 관리해야 한다.
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(Long.MAX_VALUE, Double.POSITIVE_INFINITY, MAX_LEVEL);
+    private int level = 1;
+    private int size = 0;
+
+    /**
+     * 원소 삽입 (같은 ID가 이미 있으면 호출 전에 remove 필요)
+     */
+    public void insert(long id, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.forward[i] != null && precedes(x.forward[i], id, score)) {
+                rank[i] += x.span[i];
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(id, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.forward[i] = update[i].forward[i];
+            update[i].forward[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * 원소 삭제
+     *
+     * @return 삭제 여부
+     */
+    public boolean remove(long id, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && precedes(x.forward[i], id, score)) {
+                x = x.forward[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.forward[0];
+        if (target == null || target.id != id || Double.compare(target.score, score) != 0) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].forward[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].forward[i] = target.forward[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.forward[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * 순위 구간 조회 (0부터 시작하는 offset부터 최대 limit개의 ID)
+     */
+    public List<Long> range(long offset, int limit) {
+        List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, size)));
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return ids;
+        }
+
+        // span을 따라 offset번째 노드까지 O(log n) 이동
+        long target = offset + 1;
+        long traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.forward[i];
+            }
+        }
+
+        while (x != null && ids.size() < limit) {
+            ids.add(x.id);
+            x = x.forward[0];
+        }
+        return ids;
+    }
+
+    /**
+     * 원소의 순위 조회 (0부터 시작, 없으면 -1)
+     */
+    public long rankOf(long id, double score) {
+        long rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.forward[i] != null
+                    && (precedes(x.forward[i], id, score) || x.forward[i].id == id)) {
+                rank += x.span[i];
+                x = x.forward[i];
+                if (x.id == id) {
+                    return rank - 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 원소 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 노드 x가 (id, score)보다 앞 순위인지 확인
+     */
+    private boolean precedes(Node x, long id, double score) {
+        int compare = Double.compare(x.score, score);
+        return compare > 0 || (compare == 0 && x.id > id);
+    }
+
+    private int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final double score;
+        private final Node[] forward;
+        private final int[] span;
+
+        private Node(long id, double score, int level) {
+            this.id = id;
+            this.score = score;
+            this.forward = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package web.mvc.service.mentor;
+
+import web.mvc.domain.support.SearchQueryNormalizer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 멘토 매칭 색인
+ * 활동 중인(승인 + 이용 가능) 멘토를 위치 번호로 관리하며,
+ * - 전문 분야별 비트맵(포스팅 리스트)
+ * - 경력/시간당 요금/평점별 정렬 배열
+ * 을 유지한다. 복합 조건은 비트맵 교집합으로 좁히고, 범위 조건은 정렬 배열 구간이 후보보다 작으면
+ * 구간 비트맵과의 교집합으로, 크면 후보별 값 비교로 처리한다. 정렬은 기준 배열을 순서대로 훑으며
+ * 후보에 포함된 멘토만 골라 요청한 구간까지만 만든다.
+ */
+public class MentorMatchIndex {
+
+    private static final long UNKNOWN_RATE = Long.MAX_VALUE;
+    private static final long REVIEW_SCALE = 1_000_000L;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private long[] mentorIds = new long[16];
+    private long[] years = new long[16];
+    private long[] rates = new long[16];
+    private long[] ratings = new long[16];
+    private String[] companies = new String[16];
+    private List<String>[] areas = newAreaArray(16);
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final SortedSlotIndex byYears = new SortedSlotIndex();
+    private final SortedSlotIndex byRate = new SortedSlotIndex();
+    private final SortedSlotIndex byRating = new SortedSlotIndex();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 멘토 등록 또는 교체 (활동 중이 아니면 제거)
+     */
+    public void put(Mentor mentor) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(mentor.mentorId());
+            if (!mentor.active()) {
+                return;
+            }
+            int slot = live.nextClearBit(0);
+            ensureCapacity(slot + 1);
+            live.set(slot);
+            slotsById.put(mentor.mentorId(), slot);
+
+            mentorIds[slot] = mentor.mentorId();
+            years[slot] = mentor.yearsOfExperience() != null ? mentor.yearsOfExperience() : -1;
+            rates[slot] = mentor.hourlyRate() != null ? toCents(mentor.hourlyRate()) : UNKNOWN_RATE;
+            ratings[slot] = ratingKey(mentor.mentorRating(), mentor.totalReviews());
+            companies[slot] = mentor.company() != null ? mentor.company().toLowerCase(Locale.ROOT) : null;
+
+            List<String> normalized = new ArrayList<>();
+            if (mentor.expertiseAreas() != null) {
+                for (String area : mentor.expertiseAreas()) {
+                    String key = SearchQueryNormalizer.normalize(area);
+                    if (!key.isEmpty() && !normalized.contains(key)) {
+                        normalized.add(key);
+                        postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+                    }
+                }
+            }
+            areas[slot] = normalized;
+
+            byYears.insert(years[slot], slot);
+            byRate.insert(rates[slot], slot);
+            byRating.insert(ratings[slot], slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 멘토 제거
+     */
+    public void remove(long mentorId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(mentorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 멘토 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 복합 조건 검색
+     */
+    public MentorMatchResult search(MentorMatchQuery query) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+            if (query.expertiseAreas() != null) {
+                for (String area : query.expertiseAreas()) {
+                    BitSet posting = postings.get(SearchQueryNormalizer.normalize(area));
+                    if (posting == null) {
+                        return new MentorMatchResult(List.of(), 0);
+                    }
+                    candidates.and(posting);
+                }
+            }
+            // 경력(-1)/요금(UNKNOWN_RATE) 미등록 멘토는 범위 조건이 하나라도 있으면 제외 (MentorMatchQuery 참고)
+            if (query.minYears() != null || query.maxYears() != null) {
+                filterRange(candidates, byYears, years,
+                        query.minYears() != null ? Math.max(0, query.minYears()) : 0,
+                        query.maxYears() != null ? query.maxYears() : Integer.MAX_VALUE);
+            }
+            if (query.minRate() != null || query.maxRate() != null) {
+                filterRange(candidates, byRate, rates,
+                        query.minRate() != null ? Math.max(0, toCents(query.minRate())) : 0,
+                        query.maxRate() != null ? toCents(query.maxRate()) : UNKNOWN_RATE - 1);
+            }
+            if (query.minRating() != null) {
+                filterRange(candidates, byRating, ratings, ratingKey(query.minRating(), 0), Long.MAX_VALUE);
+            }
+            if (query.company() != null && !query.company().isBlank()) {
+                String company = query.company().toLowerCase(Locale.ROOT);
+                for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                    if (companies[slot] == null || !companies[slot].contains(company)) {
+                        candidates.clear(slot);
+                    }
+                }
+            }
+            return new MentorMatchResult(rank(candidates, query), candidates.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 범위 조건 적용
+     * 범위에 드는 멘토 수는 이분 탐색으로 바로 알 수 있으므로 후보 수와 비교해 더 작은 쪽을 순회한다.
+     */
+    private void filterRange(BitSet candidates, SortedSlotIndex index, long[] values, long min, long max) {
+        if (min > max) {
+            candidates.clear();
+            return;
+        }
+        int from = index.lowerBound(min);
+        int to = index.upperBound(max);
+        if (to - from < candidates.cardinality()) {
+            candidates.and(index.toBitSet(from, to, live.length()));
+            return;
+        }
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (values[slot] < min || values[slot] > max) {
+                candidates.clear(slot);
+            }
+        }
+    }
+
+    /**
+     * 정렬 기준 배열을 순서대로 훑으며 후보만 골라 offset부터 limit개
+     */
+    private List<Long> rank(BitSet candidates, MentorMatchQuery query) {
+        int limit = Math.max(0, query.limit());
+        int skip = Math.max(0, query.offset());
+        List<Long> result = new ArrayList<>(Math.min(limit, candidates.cardinality()));
+        if (limit == 0 || candidates.isEmpty()) {
+            return result;
+        }
+        MentorSort sort = query.sort() != null ? query.sort() : MentorSort.RATING;
+        SortedSlotIndex index = switch (sort) {
+            case RATING -> byRating;
+            case EXPERIENCE -> byYears;
+            case PRICE_LOW, PRICE_HIGH -> byRate;
+        };
+        boolean descending = sort != MentorSort.PRICE_LOW;
+        // 요금 미등록 멘토는 어느 방향이든 마지막
+        int end = index == byRate ? index.upperBound(UNKNOWN_RATE - 1) : index.size();
+        for (int i = 0; i < index.size() && result.size() < limit; i++) {
+            int position = i < end ? (descending ? end - 1 - i : i) : i;
+            int slot = index.slotAt(position);
+            if (candidates.get(slot)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(mentorIds[slot]);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void removeInternal(long mentorId) {
+        Integer slot = slotsById.remove(mentorId);
+        if (slot == null) {
+            return;
+        }
+        for (String area : areas[slot]) {
+            BitSet posting = postings.get(area);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(area);
+            }
+        }
+        byYears.remove(years[slot], slot);
+        byRate.remove(rates[slot], slot);
+        byRating.remove(ratings[slot], slot);
+        areas[slot] = null;
+        companies[slot] = null;
+        live.clear(slot);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= mentorIds.length) {
+            return;
+        }
+        int length = Math.max(capacity, mentorIds.length * 2);
+        mentorIds = Arrays.copyOf(mentorIds, length);
+        years = Arrays.copyOf(years, length);
+        rates = Arrays.copyOf(rates, length);
+        ratings = Arrays.copyOf(ratings, length);
+        companies = Arrays.copyOf(companies, length);
+        areas = Arrays.copyOf(areas, length);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    /**
+     * 평점(소수 둘째 자리) 우선, 같으면 리뷰 수 순
+     */
+    private static long ratingKey(BigDecimal rating, Integer reviews) {
+        long hundredths = rating != null ? toCents(rating) : 0;
+        long reviewCount = reviews != null ? Math.min(Math.max(0, reviews), REVIEW_SCALE - 1) : 0;
+        return hundredths * REVIEW_SCALE + reviewCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newAreaArray(int length) {
+        return (List<String>[]) new List<?>[length];
+    }
+
+    /**
+     * 색인용 멘토 정보
+     *
+     * @param active 승인되었고 이용 가능한지 (false면 색인에서 제거)
+     */
+    public record Mentor(long mentorId, boolean active, List<String> expertiseAreas, Integer yearsOfExperience,
+            BigDecimal hourlyRate, BigDecimal mentorRating, Integer totalReviews, String company) {
+    }
+}
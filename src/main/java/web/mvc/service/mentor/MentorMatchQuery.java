@@ -0,0 +1,23 @@
+package web.mvc.service.mentor;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 멘토 검색 조건 (null인 조건은 적용하지 않음)
+ * 경력/요금 범위 조건은 최소값과 최대값 중 하나만 주어져도 해당 값이 등록되지 않은 멘토를 제외한다.
+ * (대체한 MentorProfileRepository 쿼리에서 NULL 비교가 거짓이 되던 것과 같음)
+ *
+ * @param expertiseAreas 모두 포함해야 하는 전문 분야
+ * @param minYears       최소 경력 (연)
+ * @param maxYears       최대 경력 (연, 경력 미등록 멘토는 제외)
+ * @param company        회사명 (부분 일치, 대소문자 무시)
+ * @param sort           정렬 기준 (기본 평점 순)
+ */
+@Builder(toBuilder = true)
+public record MentorMatchQuery(List<String> expertiseAreas, Integer minYears, Integer maxYears,
+        BigDecimal minRate, BigDecimal maxRate, BigDecimal minRating, String company,
+        MentorSort sort, int offset, int limit) {
+}
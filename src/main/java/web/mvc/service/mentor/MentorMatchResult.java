@@ -0,0 +1,12 @@
+package web.mvc.service.mentor;
+
+import java.util.List;
+
+/**
+ * 멘토 검색 결과
+ *
+ * @param mentorIds  정렬된 멘토 ID (요청한 구간만)
+ * @param totalCount 조건에 맞는 전체 멘토 수
+ */
+public record MentorMatchResult(List<Long> mentorIds, int totalCount) {
+}
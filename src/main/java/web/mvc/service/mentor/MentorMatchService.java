@@ -0,0 +1,180 @@
+package web.mvc.service.mentor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.MentorMatchProperties;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.event.MentorProfileChangedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 멘토 매칭 서비스
+ * 활동 중인 멘토를 메모리 색인(전문 분야 비트맵 + 경력/요금/평점 정렬 배열)으로 유지하여
+ * 전문 분야/경력/요금/평점/회사 복합 조건 검색과 정렬을 DB 조회 없이 처리한다.
+ * JSON_CONTAINS, LIKE 등으로 멘토 테이블을 스캔하던 MentorProfileRepository 검색 쿼리를 대체한다.
+ *
+ * 승인/거부, 멘토링 완료, 이용 가능 여부 변경은 커밋 후 이벤트로 반영하고,
+ * 이벤트 없이 바뀐 데이터는 주기적 재구성으로 맞춘다. 결과는 멘토 ID 목록이며 상세는 ID로 조회한다.
+ */
+@Slf4j
+@Service
+public class MentorMatchService {
+
+    private static final String ACTIVE_MENTORS_SQL = "SELECT mentor_id, expertise_areas, years_of_experience, " +
+            "hourly_rate, mentor_rating, total_reviews, company FROM mentor_profiles " +
+            "WHERE approval_status = 'APPROVED' AND is_available = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MentorMatchProperties properties;
+
+    private volatile MentorMatchIndex index = new MentorMatchIndex();
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock lock = new ReentrantLock();
+    /**
+     * 재구성 중 들어온 변경 (재구성이 읽은 스냅샷보다 최신일 수 있으므로 교체 전에 새 색인에 다시 적용)
+     */
+    private Map<Long, MentorMatchIndex.Mentor> pendingChanges;
+
+    public MentorMatchService(JdbcTemplate jdbcTemplate, MentorMatchProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        Gauge.builder("mentor.match.indexed", this, MentorMatchService::getIndexedMentorCount)
+                .description("매칭 색인에 등록된 활동 멘토 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 주기적 색인 재구축
+     */
+    @Scheduled(initialDelayString = "${mentor.match.rebuild-interval-ms:600000}",
+            fixedDelayString = "${mentor.match.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 활동 멘토로 새 색인을 만든 뒤 교체
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            lock.lock();
+            try {
+                pendingChanges = new HashMap<>();
+            } finally {
+                lock.unlock();
+            }
+            MentorMatchIndex rebuilt = new MentorMatchIndex();
+            boolean loaded = false;
+            try {
+                jdbcTemplate.query(ACTIVE_MENTORS_SQL, rs -> {
+                    rebuilt.put(new MentorMatchIndex.Mentor(
+                            rs.getLong("mentor_id"),
+                            true,
+                            JsonCodec.STRING_LIST.read(rs.getString("expertise_areas")),
+                            rs.getObject("years_of_experience", Integer.class),
+                            rs.getBigDecimal("hourly_rate"),
+                            rs.getBigDecimal("mentor_rating"),
+                            rs.getObject("total_reviews", Integer.class),
+                            rs.getString("company")));
+                });
+                loaded = true;
+            } finally {
+                lock.lock();
+                try {
+                    if (loaded) {
+                        pendingChanges.forEach((mentorId, mentor) -> apply(rebuilt, mentorId, mentor));
+                        index = rebuilt;
+                    }
+                    pendingChanges = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+            log.info("Mentor match index rebuilt: {} mentors in {}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 멘토 프로필 변경 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMentorChanged(MentorProfileChangedEvent event) {
+        Long mentorId = event.getMentorId();
+        if (mentorId == null) {
+            return;
+        }
+        MentorMatchIndex.Mentor mentor = event.isDeleted() ? null : new MentorMatchIndex.Mentor(
+                mentorId,
+                event.isActiveAndAvailable(),
+                event.getExpertiseAreas(),
+                event.getYearsOfExperience(),
+                event.getHourlyRate(),
+                event.getMentorRating(),
+                event.getTotalReviews(),
+                event.getCompany());
+        lock.lock();
+        try {
+            apply(index, mentorId, mentor);
+            if (pendingChanges != null) {
+                pendingChanges.put(mentorId, mentor);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 복합 조건 멘토 검색 (정렬된 멘토 ID + 전체 건수)
+     */
+    public MentorMatchResult search(MentorMatchQuery query) {
+        int limit = Math.min(Math.max(0, query.limit()), properties.getMaxLimit());
+        if (limit != query.limit()) {
+            query = query.toBuilder().limit(limit).build();
+        }
+        return index.search(query);
+    }
+
+    /**
+     * 색인된 활동 멘토 수
+     */
+    public int getIndexedMentorCount() {
+        return index.size();
+    }
+
+    /**
+     * @param mentor null이면 삭제
+     */
+    private static void apply(MentorMatchIndex target, Long mentorId, MentorMatchIndex.Mentor mentor) {
+        if (mentor == null) {
+            target.remove(mentorId);
+        } else {
+            target.put(mentor);
+        }
+    }
+}
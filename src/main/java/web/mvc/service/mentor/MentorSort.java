@@ -0,0 +1,23 @@
+package web.mvc.service.mentor;
+
+/**
+ * 멘토 검색 정렬 기준
+ */
+public enum MentorSort {
+    /**
+     * 평점 높은 순 (같으면 리뷰 많은 순)
+     */
+    RATING,
+    /**
+     * 경력 많은 순
+     */
+    EXPERIENCE,
+    /**
+     * 시간당 요금 낮은 순
+     */
+    PRICE_LOW,
+    /**
+     * 시간당 요금 높은 순
+     */
+    PRICE_HIGH
+}
@@ -0,0 +1,113 @@
+package web.mvc.service.mentor;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 값 기준 정렬 배열 (값, 멘토 위치) 쌍을 (값, 위치) 오름차순으로 유지
+ * 범위 조회는 이분 탐색 두 번으로 구간을 찾고, 정렬 순회로 값 순서 랭킹을 만든다.
+ * 추가/삭제는 배열 이동(O(n))이지만 멘토 정보 변경은 조회에 비해 드물다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ */
+final class SortedSlotIndex {
+
+    private long[] values = new long[16];
+    private int[] slots = new int[16];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int slotAt(int position) {
+        return slots[position];
+    }
+
+    void insert(long value, int slot) {
+        int position = -search(value, slot) - 1;
+        if (position < 0) {
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(slots, position, slots, position + 1, size - position);
+        values[position] = value;
+        slots[position] = slot;
+        size++;
+    }
+
+    void remove(long value, int slot) {
+        int position = search(value, slot);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * 값이 min 이상인 첫 위치
+     */
+    int lowerBound(long min) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 값이 max 이하인 마지막 위치 다음
+     */
+    int upperBound(long max) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= max) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * [from, to) 위치의 멘토를 비트맵으로
+     */
+    BitSet toBitSet(int from, int to, int capacity) {
+        BitSet bits = new BitSet(capacity);
+        for (int i = from; i < to; i++) {
+            bits.set(slots[i]);
+        }
+        return bits;
+    }
+
+    private int search(long value, int slot) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = values[mid] != value ? Long.compare(values[mid], value) : Integer.compare(slots[mid], slot);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,129 @@
+package web.mvc.service.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import web.mvc.config.VirtualThreadPinningProperties;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 고정(pinning) 감지기
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 synchronized 블록 안에서 블로킹 I/O(JPA/Hikari/JDBC 등)가
+ * 일어나 캐리어 스레드가 고정된 위치를 집계한다.
+ * 위치별 첫 발생은 스택과 함께 경고 로그로 남기고, 이후에는 jvm.threads.virtual.pinned 지표로만 집계한다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "web.mvc.";
+
+    private final VirtualThreadPinningProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LongAdder> pinnedCountsBySite = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 시작 후 JFR 이벤트 구독 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            log.warn("Virtual thread pinning monitor requires JDK 21+, current: {}", Runtime.version());
+            return;
+        }
+
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            recordingStream = stream;
+            log.info("Virtual thread pinning monitor started (threshold {})", properties.getThreshold());
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread pinning monitor could not start", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * 고정 위치별 발생 횟수 (위치: 스택에서 처음 나타나는 애플리케이션 프레임)
+     */
+    public Map<String, Long> getPinningReport() {
+        Map<String, Long> report = new TreeMap<>();
+        pinnedCountsBySite.forEach((site, count) -> report.put(site, count.sum()));
+        return report;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = pinnedSite(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        LongAdder count = pinnedCountsBySite.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread pinned for {}ms at {}\n{}",
+                    event.getDuration().toMillis(), site, formatFrames(frames));
+        }
+    }
+
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return frameName(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frameName(frames.get(0));
+    }
+
+    private String formatFrames(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int depth = Math.min(frames.size(), Math.max(1, properties.getStackDepth()));
+        for (int i = 0; i < depth; i++) {
+            builder.append("\tat ").append(frameName(frames.get(i)))
+                    .append(':').append(frames.get(i).getLineNumber()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
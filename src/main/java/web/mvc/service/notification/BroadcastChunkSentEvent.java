@@ -0,0 +1,21 @@
+package web.mvc.service.notification;
+
+import web.mvc.domain.Notification.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 일괄 발송 청크 저장 완료 이벤트
+ * 엔티티 콜백을 거치지 않는 일괄 발송 알림을 실시간 전송 등에 전달하기 위해 청크 커밋 후 발행
+ * notificationIds: 이번 청크에서 알림을 받은 사용자 ID → 사용자별 알림 ID
+ */
+public record BroadcastChunkSentEvent(
+        Long broadcastId,
+        Map<Long, Long> notificationIds,
+        NotificationType type,
+        String title,
+        String message,
+        String actionUrl,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,145 @@
+package web.mvc.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.NotificationBulkProperties;
+import web.mvc.domain.Notification.NotificationType;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 알림 일괄 처리 서비스
+ * 전체 읽음/삭제를 엔티티 로딩 없이 청크 단위 UPDATE/DELETE로 처리한다.
+ * (findUnreadNotificationsForUpdate / findAllByUser로 수천 건을 불러와 변경 감지하던 방식 대체)
+ * 청크마다 별도 트랜잭션으로 커밋하며, 읽지 않은 알림 수 캐시는 청크 트랜잭션이 커밋될 때 갱신한다.
+ *
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 불러온 Notification 엔티티에는 반영되지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationBulkService {
+
+    private static final String MARK_ALL_READ_SQL =
+            "UPDATE notifications SET is_read = true, read_at = ? " +
+            "WHERE user_id = ? AND is_read = false LIMIT ?";
+
+    private static final String MARK_TYPE_READ_SQL =
+            "UPDATE notifications SET is_read = true, read_at = ? " +
+            "WHERE user_id = ? AND is_read = false AND type = ? LIMIT ?";
+
+    private static final String DELETE_ALL_SQL =
+            "DELETE FROM notifications WHERE user_id = ? LIMIT ?";
+
+    private static final String DELETE_READ_SQL =
+            "DELETE FROM notifications WHERE user_id = ? AND is_read = true LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationBulkProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationBulkService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            UnreadNotificationCounter unreadCounter, NotificationBulkProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 청크마다 바로 커밋되도록 호출자 트랜잭션과 분리 (REQUIRES_NEW)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.unreadCounter = unreadCounter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 사용자의 읽지 않은 알림 전체 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    public int markAllAsRead(Long userId) {
+        Timestamp readAt = Timestamp.valueOf(LocalDateTime.now());
+        int chunkSize = chunkSize();
+        // 어떤 타입이 몇 건 바뀌었는지 알 수 없으므로 청크 커밋마다 캐시를 비운다
+        return runChunks("mark_read", () -> {
+            unreadCounter.invalidateOnCommit(userId);
+            return jdbcTemplate.update(MARK_ALL_READ_SQL, readAt, userId, chunkSize);
+        });
+    }
+
+    /**
+     * 사용자의 특정 타입 읽지 않은 알림 전체 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    public int markAllAsRead(Long userId, NotificationType type) {
+        Timestamp readAt = Timestamp.valueOf(LocalDateTime.now());
+        int chunkSize = chunkSize();
+        return runChunks("mark_read", () -> {
+            int updated = jdbcTemplate.update(MARK_TYPE_READ_SQL, readAt, userId, type.name(), chunkSize);
+            // 청크 트랜잭션이 커밋될 때 반영됨
+            unreadCounter.adjust(userId, type, -updated);
+            return updated;
+        });
+    }
+
+    /**
+     * 사용자의 알림 전체 삭제
+     *
+     * @return 삭제된 알림 수
+     */
+    public int deleteAllByUser(Long userId) {
+        int chunkSize = chunkSize();
+        return runChunks("delete", () -> {
+            unreadCounter.invalidateOnCommit(userId);
+            return jdbcTemplate.update(DELETE_ALL_SQL, userId, chunkSize);
+        });
+    }
+
+    /**
+     * 사용자의 읽은 알림 전체 삭제 (읽지 않은 알림 수는 변하지 않음)
+     *
+     * @return 삭제된 알림 수
+     */
+    public int deleteReadByUser(Long userId) {
+        int chunkSize = chunkSize();
+        return runChunks("delete", () -> jdbcTemplate.update(DELETE_READ_SQL, userId, chunkSize));
+    }
+
+    /**
+     * 처리된 행이 청크 크기보다 적을 때까지 청크 단위로 반복
+     *
+     * @param chunk 청크 하나를 처리하고 영향받은 행 수를 반환 (청크별 트랜잭션 안에서 실행)
+     */
+    private int runChunks(String operation, IntSupplier chunk) {
+        int chunkSize = chunkSize();
+        int total = 0;
+        int chunks = 0;
+        int affected;
+        do {
+            Integer result = transactionTemplate.execute(status -> chunk.getAsInt());
+            affected = result != null ? result : 0;
+            total += affected;
+            chunks++;
+        } while (affected >= chunkSize);
+
+        Counter.builder("notification.bulk.rows")
+                .description("일괄 처리된 알림 수")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment(total);
+        log.debug("Notification bulk {}: {} rows in {} chunks", operation, total, chunks);
+        return total;
+    }
+
+    private int chunkSize() {
+        return Math.max(1, properties.getChunkSize());
+    }
+}
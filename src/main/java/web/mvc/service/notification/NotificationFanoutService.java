@@ -0,0 +1,688 @@
+package web.mvc.service.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.NotificationFanoutProperties;
+import web.mvc.domain.Notification.NotificationType;
+import web.mvc.domain.NotificationBroadcast;
+import web.mvc.domain.NotificationBroadcast.BroadcastSegment;
+import web.mvc.domain.NotificationBroadcast.BroadcastStatus;
+import web.mvc.exception.BusinessException;
+import web.mvc.repository.NotificationBroadcastRepository;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 일괄 발송(팬아웃) 서비스
+ * 대상 사용자 ID를 키셋 방식으로 청크 단위 조회하고, 청크마다 다중 행 INSERT로 알림을 저장한다.
+ * (사용자 엔티티 전체 조회 + 알림 엔티티 N건 개별 저장을 대체)
+ *
+ * 작업마다 코디네이터 스레드 하나가 대상을 조회해 청크를 나눠 주고, 청크 발송은 작업 스레드 수만큼 병렬로 실행한다.
+ * 청크는 순서와 무관하게 끝나므로, 앞에서부터 연속으로 완료된 지점까지만 체크포인트(last_user_id)로 기록한다.
+ * 중단된 작업은 체크포인트 다음 사용자부터 다시 발송하며, 이미 저장된 알림은 청크마다 기발송 사용자를 조회해 걸러낸다.
+ * 여러 인스턴스에서는 점유(lease) 만료 시각으로 한 인스턴스만 실행하고, 청크 트랜잭션마다 점유를 공유 잠금으로
+ * 확인하여 점유를 잃은(또는 취소된) 실행이 더 저장하지 못하게 한다. (notifications 파티션 전환 후에는
+ * (broadcast_id, user_id) 유니크 키를 둘 수 없어 DB 수준 중복 방지가 되지 않음)
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    private static final String ACTIVE_USERS_SQL =
+            "SELECT user_id FROM users WHERE is_active = true AND user_id > ? ORDER BY user_id LIMIT ?";
+
+    private static final String LANGUAGE_USERS_SQL =
+            "SELECT p.user_id FROM user_profiles p JOIN users u ON u.user_id = p.user_id " +
+            "WHERE u.is_active = true AND p.user_id > ? " +
+            "AND JSON_CONTAINS(p.programming_languages, JSON_QUOTE(?)) " +
+            "ORDER BY p.user_id LIMIT ?";
+
+    private static final String INTEREST_USERS_SQL =
+            "SELECT p.user_id FROM user_profiles p JOIN users u ON u.user_id = p.user_id " +
+            "WHERE u.is_active = true AND p.user_id > ? " +
+            "AND JSON_CONTAINS(p.interest_fields, JSON_QUOTE(?)) " +
+            "ORDER BY p.user_id LIMIT ?";
+
+    private static final String SENT_USERS_SQL =
+            "SELECT user_id FROM notifications WHERE broadcast_id = ? AND user_id BETWEEN ? AND ?";
+
+    /**
+     * 점유 확인 (공유 잠금)
+     * 다른 인스턴스의 점유(CLAIM_SQL)나 취소는 이 잠금이 풀릴 때까지, 즉 진행 중인 청크가 커밋될 때까지 기다린다.
+     * 따라서 새 실행의 기발송 사용자 조회에는 이전 실행의 청크가 모두 보이고, 점유를 잃은 뒤에는 저장하지 않는다.
+     */
+    private static final String LEASE_FENCE_SQL = "SELECT broadcast_id FROM notification_broadcasts " +
+            "WHERE broadcast_id = ? AND lease_owner = ? AND status = 'RUNNING' FOR SHARE";
+
+    private static final String NOTIFICATION_IDS_SQL = "SELECT user_id, notification_id FROM notifications " +
+            "WHERE broadcast_id = ? AND user_id BETWEEN ? AND ?";
+
+    private static final String INSERT_PREFIX = "INSERT INTO notifications " +
+            "(broadcast_id, user_id, type, title, message, action_url, is_read, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, false, ?)";
+    // 파티션 전환 전 스키마에서는 유니크 키 충돌(이미 받은 사용자)을 무시 (전환 후에는 LEASE_FENCE_SQL이 중복을 막음)
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE notification_id = notification_id";
+    private static final int COLUMNS = 7;
+
+    private static final String CLAIM_SQL =
+            "UPDATE notification_broadcasts SET status = 'RUNNING', lease_owner = ?, lease_until = ?, " +
+            "error_message = NULL WHERE broadcast_id = ? " +
+            "AND (status = 'PENDING' OR (status = 'RUNNING' AND (lease_until IS NULL OR lease_until < ?)))";
+
+    private static final String CHECKPOINT_SQL =
+            "UPDATE notification_broadcasts SET last_user_id = GREATEST(last_user_id, ?), " +
+            "sent_count = sent_count + ?, lease_until = ? " +
+            "WHERE broadcast_id = ? AND lease_owner = ? AND status = 'RUNNING'";
+
+    private static final String FINISH_SQL =
+            "UPDATE notification_broadcasts SET status = ?, error_message = ?, completed_at = ?, lease_until = NULL " +
+            "WHERE broadcast_id = ? AND lease_owner = ? AND status = 'RUNNING'";
+
+    private static final String RELEASE_SQL =
+            "UPDATE notification_broadcasts SET lease_until = NULL " +
+            "WHERE broadcast_id = ? AND lease_owner = ? AND status = 'RUNNING'";
+
+    private static final String CANCEL_SQL =
+            "UPDATE notification_broadcasts SET status = 'CANCELLED', completed_at = ? " +
+            "WHERE broadcast_id = ? AND status IN ('PENDING', 'RUNNING', 'FAILED')";
+
+    private static final String RETRY_SQL =
+            "UPDATE notification_broadcasts SET status = 'PENDING', error_message = NULL " +
+            "WHERE broadcast_id = ? AND status = 'FAILED'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationBroadcastRepository broadcastRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final NotificationFanoutProperties properties;
+    private final AsyncTaskExecutor notificationFanoutExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String instanceId;
+    private final Semaphore broadcastSlots;
+    private final Semaphore chunkPermits;
+    private final Map<Long, FanoutProgress> running = new ConcurrentHashMap<>();
+    private final Map<Integer, String> insertSqlCache = new ConcurrentHashMap<>();
+    private volatile boolean shuttingDown;
+
+    private final Counter sent;
+    private final Counter chunkRetried;
+    private final Counter chunkFailed;
+    private final Timer chunkTimer;
+
+    public NotificationFanoutService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            NotificationBroadcastRepository broadcastRepository, UnreadNotificationCounter unreadCounter,
+            NotificationFanoutProperties properties, AsyncTaskExecutor notificationFanoutExecutor,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 작업 스레드에서 청크마다 독립적으로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.broadcastRepository = broadcastRepository;
+        this.unreadCounter = unreadCounter;
+        this.properties = properties;
+        this.notificationFanoutExecutor = notificationFanoutExecutor;
+        this.eventPublisher = eventPublisher;
+        String processName = ManagementFactory.getRuntimeMXBean().getName();
+        this.instanceId = processName.substring(0, Math.min(processName.length(), 90)) + "/"
+                + UUID.randomUUID().toString().substring(0, 8);
+        this.broadcastSlots = new Semaphore(Math.max(1, properties.getMaxConcurrentBroadcasts()));
+        this.chunkPermits = new Semaphore(Math.max(1, properties.getWorkers()));
+
+        this.sent = Counter.builder("notification.fanout.sent")
+                .description("일괄 발송으로 저장된 알림 수")
+                .register(meterRegistry);
+        this.chunkRetried = Counter.builder("notification.fanout.chunks")
+                .description("일괄 발송 청크 처리 결과")
+                .tag("result", "retried")
+                .register(meterRegistry);
+        this.chunkFailed = Counter.builder("notification.fanout.chunks")
+                .description("일괄 발송 청크 처리 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("notification.fanout.chunk")
+                .description("청크 하나의 발송 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.fanout.running", running, Map::size)
+                .description("이 인스턴스에서 실행 중인 일괄 발송 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 발송 작업 등록
+     * 작업 행을 저장하고 (호출자 트랜잭션이 있으면 커밋 후) 바로 실행을 시도한다.
+     * 동시 실행 한도를 넘으면 대기 상태로 남았다가 주기적 확인 때 실행된다.
+     *
+     * @return 발송 작업 ID
+     */
+    public Long broadcast(BroadcastSegment segment, String segmentValue, NotificationType type,
+            String title, String message, String actionUrl) {
+        if (segment != BroadcastSegment.ALL_ACTIVE && (segmentValue == null || segmentValue.isBlank())) {
+            throw new BusinessException("발송 대상 조건 값이 필요합니다: " + segment.getDescription(),
+                    HttpStatus.BAD_REQUEST, "INVALID_BROADCAST_SEGMENT");
+        }
+        NotificationBroadcast broadcast = broadcastRepository.save(
+                NotificationBroadcast.create(segment, segmentValue, type, title, message, actionUrl));
+        Long broadcastId = broadcast.getBroadcastId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    start(broadcastId);
+                }
+            });
+        } else {
+            start(broadcastId);
+        }
+        return broadcastId;
+    }
+
+    /**
+     * 작업 취소 (실행 중이면 다음 체크포인트에서 멈춤, 이미 발송된 알림은 유지)
+     *
+     * @return 취소 여부
+     */
+    public boolean cancel(Long broadcastId) {
+        return jdbcTemplate.update(CANCEL_SQL, Timestamp.valueOf(LocalDateTime.now()), broadcastId) > 0;
+    }
+
+    /**
+     * 실패한 작업을 체크포인트부터 다시 실행
+     *
+     * @return 재실행 등록 여부
+     */
+    public boolean retry(Long broadcastId) {
+        if (jdbcTemplate.update(RETRY_SQL, broadcastId) == 0) {
+            return false;
+        }
+        start(broadcastId);
+        return true;
+    }
+
+    /**
+     * 시작 시 대기/중단된 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumePending();
+    }
+
+    /**
+     * 대기 중인 작업과 점유가 만료된 작업(다른 인스턴스 장애 등) 실행
+     */
+    @Scheduled(fixedDelayString = "${notification.fanout.resume-scan-interval-ms:60000}")
+    public void resumePending() {
+        if (shuttingDown) {
+            return;
+        }
+        try {
+            for (Long broadcastId : broadcastRepository.findClaimableIds(LocalDateTime.now())) {
+                if (!running.containsKey(broadcastId) && !start(broadcastId)) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Notification broadcast resume scan failed", e);
+        }
+    }
+
+    /**
+     * 종료 시 실행 중인 작업을 멈추고 점유를 풀어 재시작 후 바로 이어서 실행되도록 함
+     */
+    @PreDestroy
+    public void stopOnShutdown() {
+        shuttingDown = true;
+        running.values().forEach(FanoutProgress::stop);
+    }
+
+    /**
+     * 작업 실행 시작 (동시 실행 한도 초과 시 false)
+     */
+    private boolean start(Long broadcastId) {
+        if (shuttingDown || !broadcastSlots.tryAcquire()) {
+            return false;
+        }
+        try {
+            notificationFanoutExecutor.execute(() -> {
+                try {
+                    run(broadcastId);
+                } catch (RuntimeException e) {
+                    log.error("Notification broadcast {} aborted", broadcastId, e);
+                } finally {
+                    broadcastSlots.release();
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            broadcastSlots.release();
+            return false;
+        }
+    }
+
+    /**
+     * 코디네이터: 점유 → 대상 청크 조회/분배 → 완료 대기 → 종료 상태 기록
+     */
+    private void run(Long broadcastId) {
+        NotificationBroadcast job = broadcastRepository.findById(broadcastId).orElse(null);
+        if (job == null || job.isFinished() || running.containsKey(broadcastId)) {
+            return;
+        }
+        // 한 번이라도 점유된 작업이면 이전 실행이 남긴 알림이 있을 수 있으므로 청크마다 이미 발송된 사용자를 걸러낸다
+        // (첫 청크가 실패하고 뒤 청크만 커밋된 경우 체크포인트와 발송 수는 0으로 남음)
+        boolean resumed = job.getStatus() != BroadcastStatus.PENDING || job.getLeaseOwner() != null;
+
+        LocalDateTime now = LocalDateTime.now();
+        if (jdbcTemplate.update(CLAIM_SQL, instanceId, Timestamp.valueOf(now.plus(properties.getLease())),
+                broadcastId, Timestamp.valueOf(now)) == 0) {
+            return;
+        }
+        FanoutProgress progress = new FanoutProgress();
+        if (running.putIfAbsent(broadcastId, progress) != null) {
+            return;
+        }
+        log.info("Notification broadcast {} started: segment={}, value={}, from user {}{}",
+                broadcastId, job.getSegment(), job.getSegmentValue(), job.getLastUserId(),
+                resumed ? " (resumed)" : "");
+
+        try {
+            dispatch(job, resumed, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.stop();
+        } catch (DataAccessException e) {
+            progress.fail(e);
+        } finally {
+            // 이미 넘긴 청크는 끝까지 기다려야 체크포인트와 종료 상태가 어긋나지 않음
+            progress.awaitIdle();
+            running.remove(broadcastId);
+        }
+
+        finish(job, progress);
+    }
+
+    private void dispatch(NotificationBroadcast job, boolean resumed, FanoutProgress progress)
+            throws InterruptedException {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        long cursor = job.getLastUserId();
+        while (!progress.isStopped() && !shuttingDown) {
+            List<Long> userIds = fetchTargets(job, cursor, chunkSize);
+            if (userIds.isEmpty()) {
+                return;
+            }
+            cursor = userIds.get(userIds.size() - 1);
+
+            chunkPermits.acquire();
+            FanoutChunk chunk = progress.register(userIds);
+            try {
+                notificationFanoutExecutor.execute(() -> {
+                    try {
+                        sendChunk(job, chunk, resumed, progress);
+                    } finally {
+                        chunkPermits.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                chunkPermits.release();
+                progress.fail(chunk, e);
+                return;
+            }
+            if (userIds.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private List<Long> fetchTargets(NotificationBroadcast job, long afterUserId, int limit) {
+        return switch (job.getSegment()) {
+            case ALL_ACTIVE -> jdbcTemplate.queryForList(ACTIVE_USERS_SQL, Long.class, afterUserId, limit);
+            case PROGRAMMING_LANGUAGE -> jdbcTemplate.queryForList(LANGUAGE_USERS_SQL, Long.class,
+                    afterUserId, job.getSegmentValue(), limit);
+            case INTEREST_FIELD -> jdbcTemplate.queryForList(INTEREST_USERS_SQL, Long.class,
+                    afterUserId, job.getSegmentValue(), limit);
+        };
+    }
+
+    /**
+     * 청크 발송 (청크 하나 = 트랜잭션 하나, 실패 시 chunk-retries만큼 재시도)
+     */
+    private void sendChunk(NotificationBroadcast job, FanoutChunk chunk, boolean resumed,
+            FanoutProgress progress) {
+        int attempts = Math.max(0, properties.getChunkRetries()) + 1;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (progress.isStopped()) {
+                progress.abandon(chunk);
+                return;
+            }
+            try {
+                Timer.Sample sample = Timer.start();
+                LocalDateTime createdAt = LocalDateTime.now();
+                Map<Long, Long> inserted = transactionTemplate.execute(
+                        status -> insertChunk(job, chunk.userIds(), resumed, createdAt));
+                sample.stop(chunkTimer);
+                if (inserted == null) {
+                    log.info("Notification broadcast {} cancelled or taken over, stopping", job.getBroadcastId());
+                    progress.stop();
+                    progress.abandon(chunk);
+                    return;
+                }
+                int count = inserted.size();
+                sent.increment(count);
+                if (count > 0) {
+                    eventPublisher.publishEvent(new BroadcastChunkSentEvent(job.getBroadcastId(), inserted,
+                            job.getType(), job.getTitle(), job.getMessage(), job.getActionUrl(), createdAt));
+                }
+                checkpoint(job, progress, progress.complete(chunk, count));
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == attempts) {
+                    chunkFailed.increment();
+                    log.warn("Notification broadcast {} chunk ({} .. {}) failed", job.getBroadcastId(),
+                            chunk.firstUserId(), chunk.lastUserId(), e);
+                    progress.fail(chunk, e);
+                    return;
+                }
+                chunkRetried.increment();
+                log.debug("Notification broadcast {} chunk retry {}: {}", job.getBroadcastId(), attempt,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 청크 저장 (트랜잭션 안에서 실행, 읽지 않은 알림 수 캐시는 커밋 시 반영)
+     *
+     * @return 새로 알림을 저장한 사용자 ID → 알림 ID (실시간 전송용), 점유를 잃었으면 null
+     */
+    private Map<Long, Long> insertChunk(NotificationBroadcast job, List<Long> userIds, boolean resumed,
+            LocalDateTime now) {
+        if (jdbcTemplate.queryForList(LEASE_FENCE_SQL, Long.class, job.getBroadcastId(), instanceId).isEmpty()) {
+            return null;
+        }
+        List<Long> targets = userIds;
+        if (resumed) {
+            Set<Long> alreadySent = new HashSet<>(jdbcTemplate.queryForList(SENT_USERS_SQL, Long.class,
+                    job.getBroadcastId(), userIds.get(0), userIds.get(userIds.size() - 1)));
+            if (!alreadySent.isEmpty()) {
+                targets = userIds.stream().filter(id -> !alreadySent.contains(id)).toList();
+            }
+        }
+        if (targets.isEmpty()) {
+            return Map.of();
+        }
+
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int batchSize = Math.max(1, properties.getInsertBatchSize());
+        for (int from = 0; from < targets.size(); from += batchSize) {
+            List<Long> batch = targets.subList(from, Math.min(from + batchSize, targets.size()));
+            jdbcTemplate.update(insertSql(batch.size()), ps -> {
+                int index = 1;
+                for (Long userId : batch) {
+                    ps.setLong(index, job.getBroadcastId());
+                    ps.setLong(index + 1, userId);
+                    ps.setString(index + 2, job.getType().name());
+                    ps.setString(index + 3, job.getTitle());
+                    ps.setString(index + 4, job.getMessage());
+                    ps.setString(index + 5, job.getActionUrl());
+                    ps.setTimestamp(index + 6, createdAt);
+                    index += COLUMNS;
+                }
+            });
+        }
+        unreadCounter.adjustAll(targets, job.getType(), 1);
+
+        // 다중 행 INSERT의 자동 증가 ID는 연속이 보장되지 않으므로 같은 트랜잭션에서 다시 조회
+        Map<Long, Long> notificationIds = new LinkedHashMap<>();
+        targets.forEach(userId -> notificationIds.put(userId, null));
+        jdbcTemplate.query(NOTIFICATION_IDS_SQL, rs -> {
+            long userId = rs.getLong("user_id");
+            if (notificationIds.containsKey(userId)) {
+                notificationIds.put(userId, rs.getLong("notification_id"));
+            }
+        }, job.getBroadcastId(), targets.get(0), targets.get(targets.size() - 1));
+        return notificationIds;
+    }
+
+    private String insertSql(int rowCount) {
+        return insertSqlCache.computeIfAbsent(rowCount, count -> {
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + INSERT_SUFFIX.length()
+                    + count * (ROW_PLACEHOLDER.length() + 2));
+            sql.append(INSERT_PREFIX);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+            }
+            sql.append(INSERT_SUFFIX);
+            return sql.toString();
+        });
+    }
+
+    /**
+     * 연속 완료 지점이 앞으로 이동했으면 체크포인트 기록 (점유 연장 포함)
+     * 반영되지 않으면 취소되었거나 점유를 빼앗긴 것이므로 작업을 멈춘다.
+     */
+    private void checkpoint(NotificationBroadcast job, FanoutProgress progress, Checkpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            int updated = jdbcTemplate.update(CHECKPOINT_SQL, checkpoint.lastUserId(), checkpoint.sentCount(),
+                    Timestamp.valueOf(LocalDateTime.now().plus(properties.getLease())),
+                    job.getBroadcastId(), instanceId);
+            if (updated == 0) {
+                log.info("Notification broadcast {} cancelled or taken over, stopping", job.getBroadcastId());
+                progress.stop();
+            }
+        } catch (DataAccessException e) {
+            // 다음 체크포인트가 GREATEST로 덮어쓰므로 진행은 계속 (재개 시 중복은 유니크 키로 걸러짐)
+            log.warn("Notification broadcast {} checkpoint failed at user {}", job.getBroadcastId(),
+                    checkpoint.lastUserId(), e);
+        }
+    }
+
+    private void finish(NotificationBroadcast job, FanoutProgress progress) {
+        Long broadcastId = job.getBroadcastId();
+        try {
+            Exception failure = progress.getFailure();
+            if (failure != null) {
+                String error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getName();
+                jdbcTemplate.update(FINISH_SQL, BroadcastStatus.FAILED.name(),
+                        error.length() > 500 ? error.substring(0, 500) : error,
+                        null, broadcastId, instanceId);
+                log.warn("Notification broadcast {} failed, retry resumes from the last checkpoint", broadcastId);
+            } else if (progress.isStopped() || shuttingDown) {
+                jdbcTemplate.update(RELEASE_SQL, broadcastId, instanceId);
+            } else {
+                jdbcTemplate.update(FINISH_SQL, BroadcastStatus.COMPLETED.name(), null,
+                        Timestamp.valueOf(LocalDateTime.now()), broadcastId, instanceId);
+                log.info("Notification broadcast {} completed: {} notifications", broadcastId,
+                        progress.getSentCount());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Notification broadcast {} status update failed, lease expiry will resume it", broadcastId, e);
+        }
+    }
+
+    /**
+     * 발송 중인 청크 (대상 사용자 ID 오름차순, 완료 여부는 FanoutProgress 잠금 안에서만 접근)
+     */
+    private static final class FanoutChunk {
+
+        private final List<Long> userIds;
+        private boolean done;
+        private int sent;
+
+        FanoutChunk(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+
+        List<Long> userIds() {
+            return userIds;
+        }
+
+        long firstUserId() {
+            return userIds.get(0);
+        }
+
+        long lastUserId() {
+            return userIds.get(userIds.size() - 1);
+        }
+    }
+
+    /**
+     * 기록할 체크포인트 (연속 완료 지점과 그 사이에 새로 발송된 알림 수)
+     */
+    private record Checkpoint(long lastUserId, long sentCount) {
+    }
+
+    /**
+     * 작업 하나의 진행 상태
+     * 청크를 등록 순서대로 보관하고, 앞에서부터 연속으로 완료된 청크만 떼어내 체크포인트로 만든다.
+     * 실패하거나 버려진 청크는 완료되지 않은 채 남으므로 체크포인트가 그 청크를 넘어가지 않는다.
+     */
+    private static final class FanoutProgress {
+
+        private final Lock lock = new ReentrantLock();
+        private final Condition idle = lock.newCondition();
+        private final ArrayDeque<FanoutChunk> pending = new ArrayDeque<>();
+        private int inFlight;
+        private long sentCount;
+        private volatile boolean stopped;
+        private volatile Exception failure;
+
+        FanoutChunk register(List<Long> userIds) {
+            FanoutChunk chunk = new FanoutChunk(userIds);
+            lock.lock();
+            try {
+                pending.add(chunk);
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+            return chunk;
+        }
+
+        Checkpoint complete(FanoutChunk chunk, int sent) {
+            lock.lock();
+            try {
+                chunk.done = true;
+                chunk.sent = sent;
+                sentCount += sent;
+
+                long lastUserId = -1;
+                long sentSum = 0;
+                while (!pending.isEmpty() && pending.peek().done) {
+                    FanoutChunk head = pending.poll();
+                    lastUserId = head.lastUserId();
+                    sentSum += head.sent;
+                }
+                finishOne();
+                return lastUserId >= 0 ? new Checkpoint(lastUserId, sentSum) : null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void fail(FanoutChunk chunk, Exception e) {
+            lock.lock();
+            try {
+                fail(e);
+                finishOne();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void fail(Exception e) {
+            if (failure == null) {
+                failure = e;
+            }
+            stopped = true;
+        }
+
+        /**
+         * 멈춘 작업의 청크를 발송하지 않고 정리
+         */
+        void abandon(FanoutChunk chunk) {
+            lock.lock();
+            try {
+                finishOne();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        boolean isStopped() {
+            return stopped;
+        }
+
+        Exception getFailure() {
+            return failure;
+        }
+
+        long getSentCount() {
+            lock.lock();
+            try {
+                return sentCount;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void awaitIdle() {
+            lock.lock();
+            try {
+                while (inFlight > 0) {
+                    idle.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finishOne() {
+            if (--inFlight == 0) {
+                idle.signalAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package web.mvc.service.notification;
+
+import java.util.List;
+
+/**
+ * 한 번에 전송되는 알림 묶음과 전송 시점의 읽지 않은 알림 수
+ * (읽음 처리 등 배지만 바뀐 경우 notifications는 비어 있음)
+ */
+public record NotificationPushBatch(List<NotificationPushMessage> notifications, long unreadCount) {
+
+    /**
+     * 묶음에서 가장 큰 알림 ID (재연결 시 이어받기 기준, 알림이 없으면 null)
+     */
+    public Long lastNotificationId() {
+        Long last = null;
+        for (NotificationPushMessage notification : notifications) {
+            Long id = notification.notificationId();
+            if (id != null && (last == null || id > last)) {
+                last = id;
+            }
+        }
+        return last;
+    }
+}
@@ -0,0 +1,36 @@
+package web.mvc.service.notification;
+
+import web.mvc.domain.Notification.NotificationType;
+import web.mvc.domain.event.NotificationChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 전송되는 알림 내용
+ * 일괄 발송 알림은 사용자별 알림 ID와 함께 발송 작업 ID를 가진다.
+ */
+public record NotificationPushMessage(
+        Long notificationId,
+        Long broadcastId,
+        NotificationType type,
+        String title,
+        String message,
+        String actionUrl,
+        LocalDateTime createdAt) {
+
+    /**
+     * 알림 생성 이벤트로부터 생성
+     */
+    public static NotificationPushMessage from(NotificationChangedEvent event) {
+        return new NotificationPushMessage(event.getNotificationId(), null, event.getType(),
+                event.getTitle(), event.getMessage(), event.getActionUrl(), event.getCreatedAt());
+    }
+
+    /**
+     * 일괄 발송 이벤트로부터 사용자 한 명의 알림 생성 (내용은 청크 안의 모든 사용자가 같음)
+     */
+    public static NotificationPushMessage from(BroadcastChunkSentEvent event, Long notificationId) {
+        return new NotificationPushMessage(notificationId, event.broadcastId(), event.type(),
+                event.title(), event.message(), event.actionUrl(), event.createdAt());
+    }
+}
@@ -0,0 +1,399 @@
+package web.mvc.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.WebSocketSession;
+import web.mvc.config.NotificationPushProperties;
+import web.mvc.domain.Notification.NotificationType;
+import web.mvc.domain.event.NotificationChangedEvent;
+import web.mvc.domain.event.NotificationChangedEvent.ChangeType;
+import web.mvc.exception.BusinessException;
+import web.mvc.service.notification.PushConnection.PendingPush;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 실시간 전송 서비스
+ * 접속 중인 사용자별 연결(SSE/WebSocket)을 관리하고, 커밋된 알림을 연결별 대기열을 거쳐 즉시 전송한다.
+ * 짧은 시간에 몰린 알림은 coalesce-window 동안 모아 한 이벤트로 보내며, 이벤트마다 읽지 않은 알림 수를 함께 보내
+ * 배지 조회 폴링도 대체한다. 대기열이 가득 찬 느린 연결은 끊고, 클라이언트는 다시 연결한 뒤
+ * 목록 API(커서 페이지)로 놓친 알림을 가져온다.
+ *
+ * 연결 정보는 인스턴스 메모리에만 있으므로 즉시 전송은 알림을 커밋한 인스턴스에 연결된 사용자에게만 된다.
+ * (인스턴스 간 중계는 없음) 다른 인스턴스에서 커밋된 알림은 읽지 않은 알림 수에는 다음 전송 때 반영되고,
+ * 내용은 다시 연결할 때 마지막으로 받은 알림 ID(SSE Last-Event-ID, WebSocket lastNotificationId) 이후의
+ * 알림을 DB에서 읽어 연결 직후 보내는 방식으로 따라잡는다.
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    private static final String CATCH_UP_SQL = "SELECT notification_id, broadcast_id, type, title, message, " +
+            "action_url, created_at FROM notifications WHERE user_id = ? AND notification_id > ? " +
+            "ORDER BY notification_id LIMIT ?";
+
+    private final NotificationPushProperties properties;
+    private final UnreadNotificationCounter unreadCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ScheduledThreadPoolExecutor sender;
+
+    private final Map<Long, Set<PushConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter delivered;
+    private final Counter rejected;
+    private final Timer deliveryLatency;
+
+    public NotificationPushService(NotificationPushProperties properties, UnreadNotificationCounter unreadCounter,
+            JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.unreadCounter = unreadCounter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.sender = new ScheduledThreadPoolExecutor(Math.max(1, properties.getSenderThreads()),
+                new CustomizableThreadFactory("notification-push-"));
+        this.sender.setRemoveOnCancelPolicy(true);
+        long heartbeatMs = properties.getHeartbeatInterval().toMillis();
+        if (heartbeatMs > 0) {
+            this.sender.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        }
+
+        this.delivered = Counter.builder("notification.push.delivered")
+                .description("실시간 전송된 알림 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("notification.push.rejected")
+                .description("연결 수 한도로 거절된 연결 요청 수")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("notification.push.latency")
+                .description("알림 커밋부터 전송 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("notification.push.connections", connectionCount, AtomicInteger::get)
+                .description("실시간 알림 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.push.users", connections, Map::size)
+                .description("실시간 알림에 연결된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SSE 연결 생성
+     * 연결 직후 현재 읽지 않은 알림 수와, lastNotificationId가 있으면 그 이후의 알림을 전송한다.
+     */
+    public SseEmitter openSse(Long userId, Long lastNotificationId) {
+        SseEmitter emitter = new SseEmitter(properties.getSseTimeout().toMillis());
+        SsePushConnection connection = new SsePushConnection(userId, emitter, properties.getQueueCapacity());
+        register(connection);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> unregister(connection));
+        emitter.onError(e -> unregister(connection));
+        enqueueInitial(connection, lastNotificationId);
+        return emitter;
+    }
+
+    /**
+     * WebSocket 연결 등록 (핸드셰이크 완료 후 호출, 첫 전송은 SSE와 같음)
+     */
+    public PushConnection openWebSocket(WebSocketSession session, Long userId, Long lastNotificationId) {
+        WebSocketPushConnection connection = new WebSocketPushConnection(userId, session, objectMapper,
+                properties.getQueueCapacity());
+        register(connection);
+        enqueueInitial(connection, lastNotificationId);
+        return connection;
+    }
+
+    /**
+     * 연결 해제 (클라이언트 종료, 제한 시간 만료 등)
+     *
+     * @return 이번 호출로 해제되었으면 true
+     */
+    public boolean unregister(PushConnection connection) {
+        if (!connection.markClosed()) {
+            return false;
+        }
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        connectionCount.decrementAndGet();
+        connection.queue.clear();
+        return true;
+    }
+
+    /**
+     * 사용자가 이 인스턴스에 연결되어 있는지 확인
+     */
+    public boolean isConnected(Long userId) {
+        return connections.containsKey(userId);
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 알림 생성/읽음 상태 변경 전송 (커밋 후)
+     * 생성은 알림 내용을, 그 외에는 읽지 않은 알림 수만 전송한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationChanged(NotificationChangedEvent event) {
+        Set<PushConnection> targets = connections.get(event.getUserId());
+        if (targets == null) {
+            return;
+        }
+        PendingPush push = event.getChangeType() == ChangeType.CREATED
+                ? PendingPush.of(NotificationPushMessage.from(event))
+                : PendingPush.badge();
+        for (PushConnection connection : targets) {
+            enqueue(connection, push);
+        }
+    }
+
+    /**
+     * 일괄 발송 알림 전송 (청크 커밋 후, 접속 중인 대상에게만)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcastChunkSent(BroadcastChunkSentEvent event) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<Long, Long> recipient : event.notificationIds().entrySet()) {
+            Set<PushConnection> targets = connections.get(recipient.getKey());
+            if (targets == null) {
+                continue;
+            }
+            PendingPush push = PendingPush.of(NotificationPushMessage.from(event, recipient.getValue()));
+            for (PushConnection connection : targets) {
+                enqueue(connection, push);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 모든 연결을 닫음 (클라이언트는 다른 인스턴스로 다시 연결)
+     */
+    @PreDestroy
+    public void closeAll() {
+        sender.shutdownNow();
+        for (Set<PushConnection> userConnections : connections.values()) {
+            for (PushConnection connection : userConnections) {
+                if (unregister(connection)) {
+                    connection.closeTransport();
+                }
+            }
+        }
+    }
+
+    private void register(PushConnection connection) {
+        if (!properties.isEnabled()) {
+            throw new BusinessException("실시간 알림을 사용할 수 없습니다.",
+                    HttpStatus.SERVICE_UNAVAILABLE, "NOTIFICATION_PUSH_DISABLED");
+        }
+        if (connectionCount.incrementAndGet() > properties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            rejected.increment();
+            throw new BusinessException("실시간 알림 연결이 많습니다. 잠시 후 다시 시도해 주세요.",
+                    HttpStatus.SERVICE_UNAVAILABLE, "NOTIFICATION_PUSH_BUSY");
+        }
+        Set<PushConnection> userConnections = connections.compute(connection.getUserId(), (userId, existing) -> {
+            Set<PushConnection> set = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            return set;
+        });
+        meterRegistry.counter("notification.push.connects", "transport", connection.getTransport()).increment();
+
+        // 사용자당 연결 수 초과 시 가장 오래된 연결(닫힌 탭 등)부터 정리
+        while (userConnections.size() > Math.max(1, properties.getMaxConnectionsPerUser())) {
+            PushConnection oldest = null;
+            for (PushConnection candidate : userConnections) {
+                if (candidate != connection && (oldest == null || candidate.getOpenedAt() < oldest.getOpenedAt())) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                break;
+            }
+            evict(oldest, "replaced");
+        }
+    }
+
+    /**
+     * 연결 직후 첫 전송: 놓친 알림(최대 max-batch-size개, 대기열 크기 이내)과 읽지 않은 알림 수
+     * 따라잡기 조회에 실패해도 연결은 유지하며, 클라이언트는 목록 API로 확인할 수 있다.
+     */
+    private void enqueueInitial(PushConnection connection, Long lastNotificationId) {
+        if (lastNotificationId != null) {
+            int limit = Math.max(1, Math.min(properties.getMaxBatchSize(), properties.getQueueCapacity() - 1));
+            try {
+                jdbcTemplate.query(CATCH_UP_SQL, rs -> {
+                    enqueue(connection, PendingPush.of(new NotificationPushMessage(
+                            rs.getLong("notification_id"),
+                            rs.getObject("broadcast_id", Long.class),
+                            NotificationType.valueOf(rs.getString("type")),
+                            rs.getString("title"),
+                            rs.getString("message"),
+                            rs.getString("action_url"),
+                            rs.getTimestamp("created_at").toLocalDateTime())));
+                }, connection.getUserId(), lastNotificationId, limit);
+            } catch (DataAccessException e) {
+                log.debug("Notification catch-up failed for user {}: {}", connection.getUserId(), e.getMessage());
+            }
+        }
+        enqueue(connection, PendingPush.badge());
+    }
+
+    private void enqueue(PushConnection connection, PendingPush push) {
+        if (connection.isClosed()) {
+            return;
+        }
+        if (!connection.queue.offer(push)) {
+            evict(connection, "slow");
+            return;
+        }
+        if (connection.sending.compareAndSet(false, true)) {
+            try {
+                sender.schedule(() -> flush(connection), properties.getCoalesceWindow().toMillis(),
+                        TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                connection.sending.set(false);
+            }
+        }
+    }
+
+    /**
+     * 대기열을 비우며 최대 max-batch-size개씩 한 이벤트로 전송
+     */
+    private void flush(PushConnection connection) {
+        try {
+            if (connection.isClosed()) {
+                return;
+            }
+            List<PendingPush> drained = new ArrayList<>();
+            connection.queue.drainTo(drained, Math.max(1, properties.getMaxBatchSize()));
+            if (drained.isEmpty()) {
+                return;
+            }
+            List<NotificationPushMessage> messages = new ArrayList<>(drained.size());
+            for (PendingPush push : drained) {
+                if (push.message() != null) {
+                    messages.add(push.message());
+                }
+            }
+
+            connection.send(new NotificationPushBatch(messages, unreadCount(connection.getUserId())));
+
+            long now = System.nanoTime();
+            for (PendingPush push : drained) {
+                if (push.message() != null) {
+                    deliveryLatency.record(now - push.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+            }
+            delivered.increment(messages.size());
+        } catch (IOException | RuntimeException e) {
+            log.debug("Notification push failed for user {}: {}", connection.getUserId(), e.getMessage());
+            evict(connection, "error");
+        } finally {
+            connection.sending.set(false);
+            // 전송 중에 추가된 항목은 바로 이어서 전송
+            if (!connection.isClosed() && !connection.queue.isEmpty() && connection.sending.compareAndSet(false, true)) {
+                try {
+                    sender.execute(() -> flush(connection));
+                } catch (RejectedExecutionException e) {
+                    connection.sending.set(false);
+                }
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<PushConnection> userConnections : connections.values()) {
+            for (PushConnection connection : userConnections) {
+                // 전송 중인 연결은 그 자체로 연결 확인이 되므로 건너뜀
+                if (connection.sending.compareAndSet(false, true)) {
+                    try {
+                        sender.execute(() -> heartbeat(connection));
+                    } catch (RejectedExecutionException e) {
+                        // 종료 중이면 남은 연결도 보낼 수 없으므로 중단
+                        connection.sending.set(false);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void heartbeat(PushConnection connection) {
+        try {
+            if (!connection.isClosed()) {
+                connection.sendHeartbeat();
+            }
+        } catch (IOException | RuntimeException e) {
+            evict(connection, "error");
+        } finally {
+            connection.sending.set(false);
+            if (!connection.isClosed() && !connection.queue.isEmpty() && connection.sending.compareAndSet(false, true)) {
+                try {
+                    sender.execute(() -> flush(connection));
+                } catch (RejectedExecutionException e) {
+                    connection.sending.set(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 연결 강제 종료
+     * 등록 해제는 즉시 하고, 전송 계층 종료는 전송 스레드에서 수행한다. (쓰기 중인 연결을 요청 스레드에서 닫지 않음)
+     */
+    private void evict(PushConnection connection, String reason) {
+        if (!unregister(connection)) {
+            return;
+        }
+        meterRegistry.counter("notification.push.evicted", "reason", reason).increment();
+        log.debug("Notification push connection evicted: user={}, transport={}, reason={}",
+                connection.getUserId(), connection.getTransport(), reason);
+        try {
+            sender.execute(connection::closeTransport);
+        } catch (RejectedExecutionException e) {
+            connection.closeTransport();
+        }
+    }
+
+    /**
+     * 전송 시점의 읽지 않은 알림 수 (연결된 사용자는 대부분 캐시 적중, 조회 실패 시 -1)
+     */
+    private long unreadCount(Long userId) {
+        try {
+            return unreadCounter.getUnreadCount(userId);
+        } catch (DataAccessException e) {
+            return -1;
+        }
+    }
+}
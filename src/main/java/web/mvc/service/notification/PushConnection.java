@@ -0,0 +1,79 @@
+package web.mvc.service.notification;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실시간 알림 연결 (SSE/WebSocket 공통)
+ * 연결마다 크기가 제한된 전송 대기열을 두고, 쓰기는 한 번에 전송 스레드 하나만 수행한다.
+ * (WebSocketSession/SseEmitter 모두 동시 쓰기를 허용하지 않음)
+ */
+public abstract class PushConnection {
+
+    private final Long userId;
+    private final long openedAt = System.nanoTime();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    final BlockingQueue<PendingPush> queue;
+    final AtomicBoolean sending = new AtomicBoolean();
+
+    protected PushConnection(Long userId, int queueCapacity) {
+        this.userId = userId;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    long getOpenedAt() {
+        return openedAt;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 닫힘 표시 (처음 호출한 경우에만 true)
+     */
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+
+    /**
+     * 전송 방식 이름 (지표 태그용)
+     */
+    public abstract String getTransport();
+
+    /**
+     * 알림 묶음 전송
+     */
+    protected abstract void send(NotificationPushBatch batch) throws IOException;
+
+    /**
+     * 연결 유지 확인 메시지 전송
+     */
+    protected abstract void sendHeartbeat() throws IOException;
+
+    /**
+     * 전송 계층 연결 종료 (여러 번 호출해도 안전해야 함)
+     */
+    protected abstract void closeTransport();
+
+    /**
+     * 대기열 항목 (message가 null이면 읽지 않은 알림 수만 갱신)
+     */
+    record PendingPush(NotificationPushMessage message, long enqueuedAt) {
+
+        static PendingPush of(NotificationPushMessage message) {
+            return new PendingPush(message, System.nanoTime());
+        }
+
+        static PendingPush badge() {
+            return new PendingPush(null, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package web.mvc.service.notification;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * SSE 실시간 알림 연결
+ * 알림이 담긴 이벤트에는 마지막 알림 ID를 이벤트 ID로 붙여, 브라우저가 재연결할 때 Last-Event-ID로 보내도록 한다.
+ */
+class SsePushConnection extends PushConnection {
+
+    private final SseEmitter emitter;
+
+    SsePushConnection(Long userId, SseEmitter emitter, int queueCapacity) {
+        super(userId, queueCapacity);
+        this.emitter = emitter;
+    }
+
+    @Override
+    public String getTransport() {
+        return "sse";
+    }
+
+    @Override
+    protected void send(NotificationPushBatch batch) throws IOException {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name("notifications").data(batch);
+        Long lastNotificationId = batch.lastNotificationId();
+        if (lastNotificationId != null) {
+            event.id(String.valueOf(lastNotificationId));
+        }
+        emitter.send(event);
+    }
+
+    @Override
+    protected void sendHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("ping"));
+    }
+
+    @Override
+    protected void closeTransport() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 완료된 연결
+        }
+    }
+}
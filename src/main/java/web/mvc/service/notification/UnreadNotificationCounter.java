@@ -0,0 +1,357 @@
+package web.mvc.service.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import web.mvc.config.NotificationCounterProperties;
+import web.mvc.domain.Notification.NotificationType;
+import web.mvc.domain.event.NotificationChangedEvent;
+import web.mvc.repository.NotificationRepository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 읽지 않은 알림 수 캐시
+ * 헤더 배지용 사용자별 읽지 않은 알림 수(전체 + 타입별)를 메모리에 유지한다.
+ * 캐시에 없는 사용자는 idx_user_unread 범위 조회 한 번으로 채우고, 이후에는 알림 생성/읽음/삭제
+ * 이벤트를 커밋 시점에 증감 반영하므로 활성 사용자의 배지 조회는 쿼리를 실행하지 않는다.
+ * 크기는 최근 조회 순 LRU로 제한한다.
+ *
+ * 배지 조회가 하나의 잠금에 몰리지 않도록 사용자 구역(stripe)마다 잠금과 LRU 맵을 따로 둔다.
+ * (구역별 최대 크기는 전체 한도를 구역 수로 나눈 값)
+ * 로딩 쿼리와 동시에 커밋되는 변경이 이중 반영되지 않도록, 구역별로
+ * 커밋 대기 중인 변경 수와 세대 번호를 두고 그 사이에 로딩된 값은 캐시에 저장하지 않는다.
+ */
+@Slf4j
+@Service
+public class UnreadNotificationCounter {
+
+    private static final NotificationType[] TYPES = NotificationType.values();
+    private static final int TOTAL = TYPES.length;
+    private static final int STRIPES = 64;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterProperties properties;
+
+    private final Segment[] segments = new Segment[STRIPES];
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray pendingCommits = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+            NotificationCounterProperties properties, MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.properties = properties;
+        int maxUsersPerSegment = Math.max(1, (properties.getMaxUsers() + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            segments[i] = new Segment(maxUsersPerSegment);
+        }
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .description("읽지 않은 알림 수 캐시 적중")
+                .tags("cache", "notification-unread", "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .description("읽지 않은 알림 수 캐시 미스 (DB 집계)")
+                .tags("cache", "notification-unread", "result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", "notification-unread").register(meterRegistry);
+        Gauge.builder("cache.size", this, UnreadNotificationCounter::size)
+                .tags("cache", "notification-unread").register(meterRegistry);
+    }
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    public long getUnreadCount(Long userId) {
+        return counts(userId).get(TOTAL);
+    }
+
+    /**
+     * 특정 타입의 읽지 않은 알림 수
+     */
+    public long getUnreadCount(Long userId, NotificationType type) {
+        return counts(userId).get(type.ordinal());
+    }
+
+    /**
+     * 타입별 읽지 않은 알림 수 (읽지 않은 알림이 없는 타입은 0)
+     */
+    public Map<NotificationType, Long> getUnreadCountsByType(Long userId) {
+        AtomicIntegerArray counts = counts(userId);
+        Map<NotificationType, Long> result = new EnumMap<>(NotificationType.class);
+        for (NotificationType type : TYPES) {
+            result.put(type, (long) counts.get(type.ordinal()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 알림 변경 이벤트 반영
+     * 트랜잭션 안에서는 커밋 대기로 표시했다가 커밋된 경우에만 증감한다.
+     */
+    @EventListener
+    public void onNotificationChanged(NotificationChangedEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        adjust(event.getUserId(), event.getType(), event.getUnreadDelta());
+    }
+
+    /**
+     * 읽지 않은 알림 수 증감
+     * 엔티티 콜백을 거치지 않는 일괄 UPDATE/DELETE 후 호출하는 용도이며,
+     * 트랜잭션 안에서 호출하면 커밋된 경우에만 반영된다.
+     */
+    public void adjust(Long userId, NotificationType type, int delta) {
+        if (!properties.isEnabled() || delta == 0) {
+            return;
+        }
+        onCommit(List.of(userId), () -> apply(userId, type, delta));
+    }
+
+    /**
+     * 여러 사용자의 읽지 않은 알림 수를 같은 값만큼 증감 (일괄 발송용, 커밋 시 한 번에 반영)
+     */
+    public void adjustAll(Collection<Long> userIds, NotificationType type, int delta) {
+        if (!properties.isEnabled() || delta == 0 || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(userIds);
+        onCommit(targets, () -> {
+            for (Long userId : targets) {
+                apply(userId, type, delta);
+            }
+        });
+    }
+
+    /**
+     * 커밋 시 사용자 카운터 제거
+     * 타입별 증감을 알 수 없는 일괄 변경용이며, 변경이 커밋되기 전에 시작된 로딩 결과도 저장되지 않는다.
+     */
+    public void invalidateOnCommit(Long userId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        onCommit(List.of(userId), () -> invalidate(userId));
+    }
+
+    /**
+     * 커밋 시 여러 사용자의 카운터 제거
+     */
+    public void invalidateAllOnCommit(Collection<Long> userIds) {
+        if (!properties.isEnabled() || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> targets = List.copyOf(userIds);
+        onCommit(targets, () -> targets.forEach(this::invalidate));
+    }
+
+    /**
+     * 사용자 카운터 제거 (다음 조회 시 DB에서 다시 집계)
+     */
+    public void invalidate(Long userId) {
+        int stripe = stripe(userId);
+        Segment segment = segments[stripe];
+        segment.lock.lock();
+        try {
+            segment.counters.remove(userId);
+            generations.incrementAndGet(stripe);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 카운터 제거
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            Segment segment = segments[i];
+            segment.lock.lock();
+            try {
+                segment.counters.clear();
+                generations.incrementAndGet(i);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 카운터를 보유한 사용자 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.counters.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private AtomicIntegerArray counts(Long userId) {
+        if (!properties.isEnabled()) {
+            return load(userId);
+        }
+        int stripe = stripe(userId);
+        Segment segment = segments[stripe];
+        AtomicIntegerArray cached;
+        segment.lock.lock();
+        try {
+            cached = segment.counters.get(userId);
+        } finally {
+            segment.lock.unlock();
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long loadGeneration = generations.get(stripe);
+        boolean cacheable = pendingCommits.get(stripe) == 0;
+        AtomicIntegerArray loaded = load(userId);
+        if (!cacheable) {
+            return loaded;
+        }
+        segment.lock.lock();
+        try {
+            if (generations.get(stripe) != loadGeneration) {
+                return loaded;
+            }
+            AtomicIntegerArray existing = segment.counters.putIfAbsent(userId, loaded);
+            return existing != null ? existing : loaded;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 작업 실행 (트랜잭션 밖이면 즉시 실행)
+     * 커밋 대기 중에는 같은 구역의 로딩 결과를 캐시에 저장하지 않는다.
+     */
+    private void onCommit(Collection<Long> userIds, Runnable action) {
+        long stripes = 0L;
+        for (Long userId : userIds) {
+            stripes |= 1L << stripe(userId);
+        }
+        long touched = stripes;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            bumpGenerations(touched);
+            return;
+        }
+
+        forEachStripe(touched, pendingCommits::incrementAndGet);
+        bumpGenerations(touched);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    } else if (status == STATUS_UNKNOWN) {
+                        userIds.forEach(UnreadNotificationCounter.this::invalidate);
+                    }
+                } finally {
+                    bumpGenerations(touched);
+                    forEachStripe(touched, pendingCommits::decrementAndGet);
+                }
+            }
+        });
+    }
+
+    private void bumpGenerations(long stripes) {
+        forEachStripe(stripes, generations::incrementAndGet);
+    }
+
+    private static void forEachStripe(long stripes, IntConsumer action) {
+        for (long remaining = stripes; remaining != 0; remaining &= remaining - 1) {
+            action.accept(Long.numberOfTrailingZeros(remaining));
+        }
+    }
+
+    private void apply(Long userId, NotificationType type, int delta) {
+        Segment segment = segments[stripe(userId)];
+        segment.lock.lock();
+        try {
+            AtomicIntegerArray counts = segment.counters.get(userId);
+            if (counts == null) {
+                return;
+            }
+            int total = counts.addAndGet(TOTAL, delta);
+            int typed = type != null ? counts.addAndGet(type.ordinal(), delta) : 0;
+            if (total < 0 || typed < 0) {
+                // 카운터가 원본과 어긋난 경우 (이벤트 없이 변경된 행 등) 다음 조회 때 다시 집계
+                segment.counters.remove(userId);
+                log.debug("Unread notification counter drifted for user {}, reloading", userId);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private AtomicIntegerArray load(Long userId) {
+        AtomicIntegerArray counts = new AtomicIntegerArray(TOTAL + 1);
+        List<Object[]> rows = notificationRepository.countUnreadByUserIdGroupByType(userId);
+        int total = 0;
+        for (Object[] row : rows) {
+            int count = ((Number) row[1]).intValue();
+            if (row[0] instanceof NotificationType type) {
+                counts.set(type.ordinal(), count);
+            }
+            total += count;
+        }
+        counts.set(TOTAL, total);
+        return counts;
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId ^ (userId >>> 32)) & (STRIPES - 1);
+    }
+
+    /**
+     * 사용자 구역 하나의 카운터 (최근 조회 순 LRU, 구역 잠금 안에서만 접근)
+     */
+    private final class Segment {
+
+        private final Lock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, AtomicIntegerArray> counters;
+
+        Segment(int maxUsers) {
+            this.counters = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AtomicIntegerArray> eldest) {
+                    if (size() > maxUsers) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
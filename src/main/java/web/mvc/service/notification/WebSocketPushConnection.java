@@ -0,0 +1,51 @@
+package web.mvc.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+
+/**
+ * WebSocket 실시간 알림 연결
+ * 알림 묶음은 NotificationPushBatch JSON 텍스트 메시지로 전송한다.
+ */
+class WebSocketPushConnection extends PushConnection {
+
+    private final WebSocketSession session;
+    private final ObjectMapper objectMapper;
+
+    WebSocketPushConnection(Long userId, WebSocketSession session, ObjectMapper objectMapper, int queueCapacity) {
+        super(userId, queueCapacity);
+        this.session = session;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getTransport() {
+        return "websocket";
+    }
+
+    @Override
+    protected void send(NotificationPushBatch batch) throws IOException {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(batch)));
+    }
+
+    @Override
+    protected void sendHeartbeat() throws IOException {
+        session.sendMessage(new PingMessage());
+    }
+
+    @Override
+    protected void closeTransport() {
+        try {
+            if (session.isOpen()) {
+                session.close(CloseStatus.GOING_AWAY);
+            }
+        } catch (IOException e) {
+            // 이미 끊어진 연결
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package web.mvc.service.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * H2 파티션 대체 구현 (로컬/테스트용)
+ * H2에는 범위 파티션이 없으므로 created_at 달마다 논리 파티션이 있는 것으로 보고,
+ * 만료된 달은 범위 DELETE로 지운다. 보관 기간 계산과 리포트는 MySQL과 같은 경로를 거친다.
+ */
+class H2PartitionOperations implements PartitionOperations {
+
+    private static final String TABLE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = UPPER(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    H2PartitionOperations(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned(PartitionedTable table) {
+        Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, table.getTableName());
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<MonthlyPartition> listPartitions(PartitionedTable table) {
+        String column = PartitionedTable.PARTITION_COLUMN;
+        String sql = "SELECT EXTRACT(YEAR FROM " + column + ") AS y, EXTRACT(MONTH FROM " + column + ") AS m, " +
+                "COUNT(*) AS row_count FROM " + table.getTableName() + " WHERE " + column + " IS NOT NULL " +
+                "GROUP BY EXTRACT(YEAR FROM " + column + "), EXTRACT(MONTH FROM " + column + ") " +
+                "ORDER BY 1, 2";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            YearMonth month = YearMonth.of(rs.getInt("y"), rs.getInt("m"));
+            return new MonthlyPartition(MySqlPartitionOperations.partitionName(month),
+                    month.plusMonths(1).atDay(1), rs.getLong("row_count"));
+        });
+    }
+
+    @Override
+    public List<String> addPartitionStatements(PartitionedTable table, List<MonthlyPartition> existing,
+            List<YearMonth> months) {
+        // 논리 파티션이므로 미리 만들 것이 없음
+        return List.of();
+    }
+
+    @Override
+    public List<String> dropPartitionStatements(PartitionedTable table, List<MonthlyPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        // 가장 오래된 달부터 연속이므로 마지막 상한 이전 행을 한 번에 삭제
+        LocalDate upperBound = partitions.get(partitions.size() - 1).upperBound();
+        return List.of("DELETE FROM " + table.getTableName() + " WHERE " + PartitionedTable.PARTITION_COLUMN
+                + " < TIMESTAMP '" + upperBound + " 00:00:00'");
+    }
+
+    @Override
+    public List<String> partitionTableStatements(PartitionedTable table, YearMonth firstMonth, YearMonth lastMonth) {
+        return List.of();
+    }
+
+    @Override
+    public void execute(String statement) {
+        jdbcTemplate.execute(statement);
+    }
+}
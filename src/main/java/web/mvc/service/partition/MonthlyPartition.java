@@ -0,0 +1,20 @@
+package web.mvc.service.partition;
+
+import java.time.LocalDate;
+
+/**
+ * 테이블 파티션 하나
+ *
+ * @param name       파티션 이름 (월 파티션은 pYYYYMM)
+ * @param upperBound 이 날짜 이전(미포함) 행을 담음, MAXVALUE 파티션이면 null
+ * @param rows       행 수 (MySQL은 통계 기반 추정치)
+ */
+public record MonthlyPartition(String name, LocalDate upperBound, long rows) {
+
+    /**
+     * 상한이 없는 예비 파티션(MAXVALUE) 여부
+     */
+    public boolean isCatchAll() {
+        return upperBound == null;
+    }
+}
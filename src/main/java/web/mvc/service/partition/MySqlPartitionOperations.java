@@ -0,0 +1,117 @@
+package web.mvc.service.partition;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * MySQL 파티션 관리
+ * RANGE COLUMNS(created_at) 월 파티션을 information_schema.PARTITIONS로 조회하고,
+ * 미래 달은 MAXVALUE 파티션을 나눠(REORGANIZE) 만들며, 만료된 달은 DROP PARTITION으로 한 번에 삭제한다.
+ * (행 단위 DELETE와 달리 언두 로그/인덱스 갱신 없이 메타데이터 변경만으로 끝남)
+ */
+class MySqlPartitionOperations implements PartitionOperations {
+
+    static final String PAST_PARTITION = "p_past";
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String IS_PARTITIONED_SQL = "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_METHOD = 'RANGE COLUMNS' " +
+            "AND REPLACE(PARTITION_EXPRESSION, '`', '') = ?";
+
+    private static final String PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS " +
+            "FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    MySqlPartitionOperations(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned(PartitionedTable table) {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class,
+                table.getTableName(), PartitionedTable.PARTITION_COLUMN);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<MonthlyPartition> listPartitions(PartitionedTable table) {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> new MonthlyPartition(
+                rs.getString("PARTITION_NAME"),
+                parseUpperBound(rs.getString("PARTITION_DESCRIPTION")),
+                rs.getLong("TABLE_ROWS")), table.getTableName());
+    }
+
+    @Override
+    public List<String> addPartitionStatements(PartitionedTable table, List<MonthlyPartition> existing,
+            List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return List.of();
+        }
+        MonthlyPartition last = existing.isEmpty() ? null : existing.get(existing.size() - 1);
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        months.forEach(month -> partitions.add(monthPartition(month)));
+        if (last != null && last.isCatchAll()) {
+            // 미래 데이터를 받던 MAXVALUE 파티션을 월 파티션 + MAXVALUE 파티션으로 나눔
+            partitions.add("PARTITION " + last.name() + " VALUES LESS THAN (MAXVALUE)");
+            return List.of("ALTER TABLE " + table.getTableName() + " REORGANIZE PARTITION " + last.name()
+                    + " INTO " + partitions);
+        }
+        return List.of("ALTER TABLE " + table.getTableName() + " ADD PARTITION " + partitions);
+    }
+
+    @Override
+    public List<String> dropPartitionStatements(PartitionedTable table, List<MonthlyPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner names = new StringJoiner(", ");
+        partitions.forEach(partition -> names.add(partition.name()));
+        return List.of("ALTER TABLE " + table.getTableName() + " DROP PARTITION " + names);
+    }
+
+    @Override
+    public List<String> partitionTableStatements(PartitionedTable table, YearMonth firstMonth, YearMonth lastMonth) {
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        partitions.add("PARTITION " + PAST_PARTITION + " VALUES LESS THAN ('" + firstMonth.atDay(1) + "')");
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            partitions.add(monthPartition(month));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return List.of("ALTER TABLE " + table.getTableName() + " PARTITION BY RANGE COLUMNS ("
+                + PartitionedTable.PARTITION_COLUMN + ") " + partitions);
+    }
+
+    @Override
+    public void execute(String statement) {
+        jdbcTemplate.execute(statement);
+    }
+
+    static String partitionName(YearMonth month) {
+        return MONTH_NAME.format(month);
+    }
+
+    private static String monthPartition(YearMonth month) {
+        return "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    /**
+     * PARTITION_DESCRIPTION 해석 ('2026-11-01 00:00:00' 또는 MAXVALUE)
+     */
+    static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+}
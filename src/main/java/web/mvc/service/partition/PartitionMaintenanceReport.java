@@ -0,0 +1,29 @@
+package web.mvc.service.partition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 파티션 관리 실행 결과
+ *
+ * @param dryRun       true면 계획만 세우고 실행하지 않음
+ * @param plans        테이블별 계획
+ * @param failedTables 조회 또는 실행에 실패한 테이블 (다음 실행에서 다시 계획)
+ */
+public record PartitionMaintenanceReport(LocalDate baseDate, boolean dryRun, List<PartitionPlan> plans,
+        List<PartitionedTable> failedTables) {
+
+    /**
+     * 삭제(또는 삭제 예정) 파티션 수
+     */
+    public int droppedPartitions() {
+        return plans.stream().filter(PartitionPlan::partitioned).mapToInt(plan -> plan.partitionsToDrop().size()).sum();
+    }
+
+    /**
+     * 삭제(또는 삭제 예정) 행 수 (MySQL은 추정치)
+     */
+    public long droppedRows() {
+        return plans.stream().filter(PartitionPlan::partitioned).mapToLong(PartitionPlan::rowsToDrop).sum();
+    }
+}
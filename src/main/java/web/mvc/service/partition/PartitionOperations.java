@@ -0,0 +1,44 @@
+package web.mvc.service.partition;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 데이터베이스별 파티션 조회/DDL 생성
+ * 문장 생성과 실행을 나눠 dry-run 리포트에 실제로 실행할 문장을 그대로 보여준다.
+ */
+public interface PartitionOperations {
+
+    /**
+     * created_at 월 범위 파티션이 적용된 테이블인지 확인
+     */
+    boolean isPartitioned(PartitionedTable table);
+
+    /**
+     * 파티션 목록 (상한 오름차순, MAXVALUE 파티션은 마지막)
+     */
+    List<MonthlyPartition> listPartitions(PartitionedTable table);
+
+    /**
+     * 월 파티션 추가 문장
+     *
+     * @param existing 현재 파티션 목록
+     * @param months   추가할 달 (오름차순)
+     */
+    List<String> addPartitionStatements(PartitionedTable table, List<MonthlyPartition> existing, List<YearMonth> months);
+
+    /**
+     * 파티션 삭제 문장 (가장 오래된 파티션부터 연속된 목록)
+     */
+    List<String> dropPartitionStatements(PartitionedTable table, List<MonthlyPartition> partitions);
+
+    /**
+     * 파티션이 없는 테이블을 월 파티션 테이블로 바꾸는 문장 (리포트용, 자동 실행하지 않음)
+     *
+     * @param firstMonth 이 달 이전 데이터는 하나의 과거 파티션에 담음
+     * @param lastMonth  마지막 월 파티션 (이후는 MAXVALUE 파티션)
+     */
+    List<String> partitionTableStatements(PartitionedTable table, YearMonth firstMonth, YearMonth lastMonth);
+
+    void execute(String statement);
+}
@@ -0,0 +1,27 @@
+package web.mvc.service.partition;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 테이블 하나의 파티션 관리 계획
+ *
+ * @param partitioned      월 파티션이 적용된 테이블인지 (false면 statements는 전환용 제안 DDL이며 실행하지 않음)
+ * @param monthsToAdd      미리 만들 달
+ * @param partitionsToDrop 보관 기간이 지나 삭제할 파티션
+ * @param statements       실행할 문장 (추가 후 삭제 순서)
+ */
+public record PartitionPlan(PartitionedTable table, boolean partitioned, List<YearMonth> monthsToAdd,
+        List<MonthlyPartition> partitionsToDrop, List<String> statements) {
+
+    /**
+     * 삭제될 행 수 (MySQL은 추정치)
+     */
+    public long rowsToDrop() {
+        return partitionsToDrop.stream().mapToLong(MonthlyPartition::rows).sum();
+    }
+
+    public boolean hasChanges() {
+        return partitioned && !statements.isEmpty();
+    }
+}
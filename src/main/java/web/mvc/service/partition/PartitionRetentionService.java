@@ -0,0 +1,231 @@
+package web.mvc.service.partition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import web.mvc.config.PartitionRetentionProperties;
+import web.mvc.exception.BusinessException;
+import web.mvc.service.notification.UnreadNotificationCounter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 월별 파티션 보관 기간 관리 서비스
+ * 추가 전용 대용량 테이블(search_logs, learning_activities, ai_chat_messages, notifications)을
+ * created_at 월 범위 파티션으로 유지한다. 정기 실행 시 앞으로 쓸 달의 파티션을 미리 만들고,
+ * 보관 기간이 지난 달은 행 DELETE 대신 파티션을 통째로 삭제한다.
+ *
+ * dry-run이면 실행할 DDL과 삭제 대상 파티션/행 수만 리포트한다.
+ * 파티션이 적용되지 않은 테이블은 건너뛰고 전환용 DDL을 리포트에 남긴다. (키/외래 키 변경이 필요하므로 자동 전환하지 않음)
+ */
+@Slf4j
+@Service
+public class PartitionRetentionService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionRetentionProperties properties;
+    private final UnreadNotificationCounter unreadCounter;
+    private final MeterRegistry meterRegistry;
+
+    private final Lock runLock = new ReentrantLock();
+    private volatile PartitionOperations operations;
+
+    public PartitionRetentionService(JdbcTemplate jdbcTemplate, PartitionRetentionProperties properties,
+            UnreadNotificationCounter unreadCounter, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.unreadCounter = unreadCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 정기 파티션 관리 (설정의 dry-run 여부를 따름)
+     */
+    @Scheduled(cron = "${partition.retention.cron:0 30 3 * * *}")
+    public void scheduledMaintenance() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        run(properties.isDryRun());
+    }
+
+    /**
+     * 변경 없이 계획만 확인
+     */
+    public PartitionMaintenanceReport preview() {
+        return run(true);
+    }
+
+    /**
+     * 파티션 관리 실행
+     * 테이블마다 독립적으로 처리하며, 한 테이블이 실패해도 나머지는 계속 진행한다.
+     */
+    public PartitionMaintenanceReport run(boolean dryRun) {
+        if (!runLock.tryLock()) {
+            throw new BusinessException("파티션 관리 작업이 이미 실행 중입니다.",
+                    HttpStatus.CONFLICT, "PARTITION_MAINTENANCE_RUNNING");
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            PartitionOperations ops = operations();
+            List<PartitionPlan> plans = new ArrayList<>();
+            List<PartitionedTable> failedTables = new ArrayList<>();
+            if (ops == null) {
+                return new PartitionMaintenanceReport(today, dryRun, plans, failedTables);
+            }
+
+            for (PartitionedTable table : PartitionedTable.values()) {
+                try {
+                    PartitionPlan plan = plan(ops, table, today);
+                    plans.add(plan);
+                    logPlan(plan, dryRun);
+                    if (!dryRun && plan.hasChanges()) {
+                        apply(ops, plan);
+                    }
+                } catch (DataAccessException e) {
+                    failedTables.add(table);
+                    log.warn("Partition maintenance failed for {}", table.getTableName(), e);
+                }
+            }
+            PartitionMaintenanceReport report = new PartitionMaintenanceReport(today, dryRun, plans, failedTables);
+            log.info("Partition maintenance {}: {} partitions, ~{} rows expired",
+                    dryRun ? "dry-run" : "done", report.droppedPartitions(), report.droppedRows());
+            return report;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * 테이블 관리 계획 수립
+     */
+    PartitionPlan plan(PartitionOperations ops, PartitionedTable table, LocalDate today) {
+        YearMonth currentMonth = YearMonth.from(today);
+        YearMonth lastMonth = currentMonth.plusMonths(Math.max(0, properties.getPremakeMonths()));
+        int retentionMonths = retentionMonths(table);
+
+        if (!ops.isPartitioned(table)) {
+            YearMonth firstMonth = retentionMonths > 0 ? currentMonth.minusMonths(retentionMonths) : currentMonth;
+            return new PartitionPlan(table, false, List.of(), List.of(),
+                    ops.partitionTableStatements(table, firstMonth, lastMonth));
+        }
+
+        List<MonthlyPartition> partitions = ops.listPartitions(table);
+        List<YearMonth> monthsToAdd = monthsToAdd(partitions, currentMonth, lastMonth);
+        LocalDate retainedFrom = properties.retainedFrom(table, today);
+        List<MonthlyPartition> partitionsToDrop = retainedFrom != null
+                ? expiredPartitions(partitions, retainedFrom)
+                : List.of();
+
+        List<String> statements = new ArrayList<>(ops.addPartitionStatements(table, partitions, monthsToAdd));
+        statements.addAll(ops.dropPartitionStatements(table, partitionsToDrop));
+        return new PartitionPlan(table, true, monthsToAdd, partitionsToDrop, statements);
+    }
+
+    /**
+     * 마지막 월 파티션 다음 달부터 lastMonth까지 (월 파티션이 없으면 현재 달부터)
+     */
+    static List<YearMonth> monthsToAdd(List<MonthlyPartition> partitions, YearMonth currentMonth, YearMonth lastMonth) {
+        LocalDate coveredUntil = null;
+        for (MonthlyPartition partition : partitions) {
+            if (!partition.isCatchAll()) {
+                coveredUntil = partition.upperBound();
+            }
+        }
+        YearMonth from = coveredUntil != null ? YearMonth.from(coveredUntil) : currentMonth;
+        if (coveredUntil != null && coveredUntil.getDayOfMonth() != 1) {
+            // 달 중간에서 끝나는 파티션(수동 생성 등) 다음은 그다음 달부터
+            from = from.plusMonths(1);
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * 상한이 cutoff 이하인 파티션 (가장 오래된 것부터 연속, 마지막 파티션은 남김)
+     */
+    static List<MonthlyPartition> expiredPartitions(List<MonthlyPartition> partitions, LocalDate cutoff) {
+        List<MonthlyPartition> expired = new ArrayList<>();
+        for (MonthlyPartition partition : partitions) {
+            if (partition.isCatchAll() || partition.upperBound().isAfter(cutoff)) {
+                break;
+            }
+            expired.add(partition);
+        }
+        if (!expired.isEmpty() && expired.size() == partitions.size()) {
+            // 테이블에는 파티션이 하나 이상 있어야 함
+            expired.remove(expired.size() - 1);
+        }
+        return expired;
+    }
+
+    private void apply(PartitionOperations ops, PartitionPlan plan) {
+        for (String statement : plan.statements()) {
+            log.info("Partition DDL: {}", statement);
+            ops.execute(statement);
+        }
+        if (plan.partitionsToDrop().isEmpty()) {
+            return;
+        }
+        String table = plan.table().getTableName();
+        meterRegistry.counter("partition.retention.dropped", "table", table)
+                .increment(plan.partitionsToDrop().size());
+        if (plan.table() == PartitionedTable.NOTIFICATIONS) {
+            // 엔티티 이벤트 없이 행이 사라지므로 읽지 않은 알림 수는 다시 집계
+            unreadCounter.invalidateAll();
+        }
+    }
+
+    private void logPlan(PartitionPlan plan, boolean dryRun) {
+        String table = plan.table().getTableName();
+        if (!plan.partitioned()) {
+            log.warn("Table {} is not partitioned by month, retention skipped. Suggested DDL (see partitioning.sql): {}",
+                    table, plan.statements());
+            return;
+        }
+        log.info("Partition plan{} {}: add {}, drop {} (~{} rows)", dryRun ? " [dry-run]" : "", table,
+                plan.monthsToAdd(), plan.partitionsToDrop().stream().map(MonthlyPartition::name).toList(),
+                plan.rowsToDrop());
+        if (dryRun) {
+            plan.statements().forEach(statement -> log.info("  {}", statement));
+        }
+    }
+
+    private int retentionMonths(PartitionedTable table) {
+        Integer months = properties.getRetentionMonths().get(table);
+        return months != null ? months : 0;
+    }
+
+    /**
+     * 연결된 데이터베이스에 맞는 구현 (MySQL/MariaDB, H2 대체 구현 외에는 관리하지 않음)
+     */
+    private PartitionOperations operations() {
+        if (operations == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String name = product != null ? product.toLowerCase(Locale.ROOT) : "";
+            if (name.contains("mysql") || name.contains("mariadb")) {
+                operations = new MySqlPartitionOperations(jdbcTemplate);
+            } else if (name.contains("h2")) {
+                operations = new H2PartitionOperations(jdbcTemplate);
+            } else {
+                log.warn("Partition maintenance is not supported for database: {}", product);
+            }
+        }
+        return operations;
+    }
+}
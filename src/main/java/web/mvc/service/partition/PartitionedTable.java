@@ -0,0 +1,27 @@
+package web.mvc.service.partition;
+
+/**
+ * 월별 파티션으로 관리하는 추가 전용(append-only) 테이블
+ * 테이블명은 DDL에 그대로 들어가므로 이 목록에 있는 테이블만 관리한다.
+ */
+public enum PartitionedTable {
+    SEARCH_LOGS("search_logs"),
+    LEARNING_ACTIVITIES("learning_activities"),
+    AI_CHAT_MESSAGES("ai_chat_messages"),
+    NOTIFICATIONS("notifications");
+
+    /**
+     * 파티션 기준 컬럼 (모든 대상 테이블 공통)
+     */
+    public static final String PARTITION_COLUMN = "created_at";
+
+    private final String tableName;
+
+    PartitionedTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,93 @@
+package web.mvc.service.roadmap;
+
+import web.mvc.config.RoadmapRecommendationProperties;
+import web.mvc.domain.support.SearchQueryNormalizer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로드맵 추천 특성 추출
+ * 템플릿과 프로필을 같은 특성 키("lang:java", "field:backend", "topic:spring", "level:BEGINNER")로 변환한다.
+ * 값은 검색어와 같은 방식으로 정규화하여 표기 차이("Java", "JAVA ")를 흡수한다.
+ */
+final class RoadmapFeatures {
+
+    private final RoadmapRecommendationProperties properties;
+
+    RoadmapFeatures(RoadmapRecommendationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 템플릿 특성 (언어, 분야, 난이도, 태그/학습 목표)
+     */
+    Map<String, Float> forTemplate(String language, String field, String difficulty,
+            Collection<String> tags, Collection<String> outcomes) {
+        Map<String, Float> features = new HashMap<>();
+        put(features, "lang:", language, properties.getLanguageWeight());
+        put(features, "field:", field, properties.getFieldWeight());
+        putAll(features, "topic:", tags, properties.getTopicWeight());
+        putAll(features, "topic:", outcomes, properties.getTopicWeight());
+        if (difficulty != null) {
+            features.put("level:" + difficulty, properties.getLevelWeight());
+        }
+        return features;
+    }
+
+    /**
+     * 프로필 특성 (관심 언어/분야, 현재 레벨에 맞는 난이도, 학습 목표)
+     * 언어/분야는 태그와도 맞춰 볼 수 있도록 주제 특성으로 함께 넣는다.
+     */
+    Map<String, Float> forProfile(Collection<String> languages, Collection<String> interestFields,
+            String currentLevel, Collection<String> learningGoals) {
+        Map<String, Float> features = new HashMap<>();
+        putAll(features, "lang:", languages, properties.getLanguageWeight());
+        putAll(features, "field:", interestFields, properties.getFieldWeight());
+        putAll(features, "topic:", learningGoals, properties.getTopicWeight());
+        putAll(features, "topic:", languages, properties.getTopicWeight() / 2);
+        putAll(features, "topic:", interestFields, properties.getTopicWeight() / 2);
+
+        float level = properties.getLevelWeight();
+        if (currentLevel != null) {
+            switch (currentLevel) {
+                case "COMPLETE_BEGINNER" -> features.put("level:BEGINNER", level);
+                case "BASIC_COMPLETED" -> {
+                    features.put("level:BEGINNER", level * 2 / 3);
+                    features.put("level:INTERMEDIATE", level * 2 / 3);
+                }
+                case "PROJECT_EXPERIENCE" -> {
+                    features.put("level:INTERMEDIATE", level);
+                    features.put("level:ADVANCED", level / 3);
+                }
+                case "WORK_EXPERIENCE" -> {
+                    features.put("level:ADVANCED", level);
+                    features.put("level:INTERMEDIATE", level / 3);
+                }
+                default -> {
+                }
+            }
+        }
+        return features;
+    }
+
+    private static void putAll(Map<String, Float> features, String prefix, Collection<String> values, float weight) {
+        if (values == null) {
+            return;
+        }
+        for (String value : values) {
+            put(features, prefix, value, weight);
+        }
+    }
+
+    /**
+     * 같은 특성이 여러 번 나오면 큰 가중치를 유지
+     */
+    private static void put(Map<String, Float> features, String prefix, String value, float weight) {
+        String normalized = SearchQueryNormalizer.normalize(value);
+        if (!normalized.isEmpty() && weight > 0) {
+            features.merge(prefix + normalized, weight, Math::max);
+        }
+    }
+}
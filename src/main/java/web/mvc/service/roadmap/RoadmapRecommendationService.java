@@ -0,0 +1,271 @@
+package web.mvc.service.roadmap;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.RoadmapRecommendationProperties;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.event.UserProfileSurveyUpdatedEvent;
+import web.mvc.service.roadmap.TemplateRecommendationIndex.TemplateFeatures;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로드맵 템플릿 추천 서비스
+ * 활성 템플릿과 사용자 프로필(관심 언어/분야, 현재 레벨, 학습 목표)을 희소 특성 벡터로 바꿔
+ * 코사인 유사도 + 품질 점수로 템플릿을 추천한다. 언어별/분야별 조회를 여러 번 실행해 합치던 방식을 대체한다.
+ *
+ * 템플릿 색인은 메모리에 두고 주기적으로 다시 만들며, 사용자별 특성과 상위 N개 목록은 LRU로 캐시한다.
+ * 캐시된 사용자의 추천은 DB 조회 없이 응답하고, 설문이 바뀌면(updateSurveyResults) 커밋 후 캐시를 비운다.
+ */
+@Slf4j
+@Service
+public class RoadmapRecommendationService {
+
+    private static final String TEMPLATES_SQL = "SELECT template_id, programming_language, field_category, " +
+            "difficulty_level, tags, learning_outcomes, average_rating, usage_count " +
+            "FROM roadmap_templates WHERE is_active = true ORDER BY template_id";
+
+    private static final String PROFILE_SQL = "SELECT programming_languages, interest_fields, current_level, " +
+            "learning_goals FROM user_profiles WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RoadmapRecommendationProperties properties;
+    private final RoadmapFeatures features;
+
+    private volatile TemplateRecommendationIndex index = TemplateRecommendationIndex.EMPTY;
+    private List<TemplateFeatures> indexedTemplates = List.of();
+    private final Lock refreshLock = new ReentrantLock();
+
+    private final LinkedHashMap<Long, ProfileEntry> profiles;
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * 추천을 계산 중인 사용자별 토큰 (무효화되면 제거되어 그 전에 읽은 프로필은 캐시에 저장되지 않음)
+     */
+    private final Map<Long, Object> pendingLoads = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public RoadmapRecommendationService(JdbcTemplate jdbcTemplate, RoadmapRecommendationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.features = new RoadmapFeatures(properties);
+        this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProfileEntry> eldest) {
+                return size() > RoadmapRecommendationService.this.properties.getMaxProfiles();
+            }
+        };
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .description("로드맵 추천 캐시 적중")
+                .tags("cache", "roadmap-recommendation", "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .description("로드맵 추천 캐시 미스 (프로필 조회)")
+                .tags("cache", "roadmap-recommendation", "result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", this, RoadmapRecommendationService::cachedProfiles)
+                .tags("cache", "roadmap-recommendation").register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 템플릿 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshTemplates();
+    }
+
+    /**
+     * 주기적 템플릿 색인 재구축
+     */
+    @Scheduled(initialDelayString = "${roadmap.recommendation.refresh-interval-ms:300000}",
+            fixedDelayString = "${roadmap.recommendation.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refreshTemplates();
+    }
+
+    /**
+     * 활성 템플릿으로 새 색인을 만든 뒤 교체
+     * 템플릿 특성이 그대로면 색인 버전을 유지하여 캐시된 추천 목록을 계속 사용한다.
+     */
+    public void refreshTemplates() {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<Object[]> rows = jdbcTemplate.query(TEMPLATES_SQL, (rs, rowNum) -> new Object[] {
+                    rs.getLong("template_id"),
+                    rs.getString("programming_language"),
+                    rs.getString("field_category"),
+                    rs.getString("difficulty_level"),
+                    rs.getString("tags"),
+                    rs.getString("learning_outcomes"),
+                    rs.getBigDecimal("average_rating"),
+                    rs.getInt("usage_count") });
+
+            int maxUsage = 0;
+            for (Object[] row : rows) {
+                maxUsage = Math.max(maxUsage, (Integer) row[7]);
+            }
+            double usageScale = Math.log1p(maxUsage);
+            List<TemplateFeatures> templates = rows.stream().map(row -> {
+                BigDecimal rating = (BigDecimal) row[6];
+                double ratingScore = rating != null ? Math.min(1.0, rating.doubleValue() / 5.0) : 0.0;
+                double usageScore = usageScale > 0 ? Math.log1p((Integer) row[7]) / usageScale : 0.0;
+                return new TemplateFeatures((Long) row[0],
+                        features.forTemplate((String) row[1], (String) row[2], (String) row[3],
+                                JsonCodec.STRING_LIST.read((String) row[4]), JsonCodec.STRING_LIST.read((String) row[5])),
+                        (float) (0.7 * ratingScore + 0.3 * usageScore));
+            }).toList();
+
+            if (templates.equals(indexedTemplates)) {
+                return;
+            }
+            index = new TemplateRecommendationIndex(index.version() + 1, templates);
+            indexedTemplates = templates;
+            log.info("Roadmap recommendation index rebuilt: {} templates in {}ms",
+                    templates.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 맞춤 로드맵 템플릿 추천 (점수 내림차순, 최대 top-n개)
+     * 프로필이 없거나 겹치는 특성이 없으면 품질 점수 순으로 추천한다.
+     */
+    public List<TemplateRecommendation> recommend(Long userId, int limit) {
+        TemplateRecommendationIndex current = index;
+        ProfileEntry entry;
+        lock.lock();
+        try {
+            entry = profiles.get(userId);
+        } finally {
+            lock.unlock();
+        }
+
+        if (entry != null && entry.indexVersion() == current.version()) {
+            hits.increment();
+        } else {
+            Map<String, Float> profileFeatures;
+            Object loadToken = beginLoad(userId);
+            try {
+                if (entry != null) {
+                    // 템플릿 색인만 바뀐 경우 저장된 프로필 특성으로 다시 계산
+                    hits.increment();
+                    profileFeatures = entry.features();
+                } else {
+                    misses.increment();
+                    profileFeatures = loadProfileFeatures(userId);
+                }
+                entry = new ProfileEntry(profileFeatures, current.version(), current.topN(
+                        current.vectorize(profileFeatures), Math.max(1, properties.getTopN()),
+                        properties.getQualityWeight()));
+            } catch (RuntimeException e) {
+                endLoad(userId, loadToken, null);
+                throw e;
+            }
+            endLoad(userId, loadToken, entry);
+        }
+        List<TemplateRecommendation> top = entry.recommendations();
+        return top.subList(0, Math.min(Math.max(0, limit), top.size()));
+    }
+
+    /**
+     * 설문 변경 시 사용자 캐시 제거 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSurveyUpdated(UserProfileSurveyUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    /**
+     * 사용자 캐시 제거 (다음 추천 시 프로필을 다시 읽음)
+     */
+    public void invalidate(Long userId) {
+        lock.lock();
+        try {
+            profiles.remove(userId);
+            pendingLoads.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 색인된 템플릿 수
+     */
+    public int getIndexedTemplateCount() {
+        return index.size();
+    }
+
+    /**
+     * 추천 목록을 캐시한 사용자 수
+     */
+    public int cachedProfiles() {
+        lock.lock();
+        try {
+            return profiles.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object beginLoad(Long userId) {
+        Object loadToken = new Object();
+        lock.lock();
+        try {
+            pendingLoads.put(userId, loadToken);
+            return loadToken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 계산 도중 그 사용자의 캐시가 무효화되었으면(토큰이 바뀌거나 제거됨) 저장하지 않음
+     * (변경 커밋 전에 읽은 프로필이 무효화 이후에 저장되는 것을 방지, 다른 사용자의 무효화와는 무관)
+     */
+    private void endLoad(Long userId, Object loadToken, ProfileEntry entry) {
+        lock.lock();
+        try {
+            if (pendingLoads.remove(userId, loadToken) && entry != null) {
+                profiles.put(userId, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<String, Float> loadProfileFeatures(Long userId) {
+        List<Map<String, Float>> rows = jdbcTemplate.query(PROFILE_SQL, (rs, rowNum) -> features.forProfile(
+                JsonCodec.STRING_LIST.read(rs.getString("programming_languages")),
+                JsonCodec.STRING_LIST.read(rs.getString("interest_fields")),
+                rs.getString("current_level"),
+                JsonCodec.STRING_LIST.read(rs.getString("learning_goals"))), userId);
+        return rows.isEmpty() ? Map.of() : rows.get(0);
+    }
+
+    /**
+     * 사용자 캐시 항목 (프로필 특성 + 계산 당시 색인 버전의 상위 N개)
+     */
+    private record ProfileEntry(Map<String, Float> features, long indexVersion,
+            List<TemplateRecommendation> recommendations) {
+    }
+}
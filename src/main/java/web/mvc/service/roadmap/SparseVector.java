@@ -0,0 +1,62 @@
+package web.mvc.service.roadmap;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 희소 특성 벡터 (특성 번호 오름차순 배열 + 가중치 배열, L2 정규화)
+ */
+final class SparseVector {
+
+    static final SparseVector EMPTY = new SparseVector(new int[0], new float[0]);
+
+    private final int[] indices;
+    private final float[] values;
+
+    private SparseVector(int[] indices, float[] values) {
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * 특성 번호별 가중치로 정규화된 벡터 생성 (가중치가 0 이하인 특성은 제외)
+     */
+    static SparseVector of(Map<Integer, Float> weights) {
+        int[] indices = weights.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+        if (indices.length == 0) {
+            return EMPTY;
+        }
+        float[] values = new float[indices.length];
+        double norm = 0;
+        for (int i = 0; i < indices.length; i++) {
+            values[i] = weights.get(indices[i]);
+            norm += (double) values[i] * values[i];
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < values.length; i++) {
+            values[i] *= scale;
+        }
+        return new SparseVector(indices, values);
+    }
+
+    int size() {
+        return indices.length;
+    }
+
+    int indexAt(int position) {
+        return indices[position];
+    }
+
+    float valueAt(int position) {
+        return values[position];
+    }
+
+    @Override
+    public String toString() {
+        return "SparseVector" + Arrays.toString(indices);
+    }
+}
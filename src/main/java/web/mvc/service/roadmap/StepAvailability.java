@@ -0,0 +1,15 @@
+package web.mvc.service.roadmap;
+
+import java.util.List;
+
+/**
+ * 로드맵 단계 진행 가능 상태
+ *
+ * @param graphVersion    계산에 사용한 선수 단계 그래프 버전
+ * @param unlockedStepIds 지금 시작할 수 있는 단계 (위상 순서)
+ * @param blockedStepIds  선수 단계를 완료해야 하는 단계 (위상 순서)
+ * @param nextStepId      추천 다음 단계 (모두 완료했으면 null)
+ */
+public record StepAvailability(long graphVersion, int completedCount, int totalCount, List<Long> unlockedStepIds,
+        List<Long> blockedStepIds, Long nextStepId) {
+}
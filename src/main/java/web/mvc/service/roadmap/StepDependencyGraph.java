@@ -0,0 +1,273 @@
+package web.mvc.service.roadmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 로드맵 템플릿의 선수 단계 그래프 (불변, DAG)
+ * 단계를 위상 정렬 순서(같으면 단계 순서)로 번호를 매기고, 단계별 직접 선수 단계와
+ * 전체(전이) 선수 단계를 비트셋(long 배열)으로 둔다. 완료 단계 비트셋이 주어지면
+ * 단계별 잠금 해제 여부는 단어 단위 AND 한 번(단계 수/64)으로 판단한다.
+ *
+ * 순환이 있으면(저장 경로 밖에서 들어온 데이터) 작성 순서가 빠른 단계부터 끊어 순환을 이루는 선수 관계를
+ * 무시하고 만든다(cyclicStepIds). 템플릿에 없는 단계를 가리키는 선수 단계도 무시한다.
+ */
+public final class StepDependencyGraph {
+
+    private static final Comparator<StepNode> AUTHORED_ORDER = Comparator
+            .comparing((StepNode node) -> node.stepOrder() != null ? node.stepOrder() : Integer.MAX_VALUE)
+            .thenComparingLong(StepNode::stepId);
+
+    private final long version;
+    private final long[] stepIds;
+    private final Map<Long, Integer> positions;
+    private final long[][] prerequisites;
+    private final long[][] ancestors;
+    private final List<Long> cyclicStepIds;
+    private final int words;
+
+    private StepDependencyGraph(long version, long[] stepIds, Map<Long, Integer> positions,
+            long[][] prerequisites, long[][] ancestors, List<Long> cyclicStepIds) {
+        this.version = version;
+        this.stepIds = stepIds;
+        this.positions = positions;
+        this.prerequisites = prerequisites;
+        this.ancestors = ancestors;
+        this.cyclicStepIds = cyclicStepIds;
+        this.words = wordCount(stepIds.length);
+    }
+
+    /**
+     * 단계 목록으로 그래프 생성 (순환이 있으면 순환을 이루는 선수 관계를 무시)
+     *
+     * @param version 캐시 유효성 확인용 버전
+     */
+    public static StepDependencyGraph compile(long version, Collection<StepNode> steps) {
+        Map<Long, StepNode> nodes = new HashMap<>();
+        for (StepNode step : steps) {
+            nodes.put(step.stepId(), step);
+        }
+
+        // Kahn 알고리즘 (진입 차수 0인 단계 중 작성 순서가 빠른 단계부터)
+        Map<Long, Integer> inDegree = new HashMap<>();
+        Map<Long, List<StepNode>> dependents = new HashMap<>();
+        for (StepNode step : nodes.values()) {
+            int degree = 0;
+            for (Long prerequisiteId : distinctPrerequisites(step, nodes)) {
+                dependents.computeIfAbsent(prerequisiteId, k -> new ArrayList<>()).add(step);
+                degree++;
+            }
+            inDegree.put(step.stepId(), degree);
+        }
+        PriorityQueue<StepNode> ready = new PriorityQueue<>(AUTHORED_ORDER);
+        for (StepNode step : nodes.values()) {
+            if (inDegree.get(step.stepId()) == 0) {
+                ready.add(step);
+            }
+        }
+        List<StepNode> sorted = new ArrayList<>(nodes.size());
+        while (sorted.size() < nodes.size()) {
+            if (ready.isEmpty()) {
+                // 순환으로 막히면 남은 단계 중 작성 순서가 가장 빠른 단계를 먼저 놓는다
+                // (진입 차수를 0으로 두어 이후 감소로 다시 들어오지 않게 한다)
+                StepNode forced = nodes.values().stream()
+                        .filter(step -> inDegree.get(step.stepId()) > 0)
+                        .min(AUTHORED_ORDER)
+                        .orElseThrow();
+                inDegree.put(forced.stepId(), 0);
+                ready.add(forced);
+            }
+            StepNode step = ready.poll();
+            sorted.add(step);
+            for (StepNode dependent : dependents.getOrDefault(step.stepId(), List.of())) {
+                if (inDegree.merge(dependent.stepId(), -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        int size = sorted.size();
+        int words = wordCount(size);
+        long[] stepIds = new long[size];
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            stepIds[position] = sorted.get(position).stepId();
+            positions.put(stepIds[position], position);
+        }
+        // 위상 순서로 처리하므로 선수 단계의 전체 선수 집합은 항상 먼저 계산되어 있다
+        long[][] prerequisites = new long[size][words];
+        long[][] ancestors = new long[size][words];
+        List<Long> cyclicStepIds = new ArrayList<>();
+        for (int position = 0; position < size; position++) {
+            for (Long prerequisiteId : distinctPrerequisites(sorted.get(position), nodes)) {
+                int prerequisite = positions.get(prerequisiteId);
+                if (prerequisite >= position) {
+                    // 위상 순서를 거스르는 선수 관계 = 순환을 끊은 자리
+                    if (cyclicStepIds.isEmpty() || cyclicStepIds.get(cyclicStepIds.size() - 1) != stepIds[position]) {
+                        cyclicStepIds.add(stepIds[position]);
+                    }
+                    continue;
+                }
+                prerequisites[position][prerequisite >>> 6] |= 1L << prerequisite;
+                long[] inherited = ancestors[prerequisite];
+                for (int word = 0; word < words; word++) {
+                    ancestors[position][word] |= inherited[word];
+                }
+            }
+            for (int word = 0; word < words; word++) {
+                ancestors[position][word] |= prerequisites[position][word];
+            }
+        }
+        return new StepDependencyGraph(version, stepIds, Map.copyOf(positions), prerequisites, ancestors,
+                List.copyOf(cyclicStepIds));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return stepIds.length;
+    }
+
+    public boolean contains(long stepId) {
+        return positions.containsKey(stepId);
+    }
+
+    /**
+     * 순환 때문에 선수 관계 일부를 무시한 단계 ID (순환이 없으면 빈 목록)
+     */
+    public List<Long> cyclicStepIds() {
+        return cyclicStepIds;
+    }
+
+    public boolean hasCycle() {
+        return !cyclicStepIds.isEmpty();
+    }
+
+    /**
+     * 위상 정렬 순서의 단계 ID
+     */
+    public List<Long> topologicalOrder() {
+        return toIds(fullMask());
+    }
+
+    /**
+     * 완료한 단계 ID를 이 그래프의 비트셋으로 변환 (그래프에 없는 단계는 무시)
+     */
+    public long[] toMask(Collection<Long> stepIds) {
+        long[] mask = new long[words];
+        for (Long stepId : stepIds) {
+            Integer position = positions.get(stepId);
+            if (position != null) {
+                mask[position >>> 6] |= 1L << position;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 단계 시작 가능 여부 (직접 선수 단계를 모두 완료했는지)
+     */
+    public boolean isUnlocked(long stepId, long[] completed) {
+        Integer position = positions.get(stepId);
+        return position != null && covers(completed, prerequisites[position]);
+    }
+
+    /**
+     * 단계에 도달하기 위해 아직 완료하지 않은 전체 선수 단계 (위상 순서)
+     */
+    public List<Long> missingPrerequisites(long stepId, long[] completed) {
+        Integer position = positions.get(stepId);
+        if (position == null) {
+            return List.of();
+        }
+        long[] missing = new long[words];
+        for (int word = 0; word < words; word++) {
+            missing[word] = ancestors[position][word] & ~completed[word];
+        }
+        return toIds(missing);
+    }
+
+    /**
+     * 완료 비트셋 기준 단계 상태 분류
+     * - 잠금 해제: 완료하지 않았고 직접 선수 단계를 모두 완료한 단계
+     * - 잠김: 완료하지 않았고 완료하지 않은 선수 단계가 있는 단계
+     * - 추천 다음 단계: 잠금 해제된 단계 중 위상 순서가 가장 빠른 단계
+     */
+    public StepAvailability evaluate(long[] completed) {
+        long[] unlocked = new long[words];
+        long[] blocked = new long[words];
+        int completedCount = 0;
+        for (int position = 0; position < stepIds.length; position++) {
+            long bit = 1L << position;
+            int word = position >>> 6;
+            if ((completed[word] & bit) != 0) {
+                completedCount++;
+            } else if (covers(completed, prerequisites[position])) {
+                unlocked[word] |= bit;
+            } else {
+                blocked[word] |= bit;
+            }
+        }
+        List<Long> unlockedIds = toIds(unlocked);
+        return new StepAvailability(version, completedCount, stepIds.length, unlockedIds, toIds(blocked),
+                unlockedIds.isEmpty() ? null : unlockedIds.get(0));
+    }
+
+    private boolean covers(long[] completed, long[] required) {
+        for (int word = 0; word < words; word++) {
+            if ((required[word] & ~completed[word]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Long> toIds(long[] mask) {
+        List<Long> ids = new ArrayList<>();
+        for (int word = 0; word < words; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                ids.add(stepIds[(word << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return ids;
+    }
+
+    private long[] fullMask() {
+        long[] mask = new long[words];
+        Arrays.fill(mask, -1L);
+        if ((stepIds.length & 63) != 0) {
+            mask[words - 1] = (1L << stepIds.length) - 1;
+        }
+        return mask;
+    }
+
+    private static List<Long> distinctPrerequisites(StepNode step, Map<Long, StepNode> nodes) {
+        if (step.prerequisiteStepIds() == null) {
+            return List.of();
+        }
+        return step.prerequisiteStepIds().stream()
+                .filter(prerequisiteId -> prerequisiteId != null && nodes.containsKey(prerequisiteId))
+                .distinct()
+                .toList();
+    }
+
+    private static int wordCount(int size) {
+        return Math.max(1, (size + 63) >>> 6);
+    }
+
+    /**
+     * 그래프 생성용 단계 정보
+     */
+    public record StepNode(long stepId, Integer stepOrder, List<Long> prerequisiteStepIds) {
+    }
+}
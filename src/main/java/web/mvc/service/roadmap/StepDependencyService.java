@@ -0,0 +1,196 @@
+package web.mvc.service.roadmap;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.domain.RoadMapStep;
+import web.mvc.domain.RoadMapTemplate;
+import web.mvc.domain.converter.JsonCodec;
+import web.mvc.domain.event.RoadMapStepChangedEvent;
+import web.mvc.exception.BusinessException;
+import web.mvc.service.roadmap.StepDependencyGraph.StepNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로드맵 단계 선수 관계 서비스
+ * 템플릿별 선수 단계 그래프(StepDependencyGraph)를 한 번 만들어 캐시하고,
+ * 사용자 로드맵의 완료 단계 비트셋으로 잠금 해제/잠김/추천 다음 단계를 계산한다.
+ * 모든 단계와 진행 상황을 엔티티로 읽어 하나씩 확인하던 방식을 대체한다.
+ *
+ * 단계가 바뀌면 커밋 후 해당 템플릿 그래프를 버리고 템플릿 버전을 올리며, 다음 조회 때 다시 만든다.
+ * 선수 단계 변경은 updatePrerequisites로 저장 전에 변경하는 단계를 지나는 순환을 검사한다.
+ * 이미 저장된 순환은 조회를 막지 않고, 순환을 이루는 선수 관계만 무시한 그래프로 계산한다.
+ */
+@Slf4j
+@Service
+public class StepDependencyService {
+
+    private static final String STEPS_SQL =
+            "SELECT step_id, step_order, prerequisite_steps FROM roadmap_steps WHERE template_id = ?";
+
+    private static final String COMPLETED_STEPS_SQL = "SELECT r.template_id, p.step_id FROM user_roadmaps r " +
+            "LEFT JOIN user_step_progress p ON p.user_roadmap_id = r.user_roadmap_id AND p.status = 'COMPLETED' " +
+            "WHERE r.user_roadmap_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, StepDependencyGraph> graphs = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StepDependencyService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .description("선수 단계 그래프 캐시 적중")
+                .tags("cache", "roadmap-step-graph", "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .description("선수 단계 그래프 캐시 미스 (단계 조회 후 생성)")
+                .tags("cache", "roadmap-step-graph", "result", "miss").register(meterRegistry);
+        Gauge.builder("cache.size", graphs, Map::size)
+                .tags("cache", "roadmap-step-graph").register(meterRegistry);
+    }
+
+    /**
+     * 사용자 로드맵의 단계 진행 가능 상태
+     */
+    public StepAvailability getAvailability(Long userRoadMapId) {
+        Long[] templateId = { null };
+        List<Long> completed = new ArrayList<>();
+        jdbcTemplate.query(COMPLETED_STEPS_SQL, rs -> {
+            templateId[0] = rs.getLong("template_id");
+            long stepId = rs.getLong("step_id");
+            if (!rs.wasNull()) {
+                completed.add(stepId);
+            }
+        }, userRoadMapId);
+        if (templateId[0] == null) {
+            throw new BusinessException("로드맵을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "ROADMAP_NOT_FOUND");
+        }
+        return evaluate(templateId[0], completed);
+    }
+
+    /**
+     * 완료한 단계 ID 기준 단계 진행 가능 상태
+     */
+    public StepAvailability evaluate(Long templateId, Collection<Long> completedStepIds) {
+        StepDependencyGraph graph = getGraph(templateId);
+        return graph.evaluate(graph.toMask(completedStepIds));
+    }
+
+    /**
+     * 템플릿 선수 단계 그래프 (캐시)
+     */
+    public StepDependencyGraph getGraph(Long templateId) {
+        StepDependencyGraph graph = graphs.get(templateId);
+        if (graph != null) {
+            hits.increment();
+            return graph;
+        }
+        misses.increment();
+        AtomicLong templateVersion = versions.computeIfAbsent(templateId, k -> new AtomicLong());
+        long version = templateVersion.get();
+        List<StepNode> steps = jdbcTemplate.query(STEPS_SQL, (rs, rowNum) -> new StepNode(
+                rs.getLong("step_id"),
+                rs.getObject("step_order", Integer.class),
+                JsonCodec.LONG_LIST.read(rs.getString("prerequisite_steps"))), templateId);
+        graph = StepDependencyGraph.compile(version, steps);
+        if (graph.hasCycle()) {
+            log.warn("Ignoring prerequisite cycle: templateId={}, stepIds={}", templateId, graph.cyclicStepIds());
+        }
+        // 조회 도중 단계가 바뀌었으면 캐시하지 않음 (변경 전 단계로 만든 그래프가 남는 것을 방지)
+        // (넣은 직후 무효화가 끼어들었으면 방금 넣은 그래프를 다시 뺀다)
+        if (templateVersion.get() == version) {
+            graphs.putIfAbsent(templateId, graph);
+            if (templateVersion.get() != version) {
+                graphs.remove(templateId, graph);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * 선수 단계 변경 (이 단계를 지나는 순환이 생기면 저장하지 않고 예외)
+     * 호출하는 쪽의 트랜잭션에서 템플릿 단계 목록(findWithStepsById)과 함께 호출한다.
+     * 새 선수 단계에서 선수 관계를 따라가 이 단계로 되돌아오는지만 확인하므로,
+     * 다른 단계들 사이에 이미 저장된 순환은 이 단계의 변경을 막지 않는다.
+     *
+     * @throws BusinessException 템플릿에 없는 단계를 지정했거나 이 단계를 지나는 순환이 생기는 경우
+     */
+    public void updatePrerequisites(RoadMapTemplate template, RoadMapStep step, List<Long> prerequisiteStepIds) {
+        List<Long> prerequisites = prerequisiteStepIds != null ? List.copyOf(prerequisiteStepIds) : List.of();
+        Map<Long, List<Long>> prerequisitesByStep = new HashMap<>();
+        for (RoadMapStep candidate : template.getSteps()) {
+            if (candidate.getId() != null) {
+                prerequisitesByStep.put(candidate.getId(), candidate.getPrerequisiteSteps());
+            }
+        }
+        for (Long prerequisiteId : prerequisites) {
+            if (prerequisiteId == null || !prerequisitesByStep.containsKey(prerequisiteId)) {
+                throw new BusinessException("같은 로드맵의 단계만 선수 단계로 지정할 수 있습니다: " + prerequisiteId,
+                        HttpStatus.BAD_REQUEST, "ROADMAP_PREREQUISITE_INVALID");
+            }
+        }
+        prerequisitesByStep.put(step.getId(), prerequisites);
+        if (reaches(prerequisitesByStep, prerequisites, step.getId())) {
+            throw new BusinessException("선수 단계에 순환이 있습니다: " + step.getId(),
+                    HttpStatus.BAD_REQUEST, "ROADMAP_PREREQUISITE_CYCLE");
+        }
+        step.updatePrerequisiteSteps(prerequisites);
+    }
+
+    /**
+     * 시작 단계들에서 선수 관계를 따라가 대상 단계에 닿는지 (이미 방문한 단계는 다시 따라가지 않음)
+     */
+    private static boolean reaches(Map<Long, List<Long>> prerequisitesByStep, List<Long> start, Long target) {
+        Deque<Long> pending = new ArrayDeque<>(start);
+        Set<Long> visited = new HashSet<>();
+        while (!pending.isEmpty()) {
+            Long stepId = pending.pop();
+            if (stepId.equals(target)) {
+                return true;
+            }
+            List<Long> next = prerequisitesByStep.get(stepId);
+            if (visited.add(stepId) && next != null) {
+                next.stream().filter(Objects::nonNull).forEach(pending::push);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단계 변경 시 템플릿 그래프 제거 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStepChanged(RoadMapStepChangedEvent event) {
+        invalidate(event.getTemplateId());
+    }
+
+    /**
+     * 템플릿 그래프 제거 (다음 조회 시 다시 생성)
+     */
+    public void invalidate(Long templateId) {
+        versions.computeIfAbsent(templateId, k -> new AtomicLong()).incrementAndGet();
+        graphs.remove(templateId);
+    }
+}
@@ -0,0 +1,9 @@
+package web.mvc.service.roadmap;
+
+/**
+ * 추천 로드맵 템플릿
+ *
+ * @param score 프로필과의 유사도(코사인) + 품질 가중치
+ */
+public record TemplateRecommendation(Long templateId, double score) {
+}
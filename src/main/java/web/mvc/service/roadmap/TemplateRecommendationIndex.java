@@ -0,0 +1,142 @@
+package web.mvc.service.roadmap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 로드맵 템플릿 추천 색인 (불변 스냅샷)
+ * 템플릿 특성 벡터를 특성별 역색인(템플릿 위치 배열 + 가중치 배열)으로 펼쳐 두고,
+ * 프로필 벡터의 특성마다 해당 배열을 순회하며 점수 배열에 누적한다.
+ * 프로필과 겹치는 특성만 계산하므로 비용은 (프로필 특성 수 x 특성별 템플릿 수)이며,
+ * 템플릿이 바뀌면 새 스냅샷을 만들어 교체한다.
+ */
+final class TemplateRecommendationIndex {
+
+    static final TemplateRecommendationIndex EMPTY = new TemplateRecommendationIndex(0, List.of());
+
+    private final long version;
+    private final Map<String, Integer> vocabulary = new HashMap<>();
+    private final long[] templateIds;
+    private final float[] quality;
+    private final int[][] postingSlots;
+    private final float[][] postingWeights;
+
+    /**
+     * @param version   색인 버전 (캐시된 추천 목록의 유효성 확인용)
+     * @param templates 활성 템플릿 특성
+     */
+    TemplateRecommendationIndex(long version, List<TemplateFeatures> templates) {
+        this.version = version;
+        this.templateIds = new long[templates.size()];
+        this.quality = new float[templates.size()];
+
+        List<SparseVector> vectors = new ArrayList<>(templates.size());
+        for (int slot = 0; slot < templates.size(); slot++) {
+            TemplateFeatures template = templates.get(slot);
+            templateIds[slot] = template.templateId();
+            quality[slot] = template.quality();
+            Map<Integer, Float> weights = new HashMap<>();
+            template.features().forEach((key, weight) ->
+                    weights.put(vocabulary.computeIfAbsent(key, k -> vocabulary.size()), weight));
+            vectors.add(SparseVector.of(weights));
+        }
+
+        // 특성별 템플릿 수를 센 뒤 배열을 한 번에 채움
+        int[] counts = new int[vocabulary.size()];
+        for (SparseVector vector : vectors) {
+            for (int i = 0; i < vector.size(); i++) {
+                counts[vector.indexAt(i)]++;
+            }
+        }
+        this.postingSlots = new int[counts.length][];
+        this.postingWeights = new float[counts.length][];
+        for (int feature = 0; feature < counts.length; feature++) {
+            postingSlots[feature] = new int[counts[feature]];
+            postingWeights[feature] = new float[counts[feature]];
+        }
+        int[] filled = new int[counts.length];
+        for (int slot = 0; slot < vectors.size(); slot++) {
+            SparseVector vector = vectors.get(slot);
+            for (int i = 0; i < vector.size(); i++) {
+                int feature = vector.indexAt(i);
+                postingSlots[feature][filled[feature]] = slot;
+                postingWeights[feature][filled[feature]++] = vector.valueAt(i);
+            }
+        }
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        return templateIds.length;
+    }
+
+    /**
+     * 특성 키 가중치를 이 색인의 특성 번호로 변환한 정규화 벡터 (템플릿에 없는 특성은 점수에 영향이 없으므로 제외)
+     */
+    SparseVector vectorize(Map<String, Float> features) {
+        Map<Integer, Float> weights = new HashMap<>();
+        features.forEach((key, weight) -> {
+            Integer feature = vocabulary.get(key);
+            if (feature != null) {
+                weights.put(feature, weight);
+            }
+        });
+        return SparseVector.of(weights);
+    }
+
+    /**
+     * 상위 N개 템플릿
+     *
+     * @param qualityWeight 품질 점수(평점/사용 횟수) 가중치 (특성이 겹치지 않는 프로필은 품질 순)
+     */
+    List<TemplateRecommendation> topN(SparseVector profile, int n, float qualityWeight) {
+        if (n <= 0 || templateIds.length == 0) {
+            return List.of();
+        }
+        float[] scores = new float[templateIds.length];
+        for (int i = 0; i < profile.size(); i++) {
+            int[] slots = postingSlots[profile.indexAt(i)];
+            float[] weights = postingWeights[profile.indexAt(i)];
+            float value = profile.valueAt(i);
+            for (int j = 0; j < slots.length; j++) {
+                scores[slots[j]] += value * weights[j];
+            }
+        }
+        for (int slot = 0; slot < scores.length; slot++) {
+            scores[slot] += qualityWeight * quality[slot];
+        }
+
+        // 점수 최소 힙으로 상위 N개 선택
+        PriorityQueue<Integer> heap = new PriorityQueue<>(n + 1, (a, b) -> Float.compare(scores[a], scores[b]));
+        for (int slot = 0; slot < scores.length; slot++) {
+            if (heap.size() < n) {
+                heap.add(slot);
+            } else if (scores[slot] > scores[heap.peek()]) {
+                heap.poll();
+                heap.add(slot);
+            }
+        }
+        List<TemplateRecommendation> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            int slot = heap.poll();
+            result.add(new TemplateRecommendation(templateIds[slot], scores[slot]));
+        }
+        Collections.reverse(result);
+        return List.copyOf(result);
+    }
+
+    /**
+     * 템플릿 특성
+     *
+     * @param quality 0~1 품질 점수
+     */
+    record TemplateFeatures(long templateId, Map<String, Float> features, float quality) {
+    }
+}
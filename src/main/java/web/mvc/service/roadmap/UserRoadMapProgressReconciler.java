@@ -0,0 +1,208 @@
+package web.mvc.service.roadmap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.RoadmapProgressProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로드맵 진행률 카운터 보정 작업
+ * user_roadmaps의 완료/전체 단계 수, 누적 학습 시간 카운터를 user_step_progress 집계와 비교하여
+ * 어긋난 로드맵을 찾아 고친다. 카운터는 엔티티 메서드에서 증분 갱신되므로 직접 SQL 수정이나
+ * 동시 갱신(같은 로드맵의 단계를 동시에 완료)으로 생긴 차이만 여기서 보정된다.
+ *
+ * 로드맵 ID 키셋 페이지 단위로 읽고, 갱신은 읽은 카운터 값이 그대로일 때만 적용하므로
+ * 검사 도중 사용자가 진행한 변경을 덮어쓰지 않는다 (그 로드맵은 다음 실행에서 다시 검사).
+ * 갱신 시 version도 올려 보정 전에 로드맵을 읽은 트랜잭션이 보정 값을 덮어쓰지 못하게 한다.
+ *
+ * 카운터 컬럼 추가 전부터 있던 로드맵은 시작 시 한 번 전체 보정으로 채운다 (backfill-on-startup).
+ */
+@Slf4j
+@Service
+public class UserRoadMapProgressReconciler {
+
+    private static final String AGGREGATE_SQL = "SELECT r.user_roadmap_id, r.completed_steps, r.total_steps, " +
+            "r.total_study_hours, COUNT(p.progress_id) AS actual_total, " +
+            "COALESCE(SUM(CASE WHEN p.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS actual_completed, " +
+            "COALESCE(SUM(p.study_hours), 0) AS actual_hours " +
+            "FROM user_roadmaps r LEFT JOIN user_step_progress p ON p.user_roadmap_id = r.user_roadmap_id " +
+            "WHERE r.user_roadmap_id > ? " +
+            "GROUP BY r.user_roadmap_id, r.completed_steps, r.total_steps, r.total_study_hours " +
+            "ORDER BY r.user_roadmap_id LIMIT ?";
+
+    // 카운터가 NULL인 행(컬럼 추가 직후)도 비교되도록 NULL 안전 비교(<=>) 사용
+    // UserRoadMap.updateProgress처럼 100%가 되면 완료 상태로 바꾼다 (완료 시각은 처음 완료될 때만 기록,
+    // MySQL은 SET 절을 왼쪽부터 적용하므로 completed_at을 status보다 먼저 갱신)
+    private static final String REPAIR_SQL = "UPDATE user_roadmaps SET completed_steps = ?, total_steps = ?, " +
+            "total_study_hours = ?, progress_percentage = ?, " +
+            "completed_at = CASE WHEN ? AND status <> 'COMPLETED' THEN NOW() ELSE completed_at END, " +
+            "status = CASE WHEN ? THEN 'COMPLETED' ELSE status END, version = version + 1 " +
+            "WHERE user_roadmap_id = ? AND completed_steps <=> ? AND total_steps <=> ? AND total_study_hours <=> ?";
+
+    private static final String UNFILLED_SQL = "SELECT COUNT(*) FROM (SELECT 1 FROM user_roadmaps r " +
+            "WHERE COALESCE(r.total_steps, 0) = 0 " +
+            "AND EXISTS (SELECT 1 FROM user_step_progress p WHERE p.user_roadmap_id = r.user_roadmap_id) LIMIT 1) u";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RoadmapProgressProperties properties;
+    private final Counter driftCounter;
+
+    public UserRoadMapProgressReconciler(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            RoadmapProgressProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.driftCounter = Counter.builder("roadmap.progress.drift")
+                .description("진행률 카운터가 단계 진행 집계와 달랐던 로드맵 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적 보정 작업
+     */
+    @Scheduled(cron = "${roadmap.progress.reconcile-cron:0 40 3 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            log.warn("Roadmap progress reconciliation failed", e);
+        }
+    }
+
+    /**
+     * 시작 시 카운터가 채워지지 않은 로드맵이 있으면 전체 보정 (repair 설정과 관계없이 고침)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfUnfilled() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        try {
+            Integer unfilled = jdbcTemplate.queryForObject(UNFILLED_SQL, Integer.class);
+            if (unfilled == null || unfilled == 0) {
+                return;
+            }
+            reconcile(true);
+        } catch (DataAccessException e) {
+            log.warn("Roadmap progress backfill failed, the scheduled reconciliation will retry", e);
+        }
+    }
+
+    /**
+     * 전체 로드맵 카운터 검사 (어긋난 로드맵 수 반환)
+     */
+    public int reconcile() {
+        return reconcile(properties.isRepair());
+    }
+
+    private int reconcile(boolean repair) {
+        long startedAt = System.currentTimeMillis();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long lastId = 0;
+        int scanned = 0;
+        int drifted = 0;
+        int repaired = 0;
+        while (true) {
+            List<ProgressDrift> drifts = new ArrayList<>();
+            long[] cursor = { lastId };
+            int[] rows = { 0 };
+            jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+                rows[0]++;
+                cursor[0] = rs.getLong("user_roadmap_id");
+                ProgressDrift drift = new ProgressDrift(cursor[0], rs.getObject("completed_steps", Integer.class),
+                        rs.getObject("total_steps", Integer.class), rs.getBigDecimal("total_study_hours"),
+                        rs.getInt("actual_completed"), rs.getInt("actual_total"), rs.getBigDecimal("actual_hours"));
+                if (drift.isDrifted()) {
+                    drifts.add(drift);
+                }
+            }, lastId, batchSize);
+            scanned += rows[0];
+            drifted += drifts.size();
+            if (!drifts.isEmpty()) {
+                driftCounter.increment(drifts.size());
+                log.info("Roadmap progress drift: {}", drifts.stream().limit(10).toList());
+                if (repair) {
+                    repaired += repair(drifts);
+                }
+            }
+            if (rows[0] < batchSize) {
+                break;
+            }
+            lastId = cursor[0];
+        }
+        log.info("Roadmap progress reconciled: {} scanned, {} drifted, {} repaired in {}ms",
+                scanned, drifted, repaired, System.currentTimeMillis() - startedAt);
+        return drifted;
+    }
+
+    private int repair(List<ProgressDrift> drifts) {
+        int[][] updated = transactionTemplate.execute(status ->
+                jdbcTemplate.batchUpdate(REPAIR_SQL, drifts, drifts.size(), (ps, drift) -> {
+                    ps.setInt(1, drift.actualCompleted());
+                    ps.setInt(2, drift.actualTotal());
+                    ps.setBigDecimal(3, drift.actualHours());
+                    ps.setBigDecimal(4, drift.actualPercentage());
+                    ps.setBoolean(5, drift.isActuallyComplete());
+                    ps.setBoolean(6, drift.isActuallyComplete());
+                    ps.setLong(7, drift.userRoadMapId());
+                    ps.setObject(8, drift.completedSteps(), Types.INTEGER);
+                    ps.setObject(9, drift.totalSteps(), Types.INTEGER);
+                    ps.setBigDecimal(10, drift.totalStudyHours());
+                }));
+        int repaired = 0;
+        if (updated != null) {
+            for (int[] batch : updated) {
+                for (int count : batch) {
+                    repaired += Math.max(count, 0);
+                }
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 로드맵 카운터와 실제 집계
+     */
+    record ProgressDrift(long userRoadMapId, Integer completedSteps, Integer totalSteps, BigDecimal totalStudyHours,
+            int actualCompleted, int actualTotal, BigDecimal actualHours) {
+
+        boolean isDrifted() {
+            return completedSteps == null || completedSteps != actualCompleted
+                    || totalSteps == null || totalSteps != actualTotal
+                    || totalStudyHours == null || totalStudyHours.compareTo(actualHours) != 0;
+        }
+
+        /**
+         * UserRoadMap.updateProgress와 같은 규칙의 진행률
+         */
+        BigDecimal actualPercentage() {
+            if (actualTotal <= 0) {
+                return BigDecimal.ZERO.setScale(2);
+            }
+            return BigDecimal.valueOf(Math.min(actualCompleted, actualTotal) * 100L)
+                    .divide(BigDecimal.valueOf(actualTotal), 2, RoundingMode.HALF_UP);
+        }
+
+        /**
+         * 진행률 100% 여부 (UserRoadMap.updateProgress가 완료 처리하는 조건)
+         */
+        boolean isActuallyComplete() {
+            return actualTotal > 0 && actualCompleted >= actualTotal;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package web.mvc.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.SearchIndexProperties;
+import web.mvc.domain.LearningContent;
+import web.mvc.domain.LearningContent.ContentType;
+import web.mvc.domain.LearningContent.DifficultyLevel;
+import web.mvc.domain.event.LearningContentChangedEvent;
+import web.mvc.repository.LearningContentRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 학습 콘텐츠 전문 검색 서비스
+ * 승인된 활성 콘텐츠의 제목/설명/작성자/태그를 역색인에 유지하고
+ * BM25 순위로 ID를 구한 뒤 DB에서는 기본키 조회만 수행한다.
+ * 색인이 준비되기 전이거나 비활성화된 경우 기존 LIKE 검색 쿼리를 사용한다.
+ *
+ * 재구축은 새 색인을 만든 뒤 교체하므로 재구축 중에도 검색은 기존 색인을 사용하며,
+ * 재구축 중 들어온 변경은 교체 전에 새 색인에 다시 적용한다.
+ */
+@Slf4j
+@Service
+public class ContentSearchService {
+
+    private final LearningContentRepository learningContentRepository;
+    private final SearchIndexProperties properties;
+    private final SearchTokenizer tokenizer = new SearchTokenizer();
+
+    private volatile InvertedIndex<ContentAttributes> index;
+    private volatile boolean ready = false;
+
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock lock = new ReentrantLock();
+    /**
+     * 재구축 중 들어온 변경 (콘텐츠 ID → 색인할 문서, null이면 삭제)
+     */
+    private Map<Long, IndexedContent> pendingChanges;
+
+    public ContentSearchService(LearningContentRepository learningContentRepository,
+            SearchIndexProperties properties) {
+        this.learningContentRepository = learningContentRepository;
+        this.properties = properties;
+        this.index = newIndex();
+    }
+
+    /**
+     * 애플리케이션 시작 시 승인된 활성 콘텐츠로 색인 재구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            lock.lock();
+            try {
+                pendingChanges = new HashMap<>();
+            } finally {
+                lock.unlock();
+            }
+            InvertedIndex<ContentAttributes> rebuilt = newIndex();
+            boolean loaded = false;
+            try {
+                // OFFSET 대신 마지막 ID 이후를 조회하여 뒤쪽 묶음도 같은 비용으로 읽음
+                List<LearningContent> batch;
+                long afterId = 0L;
+                do {
+                    batch = learningContentRepository.findApprovedActiveContentsAfter(afterId,
+                            Limit.of(properties.getRebuildBatchSize()));
+                    for (LearningContent content : batch) {
+                        apply(rebuilt, content.getContentId(), toIndexedContent(content));
+                    }
+                    if (!batch.isEmpty()) {
+                        afterId = batch.get(batch.size() - 1).getContentId();
+                    }
+                } while (batch.size() == properties.getRebuildBatchSize());
+                loaded = true;
+            } finally {
+                lock.lock();
+                try {
+                    if (loaded) {
+                        pendingChanges.forEach((contentId, content) -> apply(rebuilt, contentId, content));
+                        index = rebuilt;
+                        ready = true;
+                    }
+                    pendingChanges = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+            log.info("Content search index rebuilt: {} documents in {}ms",
+                    rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 콘텐츠 생성/승인/비활성화 등 변경 사항을 커밋 이후 색인에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(LearningContentChangedEvent event) {
+        Long contentId = event.getContentId();
+        if (!properties.isEnabled() || contentId == null) {
+            return;
+        }
+
+        IndexedContent indexed = event.isDeleted() || !event.isPubliclyAvailable()
+                ? null
+                : toIndexedContent(event.getTitle(), event.getDescription(), event.getAuthor(), event.getTags(),
+                        new ContentAttributes(event.getContentType(), event.getProgrammingLanguage(),
+                                event.getCategory(), event.getDifficultyLevel(), event.getIsFree()));
+        lock.lock();
+        try {
+            apply(index, contentId, indexed);
+            if (pendingChanges != null) {
+                pendingChanges.put(contentId, indexed);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (관련도 순)
+     * Pageable의 정렬 조건은 무시되며 BM25 점수 순으로 정렬된다.
+     */
+    public Page<LearningContent> searchByKeyword(String keyword, Pageable pageable) {
+        if (!isIndexAvailable()) {
+            return learningContentRepository.searchByKeyword(keyword, pageable);
+        }
+        return search(keyword, null, pageable);
+    }
+
+    /**
+     * 필터 조건을 포함한 복합 검색
+     * 키워드가 없으면 필터 조건만으로 DB를 조회한다.
+     */
+    public Page<LearningContent> searchWithFilters(ContentType contentType, String language, String category,
+            DifficultyLevel difficulty, Boolean isFree, String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank() || !isIndexAvailable()) {
+            return learningContentRepository.searchWithFilters(contentType, language, category,
+                    difficulty, isFree, keyword, pageable);
+        }
+
+        Predicate<ContentAttributes> filter = attributes ->
+                (contentType == null || contentType == attributes.contentType())
+                        && (language == null || language.equals(attributes.programmingLanguage()))
+                        && (category == null || category.equals(attributes.category()))
+                        && (difficulty == null || difficulty == attributes.difficultyLevel())
+                        && (isFree == null || isFree.equals(attributes.isFree()));
+        return search(keyword, filter, pageable);
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     */
+    public boolean isIndexAvailable() {
+        return properties.isEnabled() && ready;
+    }
+
+    private Page<LearningContent> search(String keyword, Predicate<ContentAttributes> filter, Pageable pageable) {
+        List<String> terms = tokenizer.tokenizeForQuery(keyword);
+        InvertedIndex.SearchHits hits = index.search(terms, filter, pageable.getOffset(), pageable.getPageSize());
+        if (hits.docIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.totalHits());
+        }
+
+        Map<Long, LearningContent> contentsById = learningContentRepository.findAllById(hits.docIds()).stream()
+                .collect(Collectors.toMap(LearningContent::getContentId, Function.identity()));
+        List<LearningContent> ordered = hits.docIds().stream()
+                .map(contentsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+        return new PageImpl<>(ordered, pageable, hits.totalHits());
+    }
+
+    private InvertedIndex<ContentAttributes> newIndex() {
+        return new InvertedIndex<>(properties.getK1(), properties.getB());
+    }
+
+    /**
+     * @param content null이면 삭제
+     */
+    private static void apply(InvertedIndex<ContentAttributes> target, Long contentId, IndexedContent content) {
+        if (content == null) {
+            target.remove(contentId);
+        } else {
+            target.put(contentId, content.termFrequencies(), content.attributes());
+        }
+    }
+
+    private IndexedContent toIndexedContent(LearningContent content) {
+        return toIndexedContent(content.getTitle(), content.getDescription(), content.getAuthor(), content.getTags(),
+                new ContentAttributes(
+                        content.getContentType(),
+                        content.getProgrammingLanguage(),
+                        content.getCategory(),
+                        content.getDifficultyLevel(),
+                        content.getIsFree()));
+    }
+
+    private IndexedContent toIndexedContent(String title, String description, String author, List<String> tags,
+            ContentAttributes attributes) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, title, properties.getTitleBoost());
+        addTerms(termFrequencies, description, 1);
+        addTerms(termFrequencies, author, 1);
+        if (tags != null) {
+            for (String tag : tags) {
+                addTerms(termFrequencies, tag, properties.getTagBoost());
+            }
+        }
+        return new IndexedContent(termFrequencies, attributes);
+    }
+
+    private void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : tokenizer.tokenizeForIndex(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * 색인할 문서 (단어 빈도 + 필터링 속성)
+     */
+    private record IndexedContent(Map<String, Integer> termFrequencies, ContentAttributes attributes) {
+    }
+
+    /**
+     * 필터링용 콘텐츠 속성
+     */
+    private record ContentAttributes(ContentType contentType, String programmingLanguage, String category,
+            DifficultyLevel difficultyLevel, Boolean isFree) {
+    }
+}
@@ -0,0 +1,100 @@
+package web.mvc.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch
+ * 고정 크기(depth x width) 카운터 표로 키별 빈도를 근사한다. 추정치는 실제보다 작지 않으며
+ * 오차는 전체 합의 약 e/width 이내(확률 1 - e^-depth)이다.
+ * 선형 구조라 같은 크기의 스케치끼리 더하고 뺄 수 있어 시간 구간별 스케치를 합산하는 데 사용한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[][] table;
+
+    /**
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param depth 해시 함수(행) 수
+     */
+    public CountMinSketch(int width, int depth) {
+        int size = Integer.highestOneBit(Math.max(2, width) - 1) << 1;
+        this.depth = Math.max(1, depth);
+        this.mask = size - 1;
+        this.table = new int[this.depth][size];
+    }
+
+    /**
+     * 키 해시 (행마다 다른 위치를 만들기 위한 64비트 값, 한 번 계산해 여러 스케치에 재사용)
+     */
+    public static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // FNV-1a 결과를 섞어 상위/하위 비트를 고르게 분포시킴
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public void add(long hash, int count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            table[row][(h1 + row * h2) & mask] += count;
+        }
+    }
+
+    /**
+     * 빈도 추정치 (행별 카운터 중 최솟값)
+     */
+    public int estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row][(h1 + row * h2) & mask]);
+        }
+        return Math.max(0, min);
+    }
+
+    /**
+     * 같은 크기 스케치의 카운터를 더함
+     */
+    public void merge(CountMinSketch other) {
+        combine(other, 1);
+    }
+
+    /**
+     * 같은 크기 스케치의 카운터를 뺌 (만료된 시간 구간 제거)
+     */
+    public void subtract(CountMinSketch other) {
+        combine(other, -1);
+    }
+
+    public void clear() {
+        for (int[] row : table) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private void combine(CountMinSketch other, int sign) {
+        if (other.depth != depth || other.mask != mask) {
+            throw new IllegalArgumentException("Sketch dimensions do not match");
+        }
+        for (int row = 0; row < depth; row++) {
+            int[] target = table[row];
+            int[] source = other.table[row];
+            for (int i = 0; i < target.length; i++) {
+                target[i] += sign * source[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package web.mvc.service.search;
+
+/**
+ * 영어 어간 추출기
+ * Porter 알고리즘 1단계(복수형, -ed/-ing, 어미 y 처리)만 적용한 경량 스테머
+ * 예) programming, programs → program / databases → database
+ */
+public class EnglishStemmer {
+
+    /**
+     * 어간 추출 (영문 소문자 단어가 아니면 그대로 반환)
+     */
+    public String stem(String word) {
+        if (word == null || word.length() <= 2 || !isLowerAsciiWord(word)) {
+            return word;
+        }
+        StringBuilder b = new StringBuilder(word);
+        step1a(b);
+        step1b(b);
+        step1c(b);
+        return b.toString();
+    }
+
+    /**
+     * 복수형 처리: sses → ss, ies → i, s → (삭제)
+     */
+    private void step1a(StringBuilder b) {
+        if (endsWith(b, "sses")) {
+            b.setLength(b.length() - 2);
+        } else if (endsWith(b, "ies")) {
+            b.setLength(b.length() - 2);
+        } else if (!endsWith(b, "ss") && endsWith(b, "s")) {
+            b.setLength(b.length() - 1);
+        }
+    }
+
+    /**
+     * 과거형/진행형 처리: eed → ee, ed/ing → (삭제 후 보정)
+     */
+    private void step1b(StringBuilder b) {
+        if (endsWith(b, "eed")) {
+            if (measure(b, b.length() - 3) > 0) {
+                b.setLength(b.length() - 1);
+            }
+            return;
+        }
+
+        int suffixLength;
+        if (endsWith(b, "ed")) {
+            suffixLength = 2;
+        } else if (endsWith(b, "ing")) {
+            suffixLength = 3;
+        } else {
+            return;
+        }
+
+        int stemLength = b.length() - suffixLength;
+        if (!containsVowel(b, stemLength)) {
+            return;
+        }
+        b.setLength(stemLength);
+
+        if (endsWith(b, "at") || endsWith(b, "bl") || endsWith(b, "iz")) {
+            b.append('e');
+        } else if (endsWithDoubleConsonant(b)) {
+            char last = b.charAt(b.length() - 1);
+            if (last != 'l' && last != 's' && last != 'z') {
+                b.setLength(b.length() - 1);
+            }
+        } else if (measure(b, b.length()) == 1 && endsWithCvc(b)) {
+            b.append('e');
+        }
+    }
+
+    /**
+     * 어미 y 처리: 모음을 포함한 어간 뒤의 y → i
+     */
+    private void step1c(StringBuilder b) {
+        if (endsWith(b, "y") && containsVowel(b, b.length() - 1)) {
+            b.setCharAt(b.length() - 1, 'i');
+        }
+    }
+
+    private boolean isConsonant(CharSequence b, int i) {
+        switch (b.charAt(i)) {
+            case 'a':
+            case 'e':
+            case 'i':
+            case 'o':
+            case 'u':
+                return false;
+            case 'y':
+                return i == 0 || !isConsonant(b, i - 1);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * [C](VC)^m[V] 형태에서 m 값 계산
+     */
+    private int measure(CharSequence b, int end) {
+        int m = 0;
+        int i = 0;
+        while (i < end && isConsonant(b, i)) {
+            i++;
+        }
+        while (i < end) {
+            while (i < end && !isConsonant(b, i)) {
+                i++;
+            }
+            if (i >= end) {
+                break;
+            }
+            while (i < end && isConsonant(b, i)) {
+                i++;
+            }
+            m++;
+        }
+        return m;
+    }
+
+    private boolean containsVowel(CharSequence b, int end) {
+        for (int i = 0; i < end; i++) {
+            if (!isConsonant(b, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean endsWithDoubleConsonant(CharSequence b) {
+        int n = b.length();
+        return n >= 2 && b.charAt(n - 1) == b.charAt(n - 2) && isConsonant(b, n - 1);
+    }
+
+    /**
+     * 자음-모음-자음(마지막 자음은 w, x, y 제외)으로 끝나는지 확인
+     */
+    private boolean endsWithCvc(CharSequence b) {
+        int n = b.length();
+        if (n < 3 || !isConsonant(b, n - 1) || isConsonant(b, n - 2) || !isConsonant(b, n - 3)) {
+            return false;
+        }
+        char last = b.charAt(n - 1);
+        return last != 'w' && last != 'x' && last != 'y';
+    }
+
+    private boolean endsWith(CharSequence b, String suffix) {
+        int offset = b.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (b.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLowerAsciiWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
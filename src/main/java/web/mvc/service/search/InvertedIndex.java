@@ -0,0 +1,215 @@
+package web.mvc.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * BM25 점수 기반 인메모리 역색인
+ * 문서 ID → 단어 빈도, 단어 → (문서 ID → 빈도) 포스팅 리스트를 유지하며
+ * 문서 단위로 증분 추가/삭제가 가능하다.
+ *
+ * @param <D> 필터링에 사용할 문서 속성 타입
+ */
+public class InvertedIndex<D> {
+
+    private final double k1;
+    private final double b;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument<D>> documents = new HashMap<>();
+    private long totalLength = 0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(double k1, double b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    /**
+     * 문서 색인 (이미 존재하면 교체)
+     */
+    public void put(long docId, Map<String, Integer> termFrequencies, D attributes) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                        .put(docId, entry.getValue());
+                length += entry.getValue();
+            }
+            documents.put(docId, new IndexedDocument<>(Map.copyOf(termFrequencies), length, attributes));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어 토큰을 포함하는 문서를 BM25 점수 순으로 조회
+     *
+     * @param terms  검색어 토큰 (중복 없음)
+     * @param filter 문서 속성 필터 (null이면 필터 없음)
+     * @param offset 건너뛸 문서 수
+     * @param limit  반환할 최대 문서 수
+     */
+    public SearchHits search(List<String> terms, Predicate<D> filter, long offset, int limit) {
+        if (terms.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return SearchHits.empty();
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 포스팅 리스트를 기준으로 교집합 계산
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 1.0 : (double) totalLength / documentCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1.0 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            long window = offset + limit;
+            PriorityQueue<ScoredDocument> topDocuments = new PriorityQueue<>(ScoredDocument.ASCENDING);
+            long totalHits = 0;
+
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : termPostings.get(0).entrySet()) {
+                long docId = candidate.getKey();
+                IndexedDocument<D> document = documents.get(docId);
+                if (filter != null && !filter.test(document.attributes())) {
+                    continue;
+                }
+
+                double lengthNorm = k1 * (1 - b + b * document.length() / averageLength);
+                double score = 0;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Integer tf = i == 0 ? candidate.getValue() : termPostings.get(i).get(docId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (k1 + 1) / (tf + lengthNorm);
+                }
+
+                totalHits++;
+                if (window <= 0) {
+                    continue;
+                }
+                ScoredDocument scored = new ScoredDocument(docId, score);
+                if (topDocuments.size() < window) {
+                    topDocuments.add(scored);
+                } else if (ScoredDocument.ASCENDING.compare(scored, topDocuments.peek()) > 0) {
+                    topDocuments.poll();
+                    topDocuments.add(scored);
+                }
+            }
+
+            List<ScoredDocument> ranked = new ArrayList<>(topDocuments);
+            ranked.sort(ScoredDocument.ASCENDING.reversed());
+            List<Long> docIds = new ArrayList<>(limit);
+            for (int i = (int) Math.min(offset, ranked.size()); i < ranked.size(); i++) {
+                docIds.add(ranked.get(i).docId());
+            }
+            return new SearchHits(docIds, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long docId) {
+        IndexedDocument<D> existing = documents.remove(docId);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(docId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.length();
+    }
+
+    /**
+     * 검색 결과 (순위가 매겨진 문서 ID 목록과 전체 매칭 수)
+     */
+    public record SearchHits(List<Long> docIds, long totalHits) {
+
+        public static SearchHits empty() {
+            return new SearchHits(List.of(), 0);
+        }
+    }
+
+    private record IndexedDocument<D>(Map<String, Integer> termFrequencies, int length, D attributes) {
+    }
+
+    private record ScoredDocument(long docId, double score) {
+
+        /**
+         * 점수 오름차순 (동점이면 최신 문서 ID 우선)
+         */
+        static final Comparator<ScoredDocument> ASCENDING = Comparator
+                .comparingDouble(ScoredDocument::score)
+                .thenComparingLong(ScoredDocument::docId);
+    }
+}
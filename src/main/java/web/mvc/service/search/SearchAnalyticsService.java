@@ -0,0 +1,174 @@
+package web.mvc.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import web.mvc.config.SearchAnalyticsProperties;
+import web.mvc.domain.event.SearchLogRecordedEvent;
+import web.mvc.domain.event.SearchLogRecordedEvent.ChangeType;
+import web.mvc.domain.support.SearchQueryNormalizer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 검색어 통계 서비스
+ * 커밋된 검색 로그를 이벤트로 받아 정규화한 검색어 기준으로 최근 구간의 인기 검색어,
+ * 결과 없는 검색어, 결과 없음 비율, 클릭률을 메모리에서 집계한다.
+ * 호출마다 기간 내 검색 로그를 GROUP BY 하던 getPopularSearchTerms 조회를 대체하며,
+ * 모든 조회는 검색 로그 양과 무관하게 상수 시간이다.
+ *
+ * 통계는 인스턴스별로 집계되며, 재시작 시 집계 구간의 검색 로그로 복원한다.
+ */
+@Slf4j
+@Service
+public class SearchAnalyticsService {
+
+    private static final String MIN_ID_SQL =
+            "SELECT MIN(log_id) FROM search_logs WHERE created_at >= ?";
+
+    private static final String MAX_ID_SQL = "SELECT MAX(log_id) FROM search_logs";
+
+    private static final String WARMUP_SQL = "SELECT log_id, search_query, results_count, clicked_result_id, " +
+            "created_at FROM search_logs WHERE log_id >= ? AND log_id <= ? ORDER BY log_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchAnalyticsProperties properties;
+    private final SearchAnalyticsWindow window;
+
+    public SearchAnalyticsService(JdbcTemplate jdbcTemplate, SearchAnalyticsProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.window = new SearchAnalyticsWindow(properties.getWindow(), properties.getBuckets(),
+                properties.getSketchWidth(), properties.getSketchDepth(), properties.getTopK());
+
+        Gauge.builder("search.analytics.zero_result_rate", this, service -> service.getStats().zeroResultRate())
+                .description("최근 구간 검색 중 결과가 없었던 비율")
+                .register(meterRegistry);
+        Gauge.builder("search.analytics.click_through_rate", this, service -> service.getStats().clickThroughRate())
+                .description("최근 구간 검색 중 결과를 클릭한 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 로그 저장/클릭 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchLogged(SearchLogRecordedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String term = SearchQueryNormalizer.normalize(event.getSearchQuery());
+        if (term.isEmpty()) {
+            return;
+        }
+        // 클릭도 검색 시각의 구간에 더해, 검색이 구간에서 빠질 때 클릭도 함께 빠지도록 함 (CTR이 1을 넘지 않음)
+        long searchedAt = toMillis(event.getCreatedAt());
+        if (event.getChangeType() == ChangeType.SEARCHED) {
+            window.recordSearch(term, event.isZeroResult(), searchedAt);
+        }
+        if (event.isClicked() || event.getChangeType() != ChangeType.SEARCHED) {
+            window.recordClick(term, searchedAt);
+        }
+    }
+
+    /**
+     * 인기 검색어 (최근 구간 검색 수 내림차순, 최대 top-k개)
+     */
+    public List<SearchTermCount> getPopularTerms(int limit) {
+        return window.getTopTerms(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * 결과가 없었던 검색어 (콘텐츠 보강 후보)
+     */
+    public List<SearchTermCount> getZeroResultTerms(int limit) {
+        return window.getTopZeroResultTerms(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 구간 전체 검색 수, 결과 없음 비율, 클릭률
+     */
+    public SearchWindowStats getStats() {
+        return window.getStats(System.currentTimeMillis());
+    }
+
+    /**
+     * 검색어별 통계 (입력 검색어를 같은 방식으로 정규화하여 조회)
+     */
+    public SearchWindowStats getTermStats(String query) {
+        String term = SearchQueryNormalizer.normalize(query);
+        if (term.isEmpty()) {
+            return new SearchWindowStats(0, 0, 0);
+        }
+        return window.getTermStats(term, System.currentTimeMillis());
+    }
+
+    /**
+     * 시작 시 집계 구간의 검색 로그로 통계 복원
+     * 시작 시점까지 저장된 로그만 읽고, 이후 로그는 이벤트로 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled() || !properties.isWarmupOnStartup()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minus(properties.getWindow());
+        try {
+            Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+            Long nextId = jdbcTemplate.queryForObject(MIN_ID_SQL, Long.class, Timestamp.valueOf(since));
+            if (maxId == null || nextId == null) {
+                return;
+            }
+            int batchSize = Math.max(1, properties.getWarmupBatchSize());
+            long[] cursor = { nextId };
+            int replayed = 0;
+            while (cursor[0] <= maxId) {
+                int[] rows = { 0 };
+                jdbcTemplate.query(WARMUP_SQL, rs -> {
+                    rows[0]++;
+                    cursor[0] = rs.getLong("log_id") + 1;
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    if (createdAt == null || createdAt.toLocalDateTime().isBefore(since)) {
+                        return;
+                    }
+                    String term = SearchQueryNormalizer.normalize(rs.getString("search_query"));
+                    if (term.isEmpty()) {
+                        return;
+                    }
+                    int resultsCount = rs.getInt("results_count");
+                    boolean zeroResult = !rs.wasNull() && resultsCount == 0;
+                    window.recordSearch(term, zeroResult, createdAt.getTime());
+                    rs.getLong("clicked_result_id");
+                    if (!rs.wasNull()) {
+                        window.recordClick(term, createdAt.getTime());
+                    }
+                }, cursor[0], maxId, batchSize);
+                replayed += rows[0];
+                if (rows[0] < batchSize) {
+                    break;
+                }
+            }
+            log.info("Search analytics warmed up: {} logs in {}ms", replayed, System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException e) {
+            log.warn("Search analytics warmup failed, starting with empty statistics", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return System.currentTimeMillis();
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
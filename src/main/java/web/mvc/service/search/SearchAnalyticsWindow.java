@@ -0,0 +1,363 @@
+package web.mvc.service.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검색어 슬라이딩 윈도 통계
+ * 집계 구간을 일정 크기의 시간 버킷으로 나누고, 버킷마다 검색/결과 없음/클릭 Count-Min Sketch와 건수를 둔다.
+ * 구간 전체 스케치는 버킷 스케치의 합으로 유지하며, 버킷이 만료되면 그 버킷만큼 빼므로
+ * 검색어별 추정치와 비율 조회는 버킷 수와 무관하게 상수 시간이다.
+ *
+ * 인기 검색어/결과 없는 검색어는 스케치 추정치 기준 최소 힙으로 상위 후보만 유지한다.
+ * (버킷 만료로 순위에서 밀려난 검색어는 다음 검색 때 다시 후보가 됨)
+ */
+public class SearchAnalyticsWindow {
+
+    private final long bucketMillis;
+    private final Bucket[] ring;
+    private final int sketchWidth;
+    private final int sketchDepth;
+
+    private final CountMinSketch searchSketch;
+    private final CountMinSketch zeroResultSketch;
+    private final CountMinSketch clickSketch;
+    private long searches;
+    private long zeroResultSearches;
+    private long clicks;
+
+    private final TopTerms popularTerms;
+    private final TopTerms zeroResultTerms;
+
+    /**
+     * 지금까지 본 가장 최근 버킷 번호 (epoch 밀리초 / 버킷 크기)
+     */
+    private long latestBucket = Long.MIN_VALUE;
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * @param window      집계 구간
+     * @param buckets     구간을 나눌 버킷 수 (만료 단위)
+     * @param sketchWidth 스케치 행당 카운터 수
+     * @param sketchDepth 스케치 행 수
+     * @param topK        조회할 최대 상위 검색어 수
+     */
+    public SearchAnalyticsWindow(Duration window, int buckets, int sketchWidth, int sketchDepth, int topK) {
+        int bucketCount = Math.max(1, buckets);
+        this.bucketMillis = Math.max(1, window.toMillis() / bucketCount);
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.ring = new Bucket[bucketCount];
+        this.searchSketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.zeroResultSketch = new CountMinSketch(sketchWidth, sketchDepth);
+        this.clickSketch = new CountMinSketch(sketchWidth, sketchDepth);
+        // 만료 후 순위 변동에 대비해 조회 수의 두 배까지 후보로 유지
+        int capacity = Math.max(1, topK) * 2;
+        this.popularTerms = new TopTerms(capacity, searchSketch);
+        this.zeroResultTerms = new TopTerms(capacity, zeroResultSketch);
+    }
+
+    /**
+     * 검색 기록
+     *
+     * @param term       정규화된 검색어
+     * @param zeroResult 결과가 없었던 검색인지
+     */
+    public void recordSearch(String term, boolean zeroResult, long timestampMillis) {
+        long hash = CountMinSketch.hash(term);
+        lock.lock();
+        try {
+            Bucket bucket = bucketFor(timestampMillis);
+            if (bucket == null) {
+                return;
+            }
+            bucket.searchSketch.add(hash, 1);
+            bucket.searches++;
+            searchSketch.add(hash, 1);
+            searches++;
+            popularTerms.offer(term, hash);
+            if (zeroResult) {
+                bucket.zeroResultSketch.add(hash, 1);
+                bucket.zeroResultSearches++;
+                zeroResultSketch.add(hash, 1);
+                zeroResultSearches++;
+                zeroResultTerms.offer(term, hash);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 검색 결과 클릭 기록
+     */
+    public void recordClick(String term, long timestampMillis) {
+        long hash = CountMinSketch.hash(term);
+        lock.lock();
+        try {
+            Bucket bucket = bucketFor(timestampMillis);
+            if (bucket == null) {
+                return;
+            }
+            bucket.clickSketch.add(hash, 1);
+            bucket.clicks++;
+            clickSketch.add(hash, 1);
+            clicks++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 인기 검색어 (검색 수 내림차순)
+     */
+    public List<SearchTermCount> getTopTerms(int limit, long nowMillis) {
+        lock.lock();
+        try {
+            advance(nowMillis / bucketMillis);
+            return popularTerms.top(limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과가 없었던 검색어 (결과 없음 수 내림차순)
+     */
+    public List<SearchTermCount> getTopZeroResultTerms(int limit, long nowMillis) {
+        lock.lock();
+        try {
+            advance(nowMillis / bucketMillis);
+            return zeroResultTerms.top(limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 구간 전체 통계
+     */
+    public SearchWindowStats getStats(long nowMillis) {
+        lock.lock();
+        try {
+            advance(nowMillis / bucketMillis);
+            return new SearchWindowStats(searches, zeroResultSearches, clicks);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 검색어별 통계 (스케치 추정치)
+     */
+    public SearchWindowStats getTermStats(String term, long nowMillis) {
+        long hash = CountMinSketch.hash(term);
+        lock.lock();
+        try {
+            advance(nowMillis / bucketMillis);
+            return new SearchWindowStats(searchSketch.estimate(hash), zeroResultSketch.estimate(hash),
+                    clickSketch.estimate(hash));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = null;
+            }
+            searchSketch.clear();
+            zeroResultSketch.clear();
+            clickSketch.clear();
+            searches = 0;
+            zeroResultSearches = 0;
+            clicks = 0;
+            popularTerms.clear();
+            zeroResultTerms.clear();
+            latestBucket = Long.MIN_VALUE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시각에 해당하는 버킷 (구간을 벗어난 과거 시각이면 null)
+     */
+    private Bucket bucketFor(long timestampMillis) {
+        long number = timestampMillis / bucketMillis;
+        advance(number);
+        if (number <= latestBucket - ring.length) {
+            return null;
+        }
+        int slot = (int) Math.floorMod(number, (long) ring.length);
+        Bucket bucket = ring[slot];
+        if (bucket == null) {
+            bucket = new Bucket(sketchWidth, sketchDepth);
+            ring[slot] = bucket;
+        }
+        bucket.number = number;
+        return bucket;
+    }
+
+    /**
+     * 최근 버킷을 옮기고 구간을 벗어난 버킷을 합계에서 제거
+     */
+    private void advance(long number) {
+        if (number <= latestBucket) {
+            return;
+        }
+        latestBucket = number;
+        boolean expired = false;
+        for (Bucket bucket : ring) {
+            if (bucket != null && !bucket.isEmpty() && bucket.number <= number - ring.length) {
+                expire(bucket);
+                expired = true;
+            }
+        }
+        if (expired) {
+            popularTerms.refresh();
+            zeroResultTerms.refresh();
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        searchSketch.subtract(bucket.searchSketch);
+        zeroResultSketch.subtract(bucket.zeroResultSketch);
+        clickSketch.subtract(bucket.clickSketch);
+        searches -= bucket.searches;
+        zeroResultSearches -= bucket.zeroResultSearches;
+        clicks -= bucket.clicks;
+        bucket.reset();
+    }
+
+    private static final class Bucket {
+
+        private long number;
+        private final CountMinSketch searchSketch;
+        private final CountMinSketch zeroResultSketch;
+        private final CountMinSketch clickSketch;
+        private long searches;
+        private long zeroResultSearches;
+        private long clicks;
+
+        private Bucket(int width, int depth) {
+            this.searchSketch = new CountMinSketch(width, depth);
+            this.zeroResultSketch = new CountMinSketch(width, depth);
+            this.clickSketch = new CountMinSketch(width, depth);
+        }
+
+        private boolean isEmpty() {
+            return searches == 0 && clicks == 0;
+        }
+
+        private void reset() {
+            searchSketch.clear();
+            zeroResultSketch.clear();
+            clickSketch.clear();
+            searches = 0;
+            zeroResultSearches = 0;
+            clicks = 0;
+        }
+    }
+
+    /**
+     * 스케치 추정치 기준 상위 후보 (최소 힙 + 검색어 색인)
+     */
+    private static final class TopTerms {
+
+        private static final Comparator<Candidate> BY_COUNT = Comparator
+                .comparingLong((Candidate candidate) -> candidate.count)
+                .thenComparing(candidate -> candidate.term, Comparator.reverseOrder());
+
+        private final int capacity;
+        private final CountMinSketch sketch;
+        private final Map<String, Candidate> candidates = new HashMap<>();
+        private final PriorityQueue<Candidate> heap = new PriorityQueue<>(BY_COUNT);
+        private List<SearchTermCount> snapshot;
+
+        private TopTerms(int capacity, CountMinSketch sketch) {
+            this.capacity = capacity;
+            this.sketch = sketch;
+        }
+
+        private void offer(String term, long hash) {
+            long count = sketch.estimate(hash);
+            Candidate candidate = candidates.get(term);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.count = count;
+                heap.add(candidate);
+            } else if (heap.size() < capacity) {
+                add(new Candidate(term, hash, count));
+            } else if (count > heap.peek().count) {
+                candidates.remove(heap.poll().term);
+                add(new Candidate(term, hash, count));
+            } else {
+                return;
+            }
+            snapshot = null;
+        }
+
+        /**
+         * 버킷 만료 후 후보 추정치 재계산 (0이 된 후보 제거)
+         */
+        private void refresh() {
+            heap.clear();
+            candidates.values().removeIf(candidate -> {
+                candidate.count = sketch.estimate(candidate.hash);
+                return candidate.count == 0;
+            });
+            heap.addAll(candidates.values());
+            snapshot = null;
+        }
+
+        private List<SearchTermCount> top(int limit) {
+            if (snapshot == null) {
+                List<Candidate> sorted = new ArrayList<>(heap);
+                sorted.sort(BY_COUNT.reversed());
+                List<SearchTermCount> result = new ArrayList<>(sorted.size());
+                for (Candidate candidate : sorted) {
+                    result.add(new SearchTermCount(candidate.term, candidate.count));
+                }
+                snapshot = List.copyOf(result);
+            }
+            return snapshot.subList(0, Math.min(Math.max(0, limit), snapshot.size()));
+        }
+
+        private void clear() {
+            candidates.clear();
+            heap.clear();
+            snapshot = null;
+        }
+
+        private void add(Candidate candidate) {
+            candidates.put(candidate.term, candidate);
+            heap.add(candidate);
+        }
+    }
+
+    private static final class Candidate {
+
+        private final String term;
+        private final long hash;
+        private long count;
+
+        private Candidate(String term, long hash, long count) {
+            this.term = term;
+            this.hash = hash;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package web.mvc.service.search;
+
+/**
+ * 검색어별 건수 (Count-Min Sketch 추정치)
+ */
+public record SearchTermCount(String term, long count) {
+}
@@ -0,0 +1,137 @@
+package web.mvc.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 토크나이저
+ * - 한글/한자/일본어: 형태소 분석 대신 음절 n-gram(1-gram + 2-gram) 색인
+ * - 영문/숫자: 단어 단위 분리 후 어간 추출 (C++, C# 같은 기호는 토큰에 포함)
+ */
+public class SearchTokenizer {
+
+    private static final Set<String> ENGLISH_STOPWORDS = Set.of(
+            "a", "an", "the", "and", "or", "of", "to", "in", "on", "for", "with", "by", "is", "are");
+
+    private final EnglishStemmer stemmer = new EnglishStemmer();
+
+    /**
+     * 색인용 토큰 추출 (빈도 계산을 위해 중복 토큰 유지)
+     * 한글 구간은 1-gram과 2-gram을 모두 생성하여 한 글자 검색도 지원
+     */
+    public List<String> tokenizeForIndex(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (Run run : split(text)) {
+            if (run.cjk) {
+                String s = run.text;
+                for (int i = 0; i < s.length(); i++) {
+                    tokens.add(s.substring(i, i + 1));
+                    if (i + 1 < s.length()) {
+                        tokens.add(s.substring(i, i + 2));
+                    }
+                }
+            } else {
+                addWordToken(tokens, run.text);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어용 토큰 추출 (중복 제거)
+     * 한글 구간은 길이가 1이면 1-gram, 그 이상이면 2-gram으로 분해하여
+     * 모든 토큰을 포함하는 문서만 매칭 (부분 문자열 검색과 유사한 정밀도)
+     */
+    public List<String> tokenizeForQuery(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (Run run : split(text)) {
+            if (run.cjk) {
+                String s = run.text;
+                if (s.length() == 1) {
+                    tokens.add(s);
+                }
+                for (int i = 0; i + 1 < s.length(); i++) {
+                    tokens.add(s.substring(i, i + 2));
+                }
+            } else {
+                List<String> word = new ArrayList<>(1);
+                addWordToken(word, run.text);
+                tokens.addAll(word);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private void addWordToken(List<String> tokens, String word) {
+        if (ENGLISH_STOPWORDS.contains(word)) {
+            return;
+        }
+        tokens.add(stemmer.stem(word));
+    }
+
+    /**
+     * 정규화(NFKC, 소문자) 후 문자 종류별 구간으로 분리
+     */
+    private List<Run> split(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        Boolean currentCjk = null;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            Boolean cjk = classify(c, current.length() > 0 && Boolean.FALSE.equals(currentCjk));
+            if (cjk == null || !cjk.equals(currentCjk)) {
+                flush(runs, current, currentCjk);
+                currentCjk = cjk;
+            }
+            if (cjk != null) {
+                current.append(c);
+            }
+        }
+        flush(runs, current, currentCjk);
+        return runs;
+    }
+
+    /**
+     * 문자 분류: TRUE = n-gram 대상(CJK), FALSE = 단어 문자, null = 구분자
+     */
+    private Boolean classify(char c, boolean inWord) {
+        if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+            return null;
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        if (script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA) {
+            return Boolean.TRUE;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return Boolean.FALSE;
+        }
+        // c++, c# 처럼 단어 뒤에 붙는 기호는 토큰의 일부로 취급
+        if (inWord && (c == '+' || c == '#')) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    private void flush(List<Run> runs, StringBuilder current, Boolean cjk) {
+        if (current.length() > 0) {
+            runs.add(new Run(current.toString(), Boolean.TRUE.equals(cjk)));
+            current.setLength(0);
+        }
+    }
+
+    private record Run(String text, boolean cjk) {
+    }
+}
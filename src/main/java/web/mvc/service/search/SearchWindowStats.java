@@ -0,0 +1,25 @@
+package web.mvc.service.search;
+
+/**
+ * 집계 구간 검색 통계
+ *
+ * @param searches           검색 수
+ * @param zeroResultSearches 결과가 없었던 검색 수
+ * @param clicks             결과를 클릭한 검색 수
+ */
+public record SearchWindowStats(long searches, long zeroResultSearches, long clicks) {
+
+    /**
+     * 결과 없음 비율 (검색이 없으면 0)
+     */
+    public double zeroResultRate() {
+        return searches > 0 ? (double) zeroResultSearches / searches : 0.0;
+    }
+
+    /**
+     * 클릭률 (검색이 없으면 0)
+     */
+    public double clickThroughRate() {
+        return searches > 0 ? Math.min(1.0, (double) clicks / searches) : 0.0;
+    }
+}
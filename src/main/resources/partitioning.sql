@@ -0,0 +1,79 @@
+-- ==============================================
+-- 추가 전용 대용량 테이블 월별 파티션 전환 (MySQL 8)
+-- search_logs, learning_activities, ai_chat_messages, notifications
+-- ==============================================
+-- 보관 기간이 지난 데이터는 PartitionRetentionService가 DROP PARTITION으로 삭제하고,
+-- 미래 달 파티션은 p_future(MAXVALUE)를 나눠 미리 만든다. (partition.retention 설정)
+--
+-- MySQL 파티션 테이블 제약
+--  * 모든 PRIMARY/UNIQUE KEY에 파티션 컬럼(created_at)이 포함되어야 함 -> PK를 (id, created_at)로 변경
+--  * 외래 키를 가지거나 참조될 수 없음 -> 외래 키 제거 (사용자 삭제 시 정리는 애플리케이션/보관 기간으로 처리)
+--  * 외래 키 이름은 SHOW CREATE TABLE로 확인 후 실행
+--
+-- 아래 PARTITION BY 절의 날짜는 예시이며, partition.retention.dry-run=true로 실행하면
+-- 현재 날짜와 보관 기간에 맞춘 전환 DDL이 로그에 출력된다.
+-- 테이블을 다시 쓰는 작업이므로 점검 시간에 실행한다.
+
+-- 검색 로그 (보관 6개월)
+ALTER TABLE search_logs DROP FOREIGN KEY search_logs_ibfk_1;
+ALTER TABLE search_logs
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY, ADD PRIMARY KEY (log_id, created_at);
+ALTER TABLE search_logs PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_past VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 학습 활동 로그 (보관 13개월, activity_id는 id_sequences 블록 할당이므로 AUTO_INCREMENT와 무관)
+ALTER TABLE learning_activities DROP FOREIGN KEY learning_activities_ibfk_1;
+ALTER TABLE learning_activities
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY, ADD PRIMARY KEY (activity_id, created_at);
+ALTER TABLE learning_activities PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_past VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    -- ... 월별 파티션 ...
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- AI 채팅 메시지 (보관 12개월, 세션 삭제 시 ON DELETE CASCADE 대신 세션 ID로 직접 삭제)
+ALTER TABLE ai_chat_messages DROP FOREIGN KEY ai_chat_messages_ibfk_1;
+ALTER TABLE ai_chat_messages
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY, ADD PRIMARY KEY (message_id, created_at);
+ALTER TABLE ai_chat_messages PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_past VALUES LESS THAN ('2025-10-01'),
+    PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+    -- ... 월별 파티션 ...
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 알림 (보관 6개월)
+-- unique_broadcast_user에도 created_at이 포함되어야 하므로 (broadcast_id, user_id) 중복 방지는 되지 않는다.
+-- 일괄 발송 중복 방지는 NotificationFanoutService가 청크마다 점유를 공유 잠금으로 확인(점유를 잃은 실행은 저장 불가)하고
+-- 재개 시 기발송 사용자를 조회하여 처리한다. (조회용 인덱스로 유지)
+ALTER TABLE notifications DROP FOREIGN KEY notifications_ibfk_1;
+ALTER TABLE notifications
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY, ADD PRIMARY KEY (notification_id, created_at),
+    DROP INDEX unique_broadcast_user, ADD INDEX idx_broadcast_user (broadcast_id, user_id);
+ALTER TABLE notifications PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_past VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
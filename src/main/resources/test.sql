@@ -93,7 +93,7 @@ CREATE TABLE mentor_profiles (
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
     FOREIGN KEY (approved_by) REFERENCES users(user_id),
     INDEX idx_user_id (user_id),
-    INDEX idx_expertise_areas (expertise_areas),
+    INDEX idx_expertise_areas ((CAST(expertise_areas AS CHAR(50) ARRAY))),
     INDEX idx_approval_status (approval_status)
 );
 
@@ -173,9 +173,13 @@ CREATE TABLE user_roadmaps (
     -- 진행 상태
     status ENUM('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'PAUSED') DEFAULT 'NOT_STARTED',
     progress_percentage DECIMAL(5,2) DEFAULT 0.00,
+    completed_steps INT NOT NULL DEFAULT 0,          -- 완료한 단계 수 (증분 갱신)
+    total_steps INT NOT NULL DEFAULT 0,              -- 전체 단계 진행 수
+    total_study_hours DECIMAL(7,2) NOT NULL DEFAULT 0.00, -- 누적 학습 시간
     started_at DATETIME,
     completed_at DATETIME,
     estimated_completion_date DATETIME,
+    version BIGINT NOT NULL DEFAULT 0,               -- 낙관적 잠금 (진행률 카운터 동시 갱신 방지)
     
     -- 개인화 설정
     custom_steps JSON,               -- 사용자가 추가/수정한 단계들
@@ -352,6 +356,37 @@ CREATE TABLE ai_usage_limits (
     INDEX idx_usage_date (usage_date)
 );
 
+-- AI 채팅 일별 집계 (사용자/날짜/모델별)
+CREATE TABLE ai_chat_daily_rollups (
+    rollup_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    ai_model VARCHAR(50) NOT NULL DEFAULT '',   -- 사용자 메시지 등 모델 정보가 없으면 ''
+    
+    user_message_count BIGINT NOT NULL DEFAULT 0,
+    ai_message_count BIGINT NOT NULL DEFAULT 0,
+    tokens_used BIGINT NOT NULL DEFAULT 0,
+    
+    -- 응답 시간 (합계 + 구간별 분포)
+    response_time_count BIGINT NOT NULL DEFAULT 0,
+    response_time_sum_ms BIGINT NOT NULL DEFAULT 0,
+    response_le_500ms BIGINT NOT NULL DEFAULT 0,
+    response_le_1s BIGINT NOT NULL DEFAULT 0,
+    response_le_2s BIGINT NOT NULL DEFAULT 0,
+    response_le_5s BIGINT NOT NULL DEFAULT 0,
+    response_le_10s BIGINT NOT NULL DEFAULT 0,
+    response_gt_10s BIGINT NOT NULL DEFAULT 0,
+    
+    -- 사용자 피드백
+    helpful_count BIGINT NOT NULL DEFAULT 0,
+    not_helpful_count BIGINT NOT NULL DEFAULT 0,
+    
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    UNIQUE KEY unique_user_date_model (user_id, stat_date, ai_model),
+    INDEX idx_stat_date (stat_date)
+);
+
 -- ===================================================================
 -- 5. 대시보드 및 통계 테이블
 -- ===================================================================
@@ -376,6 +411,12 @@ CREATE TABLE learning_activities (
     INDEX idx_target (target_type, target_id)
 );
 
+-- 테이블 기반 ID 시퀀스 (learning_activities: 블록 단위 예약, next_val = 다음 블록 시작 ID)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
 -- 일별 학습 통계
 CREATE TABLE daily_study_stats (
     stat_id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -397,6 +438,25 @@ CREATE TABLE daily_study_stats (
     INDEX idx_study_date (study_date)
 );
 
+-- 사용자 연속 학습 상태 (학습일 비트셋: bits_epoch로부터 i번째 날 = i번째 비트)
+CREATE TABLE user_study_streaks (
+    streak_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    
+    last_study_date DATE,
+    current_streak INT NOT NULL DEFAULT 0,  -- 마지막 학습일에서 끝나는 연속 학습일
+    max_streak INT NOT NULL DEFAULT 0,
+    
+    bits_epoch DATE,
+    study_day_bits VARBINARY(4096),
+    
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_streak_user (user_id),
+    INDEX idx_last_study_date (last_study_date)
+);
+
 -- 실시간 알림
 CREATE TABLE notifications (
     notification_id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -408,15 +468,42 @@ CREATE TABLE notifications (
     
     action_url VARCHAR(500),       -- 클릭 시 이동할 URL
     is_read BOOLEAN DEFAULT FALSE,
+    broadcast_id BIGINT,           -- 일괄 발송으로 생성된 경우 발송 작업 ID
     
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     read_at DATETIME,
     
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
-    INDEX idx_user_unread (user_id, is_read),
+    UNIQUE KEY unique_broadcast_user (broadcast_id, user_id), -- 재개 시 중복 발송 방지 (NULL은 중복 허용, 파티션 전환 후에는 일반 인덱스)
+    INDEX idx_user_unread (user_id, is_read, type), -- 타입별 읽지 않은 알림 수를 인덱스만으로 집계
     INDEX idx_created_at (created_at)
 );
 
+-- 알림 일괄 발송 작업 (체크포인트로 중단 지점부터 재개)
+CREATE TABLE notification_broadcasts (
+    broadcast_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    
+    segment ENUM('ALL_ACTIVE', 'PROGRAMMING_LANGUAGE', 'INTEREST_FIELD') NOT NULL,
+    segment_value VARCHAR(100),    -- "Python", "backend" 등
+    
+    type ENUM('STEP_COMPLETE', 'GOAL_ACHIEVED', 'STREAK_MILESTONE', 'NEW_CONTENT', 'MENTORING_MATCH') NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    message TEXT NOT NULL,
+    action_url VARCHAR(500),
+    
+    status ENUM('PENDING', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED') NOT NULL DEFAULT 'PENDING',
+    last_user_id BIGINT NOT NULL DEFAULT 0, -- 이 ID 이하 대상은 발송 완료
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    lease_owner VARCHAR(100),      -- 실행 중인 인스턴스
+    lease_until DATETIME,          -- 만료되면 다른 인스턴스가 재개
+    error_message VARCHAR(500),
+    
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    completed_at DATETIME,
+    
+    INDEX idx_status_lease (status, lease_until)
+);
+
 -- ===================================================================
 -- 6. 결제 및 수익 테이블
 -- ===================================================================
@@ -483,6 +570,16 @@ CREATE INDEX idx_contents_approved_active ON learning_contents(is_approved, is_a
 CREATE INDEX idx_activities_user_date ON learning_activities(user_id, created_at);
 CREATE INDEX idx_roadmaps_user_status ON user_roadmaps(user_id, status);
 
+-- 키셋 페이지 (createdAt, ID) 탐색용 인덱스 (InnoDB 보조 인덱스는 PK를 포함하므로 ID는 생략)
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at);
+CREATE INDEX idx_notifications_user_read_created ON notifications(user_id, is_read, created_at);
+CREATE INDEX idx_messages_session_created ON ai_chat_messages(session_id, created_at);
+CREATE INDEX idx_sessions_user_created ON ai_chat_sessions(user_id, created_at);
+CREATE INDEX idx_earnings_mentor_created ON mentor_earnings(mentor_id, created_at);
+CREATE INDEX idx_payments_user_created ON subscription_payments(user_id, created_at);
+CREATE INDEX idx_contents_approved_active_created ON learning_contents(is_approved, is_active, created_at);
+CREATE INDEX idx_contents_creator_created ON learning_contents(created_by, created_at);
+
 -- ===================================================================
 -- 8. 샘플 데이터 삽입
 -- ===================================================================
@@ -0,0 +1,119 @@
+package web.mvc.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 연속 학습 상태 테스트 (순서대로 추가, 늦게 도착한 학습일, 기준일 이전 날짜, 비트셋 크기 제한)
+ */
+class UserStudyStreakTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    private static final int MAX_DAYS = UserStudyStreak.MAX_BITS_BYTES * 8;
+
+    @Test
+    void extendsStreakForConsecutiveDays() {
+        UserStudyStreak streak = UserStudyStreak.create(1L);
+
+        assertThat(streak.recordStudyDay(DAY)).isTrue();
+        assertThat(streak.recordStudyDay(DAY.plusDays(1))).isTrue();
+        assertThat(streak.recordStudyDay(DAY.plusDays(2))).isTrue();
+        assertThat(streak.recordStudyDay(DAY.plusDays(2))).isFalse();
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(3);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+        assertThat(streak.getStreakEndingAt(DAY.plusDays(1))).isEqualTo(2);
+
+        assertThat(streak.recordStudyDay(DAY.plusDays(4))).isTrue();
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+        assertThat(streak.getLastStudyDate()).isEqualTo(DAY.plusDays(4));
+        assertThat(streak.getCurrentStreak(DAY.plusDays(5))).isEqualTo(1);
+        assertThat(streak.getCurrentStreak(DAY.plusDays(6))).isZero();
+        assertThat(streak.countStudyDays(DAY, DAY.plusDays(4))).isEqualTo(4);
+    }
+
+    @Test
+    void lateDayBridgesTwoRuns() {
+        UserStudyStreak streak = UserStudyStreak.create(1L);
+        streak.recordStudyDay(DAY);
+        streak.recordStudyDay(DAY.plusDays(1));
+        streak.recordStudyDay(DAY.plusDays(3));
+        streak.recordStudyDay(DAY.plusDays(4));
+        assertThat(streak.getCurrentStreak()).isEqualTo(2);
+        assertThat(streak.getMaxStreak()).isEqualTo(2);
+
+        assertThat(streak.recordStudyDay(DAY.plusDays(2))).isTrue();
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(5);
+        assertThat(streak.getMaxStreak()).isEqualTo(5);
+        assertThat(streak.getLastStudyDate()).isEqualTo(DAY.plusDays(4));
+        assertThat(streak.getLastDayOfRun(DAY)).isEqualTo(DAY.plusDays(4));
+        assertThat(streak.getLongestStreakBetween(DAY, DAY.plusDays(4))).isEqualTo(5);
+    }
+
+    @Test
+    void lateDayBeforeLastRunKeepsCurrentStreak() {
+        UserStudyStreak streak = UserStudyStreak.create(1L);
+        streak.recordStudyDay(DAY);
+        streak.recordStudyDay(DAY.plusDays(2));
+        streak.recordStudyDay(DAY.plusDays(5));
+
+        streak.recordStudyDay(DAY.plusDays(1));
+
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+        assertThat(streak.getLastDayOfRun(DAY)).isEqualTo(DAY.plusDays(2));
+    }
+
+    @Test
+    void dayBeforeEpochRebasesBits() {
+        UserStudyStreak streak = UserStudyStreak.create(1L);
+        streak.recordStudyDay(DAY);
+        streak.recordStudyDay(DAY.plusDays(1));
+
+        assertThat(streak.recordStudyDay(DAY.minusDays(1))).isTrue();
+
+        assertThat(streak.getBitsEpoch()).isEqualTo(DAY.minusDays(1));
+        assertThat(streak.isStudyDay(DAY.minusDays(1))).isTrue();
+        assertThat(streak.isStudyDay(DAY)).isTrue();
+        assertThat(streak.isStudyDay(DAY.plusDays(1))).isTrue();
+        assertThat(streak.getCurrentStreak()).isEqualTo(3);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+
+        streak.recordStudyDay(DAY.minusDays(10));
+
+        assertThat(streak.getBitsEpoch()).isEqualTo(DAY.minusDays(10));
+        assertThat(streak.countStudyDays(DAY.minusDays(10), DAY.plusDays(1))).isEqualTo(4);
+        assertThat(streak.getStreakEndingAt(DAY.plusDays(1))).isEqualTo(3);
+        assertThat(streak.getMaxStreak()).isEqualTo(3);
+        assertThat(streak.recordStudyDay(DAY)).isFalse();
+    }
+
+    @Test
+    void rejectsDaysBeyondBitsetSizeWithoutChangingState() {
+        UserStudyStreak streak = UserStudyStreak.create(1L);
+        streak.recordStudyDay(DAY);
+
+        assertThatThrownBy(() -> streak.recordStudyDay(DAY.plusDays(MAX_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> streak.recordStudyDay(DAY.minusDays(MAX_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(streak.getBitsEpoch()).isEqualTo(DAY);
+        assertThat(streak.getLastStudyDate()).isEqualTo(DAY);
+
+        assertThat(streak.recordStudyDay(DAY.plusDays(MAX_DAYS - 1))).isTrue();
+        assertThat(streak.getStudyDayBits()).hasSizeLessThanOrEqualTo(UserStudyStreak.MAX_BITS_BYTES);
+
+        // 기준일을 앞당기면 마지막 학습일이 범위를 벗어나므로 거절
+        assertThatThrownBy(() -> streak.recordStudyDay(DAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(streak.getBitsEpoch()).isEqualTo(DAY);
+        assertThat(streak.countStudyDays(DAY, DAY.plusDays(MAX_DAYS - 1))).isEqualTo(2);
+    }
+}
@@ -0,0 +1,155 @@
+package web.mvc.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import web.mvc.domain.AiChatSession;
+import web.mvc.domain.RoadMapStep;
+import web.mvc.domain.RoadMapTemplate;
+import web.mvc.domain.User;
+import web.mvc.domain.UserRoadMap;
+import web.mvc.domain.UserStepProgress;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로드맵/진행 상황/AI 세션 컨텍스트 조회 쿼리 수 테스트 (Hibernate 통계로 실행된 SQL 수 확인)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class RoadMapFetchPlanTest {
+
+    private static final int STEP_COUNT = 8;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRoadMapRepository userRoadMapRepository;
+
+    @Autowired
+    private RoadMapTemplateRepository roadMapTemplateRepository;
+
+    @Autowired
+    private AiChatSessionRepository aiChatSessionRepository;
+
+    private User user;
+    private RoadMapTemplate template;
+    private UserRoadMap roadMap;
+    private String sessionUuid;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .email("fetch@nextstep.dev").password("secret").nickname("fetch").build());
+        template = entityManager.persist(RoadMapTemplate.builder()
+                .title("Spring 백엔드").estimatedHours(80).build());
+        roadMap = UserRoadMap.builder().user(user).template(template).title("나의 백엔드 로드맵").build();
+        entityManager.persist(roadMap);
+
+        RoadMapStep lastStep = null;
+        for (int order = 1; order <= STEP_COUNT; order++) {
+            lastStep = entityManager.persist(RoadMapStep.builder()
+                    .roadMapTemplate(template).stepOrder(order).title("단계 " + order).estimatedHours(10).build());
+            entityManager.persist(UserStepProgress.builder().userRoadMap(roadMap).step(lastStep).build());
+        }
+
+        sessionUuid = UUID.randomUUID().toString();
+        entityManager.persist(AiChatSession.builder()
+                .user(user).sessionUuid(sessionUuid).contextRoadmap(roadMap).contextStep(lastStep).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void roadMapViewLoadsInTwoStatements() {
+        Statistics statistics = statistics();
+
+        UserRoadMap loaded = userRoadMapRepository.findWithProgressById(roadMap.getId()).orElseThrow();
+        List<String> progressSteps = loaded.getStepProgresses().stream()
+                .map(progress -> progress.getStep().getTitle())
+                .toList();
+        List<String> templateSteps = loaded.getTemplate().getSteps().stream()
+                .map(RoadMapStep::getTitle)
+                .toList();
+
+        assertThat(progressSteps).hasSize(STEP_COUNT);
+        assertThat(templateSteps).hasSize(STEP_COUNT).startsWith("단계 1");
+        assertThat(loaded.getTemplate().getTitle()).isEqualTo("Spring 백엔드");
+        // 로드맵 + 템플릿 + 단계 진행 + 단계 (1) / 템플릿 단계 목록 (1)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void userRoadMapListDoesNotQueryPerStep() {
+        Statistics statistics = statistics();
+
+        List<UserRoadMap> roadMaps = userRoadMapRepository.findWithProgressByUserOrderByCreatedAtDesc(user);
+        int studyHours = roadMaps.stream().mapToInt(UserRoadMap::getCurrentStudyHours).sum();
+        long titledSteps = roadMaps.stream()
+                .flatMap(loaded -> loaded.getStepProgresses().stream())
+                .filter(progress -> progress.getStep().getTitle() != null)
+                .count();
+
+        assertThat(studyHours).isZero();
+        assertThat(titledSteps).isEqualTo(STEP_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void templateWithStepsLoadsInOneStatement() {
+        Statistics statistics = statistics();
+
+        RoadMapTemplate loaded = roadMapTemplateRepository.findWithStepsById(template.getId()).orElseThrow();
+
+        assertThat(loaded.getSteps()).extracting(RoadMapStep::getStepOrder)
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void chatSessionContextLoadsInOneStatement() {
+        Statistics statistics = statistics();
+
+        AiChatSession session = aiChatSessionRepository.findWithContextBySessionUuid(sessionUuid).orElseThrow();
+
+        assertThat(session.getContextDescription()).isEqualTo("로드맵: Spring 백엔드, 단계: 단계 " + STEP_COUNT);
+        assertThat(session.getUser().getNickname()).isEqualTo("fetch");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * 검증 대상 Repository만 등록 (다른 Repository의 MySQL 전용 쿼리는 H2에서 검증하지 않음)
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = UserRoadMap.class)
+    @EnableJpaRepositories(basePackageClasses = UserRoadMapRepository.class, includeFilters = @Filter(
+            type = FilterType.ASSIGNABLE_TYPE,
+            classes = { UserRoadMapRepository.class, RoadMapTemplateRepository.class, AiChatSessionRepository.class }))
+    static class FetchPlanTestConfig {
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
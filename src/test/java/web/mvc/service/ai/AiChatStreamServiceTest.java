@@ -0,0 +1,206 @@
+package web.mvc.service.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import web.mvc.config.AiStreamProperties;
+import web.mvc.controller.AiChatStreamController;
+import web.mvc.controller.AuthenticatedUserResolver;
+import web.mvc.domain.AiChatMessage;
+import web.mvc.domain.AiChatSession;
+import web.mvc.domain.User;
+import web.mvc.exception.GlobalExceptionHandler;
+import web.mvc.repository.AiChatMessageRepository;
+import web.mvc.repository.AiChatSessionRepository;
+import web.mvc.repository.UserRepository;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * AI 채팅 스트리밍 테스트 (가짜 모델로 토큰 전송, 최종 메시지 1회 저장, 지표, 거절 경로 확인)
+ */
+class AiChatStreamServiceTest {
+
+    private static final String SESSION_UUID = "5f1c1a52-8d3e-4d57-9a3b-0c6f0d1e2a10";
+    private static final String BODY = "{\"message\":\"스프링 공부 순서 알려줘\"}";
+
+    private final Principal owner = () -> "1";
+
+    private AiChatSessionRepository sessionRepository;
+    private AiChatMessageRepository messageRepository;
+    private AiQuotaService aiQuotaService;
+    private AiStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).email("stream@nextstep.dev").password("secret").nickname("stream").build();
+        AiChatSession session = AiChatSession.builder().sessionId(10L).user(user).sessionUuid(SESSION_UUID).build();
+
+        sessionRepository = mock(AiChatSessionRepository.class);
+        when(sessionRepository.findWithUserBySessionUuid(SESSION_UUID)).thenReturn(Optional.of(session));
+        when(sessionRepository.findById(10L)).thenReturn(Optional.of(session));
+        when(sessionRepository.getReferenceById(10L)).thenReturn(session);
+
+        messageRepository = mock(AiChatMessageRepository.class);
+        when(messageRepository.save(any(AiChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        aiQuotaService = mock(AiQuotaService.class);
+        when(aiQuotaService.tryAcquire(any(User.class), anyInt())).thenReturn(true);
+
+        properties = new AiStreamProperties();
+        properties.setMaxTokensPerEvent(4);
+        meterRegistry = new SimpleMeterRegistry();
+        transactionManager = mock(PlatformTransactionManager.class);
+    }
+
+    @Test
+    void streamsTokensAndSavesFinalMessageOnce() throws Exception {
+        MockMvc mockMvc = mockMvc(new FakeAiModelClient(0));
+
+        MvcResult result = mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+
+        String events = result.getResponse().getContentAsString();
+        assertThat(events).contains("event:token").contains("event:done").doesNotContain("event:error");
+
+        ArgumentCaptor<AiChatMessage> saved = ArgumentCaptor.forClass(AiChatMessage.class);
+        verify(messageRepository, times(2)).save(saved.capture());
+        List<AiChatMessage> aiMessages = saved.getAllValues().stream().filter(AiChatMessage::isAiMessage).toList();
+        assertThat(aiMessages).hasSize(1);
+        AiChatMessage aiMessage = aiMessages.get(0);
+        assertThat(aiMessage.getContent()).contains("스프링 공부 순서 알려줘");
+        assertThat(aiMessage.getAiModel()).isEqualTo("fake-model");
+        assertThat(aiMessage.getTokensUsed()).isPositive();
+        verify(aiQuotaService, timeout(1_000)).addTokens(any(User.class), anyInt());
+
+        assertThat(meterRegistry.get("ai.chat.stream.ttft").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.chat.stream.tokens.per.second").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.chat.stream.requests").tag("outcome", "completed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsWhenNoModelClientIsRegistered() throws Exception {
+        MockMvc mockMvc = mockMvc(null);
+
+        mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value("AI_MODEL_UNAVAILABLE"));
+
+        verify(messageRepository, never()).save(any(AiChatMessage.class));
+    }
+
+    @Test
+    void rejectsSessionOwnedByAnotherUser() throws Exception {
+        MockMvc mockMvc = mockMvc(new FakeAiModelClient(0));
+
+        mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(() -> "2").contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isForbidden());
+
+        verify(messageRepository, never()).save(any(AiChatMessage.class));
+    }
+
+    @Test
+    void quotaExceededSavesNoAiMessage() throws Exception {
+        when(aiQuotaService.tryAcquire(any(User.class), anyInt())).thenReturn(false);
+        MockMvc mockMvc = mockMvc(new FakeAiModelClient(0));
+
+        mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorCode").value("AI_QUOTA_EXCEEDED"));
+
+        ArgumentCaptor<AiChatMessage> saved = ArgumentCaptor.forClass(AiChatMessage.class);
+        verify(messageRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().isUserMessage()).isTrue();
+    }
+
+    @Test
+    void rejectsStreamsBeyondConcurrencyLimit() throws Exception {
+        properties.setMaxConcurrentStreams(1);
+        MockMvc mockMvc = mockMvc(new FakeAiModelClient(50));
+
+        MvcResult first = mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // SSE 클라이언트처럼 text/event-stream만 받아도 거절 응답은 JSON으로 전달
+        mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value("AI_STREAM_BUSY"));
+
+        first.getAsyncResult(10_000);
+        assertThat(first.getResponse().getContentAsString()).contains("event:done");
+        assertThat(meterRegistry.get("ai.chat.stream.requests").tag("outcome", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsAsBusyWhenNoDatabaseConnectionIsAvailable() throws Exception {
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+        MockMvc mockMvc = mockMvc(new FakeAiModelClient(0));
+
+        mockMvc.perform(post("/ai/chat/sessions/{uuid}/stream", SESSION_UUID)
+                        .principal(owner).contentType(MediaType.APPLICATION_JSON).content(BODY)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode").value("AI_STREAM_BUSY"));
+
+        assertThat(meterRegistry.get("ai.chat.stream.requests").tag("outcome", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private MockMvc mockMvc(AiModelClient modelClient) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<AiModelClient> modelClients = mock(ObjectProvider.class);
+        when(modelClients.getIfAvailable()).thenReturn(modelClient);
+
+        AiChatStreamService service = new AiChatStreamService(sessionRepository, messageRepository, modelClients,
+                aiQuotaService, properties, new TransactionTemplate(transactionManager),
+                new SimpleAsyncTaskExecutor("ai-stream-test-"), meterRegistry);
+        AiChatStreamController controller = new AiChatStreamController(service,
+                new AuthenticatedUserResolver(mock(UserRepository.class)));
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+}
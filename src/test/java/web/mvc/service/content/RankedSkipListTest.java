@@ -0,0 +1,107 @@
+package web.mvc.service.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위 스킵 리스트 테스트 (순위/구간 조회, 삭제, 점수 변경)
+ */
+class RankedSkipListTest {
+
+    @Test
+    void ordersByScoreDescendingThenNewestId() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(1L, 10.0);
+        list.insert(2L, 30.0);
+        list.insert(3L, 10.0);
+        list.insert(4L, 20.0);
+
+        assertThat(list.range(0, 10)).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(list.rankOf(2L, 30.0)).isZero();
+        assertThat(list.rankOf(3L, 10.0)).isEqualTo(2);
+        assertThat(list.rankOf(1L, 10.0)).isEqualTo(3);
+        assertThat(list.rankOf(9L, 10.0)).isEqualTo(-1);
+    }
+
+    @Test
+    void returnsRangeFromOffset() {
+        RankedSkipList list = new RankedSkipList();
+        for (long id = 1; id <= 100; id++) {
+            list.insert(id, id);
+        }
+
+        assertThat(list.range(10, 3)).containsExactly(90L, 89L, 88L);
+        assertThat(list.range(98, 5)).containsExactly(2L, 1L);
+        assertThat(list.range(100, 5)).isEmpty();
+        assertThat(list.range(0, 0)).isEmpty();
+    }
+
+    @Test
+    void removesOnlyMatchingIdAndScore() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(1L, 5.0);
+        list.insert(2L, 7.0);
+
+        assertThat(list.remove(1L, 6.0)).isFalse();
+        assertThat(list.remove(3L, 5.0)).isFalse();
+        assertThat(list.remove(1L, 5.0)).isTrue();
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.range(0, 10)).containsExactly(2L);
+        assertThat(list.rankOf(1L, 5.0)).isEqualTo(-1);
+    }
+
+    @Test
+    void updatesScoreByRemoveAndInsert() {
+        RankedSkipList list = new RankedSkipList();
+        list.insert(1L, 1.0);
+        list.insert(2L, 2.0);
+        list.insert(3L, 3.0);
+
+        list.remove(1L, 1.0);
+        list.insert(1L, 5.0);
+
+        assertThat(list.range(0, 10)).containsExactly(1L, 3L, 2L);
+        assertThat(list.rankOf(1L, 5.0)).isZero();
+        assertThat(list.rankOf(2L, 2.0)).isEqualTo(2);
+    }
+
+    @Test
+    void matchesSortedListUnderRandomOperations() {
+        Random random = new Random(42);
+        RankedSkipList list = new RankedSkipList();
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            long id = random.nextInt(500);
+            Double current = scores.get(id);
+            if (current != null) {
+                assertThat(list.remove(id, current)).isTrue();
+                scores.remove(id);
+            }
+            if (current == null || random.nextBoolean()) {
+                double score = random.nextInt(50);
+                list.insert(id, score);
+                scores.put(id, score);
+            }
+        }
+
+        List<Long> expected = new ArrayList<>(scores.keySet());
+        expected.sort(Comparator.comparing((Long id) -> scores.get(id)).reversed()
+                .thenComparing(Comparator.<Long>reverseOrder()));
+        assertThat(list.size()).isEqualTo(expected.size());
+        assertThat(list.range(0, expected.size())).isEqualTo(expected);
+        for (int rank = 0; rank < expected.size(); rank += 7) {
+            long id = expected.get(rank);
+            assertThat(list.rankOf(id, scores.get(id))).isEqualTo(rank);
+            assertThat(list.range(rank, 1)).containsExactly(id);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package web.mvc.service.partition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import web.mvc.config.NotificationCounterProperties;
+import web.mvc.config.PartitionRetentionProperties;
+import web.mvc.service.notification.UnreadNotificationCounter;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 보관 기간 관리 테스트 (H2 대체 구현으로 계획/삭제 경로 확인)
+ */
+class PartitionRetentionServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PartitionRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:partition;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE search_logs (log_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "search_query VARCHAR(500) NOT NULL, created_at DATETIME)");
+
+        // 현재 달부터 9개월 전까지 달마다 2건
+        YearMonth currentMonth = YearMonth.now();
+        for (int monthsAgo = 0; monthsAgo <= 9; monthsAgo++) {
+            LocalDate day = currentMonth.minusMonths(monthsAgo).atDay(1);
+            for (int hour = 1; hour <= 2; hour++) {
+                jdbcTemplate.update("INSERT INTO search_logs (search_query, created_at) VALUES (?, ?)",
+                        "java", Timestamp.valueOf(day.atTime(hour, 0)));
+            }
+        }
+
+        PartitionRetentionProperties properties = new PartitionRetentionProperties();
+        properties.getRetentionMonths().put(PartitionedTable.SEARCH_LOGS, 6);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UnreadNotificationCounter unreadCounter = new UnreadNotificationCounter(null,
+                new NotificationCounterProperties(), meterRegistry);
+        service = new PartitionRetentionService(jdbcTemplate, properties, unreadCounter, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void previewReportsExpiredMonthsWithoutDeleting() {
+        PartitionMaintenanceReport report = service.preview();
+
+        PartitionPlan plan = planOf(report, PartitionedTable.SEARCH_LOGS);
+        assertThat(plan.partitioned()).isTrue();
+        // 7~9개월 전 3개월 삭제 예정
+        assertThat(plan.partitionsToDrop()).hasSize(3);
+        assertThat(plan.rowsToDrop()).isEqualTo(6);
+        assertThat(countRows()).isEqualTo(20);
+        // 없는 테이블은 관리 대상에서 제외
+        assertThat(planOf(report, PartitionedTable.NOTIFICATIONS).partitioned()).isFalse();
+    }
+
+    @Test
+    void runDropsOnlyExpiredMonths() {
+        PartitionMaintenanceReport report = service.run(false);
+
+        assertThat(report.failedTables()).isEmpty();
+        assertThat(report.droppedRows()).isEqualTo(6);
+        assertThat(countRows()).isEqualTo(14);
+        LocalDate cutoff = YearMonth.now().minusMonths(6).atDay(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM search_logs", Timestamp.class)
+                .toLocalDateTime().toLocalDate()).isEqualTo(cutoff);
+
+        // 다시 실행해도 더 지울 것이 없음
+        assertThat(service.run(false).droppedRows()).isZero();
+    }
+
+    @Test
+    void mySqlPlanSplitsFuturePartitionAndKeepsLastPartition() {
+        List<MonthlyPartition> partitions = List.of(
+                new MonthlyPartition("p_past", LocalDate.of(2026, 4, 1), 100),
+                new MonthlyPartition("p202604", LocalDate.of(2026, 5, 1), 10),
+                new MonthlyPartition("p202605", LocalDate.of(2026, 6, 1), 10),
+                new MonthlyPartition("p_future", null, 0));
+
+        List<YearMonth> months = PartitionRetentionService.monthsToAdd(partitions,
+                YearMonth.of(2026, 5), YearMonth.of(2026, 7));
+        assertThat(months).containsExactly(YearMonth.of(2026, 6), YearMonth.of(2026, 7));
+
+        MySqlPartitionOperations ops = new MySqlPartitionOperations(jdbcTemplate);
+        assertThat(ops.addPartitionStatements(PartitionedTable.SEARCH_LOGS, partitions, months))
+                .containsExactly("ALTER TABLE search_logs REORGANIZE PARTITION p_future INTO (" +
+                        "PARTITION p202606 VALUES LESS THAN ('2026-07-01'), " +
+                        "PARTITION p202607 VALUES LESS THAN ('2026-08-01'), " +
+                        "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+
+        List<MonthlyPartition> expired = PartitionRetentionService.expiredPartitions(partitions,
+                LocalDate.of(2026, 5, 1));
+        assertThat(expired).extracting(MonthlyPartition::name).containsExactly("p_past", "p202604");
+        assertThat(ops.dropPartitionStatements(PartitionedTable.SEARCH_LOGS, expired))
+                .containsExactly("ALTER TABLE search_logs DROP PARTITION p_past, p202604");
+
+        // MAXVALUE 파티션이 없으면 마지막 파티션은 남김
+        assertThat(PartitionRetentionService.expiredPartitions(partitions.subList(0, 2), LocalDate.of(2027, 1, 1)))
+                .extracting(MonthlyPartition::name).containsExactly("p_past");
+        assertThat(MySqlPartitionOperations.parseUpperBound("'2026-11-01 00:00:00'")).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(MySqlPartitionOperations.parseUpperBound("MAXVALUE")).isNull();
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_logs", Long.class);
+    }
+
+    private static PartitionPlan planOf(PartitionMaintenanceReport report, PartitionedTable table) {
+        return report.plans().stream().filter(plan -> plan.table() == table).findFirst().orElseThrow();
+    }
+}
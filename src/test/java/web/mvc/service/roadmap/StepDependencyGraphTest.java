@@ -0,0 +1,88 @@
+package web.mvc.service.roadmap;
+
+import org.junit.jupiter.api.Test;
+import web.mvc.service.roadmap.StepDependencyGraph.StepNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선수 단계 그래프 테스트 (위상 순서, 잠금 해제 판단, 전이 선수 단계, 순환 처리)
+ */
+class StepDependencyGraphTest {
+
+    @Test
+    void ordersTopologicallyThenByStepOrder() {
+        StepDependencyGraph graph = StepDependencyGraph.compile(1L, List.of(
+                new StepNode(1L, 1, null),
+                new StepNode(2L, 2, List.of(3L)),
+                new StepNode(3L, 3, List.of(1L)),
+                new StepNode(4L, 4, List.of(1L, 99L))));
+
+        assertThat(graph.topologicalOrder()).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(graph.hasCycle()).isFalse();
+        assertThat(graph.contains(99L)).isFalse();
+    }
+
+    @Test
+    void evaluatesUnlockedBlockedAndNextStep() {
+        StepDependencyGraph graph = StepDependencyGraph.compile(7L, List.of(
+                new StepNode(1L, 1, null),
+                new StepNode(2L, 2, List.of(1L)),
+                new StepNode(3L, 3, List.of(2L)),
+                new StepNode(4L, 4, List.of())));
+
+        StepAvailability availability = graph.evaluate(graph.toMask(List.of(1L)));
+
+        assertThat(availability.completedCount()).isEqualTo(1);
+        assertThat(availability.unlockedStepIds()).containsExactly(2L, 4L);
+        assertThat(availability.blockedStepIds()).containsExactly(3L);
+        assertThat(availability.nextStepId()).isEqualTo(2L);
+        assertThat(graph.missingPrerequisites(3L, graph.toMask(List.of()))).containsExactly(1L, 2L);
+        assertThat(graph.missingPrerequisites(3L, graph.toMask(List.of(1L)))).containsExactly(2L);
+    }
+
+    @Test
+    void computesClosureAcrossWordBoundaries() {
+        List<StepNode> chain = new ArrayList<>();
+        for (long stepId = 1; stepId <= 150; stepId++) {
+            chain.add(new StepNode(stepId, (int) stepId, stepId > 1 ? List.of(stepId - 1) : null));
+        }
+        StepDependencyGraph graph = StepDependencyGraph.compile(1L, chain);
+        long[] none = graph.toMask(List.of());
+
+        assertThat(graph.missingPrerequisites(150L, none))
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 149).boxed().toList());
+        List<Long> firstHundred = LongStream.rangeClosed(1, 100).boxed().toList();
+        assertThat(graph.isUnlocked(101L, graph.toMask(firstHundred))).isTrue();
+        assertThat(graph.isUnlocked(102L, graph.toMask(firstHundred))).isFalse();
+        assertThat(graph.evaluate(graph.toMask(firstHundred)).nextStepId()).isEqualTo(101L);
+    }
+
+    @Test
+    void ignoresCyclicEdgesInsteadOfFailing() {
+        StepDependencyGraph graph = StepDependencyGraph.compile(1L, List.of(
+                new StepNode(1L, 1, null),
+                new StepNode(2L, 2, List.of(1L, 3L)),
+                new StepNode(3L, 3, List.of(2L)),
+                new StepNode(4L, 4, List.of(3L))));
+
+        assertThat(graph.hasCycle()).isTrue();
+        assertThat(graph.cyclicStepIds()).containsExactly(2L);
+        assertThat(graph.topologicalOrder()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(graph.isUnlocked(2L, graph.toMask(List.of(1L)))).isTrue();
+        assertThat(graph.missingPrerequisites(4L, graph.toMask(List.of()))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void breaksSelfReference() {
+        StepDependencyGraph graph = StepDependencyGraph.compile(1L, List.of(
+                new StepNode(1L, 1, List.of(1L))));
+
+        assertThat(graph.cyclicStepIds()).containsExactly(1L);
+        assertThat(graph.isUnlocked(1L, graph.toMask(List.of()))).isTrue();
+    }
+}
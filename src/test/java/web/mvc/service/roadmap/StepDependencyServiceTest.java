@@ -0,0 +1,78 @@
+package web.mvc.service.roadmap;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import web.mvc.domain.RoadMapStep;
+import web.mvc.domain.RoadMapTemplate;
+import web.mvc.exception.BusinessException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 선수 단계 변경 테스트 (변경하는 단계를 지나는 순환만 거절, 저장된 다른 순환은 허용)
+ */
+class StepDependencyServiceTest {
+
+    private final StepDependencyService service =
+            new StepDependencyService(mock(JdbcTemplate.class), new SimpleMeterRegistry());
+
+    @Test
+    void storedCycleElsewhereDoesNotBlockEdit() {
+        RoadMapStep first = step(1L, 1, null);
+        RoadMapStep second = step(2L, 2, List.of(3L));
+        RoadMapStep third = step(3L, 3, List.of(2L));
+        RoadMapStep fourth = step(4L, 4, null);
+        RoadMapTemplate template = template(first, second, third, fourth);
+
+        service.updatePrerequisites(template, fourth, List.of(1L, 2L));
+
+        assertThat(fourth.getPrerequisiteSteps()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rejectsCycleThroughEditedStep() {
+        RoadMapStep first = step(1L, 1, null);
+        RoadMapStep second = step(2L, 2, List.of(1L));
+        RoadMapStep third = step(3L, 3, List.of(2L));
+        RoadMapTemplate template = template(first, second, third);
+
+        assertThatThrownBy(() -> service.updatePrerequisites(template, first, List.of(3L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("순환");
+        assertThatThrownBy(() -> service.updatePrerequisites(template, second, List.of(2L)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(first.getPrerequisiteSteps()).isNull();
+        assertThat(second.getPrerequisiteSteps()).containsExactly(1L);
+    }
+
+    @Test
+    void rejectsStepFromAnotherTemplate() {
+        RoadMapStep first = step(1L, 1, null);
+        RoadMapStep second = step(2L, 2, null);
+        RoadMapTemplate template = template(first, second);
+
+        assertThatThrownBy(() -> service.updatePrerequisites(template, second, List.of(99L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("99");
+        assertThat(second.getPrerequisiteSteps()).isNull();
+    }
+
+    private static RoadMapStep step(Long id, int order, List<Long> prerequisites) {
+        return RoadMapStep.builder().id(id).stepOrder(order).title("step " + id)
+                .prerequisiteSteps(prerequisites).build();
+    }
+
+    private static RoadMapTemplate template(RoadMapStep... steps) {
+        RoadMapTemplate template = RoadMapTemplate.builder().steps(new ArrayList<>(List.of(steps))).build();
+        for (RoadMapStep step : steps) {
+            step.setRoadMapTemplate(template);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,74 @@
+package web.mvc.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BM25 역색인 테스트 (교집합, 점수 순서, 필터, 페이지 구간, 증분 교체/삭제)
+ */
+class InvertedIndexTest {
+
+    private InvertedIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex<>(1.2, 0.75);
+        index.put(1L, Map.of("java", 1, "spring", 1), "BOOK");
+        index.put(2L, Map.of("java", 3, "spring", 1), "VIDEO");
+        index.put(3L, Map.of("java", 1, "spring", 1, "jpa", 1, "hibernate", 1, "mysql", 1, "redis", 1), "VIDEO");
+        index.put(4L, Map.of("python", 2), "BOOK");
+    }
+
+    @Test
+    void matchesOnlyDocumentsContainingEveryTerm() {
+        InvertedIndex.SearchHits hits = index.search(List.of("java", "spring"), null, 0, 10);
+
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.docIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search(List.of("java", "python"), null, 0, 10).totalHits()).isZero();
+        assertThat(index.search(List.of("kotlin"), null, 0, 10).docIds()).isEmpty();
+    }
+
+    @Test
+    void ranksByTermFrequencyAndDocumentLength() {
+        // 빈도가 높은 문서가 먼저, 같은 빈도면 짧은 문서가 먼저
+        assertThat(index.search(List.of("java"), null, 0, 10).docIds()).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void appliesFilterBeforeCountingAndPaging() {
+        InvertedIndex.SearchHits hits = index.search(List.of("java"), "VIDEO"::equals, 0, 10);
+
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(hits.docIds()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void returnsRequestedWindowWithTotalHits() {
+        InvertedIndex.SearchHits page = index.search(List.of("java"), null, 1, 1);
+        InvertedIndex.SearchHits beyond = index.search(List.of("java"), null, 5, 10);
+
+        assertThat(page.docIds()).containsExactly(1L);
+        assertThat(page.totalHits()).isEqualTo(3);
+        assertThat(beyond.docIds()).isEmpty();
+        assertThat(beyond.totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        index.put(2L, Map.of("python", 1), "BOOK");
+        index.remove(4L);
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(List.of("java"), null, 0, 10).docIds()).containsExactly(1L, 3L);
+        assertThat(index.search(List.of("python"), null, 0, 10).docIds()).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(index.search(List.of("python"), null, 0, 10).totalHits()).isZero();
+    }
+}
@@ -0,0 +1,47 @@
+package web.mvc.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 토크나이저 테스트 (한글 n-gram, 영문 어간/불용어, 기호 포함 토큰)
+ */
+class SearchTokenizerTest {
+
+    private final SearchTokenizer tokenizer = new SearchTokenizer();
+
+    @Test
+    void indexesHangulAsUnigramsAndBigrams() {
+        assertThat(tokenizer.tokenizeForIndex("자바스"))
+                .containsExactly("자", "자바", "바", "바스", "스");
+    }
+
+    @Test
+    void queriesHangulWithBigramsOnly() {
+        assertThat(tokenizer.tokenizeForQuery("자바스")).containsExactly("자바", "바스");
+        assertThat(tokenizer.tokenizeForQuery("자")).containsExactly("자");
+    }
+
+    @Test
+    void stemsEnglishWordsAndDropsStopwords() {
+        assertThat(tokenizer.tokenizeForIndex("The Programming of Databases"))
+                .containsExactly("program", "database");
+        assertThat(tokenizer.tokenizeForQuery("programs and programming"))
+                .containsExactly("program");
+    }
+
+    @Test
+    void keepsLanguageSymbolsAndSplitsMixedScripts() {
+        assertThat(tokenizer.tokenizeForQuery("C++ 기초")).containsExactly("c++", "기초");
+        assertThat(tokenizer.tokenizeForQuery("C#")).containsExactly("c#");
+        assertThat(tokenizer.tokenizeForQuery("스프링boot")).containsExactly("스프", "프링", "boot");
+    }
+
+    @Test
+    void normalizesFullWidthAndCase() {
+        assertThat(tokenizer.tokenizeForQuery("ＪＡＶＡ")).containsExactly("java");
+        assertThat(tokenizer.tokenizeForQuery("  ")).isEmpty();
+        assertThat(tokenizer.tokenizeForIndex(null)).isEmpty();
+    }
+}